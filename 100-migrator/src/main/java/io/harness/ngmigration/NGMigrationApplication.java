@@ -370,7 +370,7 @@ public class NGMigrationApplication extends Application<MigratorConfig> {
     }
 
     registerStores(configuration, injector);
-    if (configuration.getMongoConnectionFactory().getTraceMode() == TraceMode.ENABLED) {
+    if (configuration.getMongoConnectionFactory().getTraceMode() != TraceMode.DISABLED) {
       registerQueryTracer(injector);
     }
 
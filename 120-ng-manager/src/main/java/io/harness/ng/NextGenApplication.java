@@ -34,6 +34,7 @@ import io.harness.accesscontrol.NGAccessDeniedExceptionMapper;
 import io.harness.accesscontrol.clients.AccessControlClient;
 import io.harness.accesscontrol.filter.NGScopeAccessCheckFilter;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.audit.client.api.impl.AuditEventBatcher;
 import io.harness.cache.CacheModule;
 import io.harness.cdng.creator.CDNGModuleInfoProvider;
 import io.harness.cdng.creator.CDNGPlanCreatorProvider;
@@ -431,7 +432,7 @@ public class NextGenApplication extends Application<NextGenConfiguration> {
     initializeMonitoring(appConfig, injector);
     registerObservers(injector);
     registerOasResource(appConfig, environment, injector);
-    registerManagedBeans(environment, injector);
+    registerManagedBeans(appConfig, environment, injector);
     initializeEnforcementService(injector, appConfig);
     initializeEnforcementSdk(injector);
     initializeCdMonitoring(appConfig, injector);
@@ -751,9 +752,13 @@ public class NextGenApplication extends Application<NextGenConfiguration> {
     }
   }
 
-  private void registerManagedBeans(Environment environment, Injector injector) {
+  private void registerManagedBeans(NextGenConfiguration appConfig, Environment environment, Injector injector) {
     environment.lifecycle().manage(injector.getInstance(QueueListenerController.class));
     environment.lifecycle().manage(injector.getInstance(NotifierScheduledExecutorService.class));
+    if (appConfig.isEnableAudit() && appConfig.getAuditBatchConfig() != null
+        && appConfig.getAuditBatchConfig().isEnabled()) {
+      environment.lifecycle().manage(injector.getInstance(AuditEventBatcher.class));
+    }
     environment.lifecycle().manage(injector.getInstance(OutboxEventPollService.class));
     createConsumerThreadsToListenToEvents(environment, injector);
   }
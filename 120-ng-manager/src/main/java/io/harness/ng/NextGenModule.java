@@ -606,7 +606,7 @@ public class NextGenModule extends AbstractModule {
     install(YamlSdkModule.getInstance());
     install(new AuditClientModule(this.appConfig.getAuditClientConfig(),
         this.appConfig.getNextGenConfig().getNgManagerServiceSecret(), NG_MANAGER.getServiceId(),
-        this.appConfig.isEnableAudit()));
+        this.appConfig.isEnableAudit(), this.appConfig.getAuditBatchConfig()));
     install(new NotificationClientModule(appConfig.getNotificationClientConfiguration()));
     install(new InstanceModule());
     install(new AgentMtlsModule());
@@ -25,6 +25,7 @@ import io.harness.delegate.beans.connector.scm.GitAuthType;
 import io.harness.delegate.beans.connector.scm.ScmConnector;
 import io.harness.delegate.beans.connector.scm.bitbucket.BitbucketConnectorDTO;
 import io.harness.exception.InvalidRequestException;
+import io.harness.exception.UnexpectedException;
 import io.harness.git.GitClientHelper;
 import io.harness.gitsync.beans.GitRepositoryDTO;
 import io.harness.gitsync.common.beans.ScmApis;
@@ -65,12 +66,20 @@ import io.harness.utils.FilePathUtils;
 import io.harness.utils.RetryUtils;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.google.inject.Inject;
+import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import net.jodah.failsafe.Failsafe;
@@ -78,11 +87,29 @@ import net.jodah.failsafe.RetryPolicy;
 
 @Slf4j
 @OwnedBy(HarnessTeam.PL)
+@Singleton
 public class ScmFacilitatorServiceImpl implements ScmFacilitatorService {
+  private static final long MAX_CACHED_FILE_CONTENT_LENGTH = 50L * 1024 * 1024;
+
   GitSyncConnectorHelper gitSyncConnectorHelper;
   @Named("connectorDecoratorService") ConnectorService connectorService;
   ScmOrchestratorService scmOrchestratorService;
 
+  // Remote entities referenced many times while loading one pipeline ask for the same files over and over. Only the
+  // latest commit of a file on a branch is kept, and only for a few seconds as the branch can be moved from any pod,
+  // the content itself is read at that commit, which never changes.
+  private final Cache<String, String> defaultBranchCache =
+      CacheBuilder.newBuilder().maximumSize(1000).expireAfterWrite(1, TimeUnit.MINUTES).build();
+  private final Cache<String, String> fileCommitByBranchCache =
+      CacheBuilder.newBuilder().maximumSize(1000).expireAfterWrite(5, TimeUnit.SECONDS).build();
+  private final Cache<String, ScmGetFileResponseDTO> fileByCommitCache =
+      CacheBuilder.newBuilder()
+          .maximumWeight(MAX_CACHED_FILE_CONTENT_LENGTH)
+          .weigher((String key, ScmGetFileResponseDTO file)
+                       -> isEmpty(file.getFileContent()) ? 1 : file.getFileContent().length())
+          .expireAfterAccess(1, TimeUnit.HOURS)
+          .build();
+
   @Inject
   public ScmFacilitatorServiceImpl(GitSyncConnectorHelper gitSyncConnectorHelper,
       @Named("connectorDecoratorService") ConnectorService connectorService,
@@ -194,11 +221,50 @@ public class ScmFacilitatorServiceImpl implements ScmFacilitatorService {
   @Override
   public ScmGetFileResponseDTO getFileByBranch(ScmGetFileByBranchRequestDTO scmGetFileByBranchRequestDTO) {
     Scope scope = scmGetFileByBranchRequestDTO.getScope();
+    String connectorRef = scmGetFileByBranchRequestDTO.getConnectorRef();
+    String repoName = scmGetFileByBranchRequestDTO.getRepoName();
     String branchName = isEmpty(scmGetFileByBranchRequestDTO.getBranchName())
-        ? getDefaultBranch(scope.getAccountIdentifier(), scope.getOrgIdentifier(), scope.getProjectIdentifier(),
-            scmGetFileByBranchRequestDTO.getConnectorRef(), scmGetFileByBranchRequestDTO.getRepoName())
+        ? getFromCache(defaultBranchCache, getRepoCacheKey(scope, connectorRef, repoName),
+            ()
+                -> getDefaultBranch(scope.getAccountIdentifier(), scope.getOrgIdentifier(),
+                    scope.getProjectIdentifier(), connectorRef, repoName))
         : scmGetFileByBranchRequestDTO.getBranchName();
 
+    String fileCacheKey =
+        getFileCacheKey(scope, connectorRef, repoName, branchName, scmGetFileByBranchRequestDTO.getFilePath());
+    String commitId = fileCommitByBranchCache.getIfPresent(fileCacheKey);
+    if (commitId == null) {
+      ScmConnector scmConnector = gitSyncConnectorHelper.getScmConnectorForGivenRepo(scope.getAccountIdentifier(),
+          scope.getOrgIdentifier(), scope.getProjectIdentifier(), connectorRef, repoName);
+      GetLatestCommitOnFileResponse getLatestCommitOnFileResponse =
+          getLatestCommitOnFile(scope, scmConnector, branchName, scmGetFileByBranchRequestDTO.getFilePath());
+      if (isNotEmpty(getLatestCommitOnFileResponse.getError())
+          || isEmpty(getLatestCommitOnFileResponse.getCommitId())) {
+        // Let the full fetch report why the file could not be read
+        return fetchFileByBranch(scmGetFileByBranchRequestDTO, branchName);
+      }
+      commitId = getLatestCommitOnFileResponse.getCommitId();
+      fileCommitByBranchCache.put(fileCacheKey, commitId);
+    }
+
+    ScmGetFileResponseDTO fileAtCommit = getFileByCommitId(ScmGetFileByCommitIdRequestDTO.builder()
+                                                               .scope(scope)
+                                                               .connectorRef(connectorRef)
+                                                               .repoName(repoName)
+                                                               .commitId(commitId)
+                                                               .filePath(scmGetFileByBranchRequestDTO.getFilePath())
+                                                               .build());
+    return ScmGetFileResponseDTO.builder()
+        .fileContent(fileAtCommit.getFileContent())
+        .blobId(fileAtCommit.getBlobId())
+        .commitId(commitId)
+        .branchName(branchName)
+        .build();
+  }
+
+  private ScmGetFileResponseDTO fetchFileByBranch(
+      ScmGetFileByBranchRequestDTO scmGetFileByBranchRequestDTO, String branchName) {
+    Scope scope = scmGetFileByBranchRequestDTO.getScope();
     ScmConnector scmConnector = gitSyncConnectorHelper.getScmConnectorForGivenRepo(scope.getAccountIdentifier(),
         scope.getOrgIdentifier(), scope.getProjectIdentifier(), scmGetFileByBranchRequestDTO.getConnectorRef(),
         scmGetFileByBranchRequestDTO.getRepoName());
@@ -293,6 +359,11 @@ public class ScmFacilitatorServiceImpl implements ScmFacilitatorService {
               .build());
     }
 
+    String fileCacheKey = getFileCacheKey(scope, scmCreateFileRequestDTO.getConnectorRef(),
+        scmCreateFileRequestDTO.getRepoName(), scmCreateFileRequestDTO.getBranchName(),
+        scmCreateFileRequestDTO.getFilePath());
+    updateFileCommitOnBranch(fileCacheKey, createFileResponse.getCommitId());
+
     return ScmCommitFileResponseDTO.builder()
         .commitId(createFileResponse.getCommitId())
         .blobId(createFileResponse.getBlobId())
@@ -337,6 +408,11 @@ public class ScmFacilitatorServiceImpl implements ScmFacilitatorService {
               .build());
     }
 
+    String fileCacheKey = getFileCacheKey(scope, scmUpdateFileRequestDTO.getConnectorRef(),
+        scmUpdateFileRequestDTO.getRepoName(), scmUpdateFileRequestDTO.getBranchName(),
+        scmUpdateFileRequestDTO.getFilePath());
+    updateFileCommitOnBranch(fileCacheKey, updateFileResponse.getCommitId());
+
     return ScmCommitFileResponseDTO.builder()
         .commitId(updateFileResponse.getCommitId())
         .blobId(updateFileResponse.getBlobId())
@@ -374,6 +450,15 @@ public class ScmFacilitatorServiceImpl implements ScmFacilitatorService {
   @Override
   public ScmGetFileResponseDTO getFileByCommitId(ScmGetFileByCommitIdRequestDTO scmGetFileByCommitIdRequestDTO) {
     Scope scope = scmGetFileByCommitIdRequestDTO.getScope();
+    return getFromCache(fileByCommitCache,
+        getFileCacheKey(scope, scmGetFileByCommitIdRequestDTO.getConnectorRef(),
+            scmGetFileByCommitIdRequestDTO.getRepoName(), scmGetFileByCommitIdRequestDTO.getCommitId(),
+            scmGetFileByCommitIdRequestDTO.getFilePath()),
+        () -> fetchFileByCommitId(scmGetFileByCommitIdRequestDTO));
+  }
+
+  private ScmGetFileResponseDTO fetchFileByCommitId(ScmGetFileByCommitIdRequestDTO scmGetFileByCommitIdRequestDTO) {
+    Scope scope = scmGetFileByCommitIdRequestDTO.getScope();
 
     ScmConnector scmConnector = gitSyncConnectorHelper.getScmConnectorForGivenRepo(scope.getAccountIdentifier(),
         scope.getOrgIdentifier(), scope.getProjectIdentifier(), scmGetFileByCommitIdRequestDTO.getConnectorRef(),
@@ -508,6 +593,33 @@ public class ScmFacilitatorServiceImpl implements ScmFacilitatorService {
     return ApiResponseDTO.builder().statusCode(200).build();
   }
 
+  private void updateFileCommitOnBranch(String fileCacheKey, String commitId) {
+    if (isEmpty(commitId)) {
+      fileCommitByBranchCache.invalidate(fileCacheKey);
+    } else {
+      fileCommitByBranchCache.put(fileCacheKey, commitId);
+    }
+  }
+
+  private static <T> T getFromCache(Cache<String, T> cache, String key, Callable<T> loader) {
+    try {
+      return cache.get(key, loader);
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new UnexpectedException("Failed to fetch from scm", e.getCause());
+    }
+  }
+
+  private static String getRepoCacheKey(Scope scope, String connectorRef, String repoName) {
+    return String.join("/", scope.getAccountIdentifier(), scope.getOrgIdentifier(), scope.getProjectIdentifier(),
+        connectorRef, repoName);
+  }
+
+  private static String getFileCacheKey(
+      Scope scope, String connectorRef, String repoName, String branchOrCommitId, String filePath) {
+    return String.join("/", getRepoCacheKey(scope, connectorRef, repoName), branchOrCommitId, filePath);
+  }
+
   @VisibleForTesting
   GetLatestCommitOnFileResponse getLatestCommitOnFile(
       Scope scope, ScmConnector scmConnector, String branchName, String filePath) {
@@ -15,6 +15,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.harness.annotations.dev.OwnedBy;
@@ -290,8 +292,8 @@ public class ScmFacilitatorServiceImplTest extends GitSyncTestBase {
     GetLatestCommitOnFileResponse getLatestCommitOnFileResponse =
         GetLatestCommitOnFileResponse.newBuilder().setCommitId(commitId).build();
     when(scmOrchestratorService.processScmRequestUsingConnectorSettings(any(), any()))
-        .thenReturn(fileContent)
-        .thenReturn(getLatestCommitOnFileResponse);
+        .thenReturn(getLatestCommitOnFileResponse)
+        .thenReturn(fileContent);
     ScmGetFileResponseDTO scmGetFileResponseDTO = scmFacilitatorService.getFileByBranch(
         ScmGetFileByBranchRequestDTO.builder().scope(getDefaultScope()).branchName(branch).build());
     assertThat(scmGetFileResponseDTO.getBlobId()).isEqualTo(blobId);
@@ -306,6 +308,7 @@ public class ScmFacilitatorServiceImplTest extends GitSyncTestBase {
     FileContent fileContent = FileContent.newBuilder().setStatus(400).build();
     GetLatestCommitOnFileResponse getLatestCommitOnFileResponse = GetLatestCommitOnFileResponse.newBuilder().build();
     when(scmOrchestratorService.processScmRequestUsingConnectorSettings(any(), any()))
+        .thenReturn(getLatestCommitOnFileResponse)
         .thenReturn(fileContent)
         .thenReturn(getLatestCommitOnFileResponse);
     assertThatThrownBy(
@@ -323,6 +326,7 @@ public class ScmFacilitatorServiceImplTest extends GitSyncTestBase {
     GetLatestCommitOnFileResponse getLatestCommitOnFileResponse =
         GetLatestCommitOnFileResponse.newBuilder().setError(error).build();
     when(scmOrchestratorService.processScmRequestUsingConnectorSettings(any(), any()))
+        .thenReturn(getLatestCommitOnFileResponse)
         .thenReturn(fileContent)
         .thenReturn(getLatestCommitOnFileResponse);
     try {
@@ -334,6 +338,56 @@ public class ScmFacilitatorServiceImplTest extends GitSyncTestBase {
     }
   }
 
+  @Test
+  @Owner(developers = MOHIT_GARG)
+  @Category(UnitTests.class)
+  public void testGetFileByBranchReadsContentAtLatestCommitOnce() {
+    FileContent fileContent =
+        FileContent.newBuilder().setContent(content).setBlobId(blobId).setCommitId(commitId).setPath(filePath).build();
+    GetLatestCommitOnFileResponse getLatestCommitOnFileResponse =
+        GetLatestCommitOnFileResponse.newBuilder().setCommitId(commitId).build();
+    when(scmOrchestratorService.processScmRequestUsingConnectorSettings(any(), any()))
+        .thenReturn(getLatestCommitOnFileResponse)
+        .thenReturn(fileContent);
+    ScmGetFileByBranchRequestDTO request = ScmGetFileByBranchRequestDTO.builder()
+                                               .scope(getDefaultScope())
+                                               .connectorRef(connectorRef)
+                                               .repoName(repoName)
+                                               .branchName(branch)
+                                               .filePath(filePath)
+                                               .build();
+
+    scmFacilitatorService.getFileByBranch(request);
+    ScmGetFileResponseDTO scmGetFileResponseDTO = scmFacilitatorService.getFileByBranch(request);
+
+    assertThat(scmGetFileResponseDTO.getFileContent()).isEqualTo(content);
+    assertThat(scmGetFileResponseDTO.getCommitId()).isEqualTo(commitId);
+    assertThat(scmGetFileResponseDTO.getBranchName()).isEqualTo(branch);
+    verify(scmOrchestratorService, times(2)).processScmRequestUsingConnectorSettings(any(), any());
+  }
+
+  @Test
+  @Owner(developers = MOHIT_GARG)
+  @Category(UnitTests.class)
+  public void testGetFileByCommitIdFetchesFileOnce() {
+    FileContent fileContent =
+        FileContent.newBuilder().setContent(content).setBlobId(blobId).setCommitId(commitId).setPath(filePath).build();
+    when(scmOrchestratorService.processScmRequestUsingConnectorSettings(any(), any())).thenReturn(fileContent);
+    ScmGetFileByCommitIdRequestDTO request = ScmGetFileByCommitIdRequestDTO.builder()
+                                                 .scope(getDefaultScope())
+                                                 .connectorRef(connectorRef)
+                                                 .repoName(repoName)
+                                                 .commitId(commitId)
+                                                 .filePath(filePath)
+                                                 .build();
+
+    scmFacilitatorService.getFileByCommitId(request);
+    ScmGetFileResponseDTO scmGetFileResponseDTO = scmFacilitatorService.getFileByCommitId(request);
+
+    assertThat(scmGetFileResponseDTO.getFileContent()).isEqualTo(content);
+    verify(scmOrchestratorService, times(1)).processScmRequestUsingConnectorSettings(any(), any());
+  }
+
   @Test
   @Owner(developers = MOHIT_GARG)
   @Category(UnitTests.class)
@@ -215,6 +215,7 @@ import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -265,6 +266,9 @@ import retrofit2.Response;
 @OwnedBy(HarnessTeam.DEL)
 public class DelegateAgentServiceImpl implements DelegateAgentService {
   private static final int POLL_INTERVAL_SECONDS = 3;
+  // Manager holds a poll without events up to this long, a task for the delegate answers it right away. Tasks queued
+  // through another manager do not answer it, so the wait is no longer than the interval of plain polling.
+  private static final int POLL_WAIT_SECONDS = POLL_INTERVAL_SECONDS;
   private static final long UPGRADE_TIMEOUT = TimeUnit.HOURS.toMillis(2);
   private static final long HEARTBEAT_TIMEOUT = TimeUnit.MINUTES.toMillis(15);
   private static final long FROZEN_TIMEOUT = TimeUnit.HOURS.toMillis(2);
@@ -1343,8 +1347,29 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
   }
 
   private void startTaskPolling() {
-    taskPollExecutor.scheduleAtFixedRate(
-        new Schedulable("Failed to poll for task", () -> pollForTask()), 0, POLL_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    scheduleTaskPoll(0);
+  }
+
+  /**
+   * Polls again right after a long poll that brought task events, as more may be queued. Polls that came back empty,
+   * failed or were answered by a manager without long polling are repeated at the poll interval instead.
+   */
+  private void scheduleTaskPoll(long delaySeconds) {
+    try {
+      taskPollExecutor.schedule(new Schedulable("Failed to poll for task", () -> {
+        if (taskPollExecutor.isShutdown()) {
+          return;
+        }
+        boolean pollAgain = false;
+        try {
+          pollAgain = pollForTask();
+        } finally {
+          scheduleTaskPoll(pollAgain ? 0 : POLL_INTERVAL_SECONDS);
+        }
+      }), delaySeconds, TimeUnit.SECONDS);
+    } catch (RejectedExecutionException e) {
+      log.info("Stopped polling for tasks");
+    }
   }
 
   private void startChroniqleQueueMonitor() {
@@ -1354,17 +1379,19 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
     }
   }
 
-  private void pollForTask() {
+  private boolean pollForTask() {
     if (shouldContactManager()) {
       try {
-        DelegateTaskEventsResponse taskEventsResponse =
-            HTimeLimiter.callInterruptible21(delegateTaskTimeLimiter, Duration.ofSeconds(15),
-                () -> executeRestCall(delegateAgentManagerClient.pollTaskEvents(delegateId, accountId)));
+        DelegateTaskEventsResponse taskEventsResponse = HTimeLimiter.callInterruptible21(delegateTaskTimeLimiter,
+            Duration.ofSeconds(15 + POLL_WAIT_SECONDS),
+            () -> executeRestCall(delegateAgentManagerClient.pollTaskEvents(delegateId, accountId, POLL_WAIT_SECONDS)));
         if (shouldProcessDelegateTaskEvents(taskEventsResponse)) {
           List<DelegateTaskEvent> taskEvents = taskEventsResponse.getDelegateTaskEvents();
           log.info("Processing DelegateTaskEvents {}", taskEvents);
           processDelegateTaskEventsInBlockingLoop(taskEvents);
         }
+        // a long polled answer without events has waited for them already
+        return taskEventsResponse != null && taskEventsResponse.isLongPolled();
       } catch (UncheckedTimeoutException tex) {
         log.warn("Timed out fetching delegate task events", tex);
       } catch (InterruptedException ie) {
@@ -1373,6 +1400,7 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
         log.error("Exception while decoding task", e);
       }
     }
+    return false;
   }
 
   private boolean shouldProcessDelegateTaskEvents(DelegateTaskEventsResponse taskEventsResponse) {
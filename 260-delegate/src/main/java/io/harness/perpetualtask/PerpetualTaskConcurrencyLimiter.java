@@ -0,0 +1,96 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.perpetualtask;
+
+import io.harness.annotations.dev.HarnessModule;
+import io.harness.annotations.dev.TargetModule;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Caps how many runs of perpetual tasks execute at the same time, in total, per task type and per target (cluster or
+ * cloud account) of the tasks, so that a delegate with thousands of tasks does not hit one target with all of them at
+ * once.
+ * <p/>
+ * A run holds a thread of the perpetual task timeout executor (40 threads) while it executes, which is also the pool
+ * that flushes heartbeats. The caps are kept below its size so that throttled task types can not take all of it.
+ * Permits are never waited for, a run that gets none is skipped.
+ */
+@TargetModule(HarnessModule._930_DELEGATE_TASKS)
+class PerpetualTaskConcurrencyLimiter {
+  static final int MAX_CONCURRENT_RUNS = 30;
+  static final int MAX_CONCURRENT_RUNS_PER_TASK_TYPE = 20;
+  static final int MAX_CONCURRENT_RUNS_PER_TARGET = 4;
+
+  private final Semaphore runPermits;
+  private final int maxConcurrentRunsPerTaskType;
+  private final int maxConcurrentRunsPerTarget;
+  private final ConcurrentMap<String, Semaphore> taskTypePermits = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, Semaphore> targetPermits = new ConcurrentHashMap<>();
+
+  PerpetualTaskConcurrencyLimiter() {
+    this(MAX_CONCURRENT_RUNS, MAX_CONCURRENT_RUNS_PER_TASK_TYPE, MAX_CONCURRENT_RUNS_PER_TARGET);
+  }
+
+  PerpetualTaskConcurrencyLimiter(
+      int maxConcurrentRuns, int maxConcurrentRunsPerTaskType, int maxConcurrentRunsPerTarget) {
+    this.runPermits = new Semaphore(maxConcurrentRuns);
+    this.maxConcurrentRunsPerTaskType = maxConcurrentRunsPerTaskType;
+    this.maxConcurrentRunsPerTarget = maxConcurrentRunsPerTarget;
+  }
+
+  /**
+   * @param targetKey target of the task, null if the task has none
+   * @return the permit to close once the run is over, or null if no permit is free right now
+   */
+  Permit tryAcquire(String taskType, String targetKey) {
+    if (!runPermits.tryAcquire()) {
+      return null;
+    }
+    Semaphore taskTypeSemaphore =
+        taskTypePermits.computeIfAbsent(taskType, key -> new Semaphore(maxConcurrentRunsPerTaskType));
+    if (!taskTypeSemaphore.tryAcquire()) {
+      runPermits.release();
+      return null;
+    }
+    if (targetKey == null) {
+      return new Permit(runPermits, taskTypeSemaphore, null);
+    }
+    Semaphore targetSemaphore =
+        targetPermits.computeIfAbsent(targetKey, key -> new Semaphore(maxConcurrentRunsPerTarget));
+    if (!targetSemaphore.tryAcquire()) {
+      taskTypeSemaphore.release();
+      runPermits.release();
+      return null;
+    }
+    return new Permit(runPermits, taskTypeSemaphore, targetSemaphore);
+  }
+
+  static class Permit implements AutoCloseable {
+    private final Semaphore runPermits;
+    private final Semaphore taskTypeSemaphore;
+    private final Semaphore targetSemaphore;
+
+    private Permit(Semaphore runPermits, Semaphore taskTypeSemaphore, Semaphore targetSemaphore) {
+      this.runPermits = runPermits;
+      this.taskTypeSemaphore = taskTypeSemaphore;
+      this.targetSemaphore = targetSemaphore;
+    }
+
+    @Override
+    public void close() {
+      if (targetSemaphore != null) {
+        targetSemaphore.release();
+      }
+      taskTypeSemaphore.release();
+      runPermits.release();
+    }
+  }
+}
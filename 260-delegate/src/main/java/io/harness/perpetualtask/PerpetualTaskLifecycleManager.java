@@ -16,19 +16,27 @@ import io.harness.grpc.utils.AnyUtils;
 import io.harness.grpc.utils.HTimestamps;
 import io.harness.logging.AutoLogContext;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.util.concurrent.TimeLimiter;
 import com.google.common.util.concurrent.UncheckedTimeoutException;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Message;
 import com.google.protobuf.util.Durations;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 
 @Slf4j
 @TargetModule(HarnessModule._420_DELEGATE_AGENT)
 public class PerpetualTaskLifecycleManager {
+  private static final List<String> TARGET_FIELD_NAMES = ImmutableList.of("cluster_id", "cloud_provider_id");
+
   private final long timeoutMillis;
   private final PerpetualTaskId taskId;
   private final TimeLimiter timeLimiter;
@@ -38,6 +46,8 @@ public class PerpetualTaskLifecycleManager {
   private final PerpetualTaskServiceAgentClient perpetualTaskServiceAgentClient;
   private final AtomicInteger currentlyExecutingPerpetualTasksCount;
   private final String accountId;
+  @Getter(AccessLevel.PACKAGE) private final String taskType;
+  @Getter(AccessLevel.PACKAGE) private final String targetKey;
 
   PerpetualTaskLifecycleManager(PerpetualTaskId taskId, PerpetualTaskExecutionContext context,
       Map<String, PerpetualTaskExecutor> factoryMap, PerpetualTaskServiceAgentClient perpetualTaskServiceAgentClient,
@@ -47,7 +57,9 @@ public class PerpetualTaskLifecycleManager {
     this.timeLimiter = timeLimiter;
     this.perpetualTaskServiceAgentClient = perpetualTaskServiceAgentClient;
     params = context.getTaskParams();
-    perpetualTaskExecutor = factoryMap.get(getTaskType(params));
+    taskType = getTaskType(params);
+    targetKey = getTargetKey(params);
+    perpetualTaskExecutor = factoryMap.get(taskType);
     timeoutMillis = Durations.toMillis(context.getTaskSchedule().getTimeout());
     this.currentlyExecutingPerpetualTasksCount = currentlyExecutingPerpetualTasksCount;
     this.accountId = accountId;
@@ -102,6 +114,27 @@ public class PerpetualTaskLifecycleManager {
     return StringUtils.substringAfterLast(fullyQualifiedClassName, ".");
   }
 
+  /**
+   * Cluster or cloud account the task works against, taken from the task params, or null if they have neither.
+   */
+  private String getTargetKey(PerpetualTaskExecutionParams params) {
+    try {
+      Message customizedParams = AnyUtils.findClassAndUnpack(params.getCustomizedParams());
+      for (String fieldName : TARGET_FIELD_NAMES) {
+        FieldDescriptor field = customizedParams.getDescriptorForType().findFieldByName(fieldName);
+        if (field != null && field.getJavaType() == FieldDescriptor.JavaType.STRING) {
+          String value = (String) customizedParams.getField(field);
+          if (StringUtils.isNotEmpty(value)) {
+            return fieldName + ":" + value;
+          }
+        }
+      }
+    } catch (Exception e) {
+      log.debug("Could not read the target of the task params", e);
+    }
+    return null;
+  }
+
   private void decrementTaskCounter() {
     if (currentlyExecutingPerpetualTasksCount.get() > 0) {
       currentlyExecutingPerpetualTasksCount.getAndDecrement();
@@ -32,7 +32,6 @@ import com.google.protobuf.util.Durations;
 import com.google.protobuf.util.Timestamps;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
-import java.security.SecureRandom;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -43,6 +42,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -59,6 +59,7 @@ import org.slf4j.MarkerFactory;
 @TargetModule(HarnessModule._930_DELEGATE_TASKS)
 public class PerpetualTaskWorker {
   private static final Marker THROTTLED = MarkerFactory.getMarker("THROTTLED");
+  private static final long HEARTBEAT_FLUSH_INTERVAL_SECONDS = 10;
   @Getter private final Map<PerpetualTaskId, PerpetualTaskAssignRecord> runningTaskMap = new ConcurrentHashMap<>();
 
   private final TimeLimiter perpetualTaskTimeLimiter;
@@ -68,6 +69,8 @@ public class PerpetualTaskWorker {
   private final BackoffScheduler backoffScheduler;
   private final PerpetualTaskServiceAgentClient perpetualTaskServiceAgentClient;
   private final Map<String, PerpetualTaskExecutor> factoryMap;
+  private final PerpetualTaskConcurrencyLimiter concurrencyLimiter = new PerpetualTaskConcurrencyLimiter();
+  private final AtomicReference<ScheduledFuture<?>> heartbeatFlushHandle = new AtomicReference<>();
 
   private final AtomicBoolean running = new AtomicBoolean(false);
   private final AtomicReference<PerpetualTaskWorkerService> svcHolder = new AtomicReference<>();
@@ -198,7 +201,7 @@ public class PerpetualTaskWorker {
       PerpetualTaskExecutionContext context =
           perpetualTaskServiceAgentClient.perpetualTaskContext(task.getTaskId(), accountId);
       PerpetualTaskSchedule schedule = context.getTaskSchedule();
-      long intervalSeconds = Durations.toSeconds(schedule.getInterval());
+      long intervalMillis = Math.max(1, Durations.toMillis(schedule.getInterval()));
 
       PerpetualTaskLifecycleManager perpetualTaskLifecycleManager =
           new PerpetualTaskLifecycleManager(task.getTaskId(), context, factoryMap, perpetualTaskServiceAgentClient,
@@ -207,9 +210,11 @@ public class PerpetualTaskWorker {
       synchronized (runningTaskMap) {
         runningTaskMap.computeIfAbsent(task.getTaskId(), k -> {
           log.info("Starting perpetual task with id: {}.", task.getTaskId().getId());
+          // Spreading the first runs over the interval keeps the tasks of a delegate from running in lockstep
           ScheduledFuture<?> taskHandle = perpetualTaskTimeoutExecutor.scheduleWithFixedDelay(
-              new Schedulable("Throwable while executing perpetual task", perpetualTaskLifecycleManager::startTask),
-              new SecureRandom().nextInt(120), intervalSeconds, TimeUnit.SECONDS);
+              new Schedulable("Throwable while executing perpetual task",
+                  () -> runWithinLimits(perpetualTaskLifecycleManager)),
+              ThreadLocalRandom.current().nextLong(intervalMillis), intervalMillis, TimeUnit.MILLISECONDS);
 
           PerpetualTaskHandle perpetualTaskHandle = new PerpetualTaskHandle(taskHandle, perpetualTaskLifecycleManager);
 
@@ -224,6 +229,21 @@ public class PerpetualTaskWorker {
     }
   }
 
+  @VisibleForTesting
+  void runWithinLimits(PerpetualTaskLifecycleManager perpetualTaskLifecycleManager) {
+    String taskType = perpetualTaskLifecycleManager.getTaskType();
+    String targetKey = perpetualTaskLifecycleManager.getTargetKey();
+    // Not waiting for a permit, as that would park a thread of the shared timeout executor
+    try (PerpetualTaskConcurrencyLimiter.Permit permit = concurrencyLimiter.tryAcquire(taskType, targetKey)) {
+      if (permit == null) {
+        log.warn(THROTTLED, "Skipping this run of perpetual task, too many runs of {} or against {} in progress",
+            taskType, targetKey);
+        return;
+      }
+      perpetualTaskLifecycleManager.startTask();
+    }
+  }
+
   @VisibleForTesting
   void stopTask(PerpetualTaskId taskId) {
     try (AutoLogContext ignore1 = new PerpetualTaskLogContext(taskId.getId(), OVERRIDE_ERROR)) {
@@ -250,6 +270,11 @@ public class PerpetualTaskWorker {
       PerpetualTaskWorkerService perpetualTaskWorkerService = new PerpetualTaskWorkerService();
       perpetualTaskWorkerService.startAsync();
       this.svcHolder.set(perpetualTaskWorkerService);
+      perpetualTaskServiceAgentClient.enableHeartbeatBatching();
+      heartbeatFlushHandle.set(perpetualTaskTimeoutExecutor.scheduleWithFixedDelay(
+          new Schedulable("Throwable while sending perpetual task heartbeats",
+              perpetualTaskServiceAgentClient::flushHeartbeats),
+          HEARTBEAT_FLUSH_INTERVAL_SECONDS, HEARTBEAT_FLUSH_INTERVAL_SECONDS, TimeUnit.SECONDS));
     }
   }
   public void stop() {
@@ -265,6 +290,11 @@ public class PerpetualTaskWorker {
           stopTask(iterator.next());
         }
       }
+      ScheduledFuture<?> flushHandle = heartbeatFlushHandle.getAndSet(null);
+      if (flushHandle != null) {
+        flushHandle.cancel(false);
+      }
+      perpetualTaskServiceAgentClient.disableHeartbeatBatching();
     }
   }
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.perpetualtask;
+
+import static io.harness.rule.OwnerRule.HITESH;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class PerpetualTaskConcurrencyLimiterTest extends CategoryTest {
+  private final PerpetualTaskConcurrencyLimiter limiter = new PerpetualTaskConcurrencyLimiter(3, 2, 1);
+
+  @Test
+  @Owner(developers = HITESH)
+  @Category(UnitTests.class)
+  public void testCapPerTarget() {
+    PerpetualTaskConcurrencyLimiter.Permit permit = limiter.tryAcquire("type", "cluster_id:c1");
+    assertThat(permit).isNotNull();
+    assertThat(limiter.tryAcquire("type", "cluster_id:c1")).isNull();
+    assertThat(limiter.tryAcquire("type", "cluster_id:c2")).isNotNull();
+
+    permit.close();
+    assertThat(limiter.tryAcquire("type", "cluster_id:c1")).isNotNull();
+  }
+
+  @Test
+  @Owner(developers = HITESH)
+  @Category(UnitTests.class)
+  public void testCapPerTaskType() {
+    assertThat(limiter.tryAcquire("type", null)).isNotNull();
+    PerpetualTaskConcurrencyLimiter.Permit permit = limiter.tryAcquire("type", null);
+    assertThat(permit).isNotNull();
+    assertThat(limiter.tryAcquire("type", null)).isNull();
+    assertThat(limiter.tryAcquire("otherType", null)).isNotNull();
+
+    permit.close();
+    assertThat(limiter.tryAcquire("type", "cluster_id:c1")).isNotNull();
+  }
+
+  @Test
+  @Owner(developers = HITESH)
+  @Category(UnitTests.class)
+  public void testTaskTypePermitReleasedWhenTargetIsBusy() {
+    assertThat(limiter.tryAcquire("type", "cluster_id:c1")).isNotNull();
+    assertThat(limiter.tryAcquire("type", "cluster_id:c1")).isNull();
+    assertThat(limiter.tryAcquire("type", null)).isNotNull();
+  }
+
+  @Test
+  @Owner(developers = HITESH)
+  @Category(UnitTests.class)
+  public void testCapOnAllRuns() {
+    assertThat(limiter.tryAcquire("type", null)).isNotNull();
+    assertThat(limiter.tryAcquire("otherType", null)).isNotNull();
+    PerpetualTaskConcurrencyLimiter.Permit permit = limiter.tryAcquire("thirdType", "cluster_id:c1");
+    assertThat(permit).isNotNull();
+    assertThat(limiter.tryAcquire("fourthType", null)).isNull();
+
+    permit.close();
+    assertThat(limiter.tryAcquire("fourthType", null)).isNotNull();
+  }
+}
@@ -99,6 +99,14 @@ public class PerpetualTaskLifecycleManagerTest extends CategoryTest {
     verify(currentlyExecutingPerpetualTasksCount, times(1)).getAndDecrement();
   }
 
+  @Test
+  @Owner(developers = HITESH)
+  @Category(UnitTests.class)
+  public void testTaskTypeAndTargetKey() {
+    assertThat(perpetualTaskLifecycleManager.getTaskType()).isEqualTo("EcsPerpetualTaskParams");
+    assertThat(perpetualTaskLifecycleManager.getTargetKey()).isEqualTo("cluster_id:clusterId");
+  }
+
   @Test
   @Owner(developers = HITESH)
   @Category(UnitTests.class)
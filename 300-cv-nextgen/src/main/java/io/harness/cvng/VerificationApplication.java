@@ -73,6 +73,7 @@ import io.harness.cvng.core.jobs.ServiceLevelObjectiveV2VerifyTaskHandler;
 import io.harness.cvng.core.jobs.StatemachineEventConsumer;
 import io.harness.cvng.core.services.CVNextGenConstants;
 import io.harness.cvng.core.services.api.SideKickService;
+import io.harness.cvng.dashboard.services.api.HeatMapService;
 import io.harness.cvng.exception.BadRequestExceptionMapper;
 import io.harness.cvng.exception.ConstraintViolationExceptionMapper;
 import io.harness.cvng.exception.NotFoundExceptionMapper;
@@ -213,6 +214,7 @@ import io.dropwizard.Application;
 import io.dropwizard.configuration.EnvironmentVariableSubstitutor;
 import io.dropwizard.configuration.SubstitutingSourceProvider;
 import io.dropwizard.jersey.setup.JerseyEnvironment;
+import io.dropwizard.lifecycle.Managed;
 import io.dropwizard.setup.Bootstrap;
 import io.dropwizard.setup.Environment;
 import io.federecio.dropwizard.swagger.SwaggerBundle;
@@ -482,6 +484,7 @@ public class VerificationApplication extends Application<VerificationConfigurati
     registerMonitoredServiceNotificationIterator(injector);
     scheduleSidekickProcessing(injector);
     scheduleMaintenanceActivities(injector, configuration);
+    scheduleHeatMapFlush(environment, injector, configuration);
     initializeEnforcementSdk(injector);
     initAutoscalingMetrics();
     registerOasResource(configuration, environment, injector);
@@ -504,6 +507,32 @@ public class VerificationApplication extends Application<VerificationConfigurati
         () -> injector.getInstance(SideKickService.class).processNext(), 5, 5, TimeUnit.SECONDS);
   }
 
+  private void scheduleHeatMapFlush(
+      Environment environment, Injector injector, VerificationConfiguration configuration) {
+    int heatMapUpdateWindowSeconds = configuration.getHeatMapUpdateWindowSeconds();
+    if (heatMapUpdateWindowSeconds <= 0) {
+      return;
+    }
+    HeatMapService heatMapService = injector.getInstance(HeatMapService.class);
+    heatMapService.aggregateRiskScores();
+    ScheduledThreadPoolExecutor heatMapFlushExecutor =
+        new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder().setNameFormat("heat-map-flush").build());
+    heatMapFlushExecutor.scheduleWithFixedDelay(heatMapService::flushPendingRiskScores, heatMapUpdateWindowSeconds,
+        heatMapUpdateWindowSeconds, TimeUnit.SECONDS);
+    environment.lifecycle().manage(new Managed() {
+      @Override
+      public void start() {
+        // flushing is scheduled above
+      }
+
+      @Override
+      public void stop() {
+        heatMapFlushExecutor.shutdownNow();
+        heatMapService.flushPendingRiskScores();
+      }
+    });
+  }
+
   private void registerUpdateProgressScheduler(Injector injector) {
     // This is need for wait notify update progress for CVNG step.
     ScheduledThreadPoolExecutor waitNotifyUpdateProgressExecutor =
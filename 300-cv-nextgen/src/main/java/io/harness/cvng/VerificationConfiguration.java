@@ -102,6 +102,8 @@ public class VerificationConfiguration extends Configuration {
   @JsonProperty("hostname") String hostname = "localhost";
   @JsonProperty("basePathPrefix") String basePathPrefix = "";
   @JsonProperty(value = "enableOpentelemetry") private Boolean enableOpentelemetry;
+  // Seconds heat map risk score updates are merged in memory before being written, 0 writes them right away
+  @JsonProperty("heatMapUpdateWindowSeconds") private int heatMapUpdateWindowSeconds;
   public static final String RESOURCE_PACKAGE = "io.harness.cvng";
 
   private String portalUrl;
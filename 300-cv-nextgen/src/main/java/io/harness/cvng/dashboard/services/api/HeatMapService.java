@@ -25,6 +25,13 @@ public interface HeatMapService {
       @NotNull CVConfig cvConfig, @NotNull CVMonitoringCategory category, @NotNull Instant timeStamp, double riskScore,
       long anomalousMetricsCount, long anomalousLogsCount);
 
+  /**
+   * From now on keep risk score updates in memory, merged per heat map, until {@link #flushPendingRiskScores()}.
+   */
+  void aggregateRiskScores();
+
+  void flushPendingRiskScores();
+
   Map<String, RiskData> getLatestHealthScore(
       @NonNull ProjectParams projectParams, @NonNull List<String> monitoredServiceIdentifiers);
 
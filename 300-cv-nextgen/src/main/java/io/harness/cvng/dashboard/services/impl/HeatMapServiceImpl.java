@@ -27,14 +27,15 @@ import io.harness.cvng.dashboard.entities.HeatMap.HeatMapResolution;
 import io.harness.cvng.dashboard.entities.HeatMap.HeatMapRisk;
 import io.harness.cvng.dashboard.entities.HeatMap.HeatMapRisk.HeatMapRiskKeys;
 import io.harness.cvng.dashboard.services.api.HeatMapService;
-import io.harness.cvng.utils.CVNGParallelExecutor;
 import io.harness.persistence.HPersistence;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import com.google.inject.Inject;
+import com.google.inject.Singleton;
 import com.mongodb.BasicDBObject;
-import com.mongodb.client.model.DBCollectionUpdateOptions;
+import com.mongodb.BulkWriteOperation;
+import com.mongodb.DBObject;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
@@ -42,104 +43,181 @@ import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.SortedSet;
 import java.util.TreeSet;
-import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.NonNull;
 import lombok.Value;
-import org.mongodb.morphia.UpdateOptions;
+import lombok.extern.slf4j.Slf4j;
 import org.mongodb.morphia.query.Criteria;
 import org.mongodb.morphia.query.Query;
 
+/**
+ * Risk scores are written per heat map document: one ordered bulk write creates the missing documents and risks, then
+ * takes the max of the risk score and increments the anomaly counts of every risk of a document in a single update.
+ * With aggregation enabled, updates are merged in memory until {@link #flushPendingRiskScores()} writes them, so a
+ * burst of analyses of the same service and bucket costs one write per heat map.
+ */
+@Slf4j
+@Singleton
 public class HeatMapServiceImpl implements HeatMapService {
   private static final int RISK_TIME_BUFFER_MINS = 15;
   @Inject private HPersistence hPersistence;
   @Inject private Clock clock;
-  @Inject private CVNGParallelExecutor cvngParallelExecutor;
+
+  private final ConcurrentMap<HeatMapDocumentKey, Map<RiskWindow, PendingRisk>> pendingRiskScores =
+      new ConcurrentHashMap<>();
+  private volatile boolean aggregateRiskScores;
 
   @Override
   public void updateRiskScore(String accountId, String orgIdentifier, String projectIdentifier, CVConfig cvConfig,
       CVMonitoringCategory category, Instant timeStamp, double riskScore, long anomalousMetricsCount,
       long anomalousLogsCount) {
-    List<Callable<Void>> callables = new ArrayList<>();
-    // update for service/env
-    callables.add(() -> {
-      updateRiskScore(category, accountId, orgIdentifier, projectIdentifier, cvConfig.getMonitoredServiceIdentifier(),
-          timeStamp, riskScore, anomalousMetricsCount, anomalousLogsCount);
-      return null;
-    });
-
-    cvngParallelExecutor.executeParallel(callables);
-  }
-
-  private void updateRiskScore(CVMonitoringCategory category, String accountId, String orgIdentifier,
-      String projectIdentifier, String monitoredServiceIdentifier, Instant timeStamp, double riskScore,
-      long anomalousMetricsCount, long anomalousLogsCount) {
-    UpdateOptions options = new UpdateOptions();
-    options.upsert(true);
+    boolean aggregate = aggregateRiskScores;
+    Map<HeatMapDocumentKey, Map<RiskWindow, PendingRisk>> riskScores = aggregate ? pendingRiskScores : new HashMap<>();
     for (HeatMapResolution heatMapResolution : HeatMapResolution.values()) {
       Instant bucketStartTime = getBoundaryOfResolution(timeStamp, heatMapResolution.getBucketSize());
-      Instant bucketEndTime = bucketStartTime.plusMillis(heatMapResolution.getBucketSize().toMillis());
       Instant heatMapStartTime = getBoundaryOfResolution(timeStamp, heatMapResolution.getResolution());
-      Instant heatMapEndTime = heatMapStartTime.plusMillis(heatMapResolution.getResolution().toMillis());
-
-      Query<HeatMap> heatMapQuery = hPersistence.createQuery(HeatMap.class)
-                                        .filter(HeatMapKeys.accountId, accountId)
-                                        .filter(HeatMapKeys.orgIdentifier, orgIdentifier)
-                                        .filter(HeatMapKeys.projectIdentifier, projectIdentifier)
-                                        .filter(HeatMapKeys.monitoredServiceIdentifier, monitoredServiceIdentifier)
-                                        .filter(HeatMapKeys.category, category)
-                                        .filter(HeatMapKeys.heatMapResolution, heatMapResolution)
-                                        .filter(HeatMapKeys.heatMapBucketStartTime, bucketStartTime)
-                                        .filter(HeatMapKeys.heatMapBucketEndTime, bucketEndTime);
+      HeatMapDocumentKey documentKey = new HeatMapDocumentKey(accountId, orgIdentifier, projectIdentifier,
+          cvConfig.getMonitoredServiceIdentifier(), category, heatMapResolution, bucketStartTime);
+      RiskWindow riskWindow = new RiskWindow(
+          heatMapStartTime, heatMapStartTime.plusMillis(heatMapResolution.getResolution().toMillis()));
+      PendingRisk pendingRisk = new PendingRisk(riskScore, anomalousMetricsCount, anomalousLogsCount);
+      riskScores.compute(documentKey, (key, risks) -> {
+        Map<RiskWindow, PendingRisk> merged = risks == null ? new HashMap<>() : risks;
+        merged.merge(riskWindow, pendingRisk, PendingRisk::merge);
+        return merged;
+      });
+    }
+    if (!aggregate) {
+      writeRiskScores(riskScores);
+    }
+  }
+
+  @Override
+  public void aggregateRiskScores() {
+    aggregateRiskScores = true;
+  }
+
+  @Override
+  public void flushPendingRiskScores() {
+    Map<HeatMapDocumentKey, Map<RiskWindow, PendingRisk>> riskScores = new HashMap<>();
+    for (HeatMapDocumentKey documentKey : pendingRiskScores.keySet()) {
+      Map<RiskWindow, PendingRisk> risks = pendingRiskScores.remove(documentKey);
+      if (risks != null) {
+        riskScores.put(documentKey, risks);
+      }
+    }
+    if (riskScores.isEmpty()) {
+      return;
+    }
+    try {
+      writeRiskScores(riskScores);
+    } catch (Exception e) {
+      // part of the bulk write may have been applied, putting the updates back could count anomalies twice
+      log.error("Failed to write risk scores of {} heat maps", riskScores.size(), e);
+    }
+  }
+
+  private void writeRiskScores(Map<HeatMapDocumentKey, Map<RiskWindow, PendingRisk>> riskScores) {
+    BulkWriteOperation bulkWriteOperation = hPersistence.getCollection(HeatMap.class).initializeOrderedBulkOperation();
+    Date validUntil = HeatMap.builder().build().getValidUntil();
+    riskScores.forEach((documentKey, risks) -> {
+      DBObject heatMapQuery = documentKey.toQuery(hPersistence).getQueryObject();
 
       // first create the heatmap record if it doesn't exists
-      hPersistence.getDatastore(HeatMap.class)
-          .update(heatMapQuery,
-              hPersistence.createUpdateOperations(HeatMap.class)
-                  .setOnInsert(HeatMapKeys.accountId, accountId)
-                  .setOnInsert(HeatMapKeys.validUntil, HeatMap.builder().build().getValidUntil())
-                  .addToSet(HeatMapKeys.heatMapRisks,
-                      HeatMapRisk.builder()
-                          .riskScore(riskScore)
-                          .startTime(heatMapStartTime)
-                          .endTime(heatMapEndTime)
-                          .build()),
-              options);
-
-      DBCollectionUpdateOptions arrayFilterOptions = new DBCollectionUpdateOptions();
-      arrayFilterOptions.upsert(true);
-      arrayFilterOptions.multi(false);
-      Map<String, Object> filterMap = new HashMap<>();
-      filterMap.put("elem." + HeatMapRiskKeys.startTime, heatMapStartTime);
-      filterMap.put("elem." + HeatMapRiskKeys.endTime, heatMapEndTime);
-      filterMap.put("elem." + HeatMapRiskKeys.riskScore, new BasicDBObject("$lt", riskScore));
-      arrayFilterOptions.arrayFilters(Lists.newArrayList(new BasicDBObject(filterMap)));
-      hPersistence.getCollection(HeatMap.class)
-          .update(heatMapQuery.getQueryObject(),
-              new BasicDBObject("$set",
-                  new BasicDBObject(HeatMapKeys.heatMapRisks + ".$[elem]." + HeatMapRiskKeys.riskScore, riskScore)),
-              arrayFilterOptions);
+      bulkWriteOperation.find(heatMapQuery)
+          .upsert()
+          .updateOne(new BasicDBObject("$setOnInsert",
+              new BasicDBObject(HeatMapKeys.accountId, documentKey.getAccountId())
+                  .append(HeatMapKeys.validUntil, validUntil)
+                  .append(HeatMapKeys.heatMapRisks, new ArrayList<>())));
+
+      BasicDBObject maxRiskScores = new BasicDBObject();
+      BasicDBObject anomalousCounts = new BasicDBObject();
+      List<DBObject> arrayFilters = new ArrayList<>();
+      risks.forEach((riskWindow, pendingRisk) -> {
+        // then add the risk if the record doesn't have it yet, it gets its score and counts by the update below
+        BasicDBObject missingRiskQuery = new BasicDBObject(heatMapQuery.toMap());
+        missingRiskQuery.append(HeatMapKeys.heatMapRisks,
+            new BasicDBObject("$not",
+                new BasicDBObject("$elemMatch",
+                    new BasicDBObject(HeatMapRiskKeys.startTime, riskWindow.getStartTime())
+                        .append(HeatMapRiskKeys.endTime, riskWindow.getEndTime()))));
+        bulkWriteOperation.find(missingRiskQuery)
+            .updateOne(new BasicDBObject("$push",
+                new BasicDBObject(HeatMapKeys.heatMapRisks,
+                    new BasicDBObject(HeatMapRiskKeys.startTime, riskWindow.getStartTime())
+                        .append(HeatMapRiskKeys.endTime, riskWindow.getEndTime())
+                        .append(HeatMapRiskKeys.riskScore, pendingRisk.getRiskScore())
+                        .append(HeatMapRiskKeys.anomalousMetricsCount, 0L)
+                        .append(HeatMapRiskKeys.anomalousLogsCount, 0L))));
+
+        String elem = "elem" + arrayFilters.size();
+        String riskPath = HeatMapKeys.heatMapRisks + ".$[" + elem + "].";
+        maxRiskScores.append(riskPath + HeatMapRiskKeys.riskScore, pendingRisk.getRiskScore());
+        anomalousCounts.append(riskPath + HeatMapRiskKeys.anomalousMetricsCount, pendingRisk.getAnomalousMetricsCount())
+            .append(riskPath + HeatMapRiskKeys.anomalousLogsCount, pendingRisk.getAnomalousLogsCount());
+        arrayFilters.add(new BasicDBObject(elem + "." + HeatMapRiskKeys.startTime, riskWindow.getStartTime())
+                             .append(elem + "." + HeatMapRiskKeys.endTime, riskWindow.getEndTime()));
+      });
 
       /**
-       * Update anomalous metrics and logs count in all heatmap risk objects
+       * Keep the max risk score and add up anomalous metrics and logs count of all risks of the record at once
        * */
+      bulkWriteOperation.find(heatMapQuery)
+          .arrayFilters(arrayFilters)
+          .updateOne(new BasicDBObject("$max", maxRiskScores).append("$inc", anomalousCounts));
+    });
+    bulkWriteOperation.execute();
+  }
+
+  @Value
+  private static class HeatMapDocumentKey {
+    String accountId;
+    String orgIdentifier;
+    String projectIdentifier;
+    String monitoredServiceIdentifier;
+    CVMonitoringCategory category;
+    HeatMapResolution heatMapResolution;
+    Instant heatMapBucketStartTime;
+
+    Query<HeatMap> toQuery(HPersistence hPersistence) {
+      return hPersistence.createQuery(HeatMap.class)
+          .filter(HeatMapKeys.accountId, accountId)
+          .filter(HeatMapKeys.orgIdentifier, orgIdentifier)
+          .filter(HeatMapKeys.projectIdentifier, projectIdentifier)
+          .filter(HeatMapKeys.monitoredServiceIdentifier, monitoredServiceIdentifier)
+          .filter(HeatMapKeys.category, category)
+          .filter(HeatMapKeys.heatMapResolution, heatMapResolution)
+          .filter(HeatMapKeys.heatMapBucketStartTime, heatMapBucketStartTime)
+          .filter(HeatMapKeys.heatMapBucketEndTime,
+              heatMapBucketStartTime.plusMillis(heatMapResolution.getBucketSize().toMillis()));
+    }
+  }
 
-      filterMap = new HashMap<>();
-      filterMap.put("elem." + HeatMapRiskKeys.startTime, heatMapStartTime);
-      filterMap.put("elem." + HeatMapRiskKeys.endTime, heatMapEndTime);
-      arrayFilterOptions.arrayFilters(Lists.newArrayList(new BasicDBObject(filterMap)));
+  @Value
+  private static class RiskWindow {
+    Instant startTime;
+    Instant endTime;
+  }
 
-      BasicDBObject updateObject = new BasicDBObject("$inc",
-          new BasicDBObject(
-              HeatMapKeys.heatMapRisks + ".$[elem]." + HeatMapRiskKeys.anomalousMetricsCount, anomalousMetricsCount)
-              .append(HeatMapKeys.heatMapRisks + ".$[elem]." + HeatMapRiskKeys.anomalousLogsCount, anomalousLogsCount));
-      hPersistence.getCollection(HeatMap.class).update(heatMapQuery.getQueryObject(), updateObject, arrayFilterOptions);
+  @Value
+  private static class PendingRisk {
+    double riskScore;
+    long anomalousMetricsCount;
+    long anomalousLogsCount;
+
+    PendingRisk merge(PendingRisk other) {
+      return new PendingRisk(Math.max(riskScore, other.riskScore), anomalousMetricsCount + other.anomalousMetricsCount,
+          anomalousLogsCount + other.anomalousLogsCount);
     }
   }
 
@@ -138,6 +138,31 @@ public class HeatMapServiceImplTest extends CvNextGenTestBase {
     verifyUpdates(instant, 0.7, 20, 22);
   }
 
+  @Test
+  @Owner(developers = RAGHU)
+  @Category(UnitTests.class)
+  public void testUpsertAndUpdate_whenAggregated() throws IllegalAccessException {
+    Instant instant = Instant.now();
+    heatMapService.aggregateRiskScores();
+    try {
+      heatMapService.updateRiskScore(
+          accountId, orgIdentifier, projectIdentifier, cvConfig, CVMonitoringCategory.PERFORMANCE, instant, 0.6, 10, 9);
+      heatMapService.updateRiskScore(
+          accountId, orgIdentifier, projectIdentifier, cvConfig, CVMonitoringCategory.PERFORMANCE, instant, 0.7, 5, 8);
+      assertThat(hPersistence.createQuery(HeatMap.class, excludeAuthority).count()).isEqualTo(0);
+
+      heatMapService.flushPendingRiskScores();
+      verifyUpdates(instant, 0.7, 15, 17);
+
+      heatMapService.updateRiskScore(
+          accountId, orgIdentifier, projectIdentifier, cvConfig, CVMonitoringCategory.PERFORMANCE, instant, 0.5, 5, 5);
+      heatMapService.flushPendingRiskScores();
+      verifyUpdates(instant, 0.7, 20, 22);
+    } finally {
+      FieldUtils.writeField(heatMapService, "aggregateRiskScores", false, true);
+    }
+  }
+
   private void verifyUpdates(Instant instant, double riskScore, long anomalousMetricsCount, long anomalousLogsCount) {
     verifyHeatMaps(instant, riskScore,
         hPersistence.createQuery(HeatMap.class, excludeAuthority)
@@ -581,7 +581,7 @@ public class CIDashboardsApisTest extends CategoryTest {
     PreparedStatement statement = mock(PreparedStatement.class);
     when(statement.executeQuery()).thenReturn(resultSet);
     when(connection.prepareStatement(any())).thenReturn(statement);
-    when(timeScaleDBService.getDBConnection()).thenReturn(connection);
+    when(timeScaleDBService.getReadOnlyDBConnection()).thenReturn(connection);
     final int[] count = {0};
     when(resultSet.next()).then((Answer<Boolean>) invocation -> {
       if (count[0] <= 1) {
@@ -616,7 +616,7 @@ public class CIDashboardsApisTest extends CategoryTest {
     PreparedStatement statement = mock(PreparedStatement.class);
     when(statement.executeQuery()).thenReturn(resultSet);
     when(connection.prepareStatement(any())).thenReturn(statement);
-    when(timeScaleDBService.getDBConnection()).thenReturn(connection);
+    when(timeScaleDBService.getReadOnlyDBConnection()).thenReturn(connection);
     final int[] count = {0};
     when(resultSet.next()).then((Answer<Boolean>) invocation -> {
       if (count[0] <= 1) {
@@ -653,7 +653,7 @@ public class CIDashboardsApisTest extends CategoryTest {
     PreparedStatement statement = mock(PreparedStatement.class);
     when(statement.executeQuery()).thenReturn(resultSet);
     when(connection.prepareStatement(any())).thenReturn(statement);
-    when(timeScaleDBService.getDBConnection()).thenReturn(connection);
+    when(timeScaleDBService.getReadOnlyDBConnection()).thenReturn(connection);
     final int[] count = {0};
     when(resultSet.next()).then((Answer<Boolean>) invocation -> {
       if (count[0] <= 1) {
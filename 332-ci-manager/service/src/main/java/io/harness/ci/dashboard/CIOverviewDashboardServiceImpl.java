@@ -87,7 +87,7 @@ public class CIOverviewDashboardServiceImpl implements CIOverviewDashboardServic
     while (totalTries <= MAX_RETRY_COUNT) {
       totalTries++;
       ResultSet resultSet = null;
-      try (Connection connection = timeScaleDBService.getDBConnection();
+      try (Connection connection = timeScaleDBService.getReadOnlyDBConnection();
            PreparedStatement statement = connection.prepareStatement(query)) {
         statement.setString(1, accountId);
         statement.setLong(2, timestamp);
@@ -113,7 +113,7 @@ public class CIOverviewDashboardServiceImpl implements CIOverviewDashboardServic
     while (totalTries <= MAX_RETRY_COUNT) {
       totalTries++;
       ResultSet resultSet = null;
-      try (Connection connection = timeScaleDBService.getDBConnection();
+      try (Connection connection = timeScaleDBService.getReadOnlyDBConnection();
            PreparedStatement statement = connection.prepareStatement(query)) {
         statement.setString(1, accountId);
         statement.setLong(2, timestamp);
@@ -165,7 +165,7 @@ public class CIOverviewDashboardServiceImpl implements CIOverviewDashboardServic
     while (totalTries <= MAX_RETRY_COUNT) {
       totalTries++;
       ResultSet resultSet = null;
-      try (Connection connection = timeScaleDBService.getDBConnection();
+      try (Connection connection = timeScaleDBService.getReadOnlyDBConnection();
            PreparedStatement statement = connection.prepareStatement(selectStatusQuery)) {
         setPrepareStatement(accountId, orgId, projectId, statement);
         statement.setLong(4, startInterval);
@@ -357,7 +357,7 @@ public class CIOverviewDashboardServiceImpl implements CIOverviewDashboardServic
     while (totalTries <= MAX_RETRY_COUNT) {
       totalTries++;
       ResultSet resultSet = null;
-      try (Connection connection = timeScaleDBService.getDBConnection();
+      try (Connection connection = timeScaleDBService.getReadOnlyDBConnection();
            PreparedStatement statement = connection.prepareStatement(totalBuildSqlBuilder.toString())) {
         setPrepareStatement(accountId, orgId, projectId, statement);
         statement.setLong(4, limit);
@@ -434,7 +434,7 @@ public class CIOverviewDashboardServiceImpl implements CIOverviewDashboardServic
     while (totalTries <= MAX_RETRY_COUNT) {
       totalTries++;
       ResultSet resultSet = null;
-      try (Connection connection = timeScaleDBService.getDBConnection();
+      try (Connection connection = timeScaleDBService.getReadOnlyDBConnection();
            PreparedStatement statement = connection.prepareStatement(queryServiceTag)) {
         resultSet = statement.executeQuery();
         while (resultSet != null && resultSet.next()) {
@@ -488,7 +488,7 @@ public class CIOverviewDashboardServiceImpl implements CIOverviewDashboardServic
     while (totalTries <= MAX_RETRY_COUNT) {
       totalTries++;
       ResultSet resultSet = null;
-      try (Connection connection = timeScaleDBService.getDBConnection();
+      try (Connection connection = timeScaleDBService.getReadOnlyDBConnection();
            PreparedStatement statement = connection.prepareStatement(totalBuildSqlBuilder.toString())) {
         setPrepareStatement(accountId, orgId, projectId, statement);
         statement.setLong(4, limit);
@@ -582,7 +582,7 @@ public class CIOverviewDashboardServiceImpl implements CIOverviewDashboardServic
     while (totalTries <= MAX_RETRY_COUNT) {
       totalTries++;
       ResultSet resultSet = null;
-      try (Connection connection = timeScaleDBService.getDBConnection();
+      try (Connection connection = timeScaleDBService.getReadOnlyDBConnection();
            PreparedStatement statement = connection.prepareStatement(selectStatusQuery)) {
         setPrepareStatement(accountId, orgId, projectId, statement);
         statement.setLong(4, previousStartInterval);
@@ -38,6 +38,22 @@ if [[ "" != "$EVENTS_MONGO_URI" ]]; then
   export EVENTS_MONGO_URI; yq -i '.events-mongo.uri=env(EVENTS_MONGO_URI)' $CONFIG_FILE
 fi
 
+if [[ "" != "$EVENT_INGEST_ASYNC_ENABLED" ]]; then
+  export EVENT_INGEST_ASYNC_ENABLED; yq -i '.eventIngestConfig.enableAsyncIngest=env(EVENT_INGEST_ASYNC_ENABLED)' $CONFIG_FILE
+fi
+
+if [[ "" != "$EVENT_INGEST_QUEUE_FILE_PATH" ]]; then
+  export EVENT_INGEST_QUEUE_FILE_PATH; yq -i '.eventIngestConfig.queueFilePath=env(EVENT_INGEST_QUEUE_FILE_PATH)' $CONFIG_FILE
+fi
+
+if [[ "" != "$EVENT_INGEST_MAX_PENDING_MESSAGES" ]]; then
+  export EVENT_INGEST_MAX_PENDING_MESSAGES; yq -i '.eventIngestConfig.maxPendingMessages=env(EVENT_INGEST_MAX_PENDING_MESSAGES)' $CONFIG_FILE
+fi
+
+if [[ "" != "$EVENT_INGEST_GROUP_COMMIT_SIZE" ]]; then
+  export EVENT_INGEST_GROUP_COMMIT_SIZE; yq -i '.eventIngestConfig.groupCommitSize=env(EVENT_INGEST_GROUP_COMMIT_SIZE)' $CONFIG_FILE
+fi
+
 if [[ "" != "$LOGGING_LEVEL" ]]; then
   export LOGGING_LEVEL; yq -i '.logging.level=env(LOGGING_LEVEL)' $CONFIG_FILE
 fi
@@ -13,6 +13,7 @@ import static java.util.stream.Collectors.toSet;
 
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.event.config.EventDataBatchQueryConfig;
+import io.harness.event.config.EventIngestConfig;
 import io.harness.grpc.server.Connector;
 import io.harness.mongo.MongoConfig;
 import io.harness.secret.ConfigSecret;
@@ -66,6 +67,7 @@ public class EventServiceConfig extends Configuration {
   private MongoConfig eventsMongo = MongoConfig.builder().build();
   @JsonProperty("secretsConfiguration") private SecretsConfiguration secretsConfiguration;
   @JsonProperty("eventDataBatchQueryConfig") private EventDataBatchQueryConfig eventDataBatchQueryConfig;
+  @JsonProperty("eventIngestConfig") private EventIngestConfig eventIngestConfig;
 
   @JsonProperty(value = "hostname") private String hostname = "localhost";
   @JsonProperty(value = "basePathPrefix") private String basePathPrefix = "";
@@ -14,6 +14,7 @@ import io.harness.delegate.authenticator.DelegateTokenAuthenticatorImpl;
 import io.harness.event.MessageProcessorType;
 import io.harness.event.grpc.EventPublisherServerImpl;
 import io.harness.event.grpc.MessageProcessor;
+import io.harness.event.ingest.EventIngestWriter;
 import io.harness.event.metrics.EventServiceMetricsPublisher;
 import io.harness.event.service.impl.EventDataBulkWriteServiceImpl;
 import io.harness.event.service.impl.EventPublisherServiceImpl;
@@ -84,6 +85,10 @@ public class EventServiceModule extends AbstractModule {
     bind(LastReceivedPublishedMessageRepository.class).to(LastReceivedPublishedMessageRepositoryImpl.class);
     bind(EventDataBulkWriteService.class).to(EventDataBulkWriteServiceImpl.class);
     bind(EventPublisherService.class).to(EventPublisherServiceImpl.class);
+    if (eventServiceConfig.getEventIngestConfig() != null
+        && eventServiceConfig.getEventIngestConfig().isEnableAsyncIngest()) {
+      Multibinder.newSetBinder(binder(), Service.class).addBinding().to(EventIngestWriter.class);
+    }
 
     Multibinder<BindableService> bindableServiceMultibinder = Multibinder.newSetBinder(binder(), BindableService.class);
     bindableServiceMultibinder.addBinding().to(EventPublisherServerImpl.class);
@@ -17,6 +17,7 @@ import io.harness.delegate.task.DelegateLogContext;
 import io.harness.event.EventPublisherGrpc;
 import io.harness.event.PublishRequest;
 import io.harness.event.PublishResponse;
+import io.harness.event.ingest.EventIngestQueueFullException;
 import io.harness.event.service.intfc.EventPublisherService;
 import io.harness.logging.AccountLogContext;
 import io.harness.logging.AutoLogContext;
@@ -50,6 +51,9 @@ public class EventPublisherServerImpl extends EventPublisherGrpc.EventPublisherI
         eventPublisherService.publish(accountId, delegateId, request.getMessagesList(), request.getMessagesCount());
         responseObserver.onNext(PublishResponse.newBuilder().build());
         responseObserver.onCompleted();
+      } catch (EventIngestQueueFullException e) {
+        log.warn("Rejecting publish request: {}", e.getMessage());
+        responseObserver.onError(Status.RESOURCE_EXHAUSTED.withDescription(e.getMessage()).asException());
       } catch (Exception e) {
         log.error("Exception in Event Publisher Service", e);
         responseObserver.onError(Status.INTERNAL.withCause(e).asException());
@@ -27,7 +27,9 @@ public class ExceptionMessageProcessor implements MessageProcessor {
   @Override
   public void process(PublishedMessage publishedMessage) {
     CeExceptionMessage exceptionMessage = (CeExceptionMessage) publishedMessage.getMessage();
+    // Keyed by the message id, so that processing a message again after a replay does not add a second record
     ceK8SExceptionRecordDao.save(CeExceptionRecord.builder()
+                                     .uuid(publishedMessage.getUuid())
                                      .accountId(publishedMessage.getAccountId())
                                      .clusterId(exceptionMessage.getClusterId())
                                      .message(exceptionMessage.getMessage())
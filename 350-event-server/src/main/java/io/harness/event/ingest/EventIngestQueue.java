@@ -0,0 +1,219 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.event.ingest;
+
+import static io.harness.annotations.dev.HarnessTeam.CE;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+
+import static com.google.common.base.Preconditions.checkState;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.event.PublishMessage;
+import io.harness.event.PublishRequest;
+import io.harness.event.app.EventServiceConfig;
+import io.harness.event.client.impl.EventPublisherConstants;
+import io.harness.event.client.impl.tailer.FileDeletionManager;
+import io.harness.event.client.impl.tailer.QueueUtils;
+import io.harness.event.config.EventIngestConfig;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.openhft.chronicle.queue.ChronicleQueue;
+import net.openhft.chronicle.queue.ExcerptTailer;
+import net.openhft.chronicle.queue.impl.RollingChronicleQueue;
+import net.openhft.chronicle.wire.DocumentContext;
+import net.openhft.chronicle.wire.ValueIn;
+import net.openhft.chronicle.wire.ValueOut;
+
+/**
+ * Durable buffer between the publish endpoints and the database.
+ * <p/>
+ * A publish request is appended as one excerpt to a chronicle-queue on local disk and acknowledged once the append
+ * returns, so a crash of the process does not lose acknowledged messages. {@link EventIngestWriter} reads the excerpts
+ * back in groups and commits them to the database. Messages that were read but not committed are read again after a
+ * failure or a restart. Every message is given an id before it is appended, so that the writer can recognise the ones
+ * it has already persisted.
+ * <p/>
+ * {@link #append} is thread-safe. The read side ({@link #readGroup}, {@link #commit}, {@link #rewind}) is not, as CQ
+ * tailers are not thread-safe, and is supposed to be used by the single writer thread.
+ */
+@Slf4j
+@Singleton
+@OwnedBy(CE)
+public class EventIngestQueue {
+  private final EventIngestConfig ingestConfig;
+  private final AtomicLong pendingMessages = new AtomicLong();
+
+  private RollingChronicleQueue queue;
+  private ExcerptTailer readTailer;
+  private FileDeletionManager committedIndexManager;
+  private long readMessages;
+
+  @Inject
+  public EventIngestQueue(EventServiceConfig eventServiceConfig) {
+    this.ingestConfig = eventServiceConfig.getEventIngestConfig();
+    if (isEnabled()) {
+      queue = ChronicleQueue.singleBuilder(ingestConfig.getQueueFilePath())
+                  .rollCycle(EventPublisherConstants.QUEUE_ROLL_CYCLE)
+                  .timeoutMS(EventPublisherConstants.QUEUE_TIMEOUT_MS)
+                  .build();
+      // The committed index is kept in the queue metadata, so it survives restarts
+      committedIndexManager = new FileDeletionManager(queue);
+      readTailer = queue.createTailer();
+      QueueUtils.moveToIndex(readTailer, committedIndexManager.getSentIndex());
+      pendingMessages.set(countUncommittedMessages());
+      log.info("Opened ingest queue at {} with {} uncommitted messages", ingestConfig.getQueueFilePath(),
+          pendingMessages.get());
+    }
+  }
+
+  public boolean isEnabled() {
+    return ingestConfig != null && ingestConfig.isEnableAsyncIngest();
+  }
+
+  public int getGroupCommitSize() {
+    return ingestConfig.getGroupCommitSize();
+  }
+
+  public long getPendingMessages() {
+    return pendingMessages.get();
+  }
+
+  /**
+   * Appends the messages of one publish request.
+   *
+   * @throws EventIngestQueueFullException if the writer is too far behind to take more messages
+   */
+  // catching throwable is necessary
+  @SuppressWarnings({"PMD.AvoidCatchingThrowable", "squid:S1181"})
+  public void append(String accountId, String delegateId, List<PublishMessage> messages) {
+    checkState(isEnabled(), "Async ingest is not enabled");
+    if (messages.isEmpty()) {
+      return;
+    }
+    int count = messages.size();
+    if (pendingMessages.addAndGet(count) > ingestConfig.getMaxPendingMessages()) {
+      pendingMessages.addAndGet(-count);
+      throw new EventIngestQueueFullException(
+          String.format("Ingest queue is full with %d pending messages", pendingMessages.get()));
+    }
+    byte[] bytes = PublishRequest.newBuilder().addAllMessages(withMessageIds(messages)).build().toByteArray();
+    DocumentContext dc = queue.acquireAppender().writingDocument();
+    try {
+      ValueOut valueOut = dc.wire().getValueOut();
+      valueOut.text(accountId);
+      valueOut.text(delegateId);
+      valueOut.bytes(bytes);
+    } catch (Throwable t) {
+      dc.rollbackOnClose();
+      pendingMessages.addAndGet(-count);
+      throw t;
+    } finally {
+      dc.close();
+    }
+  }
+
+  private static List<PublishMessage> withMessageIds(List<PublishMessage> messages) {
+    return messages.stream()
+        .map(message
+            -> isEmpty(message.getMessageId()) ? message.toBuilder().setMessageId(generateUuid()).build() : message)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Reads whole publish requests after the last read one, until at least maxMessages are read or the queue is drained.
+   */
+  public List<IngestBatch> readGroup(int maxMessages) {
+    List<IngestBatch> group = new ArrayList<>();
+    int messageCount = 0;
+    while (messageCount < maxMessages) {
+      IngestBatch batch = readNext(readTailer);
+      if (batch == null) {
+        break;
+      }
+      messageCount += batch.getMessages().size();
+      readMessages += batch.getMessages().size();
+      group.add(batch);
+    }
+    return group;
+  }
+
+  /**
+   * Marks everything read so far as committed, so that it is not read again and the older queue files can be deleted.
+   */
+  public void commit() {
+    committedIndexManager.setSentIndex(readTailer.index());
+    pendingMessages.addAndGet(-readMessages);
+    readMessages = 0;
+  }
+
+  /**
+   * Moves the read position back to the last commit, so that everything read after it gets read again.
+   */
+  public void rewind() {
+    QueueUtils.moveToIndex(readTailer, committedIndexManager.getSentIndex());
+    readMessages = 0;
+  }
+
+  public void deleteCommittedFiles() {
+    committedIndexManager.deleteOlderFiles();
+  }
+
+  public void close() {
+    if (queue != null) {
+      queue.close();
+    }
+  }
+
+  private long countUncommittedMessages() {
+    ExcerptTailer tailer = queue.createTailer();
+    QueueUtils.moveToIndex(tailer, committedIndexManager.getSentIndex());
+    long count = 0;
+    for (IngestBatch batch = readNext(tailer); batch != null; batch = readNext(tailer)) {
+      count += batch.getMessages().size();
+    }
+    return count;
+  }
+
+  private static IngestBatch readNext(ExcerptTailer tailer) {
+    while (true) {
+      try (DocumentContext dc = tailer.readingDocument()) {
+        if (!dc.isPresent()) {
+          return null;
+        }
+        try {
+          ValueIn valueIn = dc.wire().getValueIn();
+          String accountId = valueIn.text();
+          String delegateId = valueIn.text();
+          byte[] bytes = valueIn.bytes();
+          if (bytes != null) {
+            return new IngestBatch(accountId, delegateId, PublishRequest.parseFrom(bytes).getMessagesList());
+          }
+          // could happen in case of an error during append with document context open.
+          log.warn("Read NULL publish request. Skipping");
+        } catch (Exception e) {
+          log.error("Exception while parsing publish request. Skipping", e);
+        }
+      }
+    }
+  }
+
+  @Value
+  public static class IngestBatch {
+    String accountId;
+    String delegateId;
+    List<PublishMessage> messages;
+  }
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.event.ingest;
+
+import static io.harness.annotations.dev.HarnessTeam.CE;
+
+import io.harness.annotations.dev.OwnedBy;
+
+/**
+ * Thrown when a publish request can not be buffered because the ingest queue is full. Publishers are expected to keep
+ * the messages and retry later.
+ */
+@OwnedBy(CE)
+public class EventIngestQueueFullException extends RuntimeException {
+  public EventIngestQueueFullException(String message) {
+    super(message);
+  }
+}
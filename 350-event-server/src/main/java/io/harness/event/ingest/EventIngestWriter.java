@@ -0,0 +1,108 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.event.ingest;
+
+import static io.harness.annotations.dev.HarnessTeam.CE;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.event.ingest.EventIngestQueue.IngestBatch;
+import io.harness.event.service.impl.EventPublisherServiceImpl;
+import io.harness.flow.BackoffScheduler;
+import io.harness.logging.LoggingListener;
+
+import com.google.common.util.concurrent.AbstractScheduledService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.time.Duration;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drains the {@link EventIngestQueue} into the database, committing the publish requests of many delegates together.
+ * <p/>
+ * A group is committed in the queue only after it is persisted. On failure the queue is rewound to the last commit and
+ * the same messages are written again on the next run, with a backoff while the database keeps failing.
+ */
+@Slf4j
+@Singleton
+@OwnedBy(CE)
+public class EventIngestWriter extends AbstractScheduledService {
+  private static final Duration MIN_DELAY = Duration.ofMillis(200);
+  private static final Duration MAX_DELAY = Duration.ofSeconds(30);
+
+  private final EventIngestQueue eventIngestQueue;
+  private final EventPublisherServiceImpl eventPublisherService;
+  private final BackoffScheduler scheduler;
+
+  @Inject
+  public EventIngestWriter(EventIngestQueue eventIngestQueue, EventPublisherServiceImpl eventPublisherService) {
+    this.eventIngestQueue = eventIngestQueue;
+    this.eventPublisherService = eventPublisherService;
+    this.scheduler = new BackoffScheduler(EventIngestWriter.class.getSimpleName(), MIN_DELAY, MAX_DELAY);
+    addListener(new LoggingListener(this), MoreExecutors.directExecutor());
+  }
+
+  @Override
+  protected void startUp() {
+    log.info("Starting up with {} pending messages", eventIngestQueue.getPendingMessages());
+  }
+
+  @Override
+  protected void shutDown() {
+    try {
+      log.info("Shutting down with {} pending messages", eventIngestQueue.getPendingMessages());
+      drain();
+    } catch (Exception e) {
+      log.error("Exception in shutDown", e);
+    } finally {
+      eventIngestQueue.close();
+    }
+  }
+
+  @Override
+  protected void runOneIteration() {
+    // service will terminate if exception is not caught.
+    try {
+      drain();
+      scheduler.recordSuccess();
+    } catch (Exception e) {
+      log.warn("Failed to persist ingested messages, will retry from the last commit", e);
+      eventIngestQueue.rewind();
+      scheduler.recordFailure();
+    }
+  }
+
+  /**
+   * Writes groups until the queue has less than a full group left.
+   */
+  private void drain() {
+    int groupCommitSize = eventIngestQueue.getGroupCommitSize();
+    boolean committedAny = false;
+    List<IngestBatch> group;
+    do {
+      group = eventIngestQueue.readGroup(groupCommitSize);
+      if (group.isEmpty()) {
+        break;
+      }
+      eventPublisherService.persistGroup(group);
+      eventIngestQueue.commit();
+      committedAny = true;
+      log.info("Committed {} publish requests, {} messages pending", group.size(),
+          eventIngestQueue.getPendingMessages());
+    } while (group.stream().mapToInt(batch -> batch.getMessages().size()).sum() >= groupCommitSize);
+    if (committedAny) {
+      eventIngestQueue.deleteCommittedFiles();
+    }
+  }
+
+  @Override
+  protected Scheduler scheduler() {
+    return scheduler;
+  }
+}
@@ -14,6 +14,7 @@ import io.harness.annotations.ExposeInternalException;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.event.PublishRequest;
 import io.harness.event.PublishResponse;
+import io.harness.event.ingest.EventIngestQueueFullException;
 import io.harness.event.service.intfc.EventPublisherService;
 import io.harness.security.annotations.PublicApi;
 
@@ -59,6 +60,11 @@ public class K8sEventResource {
     try {
       eventPublisherService.publish(accountId, delegateId, request.getMessagesList(), request.getMessagesCount());
       return Response.ok(PublishResponse.newBuilder().build()).build();
+    } catch (EventIngestQueueFullException e) {
+      log.warn("Rejecting publish request: {}", e.getMessage());
+      return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+          .entity(PublishResponse.newBuilder().build())
+          .build();
     } catch (Exception e) {
       log.error("Exception in Event Publisher Service", e);
       return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
@@ -9,6 +9,7 @@ package io.harness.event.service.impl;
 
 import io.harness.ccm.commons.entities.events.PublishedMessage;
 import io.harness.ccm.commons.entities.events.PublishedMessage.PublishedMessageKeys;
+import io.harness.eraro.mongo.MongoError;
 import io.harness.event.app.EventServiceConfig;
 import io.harness.event.service.intfc.EventBatchQueryFnFactory;
 import io.harness.event.service.intfc.EventDataBulkWriteService;
@@ -18,9 +19,12 @@ import com.google.common.collect.Lists;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.mongodb.BasicDBObject;
+import com.mongodb.BulkWriteError;
+import com.mongodb.BulkWriteException;
 import com.mongodb.BulkWriteOperation;
 import com.mongodb.BulkWriteResult;
 import java.time.Instant;
+import java.util.Collections;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 
@@ -59,6 +63,32 @@ public class EventDataBulkWriteServiceImpl implements EventDataBulkWriteService
     return batchQueryExecutor(publishedMessages, publishedMessageInsertQueryFn, PublishedMessage.class);
   }
 
+  @Override
+  public void insertPublishedMessagesInOrder(final List<PublishedMessage> publishedMessages) {
+    final int bulkWriteLimit = eventServiceConfig.getEventDataBatchQueryConfig().getQueryBatchSize();
+    for (final List<PublishedMessage> partition : Lists.partition(publishedMessages, bulkWriteLimit)) {
+      List<PublishedMessage> remaining = partition;
+      while (!remaining.isEmpty()) {
+        final BulkWriteOperation bulkWriteOperation =
+            hPersistence.getCollection(PublishedMessage.class).initializeOrderedBulkOperation();
+        for (final PublishedMessage publishedMessage : remaining) {
+          publishedMessageInsertQueryFn.addQueryFor(bulkWriteOperation, publishedMessage);
+        }
+        try {
+          bulkWriteOperation.execute();
+          remaining = Collections.emptyList();
+        } catch (final BulkWriteException ex) {
+          // An ordered write stops at the first error, everything before it is inserted
+          final BulkWriteError writeError = ex.getWriteErrors().get(0);
+          if (writeError.getCode() != MongoError.DUPLICATE_KEY.getErrorCode()) {
+            throw ex;
+          }
+          remaining = remaining.subList(writeError.getIndex() + 1, remaining.size());
+        }
+      }
+    }
+  }
+
   private <T> boolean batchQueryExecutor(
       final List<T> itemsList, final EventBatchQueryFnFactory<T> eventBatchQueryFnFactory, final Class clazz) {
     final int bulkWriteLimit = eventServiceConfig.getEventDataBatchQueryConfig().getQueryBatchSize();
@@ -18,6 +18,8 @@ import io.harness.event.PublishMessage;
 import io.harness.event.app.EventServiceConfig;
 import io.harness.event.grpc.MessageProcessor;
 import io.harness.event.grpc.MessageProcessorRegistry;
+import io.harness.event.ingest.EventIngestQueue;
+import io.harness.event.ingest.EventIngestQueue.IngestBatch;
 import io.harness.event.metrics.ClusterResourcesMetricsGroup;
 import io.harness.event.metrics.EventServiceMetricNames;
 import io.harness.event.metrics.MessagesMetricsGroupContext;
@@ -38,6 +40,8 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 
@@ -50,6 +54,7 @@ public class EventPublisherServiceImpl implements EventPublisherService {
   private final MessageProcessorRegistry messageProcessorRegistry;
   private final MetricService metricService;
   private final EventDataBulkWriteService eventDataBulkWriteService;
+  private final EventIngestQueue eventIngestQueue;
 
   private static final String POD_UTILIZATION = "io.harness.event.payloads.PodMetric";
   private static final String NODE_UTILIZATION = "io.harness.event.payloads.NodeMetric";
@@ -61,37 +66,63 @@ public class EventPublisherServiceImpl implements EventPublisherService {
   public EventPublisherServiceImpl(final HPersistence hPersistence, final EventServiceConfig eventServiceConfig,
       LastReceivedPublishedMessageRepository lastReceivedPublishedMessageRepository,
       MessageProcessorRegistry messageProcessorRegistry, MetricService metricService,
-      EventDataBulkWriteService eventDataBulkWriteService) {
+      EventDataBulkWriteService eventDataBulkWriteService, EventIngestQueue eventIngestQueue) {
     this.hPersistence = hPersistence;
     this.eventServiceConfig = eventServiceConfig;
     this.lastReceivedPublishedMessageRepository = lastReceivedPublishedMessageRepository;
     this.messageProcessorRegistry = messageProcessorRegistry;
     this.metricService = metricService;
     this.eventDataBulkWriteService = eventDataBulkWriteService;
+    this.eventIngestQueue = eventIngestQueue;
   }
 
   @Override
   public void publish(String accountId, String delegateId, List<PublishMessage> messagesList, int messageCount) {
+    if (eventIngestQueue.isEnabled()) {
+      // Persisted in groups by EventIngestWriter
+      eventIngestQueue.append(accountId, delegateId, messagesList);
+      return;
+    }
     final boolean enableBatchWrite = eventServiceConfig.getEventDataBatchQueryConfig().isEnableBatchWrite();
-    List<PublishedMessage> withoutCategory = new ArrayList<>();
-    List<PublishedMessage> withCategory = new ArrayList<>();
-    messagesList.stream()
+    persist(toPublishedMessages(accountId, enableBatchWrite, messagesList),
+        enableBatchWrite ? eventDataBulkWriteService::bulkInsertPublishedMessages
+                         : hPersistence::saveIgnoringDuplicateKeys);
+    messagesList.forEach(msg -> publishMetric(msg, accountId));
+  }
+
+  /**
+   * Persists a group of publish requests read back from the {@link EventIngestQueue} with ordered bulk inserts. The
+   * message ids given on append are kept, so writing the same group again after a failure does not duplicate them.
+   */
+  public void persistGroup(List<IngestBatch> group) {
+    List<PublishedMessage> publishedMessages = new ArrayList<>();
+    group.forEach(
+        batch -> publishedMessages.addAll(toPublishedMessages(batch.getAccountId(), false, batch.getMessages())));
+    persist(publishedMessages, eventDataBulkWriteService::insertPublishedMessagesInOrder);
+    group.forEach(batch -> batch.getMessages().forEach(msg -> publishMetric(msg, batch.getAccountId())));
+  }
+
+  private List<PublishedMessage> toPublishedMessages(
+      String accountId, boolean enableBatchWrite, List<PublishMessage> messagesList) {
+    return messagesList.stream()
         .map(publishMessage -> toPublishedMessage(accountId, enableBatchWrite, publishMessage))
         .filter(Objects::nonNull)
-        .forEach(publishedMessage -> {
-          if (isEmpty(publishedMessage.getCategory())) {
-            withoutCategory.add(publishedMessage);
-          } else {
-            withCategory.add(publishedMessage);
-          }
-        });
+        .collect(Collectors.toList());
+  }
+
+  private void persist(List<PublishedMessage> publishedMessages, Consumer<List<PublishedMessage>> insert) {
+    List<PublishedMessage> withoutCategory = new ArrayList<>();
+    List<PublishedMessage> withCategory = new ArrayList<>();
+    publishedMessages.forEach(publishedMessage -> {
+      if (isEmpty(publishedMessage.getCategory())) {
+        withoutCategory.add(publishedMessage);
+      } else {
+        withCategory.add(publishedMessage);
+      }
+    });
     if (isNotEmpty(withoutCategory)) {
       try {
-        if (enableBatchWrite) {
-          eventDataBulkWriteService.bulkInsertPublishedMessages(withoutCategory);
-        } else {
-          hPersistence.saveIgnoringDuplicateKeys(withoutCategory);
-        }
+        insert.accept(withoutCategory);
       } catch (Exception e) {
         log.warn("Encountered error while persisting messages", e);
         throw e;
@@ -118,7 +149,6 @@ public class EventPublisherServiceImpl implements EventPublisherService {
 
     withoutCategory.forEach(this::publishMetric);
     withCategory.forEach(this::publishMetric);
-    messagesList.forEach(msg -> publishMetric(msg, accountId));
   }
 
   private void publishMetric(PublishedMessage msg) {
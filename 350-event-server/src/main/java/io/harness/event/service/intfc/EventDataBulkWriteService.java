@@ -13,4 +13,10 @@ import java.util.List;
 
 public interface EventDataBulkWriteService {
   boolean bulkInsertPublishedMessages(List<PublishedMessage> publishedMessages);
+
+  /**
+   * Inserts the messages with ordered bulk writes, skipping the ones whose id is already present, so that writing the
+   * same messages again inserts only the ones missing.
+   */
+  void insertPublishedMessagesInOrder(List<PublishedMessage> publishedMessages);
 }
@@ -18,6 +18,7 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 import io.harness.CategoryTest;
@@ -27,6 +28,8 @@ import io.harness.event.PublishMessage;
 import io.harness.event.PublishRequest;
 import io.harness.event.app.EventServiceConfig;
 import io.harness.event.config.EventDataBatchQueryConfig;
+import io.harness.event.ingest.EventIngestQueue;
+import io.harness.event.ingest.EventIngestQueue.IngestBatch;
 import io.harness.event.payloads.Lifecycle;
 import io.harness.event.service.impl.EventPublisherServiceImpl;
 import io.harness.event.service.intfc.EventDataBulkWriteService;
@@ -67,6 +70,7 @@ public class EventPublisherServiceImplTest extends CategoryTest {
   @Mock private EventDataBulkWriteService eventDataBulkWriteService;
   @Mock private EventDataBatchQueryConfig eventDataBatchQueryConfig;
   @Mock private EventServiceConfig eventServiceConfig;
+  @Mock private EventIngestQueue eventIngestQueue;
   @Mock private HPersistence hPersistence;
   @Mock private LastReceivedPublishedMessageRepository lastReceivedPublishedMessageRepository;
   @Mock private MessageProcessorRegistry messageProcessorRegistry;
@@ -209,6 +213,46 @@ public class EventPublisherServiceImplTest extends CategoryTest {
         TEST_ACC_ID, TEST_DEL_ID, publishRequest.getMessagesList(), publishRequest.getMessagesCount());
   }
 
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void shouldAppendToIngestQueueWhenAsyncIngestEnabled() {
+    when(eventIngestQueue.isEnabled()).thenReturn(true);
+    List<PublishMessage> messages = testMessages()
+                                        .stream()
+                                        .map(x -> PublishMessage.newBuilder().setPayload(Any.pack(x)).build())
+                                        .collect(toList());
+    publisherService.publish(TEST_ACC_ID, TEST_DEL_ID, messages, messages.size());
+    verify(eventIngestQueue).append(TEST_ACC_ID, TEST_DEL_ID, messages);
+    verifyZeroInteractions(hPersistence, eventDataBulkWriteService);
+  }
+
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void shouldPersistGroupKeepingMessageIds() {
+    @SuppressWarnings("unchecked") // Casting as we can't use List<PublishedMessage> as the class type.
+    ArgumentCaptor<List<PublishedMessage>> captor = ArgumentCaptor.forClass(List.class);
+    List<PublishMessage> messages = streamWithIndex(testMessages().stream())
+                                        .map(pair
+                                            -> PublishMessage.newBuilder()
+                                                   .setMessageId("id-" + pair.getLeft())
+                                                   .setPayload(Any.pack(pair.getRight()))
+                                                   .build())
+                                        .collect(toList());
+    String otherAccountId = UUID.randomUUID().toString();
+    publisherService.persistGroup(Arrays.asList(new IngestBatch(TEST_ACC_ID, TEST_DEL_ID, messages.subList(0, 2)),
+        new IngestBatch(otherAccountId, TEST_DEL_ID, messages.subList(2, 4))));
+    verify(eventDataBulkWriteService).insertPublishedMessagesInOrder(captor.capture());
+    verifyZeroInteractions(hPersistence);
+    assertThat(captor.getValue())
+        .extracting(PublishedMessage::getUuid)
+        .containsExactly("id-0", "id-1", "id-2", "id-3");
+    assertThat(captor.getValue())
+        .extracting(PublishedMessage::getAccountId)
+        .containsExactly(TEST_ACC_ID, TEST_ACC_ID, otherAccountId, otherAccountId);
+  }
+
   private List<Message> testMessages() {
     return Arrays.asList(Lifecycle.newBuilder().setType(EVENT_TYPE_START).setInstanceId("instance-1").build(),
         Lifecycle.newBuilder().setType(EVENT_TYPE_START).setInstanceId("instance-2").build(),
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.event.ingest;
+
+import static io.harness.rule.OwnerRule.AVMOHAN;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.event.PublishMessage;
+import io.harness.event.app.EventServiceConfig;
+import io.harness.event.config.EventIngestConfig;
+import io.harness.event.ingest.EventIngestQueue.IngestBatch;
+import io.harness.rule.Owner;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+
+public class EventIngestQueueTest extends CategoryTest {
+  private static final String ACCOUNT_ID = "accountId";
+  private static final String DELEGATE_ID = "delegateId";
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private EventServiceConfig eventServiceConfig;
+  private EventIngestQueue eventIngestQueue;
+
+  @Before
+  public void setUp() throws Exception {
+    eventServiceConfig = mock(EventServiceConfig.class);
+    when(eventServiceConfig.getEventIngestConfig())
+        .thenReturn(EventIngestConfig.builder()
+                        .enableAsyncIngest(true)
+                        .queueFilePath(temporaryFolder.newFolder().getAbsolutePath())
+                        .maxPendingMessages(10)
+                        .groupCommitSize(4)
+                        .build());
+    eventIngestQueue = new EventIngestQueue(eventServiceConfig);
+  }
+
+  @After
+  public void tearDown() {
+    eventIngestQueue.close();
+  }
+
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void shouldReadWholeRequestsUpToGroupSize() {
+    eventIngestQueue.append(ACCOUNT_ID, DELEGATE_ID, messages(0, 3));
+    eventIngestQueue.append(ACCOUNT_ID, DELEGATE_ID, messages(3, 6));
+    eventIngestQueue.append(ACCOUNT_ID, DELEGATE_ID, messages(6, 7));
+
+    List<IngestBatch> group = eventIngestQueue.readGroup(4);
+    assertThat(group).hasSize(2);
+    assertThat(group.get(0).getAccountId()).isEqualTo(ACCOUNT_ID);
+    assertThat(group.get(0).getDelegateId()).isEqualTo(DELEGATE_ID);
+    assertThat(group.get(1).getMessages()).isEqualTo(messages(3, 6));
+    assertThat(eventIngestQueue.readGroup(4)).hasSize(1);
+    assertThat(eventIngestQueue.readGroup(4)).isEmpty();
+  }
+
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void shouldReadAgainAfterRewind() {
+    eventIngestQueue.append(ACCOUNT_ID, DELEGATE_ID, messages(0, 2));
+    eventIngestQueue.readGroup(4);
+    eventIngestQueue.commit();
+    eventIngestQueue.append(ACCOUNT_ID, DELEGATE_ID, messages(2, 4));
+    assertThat(eventIngestQueue.readGroup(4)).hasSize(1);
+
+    eventIngestQueue.rewind();
+    List<IngestBatch> group = eventIngestQueue.readGroup(4);
+    assertThat(group).hasSize(1);
+    assertThat(group.get(0).getMessages()).isEqualTo(messages(2, 4));
+  }
+
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void shouldKeepUncommittedMessagesAcrossRestart() {
+    eventIngestQueue.append(ACCOUNT_ID, DELEGATE_ID, messages(0, 2));
+    eventIngestQueue.readGroup(4);
+    eventIngestQueue.commit();
+    eventIngestQueue.append(ACCOUNT_ID, DELEGATE_ID, messages(2, 5));
+    eventIngestQueue.readGroup(4);
+    eventIngestQueue.close();
+
+    eventIngestQueue = new EventIngestQueue(eventServiceConfig);
+    assertThat(eventIngestQueue.getPendingMessages()).isEqualTo(3);
+    List<IngestBatch> group = eventIngestQueue.readGroup(4);
+    assertThat(group).hasSize(1);
+    assertThat(group.get(0).getMessages()).isEqualTo(messages(2, 5));
+  }
+
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void shouldRejectWhenFull() {
+    eventIngestQueue.append(ACCOUNT_ID, DELEGATE_ID, messages(0, 8));
+    assertThatExceptionOfType(EventIngestQueueFullException.class)
+        .isThrownBy(() -> eventIngestQueue.append(ACCOUNT_ID, DELEGATE_ID, messages(8, 11)));
+    assertThat(eventIngestQueue.getPendingMessages()).isEqualTo(8);
+
+    eventIngestQueue.readGroup(4);
+    eventIngestQueue.commit();
+    eventIngestQueue.append(ACCOUNT_ID, DELEGATE_ID, messages(8, 11));
+    assertThat(eventIngestQueue.getPendingMessages()).isEqualTo(3);
+  }
+
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void shouldGiveIdsBeforeAppendSoReplayKeepsThem() {
+    PublishMessage withoutId = PublishMessage.newBuilder().build();
+    eventIngestQueue.append(ACCOUNT_ID, DELEGATE_ID, asList(withoutId, messages(0, 1).get(0)));
+    List<PublishMessage> read = eventIngestQueue.readGroup(4).get(0).getMessages();
+    assertThat(read.get(0).getMessageId()).isNotEmpty();
+    assertThat(read.get(1).getMessageId()).isEqualTo("id-0");
+
+    eventIngestQueue.rewind();
+    assertThat(eventIngestQueue.readGroup(4).get(0).getMessages()).isEqualTo(read);
+  }
+
+  private List<PublishMessage> messages(int from, int to) {
+    return IntStream.range(from, to)
+        .mapToObj(i -> PublishMessage.newBuilder().setMessageId("id-" + i).build())
+        .collect(toList());
+  }
+}
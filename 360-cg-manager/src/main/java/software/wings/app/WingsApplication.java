@@ -245,6 +245,7 @@ import software.wings.service.impl.AuditServiceHelper;
 import software.wings.service.impl.AuditServiceImpl;
 import software.wings.service.impl.BarrierServiceImpl;
 import software.wings.service.impl.CloudProviderObserver;
+import software.wings.service.impl.DelegateHeartbeatAggregator;
 import software.wings.service.impl.DelegateObserver;
 import software.wings.service.impl.DelegateProfileServiceImpl;
 import software.wings.service.impl.DelegateServiceImpl;
@@ -666,7 +667,7 @@ public class WingsApplication extends Application<MainConfiguration> {
 
     registerStores(configuration, injector);
     registerDataStores(injector);
-    if (configuration.getMongoConnectionFactory().getTraceMode() == TraceMode.ENABLED) {
+    if (configuration.getMongoConnectionFactory().getTraceMode() != TraceMode.DISABLED) {
       registerQueryTracer(injector);
     }
 
@@ -732,6 +733,9 @@ public class WingsApplication extends Application<MainConfiguration> {
     if (isManager()) {
       registerManagedBeansManager(configuration, environment, injector);
     }
+    if (shouldEnableDelegateMgmt) {
+      environment.lifecycle().manage(injector.getInstance(DelegateHeartbeatAggregator.class));
+    }
 
     // Schedule jobs
     ScheduledExecutorService delegateExecutor =
@@ -20,6 +20,8 @@ import software.wings.exception.SweepingOutputException;
 import software.wings.service.intfc.sweepingoutput.SweepingOutputInquiry.SweepingOutputInquiryBuilder;
 import software.wings.service.intfc.sweepingoutput.SweepingOutputService;
 
+import java.util.HashMap;
+import java.util.Map;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
@@ -32,8 +34,19 @@ public class SweepingOutputFunctor extends LateBindingMap {
   transient SweepingOutputInquiryBuilder sweepingOutputInquiryBuilder;
   transient SweepingOutputService sweepingOutputService;
   transient KryoSerializer kryoSerializer;
+  // Outputs are only written once, so the ones found are kept for as long as the prepared context that holds this
+  @Builder.Default transient Map<String, Object> foundOutputs = new HashMap<>();
 
   public synchronized Object output(String name) {
+    if (foundOutputs.containsKey(name)) {
+      return foundOutputs.get(name);
+    }
+    Object output = findOutput(name);
+    foundOutputs.put(name, output);
+    return output;
+  }
+
+  private Object findOutput(String name) {
     SweepingOutputInstance sweepingOutputInstance =
         sweepingOutputService.find(sweepingOutputInquiryBuilder.name(name).build());
     if (sweepingOutputInstance == null) {
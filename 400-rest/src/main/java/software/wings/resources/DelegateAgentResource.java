@@ -73,6 +73,7 @@ import software.wings.delegatetasks.validation.DelegateConnectionResult;
 import software.wings.helpers.ext.url.SubdomainUrlHelperIntfc;
 import software.wings.ratelimit.DelegateRequestRateLimiter;
 import software.wings.security.annotations.Scope;
+import software.wings.service.impl.DelegateTaskEventsLongPoll;
 import software.wings.service.impl.ThirdPartyApiCallLog;
 import software.wings.service.impl.instance.InstanceHelper;
 import software.wings.service.intfc.AccountService;
@@ -98,6 +99,8 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Context;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.MediaType;
@@ -129,6 +132,7 @@ public class DelegateAgentResource {
   private DelegateTaskServiceClassic delegateTaskServiceClassic;
   private InstanceSyncResponsePublisher instanceSyncResponsePublisher;
   private PollingResourceClient pollingResourceClient;
+  private DelegateTaskEventsLongPoll delegateTaskEventsLongPoll;
 
   @Inject
   public DelegateAgentResource(DelegateService delegateService, AccountService accountService, HPersistence persistence,
@@ -138,7 +142,8 @@ public class DelegateAgentResource {
       ConnectorHearbeatPublisher connectorHearbeatPublisher, KryoSerializer kryoSerializer,
       ConfigurationController configurationController, FeatureFlagService featureFlagService,
       DelegateTaskServiceClassic delegateTaskServiceClassic, PollingResourceClient pollingResourceClient,
-      InstanceSyncResponsePublisher instanceSyncResponsePublisher) {
+      InstanceSyncResponsePublisher instanceSyncResponsePublisher,
+      DelegateTaskEventsLongPoll delegateTaskEventsLongPoll) {
     this.instanceHelper = instanceHelper;
     this.delegateService = delegateService;
     this.accountService = accountService;
@@ -154,6 +159,7 @@ public class DelegateAgentResource {
     this.delegateTaskServiceClassic = delegateTaskServiceClassic;
     this.pollingResourceClient = pollingResourceClient;
     this.instanceSyncResponsePublisher = instanceSyncResponsePublisher;
+    this.delegateTaskEventsLongPoll = delegateTaskEventsLongPoll;
   }
 
   @DelegateAuth
@@ -430,13 +436,18 @@ public class DelegateAgentResource {
   @Path("{delegateId}/task-events")
   @Timed
   @ExceptionMetered
-  public DelegateTaskEventsResponse getDelegateTaskEvents(@PathParam("delegateId") @NotEmpty String delegateId,
-      @QueryParam("accountId") @NotEmpty String accountId, @QueryParam("syncOnly") boolean syncOnly) {
+  public void getDelegateTaskEvents(@PathParam("delegateId") @NotEmpty String delegateId,
+      @QueryParam("accountId") @NotEmpty String accountId, @QueryParam("syncOnly") boolean syncOnly,
+      @QueryParam("waitSeconds") int waitSeconds, @Suspended AsyncResponse asyncResponse) {
     try (AutoLogContext ignore1 = new AccountLogContext(accountId, OVERRIDE_ERROR);
          AutoLogContext ignore2 = new DelegateLogContext(delegateId, OVERRIDE_ERROR)) {
+      if (waitSeconds > 0) {
+        delegateTaskEventsLongPoll.poll(accountId, delegateId, syncOnly, waitSeconds, asyncResponse);
+        return;
+      }
       List<DelegateTaskEvent> delegateTaskEvents =
           delegateTaskServiceClassic.getDelegateTaskEvents(accountId, delegateId, syncOnly);
-      return DelegateTaskEventsResponse.builder().delegateTaskEvents(delegateTaskEvents).build();
+      asyncResponse.resume(DelegateTaskEventsResponse.builder().delegateTaskEvents(delegateTaskEvents).build());
     }
   }
 
@@ -18,4 +18,5 @@ public class BatchQueryConfig {
   private int queryBatchSize;
   private int instanceDataBatchSize;
   private boolean syncJobDisabled;
+  private boolean billingDataCopyIngestEnabled;
 }
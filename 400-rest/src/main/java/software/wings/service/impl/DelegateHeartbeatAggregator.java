@@ -0,0 +1,240 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package software.wings.service.impl;
+
+import static io.harness.annotations.dev.HarnessTeam.DEL;
+
+import static java.lang.System.currentTimeMillis;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.delegate.beans.Delegate;
+import io.harness.delegate.beans.Delegate.DelegateKeys;
+import io.harness.persistence.HPersistence;
+import io.harness.service.intfc.DelegateTaskService;
+
+import software.wings.app.MainConfiguration;
+import software.wings.beans.DelegateConnection;
+import software.wings.beans.DelegateConnection.DelegateConnectionKeys;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Iterables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.mongodb.BasicDBObject;
+import com.mongodb.BulkWriteOperation;
+import com.mongodb.BulkWriteResult;
+import io.dropwizard.lifecycle.Managed;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the latest heartbeat of every delegate and delegate connection served by this process and writes them all
+ * every few seconds with unordered bulk updates, instead of several writes per heartbeat.
+ *
+ * Only steady state heartbeats are taken. Heartbeats of delegates missing from the cache and of connections that were
+ * not seen before go through the synchronous path, which registers new delegates and detects reconnects. A connection
+ * that no longer matches its document on flush (deleted for a newer connection of the same delegate) is forgotten, so
+ * its next heartbeat goes through the synchronous path again.
+ */
+@Slf4j
+@Singleton
+@OwnedBy(DEL)
+public class DelegateHeartbeatAggregator implements Managed {
+  private static final long FLUSH_INTERVAL_SECONDS = 5;
+  private static final int MAX_BULK_SIZE = 1000;
+  private static final long KNOWN_CONNECTION_EXPIRY_MINUTES = 10;
+
+  @Inject private HPersistence persistence;
+  @Inject private DelegateTaskService delegateTaskService;
+  @Inject private MainConfiguration mainConfiguration;
+
+  private final ConcurrentMap<String, DelegateHeartbeat> pendingDelegateHeartbeats = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, ConnectionHeartbeat> pendingConnectionHeartbeats = new ConcurrentHashMap<>();
+  private final Cache<String, Boolean> knownConnections =
+      CacheBuilder.newBuilder().expireAfterAccess(KNOWN_CONNECTION_EXPIRY_MINUTES, TimeUnit.MINUTES).build();
+
+  private volatile ScheduledExecutorService executorService;
+
+  @Override
+  public void start() {
+    if (!mainConfiguration.isAggregateDelegateHeartbeats()) {
+      return;
+    }
+    executorService = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setNameFormat("delegate-heartbeat-aggregator").build());
+    executorService.scheduleWithFixedDelay(
+        this::flushSafely, FLUSH_INTERVAL_SECONDS, FLUSH_INTERVAL_SECONDS, TimeUnit.SECONDS);
+  }
+
+  @Override
+  public void stop() throws InterruptedException {
+    if (executorService == null) {
+      return;
+    }
+    executorService.shutdown();
+    executorService.awaitTermination(30, TimeUnit.SECONDS);
+    executorService = null;
+    // Write what came in after the last flush
+    flushSafely();
+  }
+
+  /**
+   * @return false if heartbeats are not aggregated and the caller has to write the heartbeat itself
+   */
+  public boolean offerDelegateHeartbeat(Delegate delegate) {
+    if (executorService == null) {
+      return false;
+    }
+    pendingDelegateHeartbeats.put(delegate.getUuid(),
+        new DelegateHeartbeat(delegate.getAccountId(), delegate.getUuid(), currentTimeMillis(),
+            delegate.getCurrentlyExecutingDelegateTasks()));
+    return true;
+  }
+
+  /**
+   * @return false if heartbeats are not aggregated or the connection is not known yet, and the caller has to write the
+   *     heartbeat itself
+   */
+  public boolean offerConnectionHeartbeat(
+      String accountId, String delegateId, String delegateConnectionId, String version, String location) {
+    if (executorService == null || knownConnections.getIfPresent(delegateConnectionId) == null) {
+      return false;
+    }
+    pendingConnectionHeartbeats.put(delegateConnectionId,
+        new ConnectionHeartbeat(accountId, delegateId, delegateConnectionId, version, location, currentTimeMillis()));
+    return true;
+  }
+
+  /**
+   * Marks a connection whose document was already present on a synchronous heartbeat, so that its next heartbeats
+   * can be aggregated.
+   */
+  public void connectionConfirmed(String delegateConnectionId) {
+    if (executorService != null) {
+      knownConnections.put(delegateConnectionId, Boolean.TRUE);
+    }
+  }
+
+  private void flushSafely() {
+    try {
+      flush();
+    } catch (Exception e) {
+      log.error("Failed to flush delegate heartbeats", e);
+    }
+  }
+
+  @VisibleForTesting
+  void flush() {
+    List<DelegateHeartbeat> delegateHeartbeats = drain(pendingDelegateHeartbeats);
+    List<ConnectionHeartbeat> connectionHeartbeats = drain(pendingConnectionHeartbeats);
+    if (delegateHeartbeats.isEmpty() && connectionHeartbeats.isEmpty()) {
+      return;
+    }
+
+    long startTime = currentTimeMillis();
+    for (List<DelegateHeartbeat> chunk : Iterables.partition(delegateHeartbeats, MAX_BULK_SIZE)) {
+      writeDelegateHeartbeats(chunk);
+    }
+    for (List<ConnectionHeartbeat> chunk : Iterables.partition(connectionHeartbeats, MAX_BULK_SIZE)) {
+      writeConnectionHeartbeats(chunk);
+    }
+    for (DelegateHeartbeat heartbeat : delegateHeartbeats) {
+      delegateTaskService.touchExecutingTasks(
+          heartbeat.getAccountId(), heartbeat.getDelegateId(), heartbeat.getExecutingTaskIds());
+    }
+    log.info("Flushed {} delegate and {} connection heartbeats in {} ms", delegateHeartbeats.size(),
+        connectionHeartbeats.size(), currentTimeMillis() - startTime);
+  }
+
+  private void writeDelegateHeartbeats(List<DelegateHeartbeat> heartbeats) {
+    Date validUntil = Date.from(OffsetDateTime.now().plusDays(Delegate.TTL.toDays()).toInstant());
+    BulkWriteOperation bulkWriteOperation =
+        persistence.getCollection(Delegate.class).initializeUnorderedBulkOperation();
+    for (DelegateHeartbeat heartbeat : heartbeats) {
+      bulkWriteOperation
+          .find(persistence.createQuery(Delegate.class)
+                    .filter(DelegateKeys.accountId, heartbeat.getAccountId())
+                    .filter(DelegateKeys.uuid, heartbeat.getDelegateId())
+                    .getQueryObject())
+          .updateOne(new BasicDBObject("$set",
+              new BasicDBObject(DelegateKeys.lastHeartBeat, heartbeat.getHeartbeatAt())
+                  .append(DelegateKeys.validUntil, validUntil)));
+    }
+    bulkWriteOperation.execute();
+  }
+
+  private void writeConnectionHeartbeats(List<ConnectionHeartbeat> heartbeats) {
+    Date validUntil = Date.from(OffsetDateTime.now().plusMinutes(DelegateConnection.TTL.toMinutes()).toInstant());
+    BulkWriteOperation bulkWriteOperation =
+        persistence.getCollection(DelegateConnection.class).initializeUnorderedBulkOperation();
+    for (ConnectionHeartbeat heartbeat : heartbeats) {
+      BasicDBObject set = new BasicDBObject(DelegateConnectionKeys.version, heartbeat.getVersion())
+                              .append(DelegateConnectionKeys.lastHeartbeat, heartbeat.getHeartbeatAt())
+                              .append(DelegateConnectionKeys.disconnected, Boolean.FALSE)
+                              .append(DelegateConnectionKeys.validUntil, validUntil);
+      if (heartbeat.getLocation() != null) {
+        set.append(DelegateConnectionKeys.location, heartbeat.getLocation());
+      }
+      // No upsert, a connection deleted in the meantime must not be brought back
+      bulkWriteOperation
+          .find(persistence.createQuery(DelegateConnection.class)
+                    .filter(DelegateConnectionKeys.accountId, heartbeat.getAccountId())
+                    .filter(DelegateConnectionKeys.uuid, heartbeat.getDelegateConnectionId())
+                    .getQueryObject())
+          .updateOne(new BasicDBObject("$set", set));
+    }
+    BulkWriteResult result = bulkWriteOperation.execute();
+    if (result.getMatchedCount() < heartbeats.size()) {
+      // The missing ones are not reported, let every connection of the chunk be checked on its next heartbeat
+      log.info("{} of {} delegate connections are gone, rechecking them", heartbeats.size() - result.getMatchedCount(),
+          heartbeats.size());
+      heartbeats.forEach(heartbeat -> knownConnections.invalidate(heartbeat.getDelegateConnectionId()));
+    }
+  }
+
+  private static <T> List<T> drain(ConcurrentMap<String, T> pending) {
+    List<T> drained = new ArrayList<>(pending.size());
+    for (String key : pending.keySet()) {
+      T value = pending.remove(key);
+      if (value != null) {
+        drained.add(value);
+      }
+    }
+    return drained;
+  }
+
+  @Value
+  private static class DelegateHeartbeat {
+    String accountId;
+    String delegateId;
+    long heartbeatAt;
+    List<String> executingTaskIds;
+  }
+
+  @Value
+  private static class ConnectionHeartbeat {
+    String accountId;
+    String delegateId;
+    String delegateConnectionId;
+    String version;
+    String location;
+    long heartbeatAt;
+  }
+}
@@ -383,6 +383,7 @@ public class DelegateServiceImpl implements DelegateService {
   @Inject private ConfigurationController configurationController;
   @Inject private DelegateSelectionLogsService delegateSelectionLogsService;
   @Inject private DelegateConnectionDao delegateConnectionDao;
+  @Inject private DelegateHeartbeatAggregator delegateHeartbeatAggregator;
   @Inject private SystemEnvironment sysenv;
   @Inject private DelegateSyncService delegateSyncService;
   @Inject private DelegateTaskService delegateTaskService;
@@ -1152,17 +1153,21 @@ public class DelegateServiceImpl implements DelegateService {
 
   @Override
   public Delegate updateHeartbeatForDelegateWithPollingEnabled(Delegate delegate) {
-    persistence.update(persistence.createQuery(Delegate.class)
-                           .filter(DelegateKeys.accountId, delegate.getAccountId())
-                           .filter(DelegateKeys.uuid, delegate.getUuid()),
-        persistence.createUpdateOperations(Delegate.class)
-            .set(DelegateKeys.lastHeartBeat, currentTimeMillis())
-            .set(DelegateKeys.validUntil, Date.from(OffsetDateTime.now().plusDays(Delegate.TTL.toDays()).toInstant())));
-    delegateTaskService.touchExecutingTasks(
-        delegate.getAccountId(), delegate.getUuid(), delegate.getCurrentlyExecutingDelegateTasks());
-
     Delegate existingDelegate = delegateCache.get(delegate.getAccountId(), delegate.getUuid(), false);
 
+    // Delegates seen for the first time are written right away, as they get registered below
+    if (existingDelegate == null || !delegateHeartbeatAggregator.offerDelegateHeartbeat(delegate)) {
+      persistence.update(persistence.createQuery(Delegate.class)
+                             .filter(DelegateKeys.accountId, delegate.getAccountId())
+                             .filter(DelegateKeys.uuid, delegate.getUuid()),
+          persistence.createUpdateOperations(Delegate.class)
+              .set(DelegateKeys.lastHeartBeat, currentTimeMillis())
+              .set(DelegateKeys.validUntil,
+                  Date.from(OffsetDateTime.now().plusDays(Delegate.TTL.toDays()).toInstant())));
+      delegateTaskService.touchExecutingTasks(
+          delegate.getAccountId(), delegate.getUuid(), delegate.getCurrentlyExecutingDelegateTasks());
+    }
+
     if (existingDelegate == null) {
       register(delegate);
       existingDelegate = delegateCache.get(delegate.getAccountId(), delegate.getUuid(), true);
@@ -3316,8 +3321,15 @@ public class DelegateServiceImpl implements DelegateService {
     if (isEmpty(version)) {
       version = accountService.getAccountPrimaryDelegateVersion(accountId);
     }
+    if (delegateHeartbeatAggregator.offerConnectionHeartbeat(
+            accountId, delegateId, heartbeat.getDelegateConnectionId(), version, heartbeat.getLocation())) {
+      return;
+    }
     DelegateConnection previousDelegateConnection = delegateConnectionDao.upsertCurrentConnection(
         accountId, delegateId, heartbeat.getDelegateConnectionId(), version, heartbeat.getLocation());
+    if (previousDelegateConnection != null) {
+      delegateHeartbeatAggregator.connectionConfirmed(heartbeat.getDelegateConnectionId());
+    }
 
     Delegate delegate = delegateCache.get(accountId, delegateId, false);
     if (previousDelegateConnection == null) {
@@ -37,6 +37,7 @@ public class DelegateTaskBroadcastHelper {
   @Inject private HPersistence persistence;
   @Inject private ExecutorService executorService;
   @Inject private FeatureFlagService featureFlagService;
+  @Inject private DelegateTaskEventsLongPoll delegateTaskEventsLongPoll;
 
   public void broadcastNewDelegateTaskAsync(DelegateTask task) {
     executorService.submit(() -> {
@@ -63,5 +64,6 @@ public class DelegateTaskBroadcastHelper {
 
     Broadcaster broadcaster = broadcasterFactory.lookup(STREAM_DELEGATE_PATH + delegateTask.getAccountId(), true);
     broadcaster.broadcast(delegateTaskBroadcast);
+    delegateTaskEventsLongPoll.taskBroadcast(delegateTask.getAccountId(), delegateTask.getBroadcastToDelegateIds());
   }
 }
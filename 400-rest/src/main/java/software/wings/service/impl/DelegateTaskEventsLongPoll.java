@@ -0,0 +1,155 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package software.wings.service.impl;
+
+import static io.harness.annotations.dev.HarnessTeam.DEL;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
+import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_ERROR;
+
+import static java.util.Collections.emptyList;
+
+import io.harness.annotations.dev.HarnessModule;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.annotations.dev.TargetModule;
+import io.harness.beans.DelegateTaskEventsResponse;
+import io.harness.delegate.beans.DelegateTaskEvent;
+import io.harness.logging.AccountLogContext;
+import io.harness.logging.AutoLogContext;
+
+import software.wings.service.intfc.DelegateTaskServiceClassic;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.container.AsyncResponse;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Holds task event polls of delegates that found nothing to do until a task is broadcast to them from this manager,
+ * or their wait is over. Tasks broadcast by other managers only wake polls parked there, so a poll is held no longer
+ * than delegates used to wait between polls, and those tasks are found as soon as without long polling.
+ */
+@Singleton
+@Slf4j
+@TargetModule(HarnessModule._420_DELEGATE_SERVICE)
+@OwnedBy(DEL)
+public class DelegateTaskEventsLongPoll {
+  public static final int MAX_WAIT_SECONDS = 3;
+
+  @Inject private DelegateTaskServiceClassic delegateTaskServiceClassic;
+  @Inject private ExecutorService executorService;
+
+  private final ConcurrentMap<String, AccountPolls> accountPolls = new ConcurrentHashMap<>();
+
+  public void poll(
+      String accountId, String delegateId, boolean syncOnly, int waitSeconds, AsyncResponse asyncResponse) {
+    AccountPolls polls = accountPolls.computeIfAbsent(accountId, id -> new AccountPolls());
+    // taken before looking for events, so that a task broadcast to the delegate meanwhile is not missed
+    long generation = polls.generation(delegateId);
+    List<DelegateTaskEvent> delegateTaskEvents =
+        delegateTaskServiceClassic.getDelegateTaskEvents(accountId, delegateId, syncOnly);
+    if (isNotEmpty(delegateTaskEvents)) {
+      asyncResponse.resume(longPolledResponse(delegateTaskEvents));
+      return;
+    }
+
+    ParkedPoll parkedPoll = new ParkedPoll(accountId, delegateId, syncOnly, asyncResponse);
+    asyncResponse.setTimeoutHandler(response -> {
+      if (polls.unpark(parkedPoll)) {
+        response.resume(longPolledResponse(emptyList()));
+      }
+    });
+    asyncResponse.setTimeout(Math.min(waitSeconds, MAX_WAIT_SECONDS), TimeUnit.SECONDS);
+    if (!polls.park(parkedPoll, generation)) {
+      answer(parkedPoll);
+    }
+  }
+
+  /**
+   * Answers the parked polls of the given delegates. Polls of other delegates of the account keep waiting.
+   */
+  public void taskBroadcast(String accountId, Collection<String> delegateIds) {
+    AccountPolls polls = accountPolls.get(accountId);
+    if (polls == null || isEmpty(delegateIds)) {
+      return;
+    }
+    for (ParkedPoll parkedPoll : polls.wake(delegateIds)) {
+      executorService.submit(() -> answer(parkedPoll));
+    }
+  }
+
+  private void answer(ParkedPoll parkedPoll) {
+    try (AutoLogContext ignore = new AccountLogContext(parkedPoll.accountId, OVERRIDE_ERROR)) {
+      parkedPoll.asyncResponse.resume(longPolledResponse(delegateTaskServiceClassic.getDelegateTaskEvents(
+          parkedPoll.accountId, parkedPoll.delegateId, parkedPoll.syncOnly)));
+    } catch (Exception e) {
+      log.error("Failed to answer task event poll of delegate {}", parkedPoll.delegateId, e);
+      parkedPoll.asyncResponse.resume(e);
+    }
+  }
+
+  private static DelegateTaskEventsResponse longPolledResponse(List<DelegateTaskEvent> delegateTaskEvents) {
+    return DelegateTaskEventsResponse.builder().delegateTaskEvents(delegateTaskEvents).longPolled(true).build();
+  }
+
+  @AllArgsConstructor
+  private static class ParkedPoll {
+    private final String accountId;
+    private final String delegateId;
+    private final boolean syncOnly;
+    private final AsyncResponse asyncResponse;
+  }
+
+  private static class AccountPolls {
+    // per delegate, bumped on every broadcast to the delegate
+    private final Map<String, Long> generations = new HashMap<>();
+    private final Set<ParkedPoll> parkedPolls = new HashSet<>();
+
+    synchronized long generation(String delegateId) {
+      return generations.getOrDefault(delegateId, 0L);
+    }
+
+    synchronized boolean park(ParkedPoll parkedPoll, long expectedGeneration) {
+      if (generation(parkedPoll.delegateId) != expectedGeneration) {
+        return false;
+      }
+      parkedPolls.add(parkedPoll);
+      return true;
+    }
+
+    synchronized boolean unpark(ParkedPoll parkedPoll) {
+      return parkedPolls.remove(parkedPoll);
+    }
+
+    synchronized List<ParkedPoll> wake(Collection<String> delegateIds) {
+      delegateIds.forEach(delegateId -> generations.merge(delegateId, 1L, Long::sum));
+      List<ParkedPoll> woken = new ArrayList<>();
+      for (Iterator<ParkedPoll> iterator = parkedPolls.iterator(); iterator.hasNext();) {
+        ParkedPoll parkedPoll = iterator.next();
+        if (delegateIds.contains(parkedPoll.delegateId)) {
+          woken.add(parkedPoll);
+          iterator.remove();
+        }
+      }
+      return woken;
+    }
+  }
+}
@@ -258,6 +258,7 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
   @Inject private ArtifactCollectionUtils artifactCollectionUtils;
   @Inject private PersistentLocker persistentLocker;
   @Inject private DelegateTaskBroadcastHelper broadcastHelper;
+  @Inject private DelegateTaskEventsLongPoll delegateTaskEventsLongPoll;
   @Inject private AuditServiceHelper auditServiceHelper;
   @Inject private SubdomainUrlHelperIntfc subdomainUrlHelper;
   @Inject private ConfigurationController configurationController;
@@ -1209,6 +1210,10 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
 
     broadcasterFactory.lookup(STREAM_DELEGATE + accountId, true)
         .broadcast(aDelegateTaskAbortEvent().withAccountId(accountId).withDelegateTaskId(delegateTaskId).build());
+    if (oldTask != null && isNotBlank(oldTask.getDelegateId())) {
+      // the abort event is only given to the delegate that runs the task
+      delegateTaskEventsLongPoll.taskBroadcast(accountId, Collections.singletonList(oldTask.getDelegateId()));
+    }
 
     return oldTask;
   }
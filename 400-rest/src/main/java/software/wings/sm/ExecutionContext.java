@@ -73,6 +73,15 @@ public interface ExecutionContext {
 
   List<String> renderExpressionList(List<String> expressions, String separator);
 
+  /**
+   * Renders all expressions against the same prepared context, instead of preparing it for each of them
+   *
+   * @param expressions the expressions to be resolved
+   * @param stateExecutionContext the state execution context, may be null
+   * @return resolved expressions in the same order
+   */
+  List<String> renderExpressions(List<String> expressions, StateExecutionContext stateExecutionContext);
+
   <T extends ContextElement> T getContextElement();
 
   <T extends ContextElement> T getContextElement(ContextElementType contextElementType);
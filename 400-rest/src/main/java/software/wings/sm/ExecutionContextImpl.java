@@ -225,6 +225,9 @@ public class ExecutionContextImpl implements DeploymentExecutionContext {
   private StateMachine stateMachine;
   private StateExecutionInstance stateExecutionInstance;
   @Getter private transient Map<String, Object> contextMap;
+  // Context prepared for the last state execution context, reused for all fields rendered with it
+  private transient StateExecutionContext preparedStateExecutionContext;
+  private transient Map<String, Object> preparedStateContextMap;
   @Getter private transient VariableResolverTracker variableResolverTracker = new VariableResolverTracker();
 
   /**
@@ -380,14 +383,28 @@ public class ExecutionContextImpl implements DeploymentExecutionContext {
     List<String> result = null;
     if (expressions != null) {
       result = new ArrayList<>();
+      Map<String, Object> context = prepareContext(null);
       for (String expression : expressions) {
         result.addAll(
-            Splitter.on(separator).trimResults().omitEmptyStrings().splitToList(renderExpression(expression)));
+            Splitter.on(separator).trimResults().omitEmptyStrings().splitToList(renderExpression(expression, context)));
       }
     }
     return result;
   }
 
+  @Override
+  public List<String> renderExpressions(List<String> expressions, StateExecutionContext stateExecutionContext) {
+    if (expressions == null) {
+      return null;
+    }
+    Map<String, Object> context = prepareContext(stateExecutionContext);
+    List<String> result = new ArrayList<>(expressions.size());
+    for (String expression : expressions) {
+      result.add(renderExpression(expression, context));
+    }
+    return result;
+  }
+
   @Override
   public Object evaluateExpression(String expression) {
     return evaluateExpression(expression, null);
@@ -778,6 +795,7 @@ public class ExecutionContextImpl implements DeploymentExecutionContext {
    */
   public void pushContextElement(ContextElement contextElement) {
     stateExecutionInstance.getContextElements().push(contextElement);
+    resetPreparedCache();
   }
 
   public String renderExpression(String expression, Map<String, Object> context) {
@@ -940,6 +958,8 @@ public class ExecutionContextImpl implements DeploymentExecutionContext {
   @Override
   public void resetPreparedCache() {
     contextMap = null;
+    preparedStateExecutionContext = null;
+    preparedStateContextMap = null;
   }
 
   private Map<String, Object> prepareCacheContext(StateExecutionContext stateExecutionContext) {
@@ -1079,6 +1099,9 @@ public class ExecutionContextImpl implements DeploymentExecutionContext {
     if (stateExecutionContext == null) {
       return map;
     }
+    if (stateExecutionContext == preparedStateExecutionContext && preparedStateContextMap != null) {
+      return preparedStateContextMap;
+    }
 
     List<ContextElement> contextElements = stateExecutionContext.getContextElements();
     if (contextElements != null) {
@@ -1113,6 +1136,8 @@ public class ExecutionContextImpl implements DeploymentExecutionContext {
     if (stateExecutionContext.getArtifactFileName() != null) {
       map.put(ExpressionEvaluator.ARTIFACT_FILE_NAME_VARIABLE, stateExecutionContext.getArtifactFileName());
     }
+    preparedStateExecutionContext = stateExecutionContext;
+    preparedStateContextMap = map;
     return map;
   }
 
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package software.wings.expression;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.beans.SweepingOutputInstance;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import software.wings.exception.SweepingOutputException;
+import software.wings.helpers.ext.cloudformation.CloudFormationCompletionFlag;
+import software.wings.service.intfc.sweepingoutput.SweepingOutputInquiry;
+import software.wings.service.intfc.sweepingoutput.SweepingOutputService;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class SweepingOutputFunctorTest extends CategoryTest {
+  private final SweepingOutputService sweepingOutputService = mock(SweepingOutputService.class);
+  private final SweepingOutputFunctor sweepingOutputFunctor =
+      SweepingOutputFunctor.builder()
+          .sweepingOutputService(sweepingOutputService)
+          .sweepingOutputInquiryBuilder(SweepingOutputInquiry.builder().appId("appId"))
+          .build();
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldFindOutputOnce() {
+    CloudFormationCompletionFlag output = CloudFormationCompletionFlag.builder().createStackCompleted(true).build();
+    when(sweepingOutputService.find(any(SweepingOutputInquiry.class)))
+        .thenReturn(SweepingOutputInstance.builder().name("flag").value(output).build());
+
+    assertThat(sweepingOutputFunctor.output("flag")).isSameAs(output);
+    assertThat(sweepingOutputFunctor.get("flag")).isSameAs(output);
+    verify(sweepingOutputService, times(1)).find(any(SweepingOutputInquiry.class));
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldLookForMissingOutputAgain() {
+    CloudFormationCompletionFlag output = CloudFormationCompletionFlag.builder().createStackCompleted(true).build();
+    when(sweepingOutputService.find(any(SweepingOutputInquiry.class)))
+        .thenReturn(null)
+        .thenReturn(SweepingOutputInstance.builder().name("flag").value(output).build());
+
+    assertThatThrownBy(() -> sweepingOutputFunctor.output("flag")).isInstanceOf(SweepingOutputException.class);
+    assertThat(sweepingOutputFunctor.output("flag")).isSameAs(output);
+    verify(sweepingOutputService, times(2)).find(any(SweepingOutputInquiry.class));
+  }
+}
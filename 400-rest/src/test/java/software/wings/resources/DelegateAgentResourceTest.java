@@ -85,6 +85,7 @@ import software.wings.dl.WingsPersistence;
 import software.wings.exception.WingsExceptionMapper;
 import software.wings.helpers.ext.url.SubdomainUrlHelperIntfc;
 import software.wings.ratelimit.DelegateRequestRateLimiter;
+import software.wings.service.impl.DelegateTaskEventsLongPoll;
 import software.wings.service.impl.ThirdPartyApiCallLog;
 import software.wings.service.impl.instance.InstanceHelper;
 import software.wings.service.intfc.AccountService;
@@ -146,6 +147,7 @@ public class DelegateAgentResourceTest extends CategoryTest {
   private static final KryoSerializer kryoSerializer = mock(KryoSerializer.class);
   private static final FeatureFlagService featureFlagService = mock(FeatureFlagService.class);
   private static final PollingResourceClient pollResourceClient = mock(PollingResourceClient.class);
+  private static final DelegateTaskEventsLongPoll delegateTaskEventsLongPoll = mock(DelegateTaskEventsLongPoll.class);
 
   @Parameter public String apiUrl;
 
@@ -161,7 +163,7 @@ public class DelegateAgentResourceTest extends CategoryTest {
               delegateRequestRateLimiter, subdomainUrlHelper, artifactCollectionResponseHandler,
               instanceSyncResponseHandler, manifestCollectionResponseHandler, connectorHearbeatPublisher,
               kryoSerializer, configurationController, featureFlagService, delegateTaskServiceClassic,
-              pollResourceClient, instanceSyncResponsePublisher))
+              pollResourceClient, instanceSyncResponsePublisher, delegateTaskEventsLongPoll))
           .instance(new AbstractBinder() {
             @Override
             protected void configure() {
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package software.wings.service.impl;
+
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static software.wings.utils.WingsTestConstants.ACCOUNT_ID;
+import static software.wings.utils.WingsTestConstants.DELEGATE_ID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.delegate.beans.ConnectionMode;
+import io.harness.delegate.beans.Delegate;
+import io.harness.delegate.beans.DelegateConnectionHeartbeat;
+import io.harness.persistence.HPersistence;
+import io.harness.rule.Owner;
+
+import software.wings.WingsBaseTest;
+import software.wings.app.MainConfiguration;
+import software.wings.beans.DelegateConnection;
+import software.wings.service.intfc.DelegateService;
+
+import com.google.inject.Inject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.DEL)
+public class DelegateHeartbeatAggregatorTest extends WingsBaseTest {
+  private static final String VERSION = "1.0.1";
+
+  @Inject private DelegateHeartbeatAggregator delegateHeartbeatAggregator;
+  @Inject private DelegateService delegateService;
+  @Inject private MainConfiguration mainConfiguration;
+  @Inject private HPersistence persistence;
+
+  @Before
+  public void setUp() {
+    mainConfiguration.setAggregateDelegateHeartbeats(true);
+    delegateHeartbeatAggregator.start();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    delegateHeartbeatAggregator.stop();
+    mainConfiguration.setAggregateDelegateHeartbeats(false);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldWriteDelegateHeartbeatOnFlush() {
+    Delegate delegate = Delegate.builder().uuid(generateUuid()).accountId(ACCOUNT_ID).lastHeartBeat(1L).build();
+    persistence.save(delegate);
+
+    assertThat(delegateHeartbeatAggregator.offerDelegateHeartbeat(delegate)).isTrue();
+    assertThat(persistence.get(Delegate.class, delegate.getUuid()).getLastHeartBeat()).isEqualTo(1L);
+
+    delegateHeartbeatAggregator.flush();
+    assertThat(persistence.get(Delegate.class, delegate.getUuid()).getLastHeartBeat()).isGreaterThan(1L);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldAggregateOnlyConfirmedConnections() {
+    String connectionId = generateUuid();
+    DelegateConnectionHeartbeat heartbeat =
+        DelegateConnectionHeartbeat.builder().delegateConnectionId(connectionId).version(VERSION).build();
+
+    assertThat(offerConnectionHeartbeat(connectionId)).isFalse();
+    // The first heartbeat creates the connection, the second one finds it and confirms it
+    delegateService.registerHeartbeat(ACCOUNT_ID, DELEGATE_ID, heartbeat, ConnectionMode.POLLING);
+    delegateService.registerHeartbeat(ACCOUNT_ID, DELEGATE_ID, heartbeat, ConnectionMode.POLLING);
+    long lastHeartbeat = persistence.get(DelegateConnection.class, connectionId).getLastHeartbeat();
+
+    assertThat(offerConnectionHeartbeat(connectionId)).isTrue();
+    delegateHeartbeatAggregator.flush();
+    assertThat(persistence.get(DelegateConnection.class, connectionId).getLastHeartbeat())
+        .isGreaterThanOrEqualTo(lastHeartbeat);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldForgetDeletedConnections() {
+    String connectionId = generateUuid();
+    DelegateConnectionHeartbeat heartbeat =
+        DelegateConnectionHeartbeat.builder().delegateConnectionId(connectionId).version(VERSION).build();
+    delegateService.registerHeartbeat(ACCOUNT_ID, DELEGATE_ID, heartbeat, ConnectionMode.POLLING);
+    delegateService.registerHeartbeat(ACCOUNT_ID, DELEGATE_ID, heartbeat, ConnectionMode.POLLING);
+    persistence.delete(DelegateConnection.class, connectionId);
+
+    assertThat(offerConnectionHeartbeat(connectionId)).isTrue();
+    delegateHeartbeatAggregator.flush();
+
+    assertThat(persistence.get(DelegateConnection.class, connectionId)).isNull();
+    assertThat(offerConnectionHeartbeat(connectionId)).isFalse();
+  }
+
+  private boolean offerConnectionHeartbeat(String connectionId) {
+    return delegateHeartbeatAggregator.offerConnectionHeartbeat(ACCOUNT_ID, DELEGATE_ID, connectionId, VERSION, null);
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package software.wings.service.impl;
+
+import static io.harness.delegate.beans.DelegateTaskEvent.DelegateTaskEventBuilder.aDelegateTaskEvent;
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.beans.DelegateTaskEventsResponse;
+import io.harness.category.element.UnitTests;
+import io.harness.delegate.beans.DelegateTaskEvent;
+import io.harness.rule.Owner;
+
+import software.wings.service.intfc.DelegateTaskServiceClassic;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.TimeoutHandler;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+
+public class DelegateTaskEventsLongPollTest extends CategoryTest {
+  private static final String ACCOUNT_ID = "accountId";
+  private static final String DELEGATE_ID = "delegateId";
+
+  private final DelegateTaskServiceClassic delegateTaskServiceClassic = mock(DelegateTaskServiceClassic.class);
+  private final AsyncResponse asyncResponse = mock(AsyncResponse.class);
+  private final DelegateTaskEventsLongPoll delegateTaskEventsLongPoll = new DelegateTaskEventsLongPoll();
+
+  @Before
+  public void setUp() throws IllegalAccessException {
+    FieldUtils.writeField(delegateTaskEventsLongPoll, "delegateTaskServiceClassic", delegateTaskServiceClassic, true);
+    FieldUtils.writeField(
+        delegateTaskEventsLongPoll, "executorService", MoreExecutors.newDirectExecutorService(), true);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldAnswerRightAwayWhenThereAreEvents() {
+    List<DelegateTaskEvent> delegateTaskEvents = singletonList(aDelegateTaskEvent().withDelegateTaskId("123").build());
+    when(delegateTaskServiceClassic.getDelegateTaskEvents(ACCOUNT_ID, DELEGATE_ID, false))
+        .thenReturn(delegateTaskEvents);
+
+    delegateTaskEventsLongPoll.poll(ACCOUNT_ID, DELEGATE_ID, false, 10, asyncResponse);
+
+    DelegateTaskEventsResponse response = captureResponse();
+    assertThat(response.getDelegateTaskEvents()).isEqualTo(delegateTaskEvents);
+    assertThat(response.isLongPolled()).isTrue();
+    verify(asyncResponse, never()).setTimeout(anyLong(), any(TimeUnit.class));
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldAnswerWhenTaskIsBroadcastToDelegate() {
+    List<DelegateTaskEvent> delegateTaskEvents = singletonList(aDelegateTaskEvent().withDelegateTaskId("123").build());
+    when(delegateTaskServiceClassic.getDelegateTaskEvents(ACCOUNT_ID, DELEGATE_ID, false))
+        .thenReturn(emptyList())
+        .thenReturn(delegateTaskEvents);
+
+    delegateTaskEventsLongPoll.poll(ACCOUNT_ID, DELEGATE_ID, false, 60, asyncResponse);
+    verify(asyncResponse).setTimeout(DelegateTaskEventsLongPoll.MAX_WAIT_SECONDS, TimeUnit.SECONDS);
+    verify(asyncResponse, never()).resume(any(Object.class));
+
+    delegateTaskEventsLongPoll.taskBroadcast(ACCOUNT_ID, singletonList("otherDelegateId"));
+    verify(asyncResponse, never()).resume(any(Object.class));
+
+    delegateTaskEventsLongPoll.taskBroadcast(ACCOUNT_ID, singletonList(DELEGATE_ID));
+    assertThat(captureResponse().getDelegateTaskEvents()).isEqualTo(delegateTaskEvents);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldAnswerWithoutEventsWhenWaitIsOver() {
+    when(delegateTaskServiceClassic.getDelegateTaskEvents(ACCOUNT_ID, DELEGATE_ID, true)).thenReturn(emptyList());
+
+    delegateTaskEventsLongPoll.poll(ACCOUNT_ID, DELEGATE_ID, true, 10, asyncResponse);
+    ArgumentCaptor<TimeoutHandler> timeoutHandlerCaptor = ArgumentCaptor.forClass(TimeoutHandler.class);
+    verify(asyncResponse).setTimeoutHandler(timeoutHandlerCaptor.capture());
+    timeoutHandlerCaptor.getValue().handleTimeout(asyncResponse);
+
+    DelegateTaskEventsResponse response = captureResponse();
+    assertThat(response.getDelegateTaskEvents()).isEmpty();
+    assertThat(response.isLongPolled()).isTrue();
+
+    // the poll was answered already, a later broadcast must not answer it again
+    delegateTaskEventsLongPoll.taskBroadcast(ACCOUNT_ID, singletonList(DELEGATE_ID));
+    verify(asyncResponse).resume(any(Object.class));
+    verify(delegateTaskServiceClassic).getDelegateTaskEvents(eq(ACCOUNT_ID), eq(DELEGATE_ID), eq(true));
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldOnlyAnswerRightAwayWhenBroadcastToDelegateDuringQuery() {
+    when(delegateTaskServiceClassic.getDelegateTaskEvents(ACCOUNT_ID, DELEGATE_ID, false)).thenAnswer(invocation -> {
+      delegateTaskEventsLongPoll.taskBroadcast(ACCOUNT_ID, singletonList("otherDelegateId"));
+      delegateTaskEventsLongPoll.taskBroadcast(ACCOUNT_ID, emptyList());
+      return emptyList();
+    });
+    delegateTaskEventsLongPoll.poll(ACCOUNT_ID, DELEGATE_ID, false, 10, asyncResponse);
+    verify(asyncResponse, never()).resume(any(Object.class));
+
+    AsyncResponse otherAsyncResponse = mock(AsyncResponse.class);
+    when(delegateTaskServiceClassic.getDelegateTaskEvents(ACCOUNT_ID, "otherDelegateId", false))
+        .thenAnswer(invocation -> {
+          delegateTaskEventsLongPoll.taskBroadcast(ACCOUNT_ID, singletonList("otherDelegateId"));
+          return emptyList();
+        });
+    delegateTaskEventsLongPoll.poll(ACCOUNT_ID, "otherDelegateId", false, 10, otherAsyncResponse);
+    verify(otherAsyncResponse).resume(any(Object.class));
+    verify(asyncResponse, never()).resume(any(Object.class));
+  }
+
+  private DelegateTaskEventsResponse captureResponse() {
+    ArgumentCaptor<Object> responseCaptor = ArgumentCaptor.forClass(Object.class);
+    verify(asyncResponse).resume(responseCaptor.capture());
+    return (DelegateTaskEventsResponse) responseCaptor.getValue();
+  }
+}
@@ -136,6 +136,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.assertj.core.util.Maps;
@@ -622,6 +623,41 @@ public class ExecutionContextImplTest extends WingsBaseTest {
     assertThat(evaluatedExpression).isEqualTo("echo MyValue-123-SNAPSHOT");
   }
 
+  @Test
+  @Owner(developers = SRINIVAS)
+  @Category(UnitTests.class)
+  public void shouldRenderExpressionsWithOnePreparedContext() {
+    when(limitCheckerFactory.getInstance(Mockito.any())).thenReturn(mockChecker());
+
+    StateExecutionInstance stateExecutionInstance = new StateExecutionInstance();
+    stateExecutionInstance.setExecutionUuid(generateUuid());
+    stateExecutionInstance.setDisplayName("http");
+    ExecutionContextImpl context = prepareContext(stateExecutionInstance);
+
+    Artifact artifact = Artifact.Builder.anArtifact()
+                            .withMetadata(new ArtifactMetadata(Maps.newHashMap("buildNo", "123-SNAPSHOT")))
+                            .build();
+
+    programServiceTemplateService(context, artifact);
+
+    CommandStateExecutionData commandStateExecutionData = CommandStateExecutionData.Builder.aCommandStateExecutionData()
+                                                              .withTemplateVariable(ImmutableMap.of("MyVar", "MyValue"))
+                                                              .build();
+    StateExecutionContext stateExecutionContext =
+        StateExecutionContext.builder().stateExecutionData(commandStateExecutionData).artifact(artifact).build();
+
+    assertThat(context.renderExpressions(asList("echo ${MyVar}", "${artifact.buildNo}", null), stateExecutionContext))
+        .containsExactly("echo MyValue", "123-SNAPSHOT", null);
+    Map<String, Object> preparedContext = on(context).get("preparedStateContextMap");
+    assertThat(context.renderExpression("${MyVar}-${artifact.buildNo}", stateExecutionContext))
+        .isEqualTo("MyValue-123-SNAPSHOT");
+    assertThat((Map<String, Object>) on(context).get("preparedStateContextMap")).isSameAs(preparedContext);
+
+    context.resetPreparedCache();
+    assertThat((Map<String, Object>) on(context).get("preparedStateContextMap")).isNull();
+    assertThat(context.renderExpressions(null, stateExecutionContext)).isNull();
+  }
+
   private ExecutionContextImpl prepareSweepingExecutionContext(String appId, String pipelineExecutionId,
       String workflowExecutionId, String phaseId, String stateId, String phaseName) {
     StateExecutionInstance stateExecutionInstance = new StateExecutionInstance();
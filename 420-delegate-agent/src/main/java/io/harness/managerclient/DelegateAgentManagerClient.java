@@ -32,6 +32,8 @@ import io.harness.delegate.beans.connector.ConnectorHeartbeatDelegateResponse;
 import io.harness.delegate.beans.instancesync.InstanceSyncPerpetualTaskResponse;
 import io.harness.delegate.task.validation.DelegateConnectionResultDetail;
 import io.harness.logging.AccessTokenBean;
+import io.harness.perpetualtask.HeartbeatBatchRequest;
+import io.harness.perpetualtask.HeartbeatBatchResponse;
 import io.harness.perpetualtask.HeartbeatRequest;
 import io.harness.perpetualtask.HeartbeatResponse;
 import io.harness.perpetualtask.PerpetualTaskContextResponse;
@@ -123,8 +125,8 @@ public interface DelegateAgentManagerClient {
   Call<RestResponse<AccessTokenBean>> getLoggingToken(@Query("accountId") String accountId);
 
   @GET("agent/delegates/{delegateId}/task-events")
-  Call<DelegateTaskEventsResponse> pollTaskEvents(
-      @Path("delegateId") String delegateId, @Query("accountId") String accountId);
+  Call<DelegateTaskEventsResponse> pollTaskEvents(@Path("delegateId") String delegateId,
+      @Query("accountId") String accountId, @Query("waitSeconds") int waitSeconds);
 
   @POST("instancesync/instance-sync/{perpetualTaskId}")
   Call<RestResponse<Boolean>> publishInstanceSyncResult(@Path("perpetualTaskId") String perpetualTaskId,
@@ -200,6 +202,11 @@ public interface DelegateAgentManagerClient {
   @PUT("agent/delegates/perpetual-task/heartbeat")
   Call<HeartbeatResponse> heartbeat(@Query("accountId") String accountId, @Body HeartbeatRequest heartbeatRequest);
 
+  @Consumes({"application/x-protobuf"})
+  @PUT("agent/delegates/perpetual-task/heartbeat-batch")
+  Call<HeartbeatBatchResponse> heartbeatBatch(
+      @Query("accountId") String accountId, @Body HeartbeatBatchRequest heartbeatBatchRequest);
+
   @Consumes({"application/x-protobuf"})
   @PUT("agent/delegates/task-progress/progress-update")
   Call<SendTaskProgressResponse> sendTaskProgressUpdate(
@@ -18,17 +18,29 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import retrofit2.Call;
+import retrofit2.Response;
 
 @Singleton
 @Slf4j
 public class PerpetualTaskServiceAgentClient {
+  private static final int MAX_HEARTBEAT_BATCH_SIZE = 500;
+  private static final int NOT_FOUND = 404;
+
   @Inject private DelegateAgentManagerClient delegateAgentManagerClient;
 
+  private final Queue<PendingHeartbeat> pendingHeartbeats = new ConcurrentLinkedQueue<>();
+  private volatile boolean heartbeatBatchingEnabled;
+
   public List<PerpetualTaskAssignDetails> perpetualTaskList(String delegateId, String accountId) {
     try {
       Call<PerpetualTaskListResponse> call = delegateAgentManagerClient.perpetualTaskList(delegateId, accountId);
@@ -62,18 +74,90 @@ public class PerpetualTaskServiceAgentClient {
     return null;
   }
 
+  /**
+   * Records the result of one run of the task. While batching is enabled the heartbeat is only queued, and sent with
+   * the others on the next {@link #flushHeartbeats()}.
+   */
   public void heartbeat(
       PerpetualTaskId taskId, Instant taskStartTime, PerpetualTaskResponse perpetualTaskResponse, String accountId) {
+    HeartbeatRequest heartbeatRequest = HeartbeatRequest.newBuilder()
+                                            .setId(taskId.getId())
+                                            .setHeartbeatTimestamp(HTimestamps.fromInstant(taskStartTime))
+                                            .setResponseCode(perpetualTaskResponse.getResponseCode())
+                                            .setResponseMessage(perpetualTaskResponse.getResponseMessage())
+                                            .build();
+    if (isEmpty(accountId)) {
+      log.warn("Account id is null while sending heartbeat");
+    }
+    if (heartbeatBatchingEnabled) {
+      pendingHeartbeats.add(new PendingHeartbeat(accountId, heartbeatRequest));
+    } else {
+      sendHeartbeat(accountId, heartbeatRequest);
+    }
+  }
+
+  public void enableHeartbeatBatching() {
+    heartbeatBatchingEnabled = true;
+  }
+
+  /**
+   * Stops queueing heartbeats and sends the ones already queued.
+   */
+  public void disableHeartbeatBatching() {
+    heartbeatBatchingEnabled = false;
+    flushHeartbeats();
+  }
+
+  /**
+   * Sends the queued heartbeats, one request per account and at most {@value #MAX_HEARTBEAT_BATCH_SIZE} heartbeats.
+   */
+  public synchronized void flushHeartbeats() {
+    while (!pendingHeartbeats.isEmpty()) {
+      String accountId = pendingHeartbeats.peek().getAccountId();
+      List<HeartbeatRequest> batch = new ArrayList<>();
+      List<PendingHeartbeat> otherAccounts = new ArrayList<>();
+      PendingHeartbeat pendingHeartbeat;
+      while (batch.size() < MAX_HEARTBEAT_BATCH_SIZE && (pendingHeartbeat = pendingHeartbeats.poll()) != null) {
+        if (Objects.equals(accountId, pendingHeartbeat.getAccountId())) {
+          batch.add(pendingHeartbeat.getHeartbeatRequest());
+        } else {
+          otherAccounts.add(pendingHeartbeat);
+        }
+      }
+      pendingHeartbeats.addAll(otherAccounts);
+      if (!sendHeartbeatBatch(accountId, batch)) {
+        batch.forEach(heartbeatRequest -> sendHeartbeat(accountId, heartbeatRequest));
+      }
+    }
+  }
+
+  private boolean sendHeartbeatBatch(String accountId, List<HeartbeatRequest> batch) {
     try {
-      HeartbeatRequest heartbeatRequest = HeartbeatRequest.newBuilder()
-                                              .setId(taskId.getId())
-                                              .setHeartbeatTimestamp(HTimestamps.fromInstant(taskStartTime))
-                                              .setResponseCode(perpetualTaskResponse.getResponseCode())
-                                              .setResponseMessage(perpetualTaskResponse.getResponseMessage())
-                                              .build();
-      if (isEmpty(accountId)) {
-        log.warn("Account id is null while sending heartbeat");
+      Response<HeartbeatBatchResponse> response =
+          delegateAgentManagerClient
+              .heartbeatBatch(accountId, HeartbeatBatchRequest.newBuilder().addAllHeartbeats(batch).build())
+              .execute();
+      if (response.isSuccessful()) {
+        return true;
       }
+      if (response.code() == NOT_FOUND) {
+        // Manager does not have the batch endpoint yet
+        log.warn("Heartbeat batching is not supported by the manager, sending heartbeats one by one");
+        heartbeatBatchingEnabled = false;
+      } else {
+        log.warn("Heartbeat batch failed with code {}, sending heartbeats one by one", response.code());
+      }
+      if (response.errorBody() != null) {
+        response.errorBody().close();
+      }
+    } catch (Exception e) {
+      log.error("Error on PT heartbeat batch ", e);
+    }
+    return false;
+  }
+
+  private void sendHeartbeat(String accountId, HeartbeatRequest heartbeatRequest) {
+    try {
       Call<HeartbeatResponse> call = delegateAgentManagerClient.heartbeat(accountId, heartbeatRequest);
       HeartbeatResponse response = DelegateRestUtils.executeRestCall(call);
     } catch (IOException ex) {
@@ -88,4 +172,10 @@ public class PerpetualTaskServiceAgentClient {
     call.enqueue(new CallbackWithRetry<T>(call, result));
     return result.get();
   }
+
+  @Value
+  private static class PendingHeartbeat {
+    String accountId;
+    HeartbeatRequest heartbeatRequest;
+  }
 }
@@ -11,6 +11,8 @@ import static io.harness.annotations.dev.HarnessTeam.DEL;
 
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.grpc.utils.HTimestamps;
+import io.harness.perpetualtask.HeartbeatBatchRequest;
+import io.harness.perpetualtask.HeartbeatBatchResponse;
 import io.harness.perpetualtask.HeartbeatRequest;
 import io.harness.perpetualtask.HeartbeatResponse;
 import io.harness.perpetualtask.PerpetualTaskAssignDetails;
@@ -87,4 +89,22 @@ public class PerpetualTaskResource {
     perpetualTaskService.triggerCallback(heartbeatRequest.getId(), heartbeatMillis, perpetualTaskResponse);
     return Response.ok(HeartbeatResponse.newBuilder().build()).build();
   }
+
+  @PUT
+  @Path("/heartbeat-batch")
+  @Timed
+  @ExceptionMetered
+  @DelegateAuth
+  @ApiOperation(value = "Batched heartbeat recording", nickname = "heartbeatBatch")
+  public Response heartbeatBatch(
+      @QueryParam("accountId") String accountId, HeartbeatBatchRequest heartbeatBatchRequest) {
+    for (HeartbeatRequest heartbeatRequest : heartbeatBatchRequest.getHeartbeatsList()) {
+      try {
+        heartbeat(accountId, heartbeatRequest);
+      } catch (Exception e) {
+        log.error("Failed to record heartbeat for perpetual task {}", heartbeatRequest.getId(), e);
+      }
+    }
+    return Response.ok(HeartbeatBatchResponse.newBuilder().build()).build();
+  }
 }
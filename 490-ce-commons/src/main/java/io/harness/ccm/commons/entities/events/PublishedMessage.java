@@ -50,6 +50,13 @@ public final class PublishedMessage implements PersistentEntity, CreatedAtAware,
                  .field(PublishedMessageKeys.createdAt)
                  .field(PublishedMessageKeys.occurredAt)
                  .build())
+        .add(CompoundMongoIndex.builder()
+                 .name("accountId_type_createdAt_id")
+                 .field(PublishedMessageKeys.accountId)
+                 .field(PublishedMessageKeys.type)
+                 .field(PublishedMessageKeys.createdAt)
+                 .field("_id")
+                 .build())
         .build();
   }
   @Id private String uuid;
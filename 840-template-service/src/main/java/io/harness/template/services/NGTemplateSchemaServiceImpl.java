@@ -31,27 +31,45 @@ import io.harness.template.helpers.TemplateYamlSchemaMergeHelper;
 import io.harness.template.mappers.TemplateChildEntityTypeToEntityTypeMapper;
 import io.harness.yaml.schema.YamlSchemaProvider;
 import io.harness.yaml.schema.client.YamlSchemaClient;
-import io.harness.yaml.utils.JsonPipelineUtils;
 import io.harness.yaml.validator.YamlSchemaValidator;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
+import com.networknt.schema.JsonSchema;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 
 @Singleton
 @Slf4j
 @OwnedBy(CDC)
 public class NGTemplateSchemaServiceImpl implements NGTemplateSchemaService {
+  // about a handful of the largest template schemas, as JSON characters
+  private static final long MAX_COMPILED_SCHEMA_CHARS = 32L * 1024 * 1024;
+
   private PipelineYamlSchemaServiceClient pipelineYamlSchemaServiceClient;
   Map<String, YamlSchemaClient> yamlSchemaClientMapper;
   private YamlSchemaProvider yamlSchemaProvider;
   private YamlSchemaValidator yamlSchemaValidator;
   private AccountClient accountClient;
   Integer allowedParallelStages;
+  // Compiled per account, scope and template type, without the org and project constants, which the template mapper
+  // checks against the yaml already. Schemas come from the pipeline service and the modules, which can change them
+  // without telling this service.
+  private final Cache<String, JsonSchema> compiledTemplateSchemas =
+      CacheBuilder.newBuilder()
+          .maximumWeight(MAX_COMPILED_SCHEMA_CHARS)
+          .weigher((String key, JsonSchema schema) -> schema.getSchemaNode().toString().length())
+          .expireAfterWrite(10, TimeUnit.MINUTES)
+          .build();
 
   @Inject
   public NGTemplateSchemaServiceImpl(PipelineYamlSchemaServiceClient pipelineYamlSchemaServiceClient,
@@ -160,18 +178,17 @@ public class NGTemplateSchemaServiceImpl implements NGTemplateSchemaService {
           : projectIdentifier != null                         ? Scope.PROJECT
           : orgIdentifier != null                             ? Scope.ORG
                                                               : Scope.ACCOUNT;
-      JsonNode schema = getTemplateSchema(accountIdentifier, projectIdentifier, orgIdentifier, scope,
-          templateEntity.getChildType(), templateEntity.getTemplateEntityType());
-      String schemaString = JsonPipelineUtils.writeJsonString(schema);
+      JsonSchema schema = getCompiledTemplateSchema(
+          accountIdentifier, scope, templateEntity.getChildType(), templateEntity.getTemplateEntityType());
       if (templateEntity.getTemplateEntityType().equals(TemplateEntityType.PIPELINE_TEMPLATE)) {
         String pathToJsonNode = TEMPLATE_NODE + "/" + SPEC_NODE + "/" + STAGES_NODE;
-        yamlSchemaValidator.validate(templateYaml, schemaString,
+        yamlSchemaValidator.validate(templateYaml, schema,
             TemplateYamlSchemaMergeHelper.isFeatureFlagEnabled(
                 FeatureName.DONT_RESTRICT_PARALLEL_STAGE_COUNT, accountIdentifier, accountClient),
             allowedParallelStages, pathToJsonNode);
       } else {
         yamlSchemaValidator.validate(
-            templateYaml, schemaString, true, allowedParallelStages, PIPELINE_NODE + "/" + STAGES_NODE);
+            templateYaml, schema, true, allowedParallelStages, PIPELINE_NODE + "/" + STAGES_NODE);
       }
     } catch (io.harness.yaml.validator.InvalidYamlException e) {
       log.info("[TEMPLATE_SCHEMA] Schema validation took total time {}ms", System.currentTimeMillis() - start);
@@ -186,4 +203,18 @@ public class NGTemplateSchemaServiceImpl implements NGTemplateSchemaService {
       throw new io.harness.yaml.validator.InvalidYamlException(ex.getMessage(), ex, errorWrapperDTO);
     }
   }
+
+  private JsonSchema getCompiledTemplateSchema(
+      String accountIdentifier, Scope scope, String templateChildType, TemplateEntityType templateEntityType) {
+    String key = String.join("/", accountIdentifier, scope.name(), templateEntityType.name(), templateChildType);
+    try {
+      return compiledTemplateSchemas.get(key,
+          ()
+              -> yamlSchemaValidator.compileSchema(
+                  getTemplateSchema(accountIdentifier, null, null, scope, templateChildType, templateEntityType)));
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new JsonSchemaException(e.getCause().getMessage());
+    }
+  }
 }
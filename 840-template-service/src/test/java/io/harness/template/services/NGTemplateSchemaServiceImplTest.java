@@ -14,6 +14,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.joor.Reflect.on;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.anyBoolean;
 import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.anyString;
@@ -45,6 +47,7 @@ import io.harness.yaml.validator.YamlSchemaValidator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.io.Resources;
+import com.networknt.schema.JsonSchema;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
@@ -115,6 +118,9 @@ public class NGTemplateSchemaServiceImplTest extends TemplateServiceTestBase {
     on(ngTemplateSchemaService).set("yamlSchemaProvider", yamlSchemaProvider);
     on(ngTemplateSchemaService).set("yamlSchemaValidator", yamlSchemaValidator);
     on(ngTemplateSchemaService).set("allowedParallelStages", 1);
+    JsonSchema jsonSchema = mock(JsonSchema.class);
+    when(jsonSchema.getSchemaNode()).thenReturn(new ObjectMapper().createObjectNode());
+    when(yamlSchemaValidator.compileSchema(any())).thenReturn(jsonSchema);
 
     MockedStatic<TemplateYamlSchemaMergeHelper> templateYamlSchemaMergeHelperMockedStatic =
         Mockito.mockStatic(TemplateYamlSchemaMergeHelper.class);
@@ -182,7 +188,7 @@ public class NGTemplateSchemaServiceImplTest extends TemplateServiceTestBase {
   @Owner(developers = ABHINAV_MITTAL)
   @Category(UnitTests.class)
   public void testValidateStepSchemaBy() throws Exception {
-    when(yamlSchemaValidator.validate(anyString(), anyString(), anyBoolean(), anyInt(), anyString()))
+    when(yamlSchemaValidator.validate(anyString(), any(JsonSchema.class), anyBoolean(), anyInt(), anyString()))
         .thenReturn(Collections.emptySet());
     Call<ResponseDTO<YamlSchemaResponse>> requestCall = mock(Call.class);
     doReturn(requestCall).when(pipelineYamlSchemaServiceClient).getYamlSchema(any(), any(), any(), any(), any(), any());
@@ -191,7 +197,8 @@ public class NGTemplateSchemaServiceImplTest extends TemplateServiceTestBase {
           YamlSchemaResponse.builder().schema(null).schemaErrorResponse(null).build();
       mockStatic.when(() -> NGRestUtils.getResponse(requestCall)).thenReturn(yamlSchemaResponse);
       ngTemplateSchemaService.validateYamlSchemaInternal(stepTemplateEntity);
-      verify(yamlSchemaValidator, times(1)).validate(anyString(), anyString(), anyBoolean(), anyInt(), anyString());
+      verify(yamlSchemaValidator, times(1))
+          .validate(anyString(), any(JsonSchema.class), anyBoolean(), anyInt(), anyString());
     }
   }
 
@@ -199,7 +206,7 @@ public class NGTemplateSchemaServiceImplTest extends TemplateServiceTestBase {
   @Owner(developers = ABHINAV_MITTAL)
   @Category(UnitTests.class)
   public void testValidatePipelineSchema() throws IOException {
-    when(yamlSchemaValidator.validate(anyString(), anyString(), anyBoolean(), anyInt(), anyString()))
+    when(yamlSchemaValidator.validate(anyString(), any(JsonSchema.class), anyBoolean(), anyInt(), anyString()))
         .thenReturn(Collections.emptySet());
     Call<ResponseDTO<YamlSchemaResponse>> requestCall = mock(Call.class);
     doReturn(requestCall).when(pipelineYamlSchemaServiceClient).getYamlSchema(any(), any(), any(), any(), any(), any());
@@ -208,7 +215,8 @@ public class NGTemplateSchemaServiceImplTest extends TemplateServiceTestBase {
           YamlSchemaResponse.builder().schema(null).schemaErrorResponse(null).build();
       mockStatic.when(() -> NGRestUtils.getResponse(requestCall)).thenReturn(yamlSchemaResponse);
       ngTemplateSchemaService.validateYamlSchemaInternal(stepTemplateEntity);
-      verify(yamlSchemaValidator, times(1)).validate(anyString(), anyString(), anyBoolean(), anyInt(), anyString());
+      verify(yamlSchemaValidator, times(1))
+          .validate(anyString(), any(JsonSchema.class), anyBoolean(), anyInt(), anyString());
     }
   }
 
@@ -216,7 +224,7 @@ public class NGTemplateSchemaServiceImplTest extends TemplateServiceTestBase {
   @Owner(developers = ABHINAV_MITTAL)
   @Category(UnitTests.class)
   public void testInvalidValidatePipelineSchema() throws IOException {
-    when(yamlSchemaValidator.validate(anyString(), anyString(), anyBoolean(), anyInt(), anyString()))
+    when(yamlSchemaValidator.validate(anyString(), any(JsonSchema.class), anyBoolean(), anyInt(), anyString()))
         .thenThrow(new InvalidYamlException("msg", null));
     Call<ResponseDTO<YamlSchemaResponse>> requestCall = mock(Call.class);
     doReturn(requestCall).when(pipelineYamlSchemaServiceClient).getYamlSchema(any(), any(), any(), any(), any(), any());
@@ -228,4 +236,24 @@ public class NGTemplateSchemaServiceImplTest extends TemplateServiceTestBase {
           .isInstanceOf(InvalidYamlException.class);
     }
   }
+
+  @Test
+  @Owner(developers = ABHINAV_MITTAL)
+  @Category(UnitTests.class)
+  public void testTemplateSchemaIsCompiledOnceForAllProjects() throws IOException {
+    Call<ResponseDTO<YamlSchemaResponse>> requestCall = mock(Call.class);
+    doReturn(requestCall).when(pipelineYamlSchemaServiceClient).getYamlSchema(any(), any(), any(), any(), any(), any());
+    try (MockedStatic<NGRestUtils> mockStatic = Mockito.mockStatic(NGRestUtils.class)) {
+      YamlSchemaResponse yamlSchemaResponse =
+          YamlSchemaResponse.builder().schema(null).schemaErrorResponse(null).build();
+      mockStatic.when(() -> NGRestUtils.getResponse(requestCall)).thenReturn(yamlSchemaResponse);
+      ngTemplateSchemaService.validateYamlSchemaInternal(stepTemplateEntity);
+      ngTemplateSchemaService.validateYamlSchemaInternal(stepTemplateEntity.withProjectIdentifier("otherProjId"));
+      verify(pipelineYamlSchemaServiceClient, times(1))
+          .getYamlSchema(eq(ACCOUNT_ID), isNull(), isNull(), any(), any(), eq(Scope.PROJECT));
+      verify(yamlSchemaValidator, times(1)).compileSchema(any());
+      verify(yamlSchemaValidator, times(2))
+          .validate(anyString(), any(JsonSchema.class), anyBoolean(), anyInt(), anyString());
+    }
+  }
 }
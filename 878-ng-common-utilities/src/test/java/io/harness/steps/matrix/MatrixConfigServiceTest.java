@@ -53,6 +53,12 @@ public class MatrixConfigServiceTest extends NGCommonUtilitiesTestBase {
 
     List<ChildrenExecutableResponse.Child> children = matrixConfigService.fetchChildren(strategyConfig, "childNodeId");
     assertThat(children.size()).isEqualTo(8);
+    for (int i = 0; i < children.size(); i++) {
+      assertThat(children.get(i).getStrategyMetadata().getCurrentIteration()).isEqualTo(i);
+      assertThat(children.get(i).getStrategyMetadata().getTotalIterations()).isEqualTo(8);
+    }
+    assertThat(children.stream().map(child -> child.getStrategyMetadata().getMatrixMetadata().getMatrixValuesMap()))
+        .doesNotHaveDuplicates();
   }
 
   @Test
@@ -286,4 +286,20 @@ public class StrategyUtilsTest extends NGCommonUtilitiesTestBase {
     assertThat(metadataMap.size()).isEqualTo(1);
     assertThat(dependenciesNodeMap.size()).isEqualTo(1);
   }
+
+  @Test
+  @Owner(developers = SAHIL)
+  @Category(UnitTests.class)
+  public void testReplaceExpressions() {
+    Map<String, String> combinations = new HashMap<>();
+    combinations.put("os", "linux");
+    combinations.put("path", "C:\\\\tmp");
+    String json = "{\"identifier\":\"<+matrix.os>_<+strategy.matrix.os>\",\"path\":\"<+matrix.path>\","
+        + "\"index\":\"<+strategy.iteration>/<+strategy.iterations>\","
+        + "\"other\":\"<+matrix.arch> <+pipeline.name>\"}";
+
+    assertThat(StrategyUtils.replaceExpressions(json, combinations, 1, 4, null))
+        .isEqualTo("{\"identifier\":\"linux_linux\",\"path\":\"C:\\tmp\",\"index\":\"1/4\","
+            + "\"other\":\"<+matrix.arch> <+pipeline.name>\"}");
+  }
 }
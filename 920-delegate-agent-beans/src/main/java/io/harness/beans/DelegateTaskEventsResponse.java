@@ -17,4 +17,6 @@ import lombok.Getter;
 @Builder
 public class DelegateTaskEventsResponse {
   List<DelegateTaskEvent> delegateTaskEvents;
+  // Set when the manager held the poll until there were events or the wait was over, so it can be repeated right away
+  boolean longPolled;
 }
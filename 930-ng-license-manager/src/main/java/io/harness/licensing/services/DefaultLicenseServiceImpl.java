@@ -22,6 +22,7 @@ import io.harness.ccm.license.CeLicenseInfoDTO;
 import io.harness.ccm.license.remote.CeLicenseClient;
 import io.harness.configuration.DeployMode;
 import io.harness.configuration.DeployVariant;
+import io.harness.enforcement.client.services.EnforcementClientService;
 import io.harness.exception.InvalidRequestException;
 import io.harness.licensing.Edition;
 import io.harness.licensing.EditionAction;
@@ -86,6 +87,7 @@ public class DefaultLicenseServiceImpl implements LicenseService {
   private final LicenseComplianceResolver licenseComplianceResolver;
   private final Cache<String, List> cache;
   private final LicenseGenerator licenseGenerator;
+  private final EnforcementClientService enforcementClientService;
 
   static final String FAILED_OPERATION = "START_TRIAL_ATTEMPT_FAILED";
   static final String SUCCEED_START_FREE_OPERATION = "FREE_PLAN";
@@ -100,7 +102,7 @@ public class DefaultLicenseServiceImpl implements LicenseService {
       LicenseObjectConverter licenseObjectConverter, ModuleLicenseInterface licenseInterface,
       AccountService accountService, TelemetryReporter telemetryReporter, CeLicenseClient ceLicenseClient,
       LicenseComplianceResolver licenseComplianceResolver, @Named(LICENSE_CACHE_NAMESPACE) Cache<String, List> cache,
-      LicenseGenerator licenseGenerator) {
+      LicenseGenerator licenseGenerator, EnforcementClientService enforcementClientService) {
     this.moduleLicenseRepository = moduleLicenseRepository;
     this.licenseObjectConverter = licenseObjectConverter;
     this.licenseInterface = licenseInterface;
@@ -110,6 +112,7 @@ public class DefaultLicenseServiceImpl implements LicenseService {
     this.licenseComplianceResolver = licenseComplianceResolver;
     this.cache = cache;
     this.licenseGenerator = licenseGenerator;
+    this.enforcementClientService = enforcementClientService;
   }
 
   @Override
@@ -185,6 +188,7 @@ public class DefaultLicenseServiceImpl implements LicenseService {
     ModuleLicense moduleLicense = existingEntityOptional.get();
     moduleLicenseRepository.deleteById(id);
     evictCache(moduleLicense.getAccountIdentifier(), moduleLicense.getModuleType());
+    enforcementClientService.invalidateRestrictionMetadata(moduleLicense.getAccountIdentifier());
     log.info("Deleted license [{}] for module [{}] in account [{}]", id, moduleLicense.getModuleType(),
         moduleLicense.getAccountIdentifier());
   }
@@ -615,6 +619,7 @@ public class DefaultLicenseServiceImpl implements LicenseService {
   private ModuleLicense saveLicense(ModuleLicense moduleLicense) {
     ModuleLicense savedLicense = moduleLicenseRepository.save(moduleLicense);
     evictCache(moduleLicense.getAccountIdentifier(), moduleLicense.getModuleType());
+    enforcementClientService.invalidateRestrictionMetadata(moduleLicense.getAccountIdentifier());
     return savedLicense;
   }
 
@@ -43,6 +43,7 @@ import io.harness.account.services.AccountService;
 import io.harness.beans.EmbeddedUser;
 import io.harness.category.element.UnitTests;
 import io.harness.ccm.license.remote.CeLicenseClient;
+import io.harness.enforcement.client.services.EnforcementClientService;
 import io.harness.exception.InvalidRequestException;
 import io.harness.licensing.Edition;
 import io.harness.licensing.EditionAction;
@@ -103,6 +104,7 @@ public class DefaultLicenseServiceImplTest extends CategoryTest {
   @Mock LicenseComplianceResolver licenseComplianceResolver;
   @Mock Cache<String, List> cache;
   @Mock LicenseGenerator licenseGenerator;
+  @Mock EnforcementClientService enforcementClientService;
   @InjectMocks DefaultLicenseServiceImpl licenseService;
 
   private StartTrialDTO startTrialRequestDTO;
@@ -301,6 +303,7 @@ public class DefaultLicenseServiceImplTest extends CategoryTest {
     verifyZeroInteractions(ceLicenseClient);
     assertThat(result).isEqualTo(DEFAULT_CI_MODULE_LICENSE_DTO);
     verify(cache, times(1)).remove(any());
+    verify(enforcementClientService, times(1)).invalidateRestrictionMetadata(ACCOUNT_IDENTIFIER);
   }
 
   @Test
@@ -17,6 +17,7 @@ import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.eventsframework.api.Producer;
 import io.harness.eventsframework.producer.Message;
+import io.harness.mongo.tracing.QueryExecutionStats;
 import io.harness.mongo.tracing.Tracer;
 import io.harness.ng.persistence.tracer.NgTracer;
 import io.harness.persistence.HQuery;
@@ -28,6 +29,7 @@ import com.google.inject.Inject;
 import com.google.inject.name.Named;
 import com.google.protobuf.ByteString;
 import com.mongodb.DBObject;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import lombok.extern.slf4j.Slf4j;
@@ -47,6 +49,7 @@ public class MongoRedisTracer implements Tracer, NgTracer {
   @Inject @Named(PersistenceTracerConstants.QUERY_ANALYSIS_PRODUCER) private Producer producer;
   @Inject @Named(SERVICE_ID) private String serviceId;
   @Inject private VersionInfoManager versionInfoManager;
+  @Inject private QueryShapeStatsCollector queryShapeStatsCollector;
 
   private final ConcurrentHashMap<String, Long> queryStatsCache = new ConcurrentHashMap<>();
 
@@ -55,7 +58,7 @@ public class MongoRedisTracer implements Tracer, NgTracer {
     try {
       executorService.execute(() -> {
         try {
-          traceSpringQueryInternal(query, entityClass, mongoTemplate);
+          traceSpringQueryInternal(query, entityClass, mongoTemplate, false);
         } catch (Exception ex) {
           log.error(String.format("Unable to trace spring query: %s", query.getQueryObject().toJson()), ex);
         }
@@ -70,7 +73,7 @@ public class MongoRedisTracer implements Tracer, NgTracer {
     try {
       executorService.execute(() -> {
         try {
-          traceMorphiaQueryInternal(query);
+          traceMorphiaQueryInternal(query, false);
         } catch (Exception ex) {
           log.error(String.format("Unable to trace morphia query: %s", query.getQueryObject().toString()), ex);
         }
@@ -80,7 +83,49 @@ public class MongoRedisTracer implements Tracer, NgTracer {
     }
   }
 
-  private void traceSpringQueryInternal(Query query, Class<?> entityClass, MongoTemplate mongoTemplate) {
+  @Override
+  public void traceSpringQueryExecution(
+      Query query, Class<?> entityClass, MongoTemplate mongoTemplate, QueryExecutionStats stats) {
+    try {
+      String collectionName = mongoTemplate.getCollectionName(entityClass);
+      long shapeHash =
+          QueryShapeDetector.getQueryShapeHash(collectionName, query.getQueryObject(), query.getSortObject());
+      if (queryShapeStatsCollector.record(collectionName, shapeHash, stats)) {
+        executorService.execute(() -> {
+          try {
+            traceSpringQueryInternal(query, entityClass, mongoTemplate, true);
+          } catch (Exception ex) {
+            log.error(String.format("Unable to trace spring query: %s", query.getQueryObject().toJson()), ex);
+          }
+        });
+      }
+    } catch (Exception ex) {
+      log.error("Unable to record spring query shape stats", ex);
+    }
+  }
+
+  @Override
+  public void traceMorphiaQueryExecution(HQuery<?> query, QueryExecutionStats stats) {
+    try {
+      String collectionName = query.getCollection().getName();
+      long shapeHash = QueryShapeDetector.getQueryShapeHash(
+          collectionName, toMap(query.getQueryObject()), toMap(query.getSortObject()));
+      if (queryShapeStatsCollector.record(collectionName, shapeHash, stats)) {
+        executorService.execute(() -> {
+          try {
+            traceMorphiaQueryInternal(query, true);
+          } catch (Exception ex) {
+            log.error(String.format("Unable to trace morphia query: %s", query.getQueryObject().toString()), ex);
+          }
+        });
+      }
+    } catch (Exception ex) {
+      log.error("Unable to record morphia query shape stats", ex);
+    }
+  }
+
+  private void traceSpringQueryInternal(
+      Query query, Class<?> entityClass, MongoTemplate mongoTemplate, boolean alwaysSample) {
     String collectionName = mongoTemplate.getCollectionName(entityClass);
     MongoConverter mongoConverter = mongoTemplate.getConverter();
     MongoPersistentEntity<?> entity = mongoConverter.getMappingContext().getPersistentEntity(entityClass);
@@ -88,7 +133,7 @@ public class MongoRedisTracer implements Tracer, NgTracer {
     Document queryDoc = queryMapper.getMappedObject(nonNullDocument(query.getQueryObject()), entity);
     Document sortDoc = queryMapper.getMappedSort(nonNullDocument(query.getSortObject()), entity);
     String qHash = QueryShapeDetector.getQueryHash(collectionName, queryDoc, sortDoc);
-    if (skipSample(qHash)) {
+    if (!alwaysSample && skipSample(qHash)) {
       return;
     }
 
@@ -114,12 +159,12 @@ public class MongoRedisTracer implements Tracer, NgTracer {
                       .build());
   }
 
-  private void traceMorphiaQueryInternal(HQuery<?> query) {
+  private void traceMorphiaQueryInternal(HQuery<?> query, boolean alwaysSample) {
     String collectionName = query.getCollection().getName();
     Document queryDoc = toDocument(query.getQueryObject());
     Document sortDoc = toDocument(query.getSortObject());
     String qHash = QueryShapeDetector.getQueryHash(collectionName, queryDoc, sortDoc);
-    if (skipSample(qHash)) {
+    if (!alwaysSample && skipSample(qHash)) {
       return;
     }
 
@@ -163,6 +208,14 @@ public class MongoRedisTracer implements Tracer, NgTracer {
     return doc == null ? new Document() : doc;
   }
 
+  @SuppressWarnings("unchecked")
+  private static Map<String, Object> toMap(DBObject dbObject) {
+    if (dbObject instanceof Map) {
+      return (Map<String, Object>) dbObject;
+    }
+    return dbObject == null ? null : dbObject.toMap();
+  }
+
   private static Document toDocument(DBObject dbObject) {
     if (dbObject == null) {
       return new Document();
@@ -14,4 +14,5 @@ import io.harness.annotations.dev.OwnedBy;
 public class PersistenceTracerConstants {
   public static final String TRACING_THREAD_POOL = "TracingThreadPool";
   public static final String QUERY_ANALYSIS_PRODUCER = "queryAnalysisProducer";
+  public static final String QUERY_SHAPE_STATS_FLUSH_EXECUTOR = "queryShapeStatsFlushExecutor";
 }
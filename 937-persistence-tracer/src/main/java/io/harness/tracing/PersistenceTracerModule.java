@@ -28,6 +28,8 @@ import com.google.inject.Provides;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 @OwnedBy(HarnessTeam.PIPELINE)
@@ -54,6 +56,16 @@ class PersistenceTracerModule extends AbstractModule {
         new DiscardAndLogQueuePolicy());
   }
 
+  @Provides
+  @Singleton
+  @Named(PersistenceTracerConstants.QUERY_SHAPE_STATS_FLUSH_EXECUTOR)
+  public ScheduledExecutorService queryShapeStatsFlushExecutor() {
+    return Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                                                          .setNameFormat("query-shape-stats-flush-%d")
+                                                          .setPriority(Thread.MIN_PRIORITY)
+                                                          .build());
+  }
+
   @Provides
   @Named(PersistenceTracerConstants.QUERY_ANALYSIS_PRODUCER)
   public Producer obtainProducer(
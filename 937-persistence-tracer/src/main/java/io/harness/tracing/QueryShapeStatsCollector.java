@@ -0,0 +1,157 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.tracing;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.metrics.HarnessMetricRegistry;
+import io.harness.mongo.tracing.QueryExecutionStats;
+import io.harness.serializer.JsonUtils;
+import io.harness.tracing.shapedetector.QueryShapeStats;
+import io.harness.tracing.shapedetector.QueryShapeSummary;
+
+import com.google.common.collect.Lists;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import io.prometheus.client.Gauge;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps per query shape latency and result count histograms in memory and periodically flushes their summaries in
+ * batches. Used by {@link MongoRedisTracer} when the trace mode is SHAPE_STATS.
+ *
+ * <p>On each flush the busiest shapes are published as gauges labelled by collection and shape, and shapes that saw no
+ * query since the previous flush are dropped, so that new shapes keep being tracked.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+@Singleton
+@Slf4j
+public class QueryShapeStatsCollector {
+  private static final int MAX_TRACKED_SHAPES = 10_000;
+  private static final int FLUSH_BATCH_SIZE = 100;
+  private static final long FLUSH_INTERVAL_MINUTES = 5;
+  // bounds the label cardinality of the published gauges
+  private static final int MAX_PUBLISHED_SHAPES = 200;
+
+  static final String QUERY_SHAPE_COUNT = "mongo_query_shape_count";
+  static final String QUERY_SHAPE_LATENCY_P50_MS = "mongo_query_shape_latency_p50_ms";
+  static final String QUERY_SHAPE_LATENCY_P95_MS = "mongo_query_shape_latency_p95_ms";
+  static final String QUERY_SHAPE_LATENCY_P99_MS = "mongo_query_shape_latency_p99_ms";
+  private static final String[] QUERY_SHAPE_GAUGES = {
+      QUERY_SHAPE_COUNT, QUERY_SHAPE_LATENCY_P50_MS, QUERY_SHAPE_LATENCY_P95_MS, QUERY_SHAPE_LATENCY_P99_MS};
+  private static final String[] QUERY_SHAPE_LABELS = {"collection", "shape"};
+
+  private final ScheduledExecutorService flushExecutor;
+  private final ConcurrentMap<Long, QueryShapeStats> shapeStats = new ConcurrentHashMap<>();
+  private final AtomicBoolean flushScheduled = new AtomicBoolean();
+  private HarnessMetricRegistry harnessMetricRegistry;
+
+  @Inject
+  public QueryShapeStatsCollector(
+      @Named(PersistenceTracerConstants.QUERY_SHAPE_STATS_FLUSH_EXECUTOR) ScheduledExecutorService flushExecutor) {
+    this.flushExecutor = flushExecutor;
+  }
+
+  @Inject(optional = true)
+  void registerMetrics(HarnessMetricRegistry harnessMetricRegistry) {
+    for (String gauge : QUERY_SHAPE_GAUGES) {
+      if (!harnessMetricRegistry.getNamesToCollectors().containsKey(
+              HarnessMetricRegistry.getAbsoluteMetricName(gauge))) {
+        harnessMetricRegistry.registerGaugeMetric(gauge, QUERY_SHAPE_LABELS, null);
+      }
+    }
+    this.harnessMetricRegistry = harnessMetricRegistry;
+  }
+
+  /**
+   * Records the execution of a query and returns true if it is the first query of its shape or the shape latency has
+   * regressed, in which case the caller should sample the query for an explain plan.
+   */
+  public boolean record(String collectionName, long shapeHash, QueryExecutionStats stats) {
+    scheduleFlushIfNeeded();
+    QueryShapeStats queryShapeStats = shapeStats.get(shapeHash);
+    if (queryShapeStats == null) {
+      if (shapeStats.size() >= MAX_TRACKED_SHAPES) {
+        return false;
+      }
+      queryShapeStats = shapeStats.computeIfAbsent(shapeHash, hash -> new QueryShapeStats(collectionName, hash));
+    }
+    return queryShapeStats.record(stats.getDurationNanos(), stats.getResultCount(), System.currentTimeMillis());
+  }
+
+  /**
+   * Returns the summaries of the shapes queried since the last call and stops tracking the others.
+   */
+  List<QueryShapeSummary> collectSummaries() {
+    List<QueryShapeSummary> summaries = new ArrayList<>();
+    for (Iterator<QueryShapeStats> iterator = shapeStats.values().iterator(); iterator.hasNext();) {
+      QueryShapeSummary summary = iterator.next().summarizeSinceLastFlush();
+      if (summary != null) {
+        summaries.add(summary);
+      } else {
+        iterator.remove();
+      }
+    }
+    return summaries;
+  }
+
+  int trackedShapes() {
+    return shapeStats.size();
+  }
+
+  void flush() {
+    try {
+      List<QueryShapeSummary> summaries = collectSummaries();
+      publish(summaries);
+      for (List<QueryShapeSummary> batch : Lists.partition(summaries, FLUSH_BATCH_SIZE)) {
+        log.info("Query shape stats: {}", JsonUtils.asJson(batch));
+      }
+    } catch (Exception ex) {
+      log.error("Unable to flush query shape stats", ex);
+    }
+  }
+
+  private void publish(List<QueryShapeSummary> summaries) {
+    if (harnessMetricRegistry == null) {
+      return;
+    }
+    // drop the shapes of the previous flush, they may not be among the busiest anymore
+    Map<String, Object> collectors = harnessMetricRegistry.getNamesToCollectors();
+    for (String gauge : QUERY_SHAPE_GAUGES) {
+      ((Gauge) collectors.get(HarnessMetricRegistry.getAbsoluteMetricName(gauge))).clear();
+    }
+    summaries.stream()
+        .sorted(Comparator.comparingLong(QueryShapeSummary::getCount).reversed())
+        .limit(MAX_PUBLISHED_SHAPES)
+        .forEach(summary -> {
+          String[] labels = {summary.getCollectionName(), Long.toHexString(summary.getShapeHash())};
+          harnessMetricRegistry.recordGaugeValue(QUERY_SHAPE_COUNT, labels, summary.getCount());
+          harnessMetricRegistry.recordGaugeValue(QUERY_SHAPE_LATENCY_P50_MS, labels, summary.getLatencyP50Ms());
+          harnessMetricRegistry.recordGaugeValue(QUERY_SHAPE_LATENCY_P95_MS, labels, summary.getLatencyP95Ms());
+          harnessMetricRegistry.recordGaugeValue(QUERY_SHAPE_LATENCY_P99_MS, labels, summary.getLatencyP99Ms());
+        });
+  }
+
+  private void scheduleFlushIfNeeded() {
+    if (!flushScheduled.get() && flushScheduled.compareAndSet(false, true)) {
+      flushExecutor.scheduleWithFixedDelay(this::flush, FLUSH_INTERVAL_MINUTES, FLUSH_INTERVAL_MINUTES, MINUTES);
+    }
+  }
+}
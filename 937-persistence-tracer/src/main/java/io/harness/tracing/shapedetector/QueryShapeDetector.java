@@ -33,6 +33,9 @@ import org.bson.Document;
 public class QueryShapeDetector {
   private static final Object DEFAULT_VALUE = 1;
   private static final Set<String> ARRAY_TRIM_OPERATORS = Sets.newHashSet("$eq", "$in", "$nin", "$all", "$mod");
+  private static final long NULL_SHAPE = 1;
+  private static final long MAP_SHAPE = 2;
+  private static final long LIST_SHAPE = 3;
 
   ConcurrentMap<QueryHashKey, QueryHashInfo> queryHashCache = new ConcurrentHashMap<>();
 
@@ -49,6 +52,57 @@ public class QueryShapeDetector {
     return QueryHashKey.builder().collectionName(collectionName).queryHash(queryHash).sortHash(sortHash).build();
   }
 
+  /**
+   * Cheap variant of {@link #calculateQueryHashKey} which only walks the filter and sort keys without copying or
+   * normalizing the documents, so that it can be computed on the calling thread for every query. Filter keys are
+   * hashed independent of their order, sort keys are hashed in order.
+   */
+  public long getQueryShapeHash(String collectionName, Map<String, Object> queryDoc, Map<String, Object> sortDoc) {
+    long hash = collectionName == null ? 0 : collectionName.hashCode();
+    hash = 31 * hash + filterShapeHash(queryDoc);
+    return 31 * hash + sortShapeHash(sortDoc);
+  }
+
+  private long filterShapeHash(Object object) {
+    if (object == null) {
+      return NULL_SHAPE;
+    }
+    if (object instanceof Map) {
+      long hash = 0;
+      for (Map.Entry<?, ?> entry : ((Map<?, ?>) object).entrySet()) {
+        hash += mix(31L * entry.getKey().hashCode() + filterShapeHash(entry.getValue()));
+      }
+      return mix(hash + MAP_SHAPE);
+    }
+    if (object instanceof List) {
+      long hash = 0;
+      for (Object element : (List<?>) object) {
+        hash += filterShapeHash(element);
+      }
+      return mix(hash + LIST_SHAPE);
+    }
+    return 0;
+  }
+
+  private long sortShapeHash(Map<String, Object> sortDoc) {
+    long hash = 0;
+    if (sortDoc != null) {
+      for (String key : sortDoc.keySet()) {
+        hash = 31 * hash + key.hashCode();
+      }
+    }
+    return hash;
+  }
+
+  // Finalizer step of MurmurHash3, spreads the bits so that summing entry hashes does not cancel out
+  private long mix(long hash) {
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    return hash ^ (hash >>> 33);
+  }
+
   private String calculateDocHash(Document doc) {
     if (doc == null) {
       return "";
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.tracing.shapedetector;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.histogram.DecayingHistogram;
+import io.harness.histogram.ExponentialHistogramOptions;
+import io.harness.histogram.HistogramOptions;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+
+/**
+ * In memory latency and result count distribution of a single query shape. Decides if a query of the shape should be
+ * sampled for an explain plan, which is the case for the first query of a new shape and whenever the p95 latency
+ * regresses by more than {@link #REGRESSION_FACTOR} over the latency seen at the last sample.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+public class QueryShapeStats {
+  private static final HistogramOptions LATENCY_MS_OPTIONS = new ExponentialHistogramOptions(60_000, 0.1, 1.1, 1e-4);
+  private static final HistogramOptions RESULT_COUNT_OPTIONS = new ExponentialHistogramOptions(100_000, 1, 1.2, 1e-4);
+  private static final Duration HALF_LIFE = Duration.ofMinutes(30);
+
+  static final double REGRESSION_FACTOR = 2.0;
+  static final int REGRESSION_CHECK_INTERVAL = 64;
+  static final long MIN_RESAMPLE_INTERVAL_MS = TimeUnit.MINUTES.toMillis(10);
+
+  @Getter private final String collectionName;
+  @Getter private final long shapeHash;
+  private final DecayingHistogram latencyMsHistogram = new DecayingHistogram(LATENCY_MS_OPTIONS, HALF_LIFE);
+  private final DecayingHistogram resultCountHistogram = new DecayingHistogram(RESULT_COUNT_OPTIONS, HALF_LIFE);
+
+  private long totalCount;
+  private long countSinceFlush;
+  private double baselineLatencyP95Ms = -1;
+  private long lastSampledAtMs;
+
+  public QueryShapeStats(String collectionName, long shapeHash) {
+    this.collectionName = collectionName;
+    this.shapeHash = shapeHash;
+  }
+
+  /**
+   * Records a query execution and returns true if the query should be sampled for an explain plan.
+   */
+  public synchronized boolean record(long durationNanos, int resultCount, long nowMs) {
+    Instant now = Instant.ofEpochMilli(nowMs);
+    latencyMsHistogram.addSample(durationNanos / 1_000_000.0, 1.0, now);
+    resultCountHistogram.addSample(resultCount, 1.0, now);
+    totalCount++;
+    countSinceFlush++;
+
+    if (totalCount == 1) {
+      lastSampledAtMs = nowMs;
+      return true;
+    }
+    if (totalCount % REGRESSION_CHECK_INTERVAL != 0) {
+      return false;
+    }
+
+    double latencyP95Ms = latencyMsHistogram.getPercentile(0.95);
+    if (baselineLatencyP95Ms < 0) {
+      baselineLatencyP95Ms = latencyP95Ms;
+      return false;
+    }
+    if (latencyP95Ms > baselineLatencyP95Ms * REGRESSION_FACTOR
+        && nowMs - lastSampledAtMs >= MIN_RESAMPLE_INTERVAL_MS) {
+      baselineLatencyP95Ms = latencyP95Ms;
+      lastSampledAtMs = nowMs;
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Returns the summary of the shape if it has seen queries since the last call, null otherwise.
+   */
+  public synchronized QueryShapeSummary summarizeSinceLastFlush() {
+    if (countSinceFlush == 0) {
+      return null;
+    }
+    QueryShapeSummary summary = QueryShapeSummary.builder()
+                                    .collectionName(collectionName)
+                                    .shapeHash(shapeHash)
+                                    .count(countSinceFlush)
+                                    .totalCount(totalCount)
+                                    .latencyP50Ms(latencyMsHistogram.getPercentile(0.5))
+                                    .latencyP95Ms(latencyMsHistogram.getPercentile(0.95))
+                                    .latencyP99Ms(latencyMsHistogram.getPercentile(0.99))
+                                    .resultCountP50(resultCountHistogram.getPercentile(0.5))
+                                    .resultCountP99(resultCountHistogram.getPercentile(0.99))
+                                    .build();
+    countSinceFlush = 0;
+    return summary;
+  }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.tracing.shapedetector;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import lombok.Builder;
+import lombok.Value;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+@Value
+@Builder
+public class QueryShapeSummary {
+  String collectionName;
+  long shapeHash;
+  long count;
+  long totalCount;
+  double latencyP50Ms;
+  double latencyP95Ms;
+  double latencyP99Ms;
+  double resultCountP50;
+  double resultCountP99;
+}
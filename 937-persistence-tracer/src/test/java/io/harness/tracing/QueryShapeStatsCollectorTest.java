@@ -0,0 +1,70 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.tracing;
+
+import static io.harness.rule.OwnerRule.GARVIT;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.metrics.HarnessMetricRegistry;
+import io.harness.mongo.tracing.QueryExecutionStats;
+import io.harness.rule.Owner;
+
+import com.codahale.metrics.MetricRegistry;
+import io.prometheus.client.CollectorRegistry;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class QueryShapeStatsCollectorTest extends CategoryTest {
+  private final CollectorRegistry collectorRegistry = new CollectorRegistry();
+  private QueryShapeStatsCollector collector;
+
+  @Before
+  public void setUp() {
+    collector = new QueryShapeStatsCollector(mock(ScheduledExecutorService.class));
+    collector.registerMetrics(new HarnessMetricRegistry(new MetricRegistry(), collectorRegistry));
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testFlushPublishesGaugesAndDropsIdleShapes() {
+    QueryExecutionStats stats = QueryExecutionStats.of(TimeUnit.MILLISECONDS.toNanos(5), 1);
+    collector.record("coll", 1L, stats);
+    collector.record("coll", 1L, stats);
+    collector.record("coll", 2L, stats);
+
+    collector.flush();
+    assertThat(gauge(QueryShapeStatsCollector.QUERY_SHAPE_COUNT, "1")).isEqualTo(2.0);
+    assertThat(gauge(QueryShapeStatsCollector.QUERY_SHAPE_COUNT, "2")).isEqualTo(1.0);
+    assertThat(collector.trackedShapes()).isEqualTo(2);
+
+    collector.record("coll", 1L, stats);
+    collector.flush();
+    assertThat(gauge(QueryShapeStatsCollector.QUERY_SHAPE_COUNT, "1")).isEqualTo(1.0);
+    assertThat(gauge(QueryShapeStatsCollector.QUERY_SHAPE_COUNT, "2")).isNull();
+    assertThat(collector.trackedShapes()).isEqualTo(1);
+
+    collector.flush();
+    assertThat(collector.trackedShapes()).isZero();
+  }
+
+  private Double gauge(String metricName, String shape) {
+    return collectorRegistry.getSampleValue(HarnessMetricRegistry.getAbsoluteMetricName(metricName),
+        new String[] {"collection", "shape"}, new String[] {"coll", shape});
+  }
+}
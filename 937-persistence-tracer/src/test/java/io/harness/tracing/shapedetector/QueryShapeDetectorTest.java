@@ -184,6 +184,39 @@ public class QueryShapeDetectorTest extends CategoryTest {
     }
   }
 
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testQueryShapeHashForSameQueryShape() {
+    for (List<CalculateHashParams> sameShapeQueries : sameShapeQueriesList) {
+      long firstElementHash = getQueryShapeHash(sameShapeQueries.get(0));
+      for (CalculateHashParams sameShapeQuery : sameShapeQueries) {
+        assertThat(getQueryShapeHash(sameShapeQuery)).isEqualTo(firstElementHash);
+      }
+    }
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testQueryShapeHashForDifferentQueryShape() {
+    for (Pair<CalculateHashParams, CalculateHashParams> diffShapeQueries : diffShapeQueriesList) {
+      assertThat(getQueryShapeHash(diffShapeQueries.getLeft()))
+          .isNotEqualTo(getQueryShapeHash(diffShapeQueries.getRight()));
+    }
+    for (Pair<CalculateHashParams, CalculateHashParams> diffShapeQueries : diffShapeSortQueriesList) {
+      assertThat(getQueryShapeHash(diffShapeQueries.getLeft()))
+          .isNotEqualTo(getQueryShapeHash(diffShapeQueries.getRight()));
+    }
+    CalculateHashParams params = createCalculateHashParams(query(where("_a").is(1)));
+    assertThat(QueryShapeDetector.getQueryShapeHash("otherColl", params.getQueryDoc(), params.getSortDoc()))
+        .isNotEqualTo(getQueryShapeHash(params));
+  }
+
+  private static long getQueryShapeHash(CalculateHashParams params) {
+    return QueryShapeDetector.getQueryShapeHash(params.getCollectionName(), params.getQueryDoc(), params.getSortDoc());
+  }
+
   @Test
   @Owner(developers = GARVIT)
   @Category(io.harness.category.element.UnitTests.class)
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.tracing.shapedetector;
+
+import static io.harness.rule.OwnerRule.GARVIT;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class QueryShapeStatsTest extends CategoryTest {
+  private static final long FAST_QUERY_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+  private static final long SLOW_QUERY_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testSampleOnlyNewAndRegressedShapes() {
+    QueryShapeStats stats = new QueryShapeStats("coll", 1L);
+    long now = System.currentTimeMillis();
+    assertThat(stats.record(FAST_QUERY_NANOS, 1, now)).isTrue();
+    for (int i = 1; i < 10 * QueryShapeStats.REGRESSION_CHECK_INTERVAL; i++) {
+      assertThat(stats.record(FAST_QUERY_NANOS, 1, now)).isFalse();
+    }
+
+    // Regressed but within the resample interval
+    for (int i = 0; i < 10 * QueryShapeStats.REGRESSION_CHECK_INTERVAL; i++) {
+      assertThat(stats.record(SLOW_QUERY_NANOS, 1, now)).isFalse();
+    }
+
+    long later = now + QueryShapeStats.MIN_RESAMPLE_INTERVAL_MS;
+    boolean sampled = false;
+    for (int i = 0; i < QueryShapeStats.REGRESSION_CHECK_INTERVAL; i++) {
+      sampled |= stats.record(SLOW_QUERY_NANOS, 1, later);
+    }
+    assertThat(sampled).isTrue();
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testSummarizeSinceLastFlush() {
+    QueryShapeStats stats = new QueryShapeStats("coll", 1L);
+    assertThat(stats.summarizeSinceLastFlush()).isNull();
+
+    long now = System.currentTimeMillis();
+    stats.record(FAST_QUERY_NANOS, 10, now);
+    stats.record(FAST_QUERY_NANOS, 10, now);
+    QueryShapeSummary summary = stats.summarizeSinceLastFlush();
+    assertThat(summary.getCollectionName()).isEqualTo("coll");
+    assertThat(summary.getCount()).isEqualTo(2);
+    assertThat(summary.getLatencyP50Ms()).isBetween(1.0, 3.0);
+    assertThat(summary.getResultCountP50()).isBetween(10.0, 15.0);
+    assertThat(stats.summarizeSinceLastFlush()).isNull();
+
+    stats.record(FAST_QUERY_NANOS, 10, now);
+    assertThat(stats.summarizeSinceLastFlush().getTotalCount()).isEqualTo(3);
+  }
+}
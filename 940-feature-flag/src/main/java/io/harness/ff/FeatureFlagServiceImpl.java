@@ -14,6 +14,7 @@ import static io.harness.persistence.HQuery.excludeAuthority;
 
 import static java.lang.System.currentTimeMillis;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableMap;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 import static org.apache.commons.lang3.StringUtils.isBlank;
@@ -35,34 +36,50 @@ import io.harness.serializer.JsonUtils;
 
 import com.google.common.base.Splitter;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
 import com.google.inject.Singleton;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
-import javax.annotation.Nullable;
 import lombok.NonNull;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.EnumUtils;
 import org.mongodb.morphia.query.Query;
 import org.mongodb.morphia.query.UpdateOperations;
 
+/**
+ * Evaluates local feature flags against an immutable snapshot of all persisted flags. Readers never lock, a reader
+ * finding the snapshot older than five minutes has it reloaded in the background and keeps evaluating the previous one
+ * meanwhile. Changes made through this service are published into the snapshot right away.
+ */
 @Singleton
 @Slf4j
 @OwnedBy(HarnessTeam.PL)
 public class FeatureFlagServiceImpl implements FeatureFlagService {
+  private static final long SNAPSHOT_TTL_MILLIS = Duration.ofMinutes(5).toMillis();
+
   private final HPersistence persistence;
-  @Inject(optional = true) @Nullable private long lastEpoch;
-  private final Map<FeatureName, FeatureFlag> cache;
+  private volatile Snapshot snapshot;
+  // serializes snapshot loads and entry updates, so a reload does not drop a change published meanwhile
+  private final Object publishLock = new Object();
+  private final AtomicBoolean refreshing = new AtomicBoolean();
+  private final ExecutorService snapshotRefresher = Executors.newSingleThreadExecutor(
+      new ThreadFactoryBuilder().setNameFormat("feature-flag-snapshot-refresher").setDaemon(true).build());
   private final CfMigrationService cfMigrationService;
   private final CfMigrationConfig cfMigrationConfig;
   private final Provider<CfClient> cfClient;
@@ -76,14 +93,20 @@ public class FeatureFlagServiceImpl implements FeatureFlagService {
     this.cfMigrationConfig = cfMigrationConfig;
     this.cfClient = cfClient;
     this.featureFlagConfig = featureFlagConfig;
-    this.cache = new HashMap<>();
+  }
+
+  @Value
+  private static class Snapshot {
+    Map<FeatureName, FeatureFlag> featureFlags;
+    long loadedAt;
   }
 
   @Override
   public boolean isEnabledReloadCache(FeatureName featureName, String accountId) {
-    synchronized (cache) {
-      cache.remove(featureName);
-    }
+    publish(featureName,
+        persistence.createQuery(FeatureFlag.class, excludeAuthority)
+            .filter(FeatureFlagKeys.name, featureName.name())
+            .get());
     return isEnabled(featureName, accountId);
   }
 
@@ -99,9 +122,7 @@ public class FeatureFlagServiceImpl implements FeatureFlagService {
                                                          .setOnInsert(FeatureFlagKeys.obsolete, false)
                                                          .setOnInsert(FeatureFlagKeys.enabled, false);
     FeatureFlag featureFlag = persistence.findAndModify(query, updateOperations, HPersistence.upsertReturnNewOptions);
-    synchronized (cache) {
-      cache.put(featureName, featureFlag);
-    }
+    publish(featureName, featureFlag);
 
     cfMigrationService.syncFeatureFlagWithCF(featureFlag);
 
@@ -111,21 +132,28 @@ public class FeatureFlagServiceImpl implements FeatureFlagService {
   @Override
   public FeatureFlag updateFeatureFlagForAccount(String featureName, String accountId, boolean enabled) {
     Optional<FeatureFlag> featureFlagOptional = getFeatureFlag(FeatureName.valueOf(featureName));
-    FeatureFlag featureFlag =
+    FeatureFlag cachedFeatureFlag =
         featureFlagOptional.orElseThrow(() -> new InvalidRequestException("Invalid feature flag name: " + featureName));
-    if (Objects.isNull(featureFlag.getAccountIds())) {
-      featureFlag.setAccountIds(Sets.newHashSet());
-    }
+    // the cached flag is shared with concurrent evaluations, change a copy of it
+    Set<String> accountIds = Objects.isNull(cachedFeatureFlag.getAccountIds())
+        ? Sets.newHashSet()
+        : new HashSet<>(cachedFeatureFlag.getAccountIds());
 
     if (enabled) {
-      featureFlag.getAccountIds().add(accountId);
+      accountIds.add(accountId);
     } else {
-      featureFlag.getAccountIds().remove(accountId);
+      accountIds.remove(accountId);
     }
+    FeatureFlag featureFlag = FeatureFlag.builder()
+                                  .uuid(cachedFeatureFlag.getUuid())
+                                  .name(cachedFeatureFlag.getName())
+                                  .enabled(cachedFeatureFlag.isEnabled())
+                                  .obsolete(cachedFeatureFlag.isObsolete())
+                                  .accountIds(accountIds)
+                                  .lastUpdatedAt(cachedFeatureFlag.getLastUpdatedAt())
+                                  .build();
     persistence.save(featureFlag);
-    synchronized (cache) {
-      cache.put(FeatureName.valueOf(featureName), featureFlag);
-    }
+    publish(FeatureName.valueOf(featureName), featureFlag);
     cfMigrationService.syncFeatureFlagWithCF(featureFlag);
     return featureFlag;
   }
@@ -141,9 +169,7 @@ public class FeatureFlagServiceImpl implements FeatureFlagService {
                                                          .setOnInsert(FeatureFlagKeys.obsolete, Boolean.FALSE)
                                                          .set(FeatureFlagKeys.enabled, Boolean.TRUE);
     FeatureFlag featureFlag = persistence.findAndModify(query, updateOperations, HPersistence.upsertReturnNewOptions);
-    synchronized (cache) {
-      cache.put(featureName, featureFlag);
-    }
+    publish(featureName, featureFlag);
     cfMigrationService.syncFeatureFlagWithCF(featureFlag);
 
     log.info("Enabled feature name :[{}] globally", featureName.name());
@@ -186,23 +212,78 @@ public class FeatureFlagServiceImpl implements FeatureFlagService {
 
   @Override
   public Optional<FeatureFlag> getFeatureFlag(@NonNull FeatureName featureName) {
-    FeatureFlag featureFlag;
-    synchronized (cache) {
-      // if the last access to cache was in different epoch reset it. This will allow for potentially outdated
-      // objects to be replaced, and the potential change will be in a relatively same time on all managers.
-      long epoch = currentTimeMillis() / Duration.ofMinutes(5).toMillis();
-      if (lastEpoch != epoch) {
-        lastEpoch = epoch;
-        cache.clear();
+    return Optional.ofNullable(currentSnapshot().getFeatureFlags().get(featureName));
+  }
+
+  private Snapshot currentSnapshot() {
+    Snapshot current = snapshot;
+    if (current == null) {
+      synchronized (publishLock) {
+        if (snapshot == null) {
+          snapshot = loadSnapshot();
+        }
+        return snapshot;
+      }
+    }
+    if (currentTimeMillis() - current.getLoadedAt() > SNAPSHOT_TTL_MILLIS && refreshing.compareAndSet(false, true)) {
+      snapshotRefresher.execute(() -> {
+        try {
+          refreshSnapshot();
+        } finally {
+          refreshing.set(false);
+        }
+      });
+    }
+    return current;
+  }
+
+  private void refreshSnapshot() {
+    synchronized (publishLock) {
+      try {
+        snapshot = loadSnapshot();
+      } catch (RuntimeException e) {
+        log.error("Failed to reload feature flags, keeping the previous ones", e);
+        // try again only after another period instead of on every evaluation
+        Snapshot current = snapshot;
+        if (current != null) {
+          snapshot = new Snapshot(current.getFeatureFlags(), currentTimeMillis());
+        }
       }
+    }
+  }
+
+  private Snapshot loadSnapshot() {
+    long loadedAt = currentTimeMillis();
+    Map<FeatureName, FeatureFlag> featureFlags = new EnumMap<>(FeatureName.class);
+    for (FeatureFlag featureFlag : persistence.createQuery(FeatureFlag.class, excludeAuthority).asList()) {
+      FeatureName featureName = EnumUtils.getEnum(FeatureName.class, featureFlag.getName());
+      if (featureName == null) {
+        continue;
+      }
+      if (featureFlag.getAccountIds() != null && !(featureFlag.getAccountIds() instanceof HashSet)) {
+        featureFlag.setAccountIds(new HashSet<>(featureFlag.getAccountIds()));
+      }
+      featureFlags.put(featureName, featureFlag);
+    }
+    return new Snapshot(unmodifiableMap(featureFlags), loadedAt);
+  }
 
-      featureFlag = cache.computeIfAbsent(featureName,
-          key
-          -> persistence.createQuery(FeatureFlag.class, excludeAuthority)
-                 .filter(FeatureFlagKeys.name, key.name())
-                 .get());
+  private void publish(FeatureName featureName, FeatureFlag featureFlag) {
+    synchronized (publishLock) {
+      Snapshot current = snapshot;
+      if (current == null) {
+        // the first evaluation loads it from the database anyway
+        return;
+      }
+      Map<FeatureName, FeatureFlag> featureFlags = new EnumMap<>(FeatureName.class);
+      featureFlags.putAll(current.getFeatureFlags());
+      if (featureFlag == null) {
+        featureFlags.remove(featureName);
+      } else {
+        featureFlags.put(featureName, featureFlag);
+      }
+      snapshot = new Snapshot(unmodifiableMap(featureFlags), current.getLoadedAt());
     }
-    return Optional.ofNullable(featureFlag);
   }
 
   @Override
@@ -228,12 +309,11 @@ public class FeatureFlagServiceImpl implements FeatureFlagService {
   }
 
   private boolean localFeatureFlagEvaluation(@NonNull FeatureName featureName, String accountId) {
-    Optional<FeatureFlag> featureFlagOptional = getFeatureFlag(featureName);
+    FeatureFlag featureFlag = currentSnapshot().getFeatureFlags().get(featureName);
     boolean featureValue = false;
 
-    if (featureFlagOptional.isPresent()) {
+    if (featureFlag != null) {
       try {
-        FeatureFlag featureFlag = featureFlagOptional.get();
         if (featureFlag.isEnabled()) {
           featureValue = true;
           return featureValue;
@@ -274,15 +354,8 @@ public class FeatureFlagServiceImpl implements FeatureFlagService {
   }
 
   private boolean localIsEnabledForAllAccounts(FeatureName featureName) {
-    Optional<FeatureFlag> featureFlagOptional = getFeatureFlag(featureName);
-    if (featureFlagOptional.isPresent()) {
-      FeatureFlag featureFlag = featureFlagOptional.get();
-
-      if (featureFlag.isEnabled()) {
-        return true;
-      }
-    }
-    return false;
+    FeatureFlag featureFlag = currentSnapshot().getFeatureFlags().get(featureName);
+    return featureFlag != null && featureFlag.isEnabled();
   }
 
   @Override
@@ -371,6 +444,8 @@ public class FeatureFlagServiceImpl implements FeatureFlagService {
             updateQuery);
       }
     }
+    refreshSnapshot();
+
     /**
      *
      * If featureFlagConfig mode is CF and sync is enabled, then only sync creation of feature flags to CF
@@ -415,10 +490,7 @@ public class FeatureFlagServiceImpl implements FeatureFlagService {
       return Optional.empty();
     }
     persistence.save(featureFlag);
-
-    synchronized (cache) {
-      cache.put(FeatureName.valueOf(featureFlagName), featureFlag);
-    }
+    publish(FeatureName.valueOf(featureFlagName), featureFlag);
 
     cfMigrationService.syncFeatureFlagWithCF(featureFlag);
     return Optional.of(featureFlag);
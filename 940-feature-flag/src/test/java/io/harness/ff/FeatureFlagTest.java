@@ -9,6 +9,7 @@ package io.harness.ff;
 
 import static io.harness.beans.FeatureFlag.Scope.GLOBAL;
 import static io.harness.rule.OwnerRule.BRETT;
+import static io.harness.rule.OwnerRule.GEORGE;
 import static io.harness.rule.OwnerRule.RUSHABH;
 
 import static java.util.Arrays.asList;
@@ -204,4 +205,31 @@ public class FeatureFlagTest extends FeatureFlagTestBase {
       }
     }
   }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldEvaluateChangesMadeThroughTheService() {
+    persistence.save(ffFalse);
+    assertThat(featureFlagService.isEnabled(FEATURE, TEST_ACCOUNT_ID)).isFalse();
+
+    featureFlagService.enableAccount(FEATURE, TEST_ACCOUNT_ID);
+    assertThat(featureFlagService.isEnabled(FEATURE, TEST_ACCOUNT_ID)).isTrue();
+    assertThat(featureFlagService.isEnabled(FEATURE, TEST_ACCOUNT_ID_X)).isFalse();
+
+    featureFlagService.updateFeatureFlagForAccount(FEATURE.name(), TEST_ACCOUNT_ID, false);
+    assertThat(featureFlagService.isEnabled(FEATURE, TEST_ACCOUNT_ID)).isFalse();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldReloadFeatureFlagOnRequest() {
+    persistence.save(ffFalse);
+    assertThat(featureFlagService.isEnabled(FEATURE, ACCOUNT_ID)).isFalse();
+
+    persistence.save(FeatureFlag.builder().uuid(ffFalse.getUuid()).name(FEATURE.name()).enabled(true).build());
+    assertThat(featureFlagService.isEnabled(FEATURE, ACCOUNT_ID)).isFalse();
+    assertThat(featureFlagService.isEnabledReloadCache(FEATURE, ACCOUNT_ID)).isTrue();
+  }
 }
@@ -90,4 +90,10 @@ public interface EnforcementClientService {
   Map<FeatureRestrictionName, RestrictionMetadataDTO> getRestrictionMetadataMap(
       List<FeatureRestrictionName> featureRestrictionNames, String accountIdentifier)
       throws WrongFeatureStateException, EnforcementServiceConnectionException;
+
+  /**
+   * Drop the restriction metadata cached for the account, to be called when its license changes
+   * @param accountIdentifier
+   */
+  void invalidateRestrictionMetadata(String accountIdentifier);
 }
@@ -40,6 +40,10 @@ import io.harness.exception.InvalidRequestException;
 import io.harness.exception.UnexpectedException;
 import io.harness.licensing.Edition;
 
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import java.util.ArrayList;
@@ -48,7 +52,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
 @Singleton
@@ -62,6 +69,17 @@ public class EnforcementClientServiceImpl implements EnforcementClientService {
   private static final String MESSAGE = "message";
   private static String deployVersion = System.getenv().get(DEPLOY_VERSION);
 
+  // Restriction metadata only changes with the license of the account, which is rare compared to the checks on
+  // create and execute calls. Usage is still counted on every check.
+  private final Cache<MetadataKey, FeatureRestrictionMetadataDTO> restrictionMetadataCache =
+      CacheBuilder.newBuilder().maximumSize(10000).expireAfterWrite(1, TimeUnit.MINUTES).build();
+
+  @Value
+  private static class MetadataKey {
+    FeatureRestrictionName featureRestrictionName;
+    String accountIdentifier;
+  }
+
   @Inject
   public EnforcementClientServiceImpl(EnforcementClient enforcementClient,
       EnforcementSdkRegisterService enforcementSdkRegisterService,
@@ -117,8 +135,7 @@ public class EnforcementClientServiceImpl implements EnforcementClientService {
 
     FeatureRestrictionMetadataDTO featureMetadataDTO;
     try {
-      featureMetadataDTO =
-          getResponse(enforcementClient.getFeatureRestrictionMetadata(featureRestrictionName, accountIdentifier));
+      featureMetadataDTO = getFeatureRestrictionMetadata(featureRestrictionName, accountIdentifier);
     } catch (UnexpectedException e) {
       log.error("Not able to fetch feature restriction metadata from ng-manager, failover to bypass the check", e);
       return;
@@ -245,8 +262,7 @@ public class EnforcementClientServiceImpl implements EnforcementClientService {
   public Optional<RestrictionMetadataDTO> getRestrictionMetadata(FeatureRestrictionName featureRestrictionName,
       String accountIdentifier) throws WrongFeatureStateException, EnforcementServiceConnectionException {
     try {
-      FeatureRestrictionMetadataDTO response =
-          getResponse(enforcementClient.getFeatureRestrictionMetadata(featureRestrictionName, accountIdentifier));
+      FeatureRestrictionMetadataDTO response = getFeatureRestrictionMetadata(featureRestrictionName, accountIdentifier);
       RestrictionMetadataDTO restrictionMetadataDTO = response.getRestrictionMetadata().get(response.getEdition());
       return Optional.ofNullable(restrictionMetadataDTO);
     } catch (InvalidRequestException invalidRequestException) {
@@ -276,6 +292,26 @@ public class EnforcementClientServiceImpl implements EnforcementClientService {
     }
   }
 
+  @Override
+  public void invalidateRestrictionMetadata(String accountIdentifier) {
+    restrictionMetadataCache.asMap().keySet().removeIf(key -> key.getAccountIdentifier().equals(accountIdentifier));
+  }
+
+  private FeatureRestrictionMetadataDTO getFeatureRestrictionMetadata(
+      FeatureRestrictionName featureRestrictionName, String accountIdentifier) {
+    try {
+      return restrictionMetadataCache.get(new MetadataKey(featureRestrictionName, accountIdentifier), () -> {
+        return getResponse(enforcementClient.getFeatureRestrictionMetadata(featureRestrictionName, accountIdentifier));
+      });
+    } catch (ExecutionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new UnexpectedException("Failed to fetch feature restriction metadata", e.getCause());
+    } catch (UncheckedExecutionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw e;
+    }
+  }
+
   private boolean verifyExceedLimit(long limit, long count, long increment) {
     return limit < count + increment;
   }
@@ -8,11 +8,14 @@
 package io.harness.enforcement.client.services.impl;
 
 import static io.harness.rule.OwnerRule.ARVIND;
+import static io.harness.rule.OwnerRule.GEORGE;
 import static io.harness.rule.OwnerRule.ZHUO;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.harness.CategoryTest;
@@ -199,4 +202,25 @@ public class EnforcementClientServiceImplTest extends CategoryTest {
 
     enforcementClientService.checkAvailabilityWithIncrement(featureRestrictionName, accountId, 2);
   }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldFetchRestrictionMetadataOncePerAccount() {
+    dto.setRestrictionMetadata(ImmutableMap.of(Edition.ENTERPRISE,
+        StaticLimitRestrictionMetadataDTO.builder()
+            .restrictionType(RestrictionType.STATIC_LIMIT)
+            .limit(Long.valueOf(11))
+            .allowedIfEqual(false)
+            .build()));
+
+    for (int i = 0; i < 10; i++) {
+      assertThat(enforcementClientService.isAvailable(featureRestrictionName, accountId)).isTrue();
+    }
+    verify(enforcementClient, times(1)).getFeatureRestrictionMetadata(featureRestrictionName, accountId);
+
+    enforcementClientService.invalidateRestrictionMetadata(accountId);
+    assertThat(enforcementClientService.isAvailable(featureRestrictionName, accountId)).isTrue();
+    verify(enforcementClient, times(2)).getFeatureRestrictionMetadata(featureRestrictionName, accountId);
+  }
 }
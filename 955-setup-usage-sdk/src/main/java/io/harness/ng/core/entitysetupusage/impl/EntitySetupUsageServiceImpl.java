@@ -9,6 +9,7 @@ package io.harness.ng.core.entitysetupusage.impl;
 
 import static io.harness.annotations.dev.HarnessTeam.DX;
 import static io.harness.data.structure.EmptyPredicate.isEmpty;
+import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
 
 import io.harness.EntityType;
 import io.harness.annotations.dev.OwnedBy;
@@ -32,7 +33,9 @@ import io.harness.utils.FullyQualifiedIdentifierHelper;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -53,6 +56,14 @@ import org.springframework.data.mongodb.core.query.Criteria;
 @Slf4j
 @OwnedBy(DX)
 public class EntitySetupUsageServiceImpl implements EntitySetupUsageService {
+  private static final List<String> CONTENT_FIELDS = Arrays.asList(EntitySetupUsageKeys.accountIdentifier,
+      EntitySetupUsageKeys.referredEntity, EntitySetupUsageKeys.referredByEntity, EntitySetupUsageKeys.detail,
+      EntitySetupUsageKeys.referredEntityFQN, EntitySetupUsageKeys.referredEntityType,
+      EntitySetupUsageKeys.referredEntityRepoIdentifier, EntitySetupUsageKeys.referredEntityBranch,
+      EntitySetupUsageKeys.referredEntityIsDefault, EntitySetupUsageKeys.referredByEntityFQN,
+      EntitySetupUsageKeys.referredByEntityType, EntitySetupUsageKeys.referredByEntityRepoIdentifier,
+      EntitySetupUsageKeys.referredByEntityBranch, EntitySetupUsageKeys.referredByEntityIsDefault);
+
   EntitySetupUsageQueryFilterHelper entitySetupUsageFilterHelper;
   EntitySetupUsageRepository entityReferenceRepository;
   EntitySetupUsageEntityToDTO setupUsageEntityToDTO;
@@ -155,21 +166,10 @@ public class EntitySetupUsageServiceImpl implements EntitySetupUsageService {
     return numberOfRecordsDeleted > 0;
   }
 
-  private Boolean deleteAllReferredByEntity(String accountIdentifier, String referredByEntityFQN,
-      EntityType referredByEntityType, @Nullable EntityType referredEntityType) {
-    long numberOfRecordsDeleted = 0;
-    Criteria criteria = entitySetupUsageFilterHelper.createCriteriaForDeletingAllReferredByEntries(
-        accountIdentifier, referredByEntityFQN, referredByEntityType, referredEntityType);
-    numberOfRecordsDeleted = entityReferenceRepository.delete(criteria);
-    log.info("Deleted {} records for the referredBy entity {}", numberOfRecordsDeleted, referredByEntityFQN);
-    return numberOfRecordsDeleted > 0;
-  }
-
   private Pageable getPageRequest(int page, int size, Sort sort) {
     return PageRequest.of(page, size, sort);
   }
 
-  // todo(abhinav): make delete and create a transactional operation
   @Override
   public Boolean flushSave(List<EntitySetupUsage> entitySetupUsage, @Nullable EntityType entityTypeFromChannel,
       boolean deleteOldReferredByRecords, String accountId) {
@@ -181,16 +181,68 @@ public class EntitySetupUsageServiceImpl implements EntitySetupUsageService {
       throw new InvalidRequestException("The entity type is a required field when you are creating setup usage");
     }
 
-    if (deleteOldReferredByRecords) {
-      deleteAllReferredByEntity(accountId,
-          entitySetupUsage.get(0).getReferredByEntity().getEntityRef().getFullyQualifiedName(),
-          entitySetupUsage.get(0).getReferredByEntity().getType(), entityTypeFromChannel);
-    }
     final List<EntitySetupUsage> entitySetupUsageFiltered =
         filterSetupUsageByEntityTypes(entitySetupUsage, entityTypeFromChannel);
+    if (deleteOldReferredByRecords) {
+      String referredByEntityFQN = entitySetupUsage.get(0).getReferredByEntity().getEntityRef().getFullyQualifiedName();
+      EntityType referredByEntityType = entitySetupUsage.get(0).getReferredByEntity().getType();
+      try {
+        return syncReferredByEntity(
+            accountId, referredByEntityFQN, referredByEntityType, entityTypeFromChannel, entitySetupUsageFiltered);
+      } catch (DuplicateKeyException ex) {
+        // a concurrent flush of the same entity saved some of the references first, sync against what it left
+        log.info("Retrying to sync the references of the referredBy entity {}", referredByEntityFQN);
+        return syncReferredByEntity(
+            accountId, referredByEntityFQN, referredByEntityType, entityTypeFromChannel, entitySetupUsageFiltered);
+      }
+    }
     return saveMultiple(entitySetupUsageFiltered);
   }
 
+  /**
+   * Replaces the references of the referredBy entity with the given ones, deleting and saving only the ones that
+   * changed, so that saving an entity again without changing its references does not write anything.
+   */
+  private Boolean syncReferredByEntity(String accountIdentifier, String referredByEntityFQN,
+      EntityType referredByEntityType, @Nullable EntityType referredEntityType,
+      List<EntitySetupUsage> entitySetupUsages) {
+    Criteria criteria = entitySetupUsageFilterHelper.createCriteriaForDeletingAllReferredByEntries(
+        accountIdentifier, referredByEntityFQN, referredByEntityType, referredEntityType);
+    Map<List<Object>, EntitySetupUsage> existingByContent = new HashMap<>();
+    List<String> idsToDelete = new ArrayList<>();
+    for (EntitySetupUsage existing : entityReferenceRepository.findAllWithFields(criteria, CONTENT_FIELDS)) {
+      if (existingByContent.putIfAbsent(contentOf(existing), existing) != null) {
+        idsToDelete.add(existing.getId());
+      }
+    }
+
+    List<EntitySetupUsage> entitySetupUsagesToSave = new ArrayList<>();
+    for (EntitySetupUsage entitySetupUsage : entitySetupUsages) {
+      if (existingByContent.remove(contentOf(entitySetupUsage)) == null) {
+        entitySetupUsagesToSave.add(entitySetupUsage);
+      }
+    }
+    existingByContent.values().forEach(existing -> idsToDelete.add(existing.getId()));
+
+    // deleted first, a changed reference is saved again under the same unique key
+    if (isNotEmpty(idsToDelete)) {
+      long numberOfRecordsDeleted =
+          entityReferenceRepository.delete(Criteria.where(EntitySetupUsageKeys.id).in(idsToDelete));
+      log.info("Deleted {} records for the referredBy entity {}", numberOfRecordsDeleted, referredByEntityFQN);
+    }
+    return saveMultiple(entitySetupUsagesToSave);
+  }
+
+  private static List<Object> contentOf(EntitySetupUsage entitySetupUsage) {
+    return Arrays.asList(entitySetupUsage.getAccountIdentifier(), entitySetupUsage.getReferredEntity(),
+        entitySetupUsage.getReferredByEntity(), entitySetupUsage.getDetail(), entitySetupUsage.getReferredEntityFQN(),
+        entitySetupUsage.getReferredEntityType(), entitySetupUsage.getReferredEntityRepoIdentifier(),
+        entitySetupUsage.getReferredEntityBranch(), entitySetupUsage.getReferredEntityIsDefault(),
+        entitySetupUsage.getReferredByEntityFQN(), entitySetupUsage.getReferredByEntityType(),
+        entitySetupUsage.getReferredByEntityRepoIdentifier(), entitySetupUsage.getReferredByEntityBranch(),
+        entitySetupUsage.getReferredByEntityIsDefault());
+  }
+
   private boolean isEventForDeletion(List<EntitySetupUsage> entitySetupUsages) {
     if (entitySetupUsages.size() != 1) {
       return false;
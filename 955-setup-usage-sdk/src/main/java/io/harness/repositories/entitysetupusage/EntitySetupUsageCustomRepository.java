@@ -12,6 +12,7 @@ import static io.harness.annotations.dev.HarnessTeam.DX;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.ng.core.entitysetupusage.entity.EntitySetupUsage;
 
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
@@ -22,6 +23,8 @@ import org.springframework.data.mongodb.core.query.Criteria;
 public interface EntitySetupUsageCustomRepository {
   Page<EntitySetupUsage> findAll(Criteria criteria, Pageable pageable);
 
+  List<EntitySetupUsage> findAllWithFields(Criteria criteria, List<String> fields);
+
   long countAll(Criteria criteria);
 
   Boolean exists(Criteria criteria);
@@ -40,6 +40,13 @@ public class EntitySetupUsageCustomRepositoryImpl implements EntitySetupUsageCus
         connectors, pageable, () -> mongoTemplate.count(Query.of(query).limit(-1).skip(-1), EntitySetupUsage.class));
   }
 
+  @Override
+  public List<EntitySetupUsage> findAllWithFields(Criteria criteria, List<String> fields) {
+    Query query = new Query(criteria);
+    fields.forEach(field -> query.fields().include(field));
+    return mongoTemplate.find(query, EntitySetupUsage.class);
+  }
+
   @Override
   public long countAll(Criteria criteria) {
     Query query = new Query(criteria);
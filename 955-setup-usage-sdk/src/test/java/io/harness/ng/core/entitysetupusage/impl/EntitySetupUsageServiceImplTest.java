@@ -29,6 +29,7 @@ import io.harness.ng.core.entitysetupusage.dto.EntityReferencesDTO;
 import io.harness.ng.core.entitysetupusage.dto.EntitySetupUsageDTO;
 import io.harness.ng.core.entitysetupusage.entity.EntitySetupUsage;
 import io.harness.ng.core.entitysetupusage.service.EntitySetupUsageService;
+import io.harness.repositories.entitysetupusage.EntitySetupUsageRepository;
 import io.harness.rule.Owner;
 import io.harness.rule.OwnerRule;
 import io.harness.utils.FullyQualifiedIdentifierHelper;
@@ -47,6 +48,7 @@ import org.springframework.data.domain.Page;
 @OwnedBy(DX)
 public class EntitySetupUsageServiceImplTest extends EntitySetupUsageTestBase {
   @Inject @InjectMocks EntitySetupUsageService entitySetupUsageService;
+  @Inject EntitySetupUsageRepository entitySetupUsageRepository;
   String accountIdentifier = "accountIdentifier";
   String orgIdentifier = "orgIdentifier";
   String projectIdentifier = "projectIdentifier";
@@ -598,6 +600,41 @@ public class EntitySetupUsageServiceImplTest extends EntitySetupUsageTestBase {
     assertThat(list1.getTotalElements()).isEqualTo(0);
   }
 
+  @Test
+  @Owner(developers = OwnerRule.GEORGE)
+  @Category(UnitTests.class)
+  public void shouldKeepUnchangedReferencesOnSaveWithOldDelete() {
+    EntityDetail referredByEntity = getEntityDetails(
+        referredByIdentifier, accountIdentifier, orgIdentifier, projectIdentifier, referredByEntityName, SECRETS);
+    EntityDetail referredEntity = getEntityDetails(
+        referredIdentifier, accountIdentifier, orgIdentifier, projectIdentifier, referredEntityName, CONNECTORS);
+    EntityDetail referredEntity1 = getEntityDetails(
+        referredIdentifier1, accountIdentifier, orgIdentifier, projectIdentifier, referredEntityName, CONNECTORS);
+    EntityDetail referredEntity2 = getEntityDetails(
+        referredIdentifier2, accountIdentifier, orgIdentifier, projectIdentifier, referredEntityName, CONNECTORS);
+    entitySetupUsageService.flushSave(
+        getSetupUsages(accountIdentifier, referredByEntity, referredEntity, referredEntity1), CONNECTORS, true,
+        accountIdentifier);
+    String unchangedId = findId(referredEntity);
+
+    final Boolean returned = entitySetupUsageService.flushSave(
+        getSetupUsages(accountIdentifier, referredByEntity, referredEntity, referredEntity2), CONNECTORS, true,
+        accountIdentifier);
+    assertThat(returned).isTrue();
+    assertThat(findId(referredEntity)).isEqualTo(unchangedId);
+    assertThat(findId(referredEntity1)).isNull();
+    assertThat(findId(referredEntity2)).isNotNull();
+  }
+
+  private String findId(EntityDetail referredEntity) {
+    for (EntitySetupUsage entitySetupUsage : entitySetupUsageRepository.findAll()) {
+      if (entitySetupUsage.getReferredEntityFQN().equals(referredEntity.getEntityRef().getFullyQualifiedName())) {
+        return entitySetupUsage.getId();
+      }
+    }
+    return null;
+  }
+
   private List<EntitySetupUsage> getSetupUsages(
       String accountIdentifier, EntityDetail referredByEntity, EntityDetail... referredEntities) {
     return Arrays.stream(referredEntities)
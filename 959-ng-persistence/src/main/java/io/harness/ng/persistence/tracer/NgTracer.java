@@ -7,9 +7,14 @@
 
 package io.harness.ng.persistence.tracer;
 
+import io.harness.mongo.tracing.QueryExecutionStats;
+
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Query;
 
 public interface NgTracer {
   void traceSpringQuery(Query query, Class<?> entityClass, MongoTemplate mongoTemplate);
+
+  default void traceSpringQueryExecution(
+      Query query, Class<?> entityClass, MongoTemplate mongoTemplate, QueryExecutionStats stats) {}
 }
@@ -14,6 +14,7 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.exception.ExceptionUtils;
 import io.harness.health.HealthMonitor;
 import io.harness.mongo.MongoConfig;
+import io.harness.mongo.tracing.QueryExecutionStats;
 import io.harness.mongo.tracing.TraceMode;
 import io.harness.ng.persistence.tracer.NgTracer;
 import io.harness.observer.Subject;
@@ -127,7 +128,9 @@ public class HMongoTemplate extends MongoTemplate implements HealthMonitor {
       if (query.getMeta().getMaxTimeMsec() == null) {
         query.maxTime(Duration.ofMillis(maxOperationInMillis));
       }
+      long startNanos = System.nanoTime();
       list = super.find(query, entityClass, collectionName);
+      traceQueryExecution(query, entityClass, startNanos, list.size());
     } catch (UncategorizedMongoDbException ex) {
       if (isMongoExecutionTimeoutException(ex)) {
         logMongoExecutionTimeoutException(query, collectionName, ex);
@@ -154,7 +157,10 @@ public class HMongoTemplate extends MongoTemplate implements HealthMonitor {
       if (query.getMeta().getMaxTimeMsec() == null) {
         query.maxTime(Duration.ofMillis(maxOperationInMillis));
       }
-      return super.findOne(query, entityClass, collectionName);
+      long startNanos = System.nanoTime();
+      T result = super.findOne(query, entityClass, collectionName);
+      traceQueryExecution(query, entityClass, startNanos, result == null ? 0 : 1);
+      return result;
     } catch (UncategorizedMongoDbException ex) {
       if (isMongoExecutionTimeoutException(ex)) {
         logMongoExecutionTimeoutException(query, collectionName, ex);
@@ -172,7 +178,9 @@ public class HMongoTemplate extends MongoTemplate implements HealthMonitor {
       if (query.getMeta().getMaxTimeMsec() == null) {
         query.maxTime(Duration.ofMillis(maxOperationInMillis));
       }
+      long startNanos = System.nanoTime();
       list = super.findDistinct(query, field, collectionName, entityClass, resultClass);
+      traceQueryExecution(query, entityClass, startNanos, list.size());
     } catch (UncategorizedMongoDbException ex) {
       if (isMongoExecutionTimeoutException(ex)) {
         logMongoExecutionTimeoutException(query, collectionName, ex);
@@ -332,6 +340,13 @@ public class HMongoTemplate extends MongoTemplate implements HealthMonitor {
     }
   }
 
+  private void traceQueryExecution(Query query, Class<?> entityClass, long startNanos, int resultCount) {
+    if (traceMode == TraceMode.SHAPE_STATS) {
+      tracerSubject.fireInform(NgTracer::traceSpringQueryExecution, query, entityClass, this,
+          QueryExecutionStats.of(System.nanoTime() - startNanos, resultCount));
+    }
+  }
+
   private <T> boolean checkIfListIsLarge(List<T> list) {
     return list.size() > 1000;
   }
@@ -12,6 +12,9 @@ import static io.harness.annotations.dev.HarnessTeam.PL;
 import io.harness.annotations.dev.OwnedBy;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Locker interface to acquire and release locks.
@@ -108,6 +111,24 @@ public interface PersistentLocker {
 
   AcquiredLock waitToAcquireLock(String name, Duration lockTimeout, Duration waitTimeout);
 
+  /**
+   * Try to acquire a lock for each of the names.
+   *
+   * @param names   the lock names
+   * @param timeout for how long to keep the locks if the app crashes
+   * @return the acquired locks by name, names that could not be locked are missing
+   */
+  default Map<String, AcquiredLock> tryToAcquireLocks(Collection<String> names, Duration timeout) {
+    Map<String, AcquiredLock> acquiredLocks = new HashMap<>();
+    for (String name : names) {
+      AcquiredLock acquiredLock = tryToAcquireLock(name, timeout);
+      if (acquiredLock != null) {
+        acquiredLocks.put(name, acquiredLock);
+      }
+    }
+    return acquiredLocks;
+  }
+
   /**
    * Destroy lock.
    *
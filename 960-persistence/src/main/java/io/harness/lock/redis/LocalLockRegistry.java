@@ -0,0 +1,141 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.lock.redis;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Process local view of the redis locks taken through this process.
+ *
+ * Redisson locks are owned per thread, so while one thread of this process holds a name any other thread of the process
+ * is bound to fail in redis. Those threads fail fast or queue here instead of going to redis. A local lease expires
+ * together with the redis lease, so a lock that is never released does not block the name forever.
+ */
+@OwnedBy(PL)
+class LocalLockRegistry {
+  private static final long MAX_WAIT_SLICE_MILLIS = 100;
+
+  private final ConcurrentMap<String, Holder> holders = new ConcurrentHashMap<>();
+
+  /**
+   * @param leaseMillis lease of the redis lock, negative for a lock that is kept until released
+   * @return the local lease, or null if another thread of this process holds the name
+   */
+  LocalLease tryAcquire(String name, long leaseMillis) {
+    long threadId = Thread.currentThread().getId();
+    long now = System.currentTimeMillis();
+    long expiresAt = leaseMillis < 0 ? Long.MAX_VALUE : now + leaseMillis;
+    Holder[] expired = {null};
+    Holder holder = holders.compute(name, (key, current) -> {
+      if (current == null || current.expiresAt <= now) {
+        expired[0] = current;
+        return new Holder(threadId, expiresAt);
+      }
+      if (current.ownerThreadId == threadId) {
+        // Redisson locks are reentrant for the owning thread
+        current.holds++;
+        current.expiresAt = Math.max(current.expiresAt, expiresAt);
+      }
+      return current;
+    });
+    if (expired[0] != null) {
+      expired[0].end();
+    }
+    return holder.ownerThreadId == threadId ? new LocalLease(name, holder) : null;
+  }
+
+  /**
+   * Same as {@link #tryAcquire(String, long)} but waits up to waitMillis for the other threads of this process to
+   * release the name.
+   */
+  LocalLease acquire(String name, long leaseMillis, long waitMillis) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + waitMillis;
+    LocalLease lease = tryAcquire(name, leaseMillis);
+    while (lease == null) {
+      long remaining = deadline - System.currentTimeMillis();
+      if (remaining <= 0) {
+        return null;
+      }
+      Holder holder = holders.get(name);
+      if (holder != null) {
+        // The slice bounds the wait on leases that expire without being released
+        holder.awaitEnd(Math.min(remaining, MAX_WAIT_SLICE_MILLIS));
+      }
+      lease = tryAcquire(name, leaseMillis);
+    }
+    return lease;
+  }
+
+  int size() {
+    return holders.size();
+  }
+
+  /**
+   * Holding of a name by one thread, which is also the monitor the threads waiting for that name wait on, so a release
+   * only wakes the waiters of its own name.
+   */
+  private static class Holder {
+    private final long ownerThreadId;
+    private int holds = 1;
+    private long expiresAt;
+    private boolean ended;
+
+    Holder(long ownerThreadId, long expiresAt) {
+      this.ownerThreadId = ownerThreadId;
+      this.expiresAt = expiresAt;
+    }
+
+    synchronized void awaitEnd(long timeoutMillis) throws InterruptedException {
+      if (!ended) {
+        wait(timeoutMillis);
+      }
+    }
+
+    synchronized void end() {
+      ended = true;
+      notifyAll();
+    }
+  }
+
+  /**
+   * One local acquisition of a name, released at most once.
+   */
+  class LocalLease {
+    private final String name;
+    private final Holder holder;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private LocalLease(String name, Holder holder) {
+      this.name = name;
+      this.holder = holder;
+    }
+
+    void release() {
+      if (!released.compareAndSet(false, true)) {
+        return;
+      }
+      boolean[] removed = {false};
+      holders.computeIfPresent(name, (key, current) -> {
+        if (current != holder || --current.holds > 0) {
+          return current;
+        }
+        removed[0] = true;
+        return null;
+      });
+      if (removed[0]) {
+        holder.end();
+      }
+    }
+  }
+}
@@ -12,7 +12,9 @@ import static io.harness.annotations.dev.HarnessTeam.PL;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.lock.AcquiredLock;
 
+import lombok.AccessLevel;
 import lombok.Builder;
+import lombok.Getter;
 import lombok.Value;
 import org.redisson.api.RLock;
 
@@ -22,11 +24,18 @@ import org.redisson.api.RLock;
 public class RedisAcquiredLock implements AcquiredLock<RLock> {
   RLock lock;
   boolean isLeaseInfinite;
+  @Getter(AccessLevel.NONE) LocalLockRegistry.LocalLease localLease;
 
   @Override
   public void release() {
-    if (lock != null && (lock.isLocked() || isLeaseInfinite)) {
-      lock.unlock();
+    try {
+      if (lock != null && (lock.isLocked() || isLeaseInfinite)) {
+        lock.unlock();
+      }
+    } finally {
+      if (localLease != null) {
+        localLease.release();
+      }
     }
   }
 
@@ -11,6 +11,9 @@ import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.data.structure.UUIDGenerator.generateUuid;
 import static io.harness.eraro.ErrorCode.FAILED_TO_ACQUIRE_PERSISTENT_LOCK;
 import static io.harness.exception.WingsException.SRE;
+import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.LOCK_LOCAL_CONTENTION;
+import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.LOCK_LOCAL_WAIT_TIME;
+import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.LOCK_REDIS_WAIT_TIME;
 
 import static java.lang.String.format;
 import static java.time.Duration.ofSeconds;
@@ -23,6 +26,7 @@ import io.harness.exception.WingsException;
 import io.harness.health.HealthMonitor;
 import io.harness.lock.AcquiredLock;
 import io.harness.lock.PersistentLocker;
+import io.harness.metrics.impl.PersistenceMetricsServiceImpl;
 import io.harness.redis.RedisConfig;
 import io.harness.redis.RedissonClientFactory;
 
@@ -31,8 +35,16 @@ import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 import io.dropwizard.lifecycle.Managed;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RFuture;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 
@@ -42,8 +54,13 @@ import org.redisson.api.RedissonClient;
 public class RedisPersistentLocker implements PersistentLocker, HealthMonitor, Managed {
   private RedissonClient client;
   private String lockNamespace;
+  private final LocalLockRegistry localLocks = new LocalLockRegistry();
+  @Inject(optional = true) private PersistenceMetricsServiceImpl metricsService;
   private static final String LOCK_PREFIX = "locks";
   private static final String ERROR_MESSAGE = "Failed to acquire distributed lock for %s";
+  private static final String ACQUIRE_OPERATION = "acquire";
+  private static final String WAIT_OPERATION = "wait";
+  private static final String BATCH_OPERATION = "batch";
 
   @Inject
   RedisPersistentLocker(@Named("lock") RedisConfig redisLockConfig) {
@@ -59,18 +76,7 @@ public class RedisPersistentLocker implements PersistentLocker, HealthMonitor, M
 
   @Override
   public AcquiredLock acquireLock(String name, Duration timeout) {
-    try {
-      name = getLockName(name);
-      RLock lock = client.getLock(name);
-      boolean locked = lock.tryLock(0, timeout.toMillis(), TimeUnit.MILLISECONDS);
-      if (locked) {
-        log.debug("Lock acquired on {} for timeout {}", name, timeout);
-        return RedisAcquiredLock.builder().lock(lock).build();
-      }
-    } catch (Exception ex) {
-      throw new UnexpectedException(format(ERROR_MESSAGE, name), ex);
-    }
-    throw new PersistentLockException(format(ERROR_MESSAGE, name), FAILED_TO_ACQUIRE_PERSISTENT_LOCK, SRE);
+    return acquire(getLockName(name), 0, timeout.toMillis(), false, ACQUIRE_OPERATION);
   }
 
   @Override
@@ -108,17 +114,7 @@ public class RedisPersistentLocker implements PersistentLocker, HealthMonitor, M
 
   @Override
   public AcquiredLock tryToAcquireInfiniteLockWithPeriodicRefresh(String name, Duration waitTime) {
-    try {
-      name = getLockName(name);
-      RLock lock = client.getLock(name);
-      boolean locked = lock.tryLock(waitTime.toMillis(), -1, TimeUnit.MILLISECONDS);
-      if (locked) {
-        return RedisAcquiredLock.builder().lock(lock).isLeaseInfinite(true).build();
-      }
-    } catch (Exception ex) {
-      throw new UnexpectedException(format(ERROR_MESSAGE, name), ex);
-    }
-    throw new PersistentLockException(format(ERROR_MESSAGE, name), FAILED_TO_ACQUIRE_PERSISTENT_LOCK, SRE);
+    return acquire(getLockName(name), waitTime.toMillis(), -1, true, WAIT_OPERATION);
   }
 
   @Override
@@ -134,20 +130,104 @@ public class RedisPersistentLocker implements PersistentLocker, HealthMonitor, M
 
   @Override
   public AcquiredLock waitToAcquireLock(String name, Duration lockTimeout, Duration waitTimeout) {
+    return acquire(getLockName(name), waitTimeout.toMillis(), lockTimeout.toMillis(), false, WAIT_OPERATION);
+  }
+
+  /**
+   * Sends the lock requests for all the names without waiting for each reply, so the whole batch costs about one round
+   * trip to redis. Names held by another thread of this process are skipped without going to redis.
+   */
+  @Override
+  public Map<String, AcquiredLock> tryToAcquireLocks(Collection<String> names, Duration timeout) {
+    long threadId = Thread.currentThread().getId();
+    long startTime = System.currentTimeMillis();
+    List<PendingLock> pendingLocks = new ArrayList<>();
+    for (String name : new LinkedHashSet<>(names)) {
+      String lockName = getLockName(name);
+      LocalLockRegistry.LocalLease localLease = localLocks.tryAcquire(lockName, timeout.toMillis());
+      if (localLease == null) {
+        recordLockMetric(BATCH_OPERATION, LOCK_LOCAL_CONTENTION);
+        continue;
+      }
+      RLock lock = client.getLock(lockName);
+      pendingLocks.add(new PendingLock(
+          name, lock, localLease, lock.tryLockAsync(0, timeout.toMillis(), TimeUnit.MILLISECONDS, threadId)));
+    }
+
+    Map<String, AcquiredLock> acquiredLocks = new HashMap<>();
+    long deadline = startTime + timeout.toMillis();
+    for (PendingLock pendingLock : pendingLocks) {
+      RFuture<Boolean> future = pendingLock.getFuture();
+      boolean completed = future.awaitUninterruptibly(Math.max(0, deadline - System.currentTimeMillis()));
+      if (completed && future.isSuccess() && Boolean.TRUE.equals(future.getNow())) {
+        acquiredLocks.put(pendingLock.getName(),
+            RedisAcquiredLock.builder().lock(pendingLock.getLock()).localLease(pendingLock.getLocalLease()).build());
+        continue;
+      }
+      if (!completed) {
+        log.warn("Timed out waiting for lock on {}", pendingLock.getName());
+        // The reply may still grant the lock, which nobody would then release
+        RLock lock = pendingLock.getLock();
+        future.onComplete((locked, e) -> {
+          if (Boolean.TRUE.equals(locked)) {
+            lock.unlockAsync(threadId);
+          }
+        });
+      } else if (!future.isSuccess()) {
+        log.warn(format(ERROR_MESSAGE, pendingLock.getName()), future.cause());
+      }
+      pendingLock.getLocalLease().release();
+    }
+    recordLockDuration(BATCH_OPERATION, System.currentTimeMillis() - startTime, LOCK_REDIS_WAIT_TIME);
+    return acquiredLocks;
+  }
+
+  private AcquiredLock acquire(
+      String name, long waitMillis, long leaseMillis, boolean isLeaseInfinite, String lockOperation) {
+    LocalLockRegistry.LocalLease localLease = null;
     try {
-      name = getLockName(name);
-      RLock lock = client.getLock(name);
-      boolean locked = lock.tryLock(waitTimeout.toMillis(), lockTimeout.toMillis(), TimeUnit.MILLISECONDS);
-      if (locked) {
-        log.debug("Acquired lock on {} for {} having a wait Timeout of {}", name, lockTimeout, waitTimeout);
-        return RedisAcquiredLock.builder().lock(lock).build();
+      long startTime = System.currentTimeMillis();
+      localLease = waitMillis > 0 ? localLocks.acquire(name, leaseMillis, waitMillis)
+                                  : localLocks.tryAcquire(name, leaseMillis);
+      long localWaitMillis = System.currentTimeMillis() - startTime;
+      if (localLease == null) {
+        recordLockMetric(lockOperation, LOCK_LOCAL_CONTENTION);
+      } else {
+        if (localWaitMillis > 0) {
+          recordLockDuration(lockOperation, localWaitMillis, LOCK_LOCAL_WAIT_TIME);
+        }
+        RLock lock = client.getLock(name);
+        long redisStartTime = System.currentTimeMillis();
+        boolean locked =
+            lock.tryLock(Math.max(0, waitMillis - localWaitMillis), leaseMillis, TimeUnit.MILLISECONDS);
+        recordLockDuration(lockOperation, System.currentTimeMillis() - redisStartTime, LOCK_REDIS_WAIT_TIME);
+        if (locked) {
+          log.debug("Acquired lock on {} for {} ms having a wait timeout of {} ms", name, leaseMillis, waitMillis);
+          return RedisAcquiredLock.builder().lock(lock).isLeaseInfinite(isLeaseInfinite).localLease(localLease).build();
+        }
+        localLease.release();
       }
     } catch (Exception ex) {
+      if (localLease != null) {
+        localLease.release();
+      }
       throw new UnexpectedException(format(ERROR_MESSAGE, name), ex);
     }
     throw new PersistentLockException(format(ERROR_MESSAGE, name), FAILED_TO_ACQUIRE_PERSISTENT_LOCK, SRE);
   }
 
+  private void recordLockMetric(String lockOperation, String metricName) {
+    if (metricsService != null) {
+      metricsService.recordLockMetric(lockOperation, metricName);
+    }
+  }
+
+  private void recordLockDuration(String lockOperation, long millis, String metricName) {
+    if (metricsService != null) {
+      metricsService.recordLockMetricWithDuration(lockOperation, Duration.ofMillis(millis), metricName);
+    }
+  }
+
   @Override
   public void destroy(AcquiredLock acquiredLock) {
     acquiredLock.close();
@@ -181,4 +261,12 @@ public class RedisPersistentLocker implements PersistentLocker, HealthMonitor, M
       client.shutdown();
     }
   }
+
+  @Value
+  private static class PendingLock {
+    String name;
+    RLock lock;
+    LocalLockRegistry.LocalLease localLease;
+    RFuture<Boolean> future;
+  }
 }
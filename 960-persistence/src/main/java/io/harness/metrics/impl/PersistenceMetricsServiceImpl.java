@@ -10,6 +10,7 @@ package io.harness.metrics.impl;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.metrics.beans.IteratorMetricContext;
+import io.harness.metrics.beans.LockMetricContext;
 import io.harness.metrics.beans.RedisTopicContext;
 import io.harness.metrics.service.api.MetricService;
 
@@ -29,6 +30,9 @@ public class PersistenceMetricsServiceImpl {
   public static final String ITERATOR_WORKING_ON_ENTITY = "iterator_working_on_entity";
   public static final String ITERATOR_PROCESSING_TIME = "iterator_processing_time";
   public static final String REDIS_SUBSCRIPTION_CNT = "redis_subscription_count";
+  public static final String LOCK_LOCAL_CONTENTION = "lock_local_contention";
+  public static final String LOCK_LOCAL_WAIT_TIME = "lock_local_wait_time";
+  public static final String LOCK_REDIS_WAIT_TIME = "lock_redis_wait_time";
 
   private final MetricService metricService;
 
@@ -48,4 +52,17 @@ public class PersistenceMetricsServiceImpl {
       metricService.recordMetric(metric, value);
     }
   }
+
+  public void recordLockMetric(final String lockOperation, final String metricName) {
+    try (LockMetricContext ignore = new LockMetricContext(lockOperation)) {
+      metricService.incCounter(metricName);
+    }
+  }
+
+  public void recordLockMetricWithDuration(
+      final String lockOperation, final Duration duration, final String metricName) {
+    try (LockMetricContext ignore = new LockMetricContext(lockOperation)) {
+      metricService.recordDuration(metricName, duration);
+    }
+  }
 }
@@ -43,6 +43,7 @@ public class MongoQueueConsumer<T extends Queuable> implements QueueConsumer<T>
 
   private Semaphore semaphore = new Semaphore(1);
   @Inject private HPersistence persistence;
+  @Inject private MongoQueueWakeup wakeup;
 
   public MongoQueueConsumer(Class<T> klass, Duration heartbeat, List<List<String>> topicExpression) {
     Objects.requireNonNull(klass);
@@ -72,6 +73,7 @@ public class MongoQueueConsumer<T extends Queuable> implements QueueConsumer<T>
 
   private T getUnderLock(long endTime, Duration poll) {
     while (true) {
+      long wakeupToken = wakeup.token(getName());
       final Date now = new Date();
 
       Query<T> query = createQuery()
@@ -92,12 +94,10 @@ public class MongoQueueConsumer<T extends Queuable> implements QueueConsumer<T>
       }
 
       try {
-        Thread.sleep(poll.toMillis());
+        wakeup.await(getName(), wakeupToken, poll.toMillis());
       } catch (InterruptedException e) {
         Thread.currentThread().interrupt();
         return null;
-      } catch (final IllegalArgumentException ex) {
-        poll = Duration.ofMillis(0);
       }
     }
   }
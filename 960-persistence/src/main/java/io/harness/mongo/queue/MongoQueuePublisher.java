@@ -28,6 +28,7 @@ public class MongoQueuePublisher<T extends Queuable> implements QueuePublisher<T
   @Getter private final String topicPrefix;
 
   @Inject private HPersistence persistence;
+  @Inject private MongoQueueWakeup wakeup;
 
   public MongoQueuePublisher(String name, List<String> topicPrefixElements) {
     this.name = name;
@@ -42,6 +43,7 @@ public class MongoQueuePublisher<T extends Queuable> implements QueuePublisher<T
       payload.setGlobalContext(obtainGlobalContext());
     }
     persistence.insertIgnoringDuplicateKeys(payload);
+    wakeup.published(name);
   }
 
   @Override
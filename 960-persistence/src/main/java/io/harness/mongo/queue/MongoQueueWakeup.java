@@ -0,0 +1,65 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.mongo.queue;
+
+import com.google.inject.Singleton;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Lets consumers of a queue wait for a message published from the same process instead of sleeping for the whole poll
+ * interval. Messages published by other processes are still only found on the next poll.
+ */
+@Singleton
+public class MongoQueueWakeup {
+  private final ConcurrentMap<String, Signal> signals = new ConcurrentHashMap<>();
+
+  /**
+   * @return token to pass to {@link #await}, take it before looking for messages so that none published in between
+   *     is missed
+   */
+  public long token(String queueName) {
+    return signal(queueName).current();
+  }
+
+  public void published(String queueName) {
+    signal(queueName).fire();
+  }
+
+  /**
+   * Waits until a message is published after the token was taken, or the timeout passes.
+   */
+  public void await(String queueName, long token, long timeoutMillis) throws InterruptedException {
+    signal(queueName).await(token, timeoutMillis);
+  }
+
+  private Signal signal(String queueName) {
+    return signals.computeIfAbsent(queueName, name -> new Signal());
+  }
+
+  private static class Signal {
+    private long generation;
+
+    synchronized long current() {
+      return generation;
+    }
+
+    synchronized void fire() {
+      generation++;
+      notifyAll();
+    }
+
+    synchronized void await(long token, long timeoutMillis) throws InterruptedException {
+      long deadline = System.currentTimeMillis() + timeoutMillis;
+      for (long remaining = timeoutMillis; generation == token && remaining > 0;
+           remaining = deadline - System.currentTimeMillis()) {
+        wait(remaining);
+      }
+    }
+  }
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.mongo.tracing;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import lombok.Value;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+@Value(staticConstructor = "of")
+public class QueryExecutionStats {
+  long durationNanos;
+  int resultCount;
+}
@@ -13,5 +13,7 @@ import io.harness.annotations.dev.OwnedBy;
 @OwnedBy(HarnessTeam.PIPELINE)
 public enum TraceMode {
   ENABLED,
+  // Records per query shape latency and result counts on the calling thread, explaining only new or regressed shapes
+  SHAPE_STATS,
   DISABLED;
 }
@@ -14,4 +14,6 @@ import io.harness.persistence.HQuery;
 @OwnedBy(HarnessTeam.PIPELINE)
 public interface Tracer {
   void traceMorphiaQuery(HQuery<?> query);
+
+  default void traceMorphiaQueryExecution(HQuery<?> query, QueryExecutionStats stats) {}
 }
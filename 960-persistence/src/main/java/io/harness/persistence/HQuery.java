@@ -16,6 +16,7 @@ import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.logging.AutoLogContext;
 import io.harness.mongo.CollectionLogContext;
+import io.harness.mongo.tracing.QueryExecutionStats;
 import io.harness.mongo.tracing.TraceMode;
 import io.harness.mongo.tracing.Tracer;
 import io.harness.observer.Subject;
@@ -157,9 +158,11 @@ public class HQuery<T> extends QueryImpl<T> {
       if (options.getMaxTime(TimeUnit.MILLISECONDS) == 0) {
         options.maxTime(maxOperationTimeInMillis, TimeUnit.MILLISECONDS);
       }
+      final long startNanos = System.nanoTime();
       return HPersistence.retry(() -> {
         final List<Key<T>> list = super.asKeyList(options);
         checkKeyListSize(list);
+        traceQueryExecution(startNanos, list.size());
         return list;
       });
     } catch (MongoExecutionTimeoutException ex) {
@@ -179,9 +182,11 @@ public class HQuery<T> extends QueryImpl<T> {
         options.maxTime(maxOperationTimeInMillis, TimeUnit.MILLISECONDS);
       }
       traceQuery();
+      final long startNanos = System.nanoTime();
       return HPersistence.retry(() -> {
         final List<T> list = super.asList(options);
         checkListSize(list);
+        traceQueryExecution(startNanos, list.size());
         return list;
       });
     } catch (MongoExecutionTimeoutException ex) {
@@ -301,6 +306,13 @@ public class HQuery<T> extends QueryImpl<T> {
     }
   }
 
+  private void traceQueryExecution(long startNanos, int resultCount) {
+    if (traceMode == TraceMode.SHAPE_STATS) {
+      tracerSubject.fireInform(Tracer::traceMorphiaQueryExecution, this,
+          QueryExecutionStats.of(System.nanoTime() - startNanos, resultCount));
+    }
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -34,4 +34,12 @@ public class TimeScaleDBConfig {
   int deploymentDataMigrationQueryBatchSize;
   boolean isHealthCheckNeeded;
   boolean isConnectionValidationNeeded;
+  // pool sizing, left to the pool defaults when not set
+  int maxConnections;
+  long connectionMaxWaitMillis;
+  // executions of a prepared statement on a connection after which the driver keeps it prepared on the server
+  int prepareThreshold;
+  // optional replica to take the load of read only callers off the primary
+  String timescaledbReadReplicaUrl;
+  long readStatementTimeoutMillis;
 }
@@ -15,6 +15,12 @@ import java.sql.SQLException;
 public interface TimeScaleDBService extends HealthMonitor {
   Connection getDBConnection() throws SQLException;
 
+  /**
+   * Connection for callers that only read, e.g. dashboards. Comes from the read replica, with the read statement
+   * timeout, when these are configured and from the primary otherwise.
+   */
+  Connection getReadOnlyDBConnection() throws SQLException;
+
   TimeScaleDBConfig getTimeScaleDBConfig();
 
   /**
@@ -12,9 +12,14 @@ import static java.time.Duration.ofSeconds;
 
 import io.harness.annotations.retry.RetryOnException;
 import io.harness.health.HealthException;
+import io.harness.metrics.HarnessMetricRegistry;
 import io.harness.timescaledb.TimeScaleDBConfig.TimeScaleDBConfigFields;
 
+import com.codahale.metrics.ExponentiallyDecayingReservoir;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
 import com.google.common.base.Strings;
+import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 import com.jayway.jsonpath.internal.Utils;
@@ -26,7 +31,9 @@ import java.sql.SQLException;
 import java.sql.SQLNonTransientException;
 import java.sql.Statement;
 import java.time.Duration;
+import java.util.Collections;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.dbcp.BasicDataSource;
 
@@ -36,6 +43,9 @@ public class TimeScaleDBServiceImpl implements TimeScaleDBService {
   private TimeScaleDBConfig timeScaleDBConfig;
   private boolean validDB;
   private BasicDataSource ds = new BasicDataSource();
+  private volatile BasicDataSource readDs;
+  private Histogram connectionAcquireMillis = new Histogram(new ExponentiallyDecayingReservoir());
+  private Histogram activeConnections = new Histogram(new ExponentiallyDecayingReservoir());
 
   public TimeScaleDBServiceImpl(@Named("TimeScaleDBConfig") TimeScaleDBConfig timeScaleDBConfig) {
     this.timeScaleDBConfig = timeScaleDBConfig;
@@ -68,6 +78,14 @@ public class TimeScaleDBServiceImpl implements TimeScaleDBService {
     }
   }
 
+  @Inject(optional = true)
+  void registerMetrics(HarnessMetricRegistry harnessMetricRegistry) {
+    MetricRegistry metricRegistry = harnessMetricRegistry.getMetricRegistry();
+    connectionAcquireMillis =
+        metricRegistry.histogram(MetricRegistry.name(TimeScaleDBService.class, "connection", "acquireMillis"));
+    activeConnections = metricRegistry.histogram(MetricRegistry.name(TimeScaleDBService.class, "connection", "active"));
+  }
+
   @RetryOnException(
       retryCount = 4, sleepDurationInMilliseconds = 200, retryOn = {IOException.class, SQLNonTransientException.class})
   public void
@@ -96,34 +114,64 @@ public class TimeScaleDBServiceImpl implements TimeScaleDBService {
 
   private void initializeTimeScaleDB(TimeScaleDBConfig config) throws SQLException {
     log.info("Initializing TimeScaleDB extension");
-    ds.setUrl(config.getTimescaledbUrl());
-    ds.setUsername(config.getTimescaledbUsername());
-    ds.setPassword(config.getTimescaledbPassword());
-    ds.setMinIdle(0);
-    ds.setMaxIdle(10);
-    if (config.isConnectionValidationNeeded()) {
-      ds.setValidationQuery("SELECT 1");
-      ds.setTestOnBorrow(true);
+    configureDataSource(ds, config.getTimescaledbUrl());
+
+    try (Connection connection = ds.getConnection(); Statement statement = connection.createStatement()) {
+      statement.execute("CREATE EXTENSION IF NOT EXISTS TIMESCALEDB CASCADE;");
+      log.info("Completed initializing TimeScaleDB extension");
+      statement.execute("CREATE EXTENSION IF NOT EXISTS hstore;");
+      log.info("Completed initializing hstore extension");
     }
 
-    ds.addConnectionProperty(
+    // Read only callers get a pool of their own when they have a replica or a statement timeout to go with
+    if (!Utils.isEmpty(config.getTimescaledbReadReplicaUrl()) || config.getReadStatementTimeoutMillis() > 0) {
+      BasicDataSource readDataSource = new BasicDataSource();
+      configureDataSource(readDataSource,
+          Utils.isEmpty(config.getTimescaledbReadReplicaUrl()) ? config.getTimescaledbUrl()
+                                                               : config.getTimescaledbReadReplicaUrl());
+      readDataSource.setDefaultReadOnly(true);
+      if (config.getReadStatementTimeoutMillis() > 0) {
+        readDataSource.setConnectionInitSqls(
+            Collections.singletonList("SET statement_timeout = " + config.getReadStatementTimeoutMillis()));
+      }
+      readDs = readDataSource;
+      log.info("Initialized TimeScaleDB read only connections");
+    }
+  }
+
+  private void configureDataSource(BasicDataSource dataSource, String url) {
+    dataSource.setUrl(url);
+    dataSource.setUsername(timeScaleDBConfig.getTimescaledbUsername());
+    dataSource.setPassword(timeScaleDBConfig.getTimescaledbPassword());
+    dataSource.setMinIdle(0);
+    dataSource.setMaxIdle(10);
+    if (timeScaleDBConfig.getMaxConnections() > 0) {
+      dataSource.setMaxActive(timeScaleDBConfig.getMaxConnections());
+      dataSource.setMaxIdle(timeScaleDBConfig.getMaxConnections());
+    }
+    if (timeScaleDBConfig.getConnectionMaxWaitMillis() > 0) {
+      dataSource.setMaxWait(timeScaleDBConfig.getConnectionMaxWaitMillis());
+    }
+    if (timeScaleDBConfig.isConnectionValidationNeeded()) {
+      dataSource.setValidationQuery("SELECT 1");
+      dataSource.setTestOnBorrow(true);
+    }
+
+    dataSource.addConnectionProperty(
         TimeScaleDBConfigFields.connectTimeout, String.valueOf(timeScaleDBConfig.getConnectTimeout()));
-    ds.addConnectionProperty(
+    dataSource.addConnectionProperty(
         TimeScaleDBConfigFields.socketTimeout, String.valueOf(timeScaleDBConfig.getSocketTimeout()));
-    ds.addConnectionProperty(
+    dataSource.addConnectionProperty(
         TimeScaleDBConfigFields.logUnclosedConnections, String.valueOf(timeScaleDBConfig.isLogUnclosedConnections()));
+    if (timeScaleDBConfig.getPrepareThreshold() > 0) {
+      dataSource.addConnectionProperty(
+          TimeScaleDBConfigFields.prepareThreshold, String.valueOf(timeScaleDBConfig.getPrepareThreshold()));
+    }
     if (!Utils.isEmpty(timeScaleDBConfig.getTimescaledbUsername())) {
-      ds.addConnectionProperty("user", timeScaleDBConfig.getTimescaledbUsername());
+      dataSource.addConnectionProperty("user", timeScaleDBConfig.getTimescaledbUsername());
     }
     if (!Utils.isEmpty(timeScaleDBConfig.getTimescaledbPassword())) {
-      ds.addConnectionProperty("password", timeScaleDBConfig.getTimescaledbPassword());
-    }
-
-    try (Connection connection = ds.getConnection(); Statement statement = connection.createStatement()) {
-      statement.execute("CREATE EXTENSION IF NOT EXISTS TIMESCALEDB CASCADE;");
-      log.info("Completed initializing TimeScaleDB extension");
-      statement.execute("CREATE EXTENSION IF NOT EXISTS hstore;");
-      log.info("Completed initializing hstore extension");
+      dataSource.addConnectionProperty("password", timeScaleDBConfig.getTimescaledbPassword());
     }
   }
 
@@ -138,7 +186,29 @@ public class TimeScaleDBServiceImpl implements TimeScaleDBService {
       throw new SQLException("Invalid timescale db.");
     }
     log.debug("Active connections : [{}],Idle connections : [{}]", ds.getNumActive(), ds.getNumIdle());
-    return ds.getConnection();
+    return borrowConnection(ds);
+  }
+
+  @Override
+  public Connection getReadOnlyDBConnection() throws SQLException {
+    BasicDataSource readDataSource = readDs;
+    if (!validDB || readDataSource == null) {
+      return getDBConnection();
+    }
+    try {
+      return borrowConnection(readDataSource);
+    } catch (SQLException ex) {
+      log.warn("Failed to get read only TimeScaleDB connection, falling back to the primary", ex);
+      return getDBConnection();
+    }
+  }
+
+  private Connection borrowConnection(BasicDataSource dataSource) throws SQLException {
+    long startTime = System.nanoTime();
+    Connection connection = dataSource.getConnection();
+    connectionAcquireMillis.update(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+    activeConnections.update(dataSource.getNumActive());
+    return connection;
   }
 
   @Override
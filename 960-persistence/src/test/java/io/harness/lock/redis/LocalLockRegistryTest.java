@@ -0,0 +1,84 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.lock.redis;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.RAMA;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(PL)
+public class LocalLockRegistryTest extends CategoryTest {
+  private final LocalLockRegistry localLockRegistry = new LocalLockRegistry();
+  private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+  @After
+  public void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  @Test
+  @Owner(developers = RAMA)
+  @Category(UnitTests.class)
+  public void testTryAcquireIsReentrantForOwner() throws Exception {
+    LocalLockRegistry.LocalLease outer = localLockRegistry.tryAcquire("name", 60000);
+    LocalLockRegistry.LocalLease inner = localLockRegistry.tryAcquire("name", 60000);
+    assertThat(outer).isNotNull();
+    assertThat(inner).isNotNull();
+
+    inner.release();
+    inner.release();
+    assertThat(executorService.submit(() -> localLockRegistry.tryAcquire("name", 60000)).get()).isNull();
+
+    outer.release();
+    assertThat(localLockRegistry.size()).isEqualTo(0);
+    assertThat(executorService.submit(() -> localLockRegistry.tryAcquire("name", 60000)).get()).isNotNull();
+  }
+
+  @Test
+  @Owner(developers = RAMA)
+  @Category(UnitTests.class)
+  public void testTryAcquireAfterLeaseExpiry() throws Exception {
+    assertThat(localLockRegistry.tryAcquire("name", 0)).isNotNull();
+    assertThat(executorService.submit(() -> localLockRegistry.tryAcquire("name", 60000)).get()).isNotNull();
+  }
+
+  @Test
+  @Owner(developers = RAMA)
+  @Category(UnitTests.class)
+  public void testAcquireWaitsForRelease() throws Exception {
+    LocalLockRegistry.LocalLease lease = localLockRegistry.tryAcquire("name", -1);
+    Future<LocalLockRegistry.LocalLease> waiting =
+        executorService.submit(() -> localLockRegistry.acquire("name", 60000, 60000));
+    Thread.sleep(50);
+    assertThat(waiting.isDone()).isFalse();
+
+    lease.release();
+    assertThat(waiting.get()).isNotNull();
+  }
+
+  @Test
+  @Owner(developers = RAMA)
+  @Category(UnitTests.class)
+  public void testAcquireTimesOut() throws Exception {
+    localLockRegistry.tryAcquire("name", -1);
+    assertThat(executorService.submit(() -> localLockRegistry.acquire("name", 60000, 10)).get()).isNull();
+  }
+}
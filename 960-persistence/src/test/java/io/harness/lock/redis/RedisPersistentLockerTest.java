@@ -11,6 +11,7 @@ import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.redis.RedisReadMode.SLAVE;
 import static io.harness.rule.OwnerRule.RAMA;
 
+import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyLong;
@@ -31,10 +32,16 @@ import io.harness.redis.RedissonClientFactory;
 import io.harness.rule.Owner;
 
 import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RFuture;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 
@@ -137,4 +144,100 @@ public class RedisPersistentLockerTest extends PersistenceTestBase {
 
     verify(rLock, times(1)).tryLock(anyLong(), anyLong(), any(TimeUnit.class));
   }
+
+  @Test
+  @Owner(developers = RAMA)
+  @Category(UnitTests.class)
+  public void testAcquireLockHeldByAnotherLocalThreadDoesNotGoToRedis() throws Exception {
+    RLock rLock = mock(RLock.class);
+    when(client.getLock(anyString())).thenReturn(rLock);
+    when(rLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
+
+    try (AcquiredLock lock = redisPersistentLocker.acquireLock(AcquiredLock.class, "cba", Duration.ofMinutes(1))) {
+      ExecutorService executorService = Executors.newSingleThreadExecutor();
+      try {
+        AcquiredLock otherThreadLock =
+            executorService
+                .submit(() -> redisPersistentLocker.tryToAcquireLock(AcquiredLock.class, "cba", Duration.ofMinutes(1)))
+                .get();
+        assertThat(otherThreadLock).isNull();
+      } finally {
+        executorService.shutdownNow();
+      }
+    }
+
+    verify(rLock, times(1)).tryLock(anyLong(), anyLong(), any(TimeUnit.class));
+  }
+
+  @Test
+  @Owner(developers = RAMA)
+  @Category(UnitTests.class)
+  public void testAcquireLockAfterReleaseByAnotherLocalThread() throws Exception {
+    RLock rLock = mock(RLock.class);
+    when(client.getLock(anyString())).thenReturn(rLock);
+    when(rLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
+
+    redisPersistentLocker.acquireLock(AcquiredLock.class, "cba", Duration.ofMinutes(1)).release();
+    ExecutorService executorService = Executors.newSingleThreadExecutor();
+    try {
+      AcquiredLock otherThreadLock =
+          executorService
+              .submit(() -> redisPersistentLocker.tryToAcquireLock(AcquiredLock.class, "cba", Duration.ofMinutes(1)))
+              .get();
+      assertThat(otherThreadLock).isNotNull();
+    } finally {
+      executorService.shutdownNow();
+    }
+
+    verify(rLock, times(2)).tryLock(anyLong(), anyLong(), any(TimeUnit.class));
+  }
+
+  @Test
+  @Owner(developers = RAMA)
+  @Category(UnitTests.class)
+  public void testTryToAcquireLocks() {
+    RLock acquiredRLock = mock(RLock.class);
+    RLock heldRLock = mock(RLock.class);
+    RFuture<Boolean> acquiredFuture = completedFuture(true);
+    RFuture<Boolean> heldFuture = completedFuture(false);
+    when(client.getLock("locks:a")).thenReturn(acquiredRLock);
+    when(client.getLock("locks:b")).thenReturn(heldRLock);
+    when(acquiredRLock.tryLockAsync(anyLong(), anyLong(), any(TimeUnit.class), anyLong())).thenReturn(acquiredFuture);
+    when(heldRLock.tryLockAsync(anyLong(), anyLong(), any(TimeUnit.class), anyLong())).thenReturn(heldFuture);
+
+    Map<String, AcquiredLock> locks = redisPersistentLocker.tryToAcquireLocks(asList("a", "b"), Duration.ofMinutes(1));
+
+    assertThat(locks).containsOnlyKeys("a");
+    verify(acquiredRLock, times(1)).tryLockAsync(anyLong(), anyLong(), any(TimeUnit.class), anyLong());
+    verify(heldRLock, times(1)).tryLockAsync(anyLong(), anyLong(), any(TimeUnit.class), anyLong());
+  }
+
+  @Test
+  @Owner(developers = RAMA)
+  @Category(UnitTests.class)
+  @SuppressWarnings("unchecked")
+  public void testTryToAcquireLocksReleasesLateLock() {
+    RLock lateRLock = mock(RLock.class);
+    RFuture<Boolean> lateFuture = mock(RFuture.class);
+    when(lateFuture.awaitUninterruptibly(anyLong())).thenReturn(false);
+    when(client.getLock("locks:late")).thenReturn(lateRLock);
+    when(lateRLock.tryLockAsync(anyLong(), anyLong(), any(TimeUnit.class), anyLong())).thenReturn(lateFuture);
+
+    Map<String, AcquiredLock> locks = redisPersistentLocker.tryToAcquireLocks(asList("late"), Duration.ofMillis(10));
+
+    assertThat(locks).isEmpty();
+    ArgumentCaptor<BiConsumer<Boolean, Throwable>> listener = ArgumentCaptor.forClass(BiConsumer.class);
+    verify(lateFuture).onComplete(listener.capture());
+    listener.getValue().accept(true, null);
+    verify(lateRLock).unlockAsync(Thread.currentThread().getId());
+  }
+
+  @SuppressWarnings("unchecked")
+  private RFuture<Boolean> completedFuture(boolean value) {
+    RFuture<Boolean> future = mock(RFuture.class);
+    when(future.awaitUninterruptibly(anyLong())).thenReturn(true);
+    when(future.isSuccess()).thenReturn(true);
+    when(future.getNow()).thenReturn(value);
+    return future;
+  }
 }
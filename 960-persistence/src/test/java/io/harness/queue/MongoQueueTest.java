@@ -25,6 +25,7 @@ import io.harness.PersistenceTestBase;
 import io.harness.category.element.UnitTests;
 import io.harness.mongo.queue.MongoQueueConsumer;
 import io.harness.mongo.queue.MongoQueuePublisher;
+import io.harness.mongo.queue.MongoQueueWakeup;
 import io.harness.persistence.HPersistence;
 import io.harness.queue.Queuable.QueuableKeys;
 import io.harness.queue.QueueConsumer.Filter;
@@ -45,6 +46,7 @@ public class MongoQueueTest extends PersistenceTestBase {
   private final Duration DEFAULT_POLL = ofSeconds(1);
 
   @Inject private HPersistence persistence;
+  @Inject private MongoQueueWakeup wakeup;
 
   @Inject private QueuePublisher<TestTopicQueuableObject> topicProducer;
   @Inject private QueueConsumer<TestTopicQueuableObject> topicConsumer;
@@ -324,10 +326,12 @@ public class MongoQueueTest extends PersistenceTestBase {
     MongoQueuePublisher<TestQueuableWithEntity> entityProducer =
         new MongoQueuePublisher<>(TestQueuableWithEntity.class.getSimpleName(), null);
     on(entityProducer).set("persistence", persistence);
+    on(entityProducer).set("wakeup", wakeup);
 
     MongoQueueConsumer<TestQueuableWithEntity> entityConsumer =
         new MongoQueueConsumer<>(TestQueuableWithEntity.class, ofSeconds(5), null);
     on(entityConsumer).set("persistence", persistence);
+    on(entityConsumer).set("wakeup", wakeup);
 
     TestInternalEntity testEntity = TestInternalEntity.builder().id("1").build();
     persistence.save(testEntity);
@@ -350,13 +354,31 @@ public class MongoQueueTest extends PersistenceTestBase {
     MongoQueuePublisher<TestTopicQueuableObject> topicPublisher =
         new MongoQueuePublisher<>(TestTopicQueuableObject.class.getSimpleName(), asList("topic1"));
     on(topicPublisher).set("persistence", persistence);
+    on(topicPublisher).set("wakeup", wakeup);
 
     MongoQueueConsumer<TestTopicQueuableObject> topicConsumer =
         new MongoQueueConsumer<>(TestTopicQueuableObject.class, ofSeconds(5), asList(asList("topic2")));
     on(topicConsumer).set("persistence", persistence);
+    on(topicConsumer).set("wakeup", wakeup);
 
     TestTopicQueuableObject message = new TestTopicQueuableObject(1);
     topicPublisher.send(message);
     assertThat(topicConsumer.get(DEFAULT_WAIT, DEFAULT_POLL)).isNull();
   }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldWakeUpWhenMessageIsPublished() throws InterruptedException {
+    Thread publisher = new Thread(() -> {
+      sleep(ofMillis(200));
+      topicProducer.send(new TestTopicQueuableObject(1));
+    });
+    long start = System.currentTimeMillis();
+    publisher.start();
+
+    assertThat(queue.get(ofSeconds(10), ofSeconds(10))).isNotNull();
+    assertThat(System.currentTimeMillis() - start).isLessThan(5000);
+    publisher.join();
+  }
 }
@@ -27,6 +27,7 @@ import io.harness.category.element.UnitTests;
 import io.harness.maintenance.MaintenanceGuard;
 import io.harness.mongo.queue.MongoQueueConsumer;
 import io.harness.mongo.queue.MongoQueuePublisher;
+import io.harness.mongo.queue.MongoQueueWakeup;
 import io.harness.persistence.HPersistence;
 import io.harness.queue.QueueConsumer.Filter;
 import io.harness.rule.Owner;
@@ -50,6 +51,7 @@ public class QueueListenerTest extends PersistenceTestBase {
   private TestTopicQueuableObjectListener listener;
 
   @Inject private HPersistence persistence;
+  @Inject private MongoQueueWakeup wakeup;
 
   @Inject QueueListenerController queueListenerController;
   @Inject private TimerScheduledExecutorService timer;
@@ -61,9 +63,11 @@ public class QueueListenerTest extends PersistenceTestBase {
 
     producer = spy(new MongoQueuePublisher<>(TestTopicQueuableObject.class.getSimpleName(), asList("topic")));
     on(producer).set("persistence", persistence);
+    on(producer).set("wakeup", wakeup);
 
     consumer = spy(new MongoQueueConsumer<>(TestTopicQueuableObject.class, ofSeconds(5), asList(asList("topic"))));
     on(consumer).set("persistence", persistence);
+    on(consumer).set("wakeup", wakeup);
 
     listener = new TestTopicQueuableObjectListener(consumer);
     listener.setRunOnce(true);
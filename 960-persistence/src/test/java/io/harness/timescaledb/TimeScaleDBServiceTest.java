@@ -10,6 +10,7 @@ package io.harness.timescaledb;
 import static io.harness.rule.OwnerRule.NANDAN;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -20,6 +21,7 @@ import io.harness.health.HealthService;
 import io.harness.rule.Owner;
 import io.harness.threading.ThreadPoolGuard;
 
+import java.sql.SQLException;
 import java.time.Duration;
 import java.util.concurrent.Executors;
 import org.junit.Test;
@@ -45,4 +47,17 @@ public class TimeScaleDBServiceTest extends CategoryTest {
       verify(timeScaleDBService).isHealthy();
     }
   }
+
+  @Test
+  @Owner(developers = NANDAN)
+  @Category(UnitTests.class)
+  public void testReadOnlyConnectionOfInvalidDB() {
+    TimeScaleDBServiceImpl timeScaleDBService = new TimeScaleDBServiceImpl(
+        TimeScaleDBConfig.builder().timescaledbReadReplicaUrl("jdbc:postgresql://replica:5432/harness").build());
+
+    assertThat(timeScaleDBService.isValid()).isFalse();
+    assertThatThrownBy(timeScaleDBService::getReadOnlyDBConnection)
+        .isInstanceOf(SQLException.class)
+        .hasMessage("Invalid timescale db.");
+  }
 }
@@ -52,6 +52,8 @@ public class YamlSchemaValidator {
   List<YamlSchemaRootClass> yamlSchemaRootClasses;
   EnumCodeSchemaHandler enumCodeSchemaHandler;
   RequiredCodeSchemaHandler requiredCodeSchemaHandler;
+  private final JsonSchemaFactory schemaFactory =
+      JsonSchemaFactory.builder(JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7)).build();
 
   @Inject
   public YamlSchemaValidator(List<YamlSchemaRootClass> yamlSchemaRootClasses,
@@ -97,13 +99,38 @@ public class YamlSchemaValidator {
 
   public Set<String> validate(String yaml, String stringSchema, boolean shouldValidateParallelStageCount,
       int allowedParallelStages, String pathToJsonNode) throws IOException {
+    return validate(yaml, schemaFactory.getSchema(stringSchema), shouldValidateParallelStageCount,
+        allowedParallelStages, pathToJsonNode);
+  }
+
+  /**
+   * Same as validating against the schema string, for schemas compiled once with {@link #compileSchema} and reused.
+   */
+  public Set<String> validate(String yaml, JsonSchema schema, boolean shouldValidateParallelStageCount,
+      int allowedParallelStages, String pathToJsonNode) throws IOException {
+    return validate(yaml, schema, shouldValidateParallelStageCount, allowedParallelStages, pathToJsonNode,
+        Collections.emptyMap());
+  }
+
+  /**
+   * For schemas compiled once for every org and project of an account. The identifiers the scoped schema would hold
+   * as constants are given by their path in the yaml, like /pipeline/orgIdentifier, and checked after the schema.
+   */
+  public Set<String> validate(String yaml, JsonSchema schema, boolean shouldValidateParallelStageCount,
+      int allowedParallelStages, String pathToJsonNode, Map<String, String> expectedIdentifiers) throws IOException {
     JsonNode jsonNode = mapper.readTree(yaml);
     validateParallelStagesCount(jsonNode, shouldValidateParallelStageCount, allowedParallelStages, pathToJsonNode);
-    JsonSchemaFactory factory =
-        JsonSchemaFactory.builder(JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7)).build();
-    JsonSchema schema = factory.getSchema(stringSchema);
     Set<ValidationMessage> validateMsg = schema.validate(jsonNode);
-    return processAndHandleValidationMessage(jsonNode, validateMsg);
+    processAndHandleValidationMessage(jsonNode, validateMsg);
+    validateIdentifiers(jsonNode, expectedIdentifiers);
+    return Collections.emptySet();
+  }
+
+  /**
+   * Compiles the schema straight from its tree, without writing it out as a string first.
+   */
+  public JsonSchema compileSchema(JsonNode schema) {
+    return schemaFactory.getSchema(schema);
   }
 
   public Set<String> processAndHandleValidationMessage(JsonNode yaml, Set<ValidationMessage> validateMsg) {
@@ -130,6 +157,28 @@ public class YamlSchemaValidator {
     return Collections.emptySet();
   }
 
+  private void validateIdentifiers(JsonNode yaml, Map<String, String> expectedIdentifiers) {
+    for (Map.Entry<String, String> expectedIdentifier : expectedIdentifiers.entrySet()) {
+      JsonNode identifier = yaml.at(expectedIdentifier.getKey());
+      // a missing identifier is reported by the schema, which keeps it required
+      if (expectedIdentifier.getValue() == null || identifier.isMissingNode()
+          || expectedIdentifier.getValue().equals(identifier.asText())) {
+        continue;
+      }
+      String fqn = "$" + expectedIdentifier.getKey().replace('/', '.');
+      String message = String.format("%s: must be a constant value %s", fqn, expectedIdentifier.getValue());
+      YamlSchemaErrorWrapperDTO errorWrapperDTO =
+          YamlSchemaErrorWrapperDTO.builder()
+              .schemaErrors(Collections.singletonList(YamlSchemaErrorDTO.builder()
+                                                          .messageWithFQN(message)
+                                                          .message(removeFqnFromErrorMessage(message))
+                                                          .fqn(fqn)
+                                                          .build()))
+              .build();
+      throw new InvalidYamlException(message, errorWrapperDTO);
+    }
+  }
+
   private String removeFqnFromErrorMessage(String message) {
     String pathInMessage = message.split(":")[0];
     String[] pathComponents = pathInMessage.split("\\.");
@@ -168,10 +217,8 @@ public class YamlSchemaValidator {
   }
 
   public void populateSchemaInStaticMap(JsonNode schema, EntityType entityType) {
-    JsonSchemaFactory factory =
-        JsonSchemaFactory.builder(JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7)).build();
     try {
-      final JsonSchema jsonSchema = factory.getSchema(schema);
+      final JsonSchema jsonSchema = compileSchema(schema);
       schemas.put(entityType, jsonSchema);
     } catch (Exception e) {
       throw new InvalidRequestException(String.format("Couldn't parse schema for entity: %s", entityType), e);
@@ -31,13 +31,16 @@ import io.harness.yaml.schema.beans.YamlSchemaRootClass;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.networknt.schema.JsonSchema;
 import com.networknt.schema.ValidationMessage;
 import com.networknt.schema.ValidatorTypeCode;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.apache.commons.io.IOUtils;
 import org.junit.Before;
@@ -212,4 +215,25 @@ public class YamlSchemaValidatorTest extends CategoryTest {
         () -> yamlSchemaValidator.validateParallelStagesCount(yamlNode3, false, 1, PIPELINE_NODE + "/" + STAGES_NODE))
         .isInstanceOf(InvalidRequestException.class);
   }
+
+  @Test
+  @Owner(developers = BRIJESH)
+  @Category(UnitTests.class)
+  public void testValidateExpectedIdentifiers() throws IOException {
+    JsonSchema schema = yamlSchemaValidator.compileSchema(new ObjectMapper().readTree("{\"type\": \"object\"}"));
+    String yaml = "pipeline:\n  orgIdentifier: org\n  projectIdentifier: proj\n";
+    Map<String, String> expectedIdentifiers = new HashMap<>();
+    expectedIdentifiers.put("/pipeline/orgIdentifier", "org");
+    expectedIdentifiers.put("/pipeline/projectIdentifier", "proj");
+    assertThat(yamlSchemaValidator.validate(
+                   yaml, schema, true, 2, PIPELINE_NODE + "/" + STAGES_NODE, expectedIdentifiers))
+        .isEmpty();
+
+    expectedIdentifiers.put("/pipeline/projectIdentifier", "otherProj");
+    assertThatThrownBy(()
+                           -> yamlSchemaValidator.validate(
+                               yaml, schema, true, 2, PIPELINE_NODE + "/" + STAGES_NODE, expectedIdentifiers))
+        .isInstanceOf(InvalidYamlException.class)
+        .hasMessage("$.pipeline.projectIdentifier: must be a constant value otherProj");
+  }
 }
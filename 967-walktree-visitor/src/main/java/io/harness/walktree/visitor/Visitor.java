@@ -9,6 +9,7 @@ package io.harness.walktree.visitor;
 
 import io.harness.walktree.beans.VisitElementResult;
 import io.harness.walktree.beans.VisitableChild;
+import io.harness.walktree.beans.VisitableChildren;
 import io.harness.walktree.visitor.utilities.VisitorParentPathUtils;
 
 import java.util.ArrayList;
@@ -61,17 +62,9 @@ public abstract class Visitor {
       }
       // Visit the children
       if (!skipChildren) {
-        Visitable visitable = (Visitable) currentElement;
-        if (visitable.getChildrenToWalk() != null) {
-          Map<String, List<Object>> childrenToWalk = new HashMap<>();
-          for (VisitableChild visitableChild : visitable.getChildrenToWalk().getVisitableChildList()) {
-            List<Object> children = childrenToWalk.getOrDefault(visitableChild.getFieldName(), new ArrayList<>());
-            if (visitableChild.getValue() != null) {
-              children.add(visitableChild.getValue());
-            }
-            childrenToWalk.put(visitableChild.getFieldName(), children);
-          }
-          for (Map.Entry<String, List<Object>> fieldNameToChild : childrenToWalk.entrySet()) {
+        VisitableChildren visitableChildren = ((Visitable) currentElement).getChildrenToWalk();
+        if (visitableChildren != null) {
+          for (Map.Entry<String, List<Object>> fieldNameToChild : groupByFieldName(visitableChildren).entrySet()) {
             for (Object object : fieldNameToChild.getValue()) {
               VisitorParentPathUtils.addToParentList(this.getContextMap(), fieldNameToChild.getKey());
               VisitElementResult childVisitResult = walkElementTree(object);
@@ -97,6 +90,17 @@ public abstract class Visitor {
     }
   }
 
+  private static Map<String, List<Object>> groupByFieldName(VisitableChildren visitableChildren) {
+    Map<String, List<Object>> childrenToWalk = new HashMap<>();
+    for (VisitableChild visitableChild : visitableChildren.getVisitableChildList()) {
+      List<Object> children = childrenToWalk.computeIfAbsent(visitableChild.getFieldName(), k -> new ArrayList<>());
+      if (visitableChild.getValue() != null) {
+        children.add(visitableChild.getValue());
+      }
+    }
+    return childrenToWalk;
+  }
+
   public boolean shouldSkipToPostVisit(VisitElementResult result) {
     return result == VisitElementResult.SKIP_SIBLINGS || result == VisitElementResult.SKIP_SUBTREE;
   }
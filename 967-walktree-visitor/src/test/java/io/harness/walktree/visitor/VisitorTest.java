@@ -0,0 +1,93 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.walktree.visitor;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+import io.harness.walktree.beans.VisitElementResult;
+import io.harness.walktree.visitor.utilities.VisitorParentPathUtils;
+import io.harness.walktree.visitor.validation.VisitorTestChild;
+import io.harness.walktree.visitor.validation.VisitorTestParent;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class VisitorTest extends CategoryTest {
+  private final VisitorTestParent parent =
+      VisitorTestParent.builder()
+          .name("parent")
+          .visitorTestChild(VisitorTestChild.builder().name("child").build())
+          .build();
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldWalkChildrenWithTheirParentPath() {
+    RecordingVisitor walking = new RecordingVisitor(VisitElementResult.CONTINUE);
+    RecordingVisitor skipping = new RecordingVisitor(VisitElementResult.SKIP_SUBTREE);
+
+    assertThat(walking.walkElementTree(parent)).isEqualTo(VisitElementResult.CONTINUE);
+    assertThat(skipping.walkElementTree(parent)).isEqualTo(VisitElementResult.CONTINUE);
+
+    assertThat(walking.calls)
+        .containsExactly("pre VisitorTestParent ", "visit VisitorTestParent ", "pre VisitorTestChild visitorTestChild",
+            "post VisitorTestChild visitorTestChild", "post VisitorTestParent ");
+    assertThat(skipping.calls)
+        .containsExactly("pre VisitorTestParent ", "visit VisitorTestParent ", "post VisitorTestParent ");
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldStopWalkingOnTerminate() {
+    RecordingVisitor terminating = new RecordingVisitor(VisitElementResult.TERMINATE);
+
+    assertThat(terminating.walkElementTree(parent)).isEqualTo(VisitElementResult.TERMINATE);
+
+    assertThat(terminating.calls).containsExactly("pre VisitorTestParent ", "visit VisitorTestParent ");
+  }
+
+  private static class RecordingVisitor extends Visitor {
+    private final VisitElementResult visitResult;
+    private final List<String> calls = new ArrayList<>();
+
+    RecordingVisitor(VisitElementResult visitResult) {
+      this.visitResult = visitResult;
+    }
+
+    @Override
+    public VisitElementResult preVisitElement(Object element) {
+      record("pre", element);
+      return VisitElementResult.CONTINUE;
+    }
+
+    @Override
+    public VisitElementResult visitElement(Object currentElement) {
+      record("visit", currentElement);
+      return visitResult;
+    }
+
+    @Override
+    public VisitElementResult postVisitElement(Object element) {
+      record("post", element);
+      return VisitElementResult.CONTINUE;
+    }
+
+    private void record(String call, Object element) {
+      calls.add(call + " " + element.getClass().getSimpleName() + " "
+          + VisitorParentPathUtils.getFullQualifiedDomainName(getContextMap()));
+    }
+  }
+}
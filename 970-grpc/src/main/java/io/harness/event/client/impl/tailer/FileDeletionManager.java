@@ -28,7 +28,7 @@ import net.openhft.chronicle.queue.impl.RollingResourcesCache;
  */
 @Singleton
 @Slf4j
-class FileDeletionManager {
+public class FileDeletionManager {
   private static final String SENT_TAILER = "sent-tailer";
 
   private final RollingChronicleQueue queue;
@@ -36,7 +36,7 @@ class FileDeletionManager {
   private final ExcerptTailer sentTailer;
 
   @Inject
-  FileDeletionManager(@Named("tailer") RollingChronicleQueue queue) {
+  public FileDeletionManager(@Named("tailer") RollingChronicleQueue queue) {
     this.queue = queue;
     this.fileIdMapper = new RollingResourcesCache(
         queue.rollCycle(), queue.epoch(), name -> new File(queue.fileAbsolutePath(), name + SUFFIX), file -> {
@@ -57,7 +57,7 @@ class FileDeletionManager {
   /**
    * Delete files older than the file sentTailer is on.
    */
-  void deleteOlderFiles() {
+  public void deleteOlderFiles() {
     log.info("Checking for old queue files to be deleted");
     long cycle = sentTailer.cycle();
     boolean anyFilesDeleted = deleteOlderFilesInternal(cycle);
@@ -93,12 +93,12 @@ class FileDeletionManager {
     return anyFilesDeleted;
   }
 
-  void setSentIndex(long index) {
+  public void setSentIndex(long index) {
     checkArgument(index >= getSentIndex(), "sent-tailer should not be rewinded");
     QueueUtils.moveToIndex(sentTailer, index);
   }
 
-  long getSentIndex() {
+  public long getSentIndex() {
     return sentTailer.index();
   }
 }
@@ -11,8 +11,8 @@ import lombok.experimental.UtilityClass;
 import net.openhft.chronicle.queue.ExcerptTailer;
 
 @UtilityClass
-class QueueUtils {
-  static void moveToIndex(ExcerptTailer tailer, long index) {
+public class QueueUtils {
+  public static void moveToIndex(ExcerptTailer tailer, long index) {
     if (index == 0) {
       tailer.toStart();
     } else {
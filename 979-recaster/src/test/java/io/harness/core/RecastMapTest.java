@@ -468,4 +468,41 @@ public class RecastMapTest extends RecasterTestBase {
   private static class DummyInstant {
     private Instant instant;
   }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldTestRecasterWithFinalFields() {
+    Recast recast = new Recast(recaster, ImmutableSet.of(DummyFinalFields.class));
+    DummyFinalFields dummyFinalFields = new DummyFinalFields("value", 10L);
+    Map<String, Object> document = recast.toMap(dummyFinalFields);
+
+    assertThat(document.get("finalString")).isEqualTo("value");
+    assertThat(document.get("finalLong")).isEqualTo(10L);
+
+    DummyFinalFields recastedDummyFinalFields = recast.fromMap(document, DummyFinalFields.class);
+    assertThat(recastedDummyFinalFields).isNotNull();
+    assertThat(recastedDummyFinalFields.finalString).isEqualTo("value");
+    assertThat(recastedDummyFinalFields.finalLong).isEqualTo(10L);
+  }
+
+  @NoArgsConstructor(force = true)
+  @AllArgsConstructor
+  private static class DummyFinalFields {
+    private final String finalString;
+    private final long finalLong;
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldTestRecasterWithWideningPrimitive() {
+    Recast recast = new Recast(recaster, ImmutableSet.of(DummyLong.class));
+    Map<String, Object> document = recast.toMap(DummyLong.builder().longClass(10L).longPrimitive(10L).build());
+    document.put("longPrimitive", 20);
+
+    DummyLong recastedDummyLong = recast.fromMap(document, DummyLong.class);
+    assertThat(recastedDummyLong).isNotNull();
+    assertThat(recastedDummyLong.longPrimitive).isEqualTo(20L);
+  }
 }
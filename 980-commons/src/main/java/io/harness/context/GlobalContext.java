@@ -11,14 +11,24 @@ import java.util.HashMap;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Copies share the records with the context they were made from, until either of them changes. This makes handing the
+ * context over to every task submitted to an executor cheap.
+ */
 @Slf4j
 public class GlobalContext {
   private Map<String, GlobalContextData> map = new HashMap<>();
+  // set while the map is shared with copies, the next change has to work on a map of its own
+  private transient boolean shared;
 
   public GlobalContext() {}
 
   public GlobalContext(GlobalContext globalContext) {
-    map = globalContext == null || globalContext.map == null ? new HashMap<>() : new HashMap<>(globalContext.map);
+    if (globalContext != null && globalContext.map != null) {
+      map = globalContext.map;
+      shared = true;
+      globalContext.shared = true;
+    }
   }
 
   public <T extends GlobalContextData> T get(String key) {
@@ -33,14 +43,24 @@ public class GlobalContext {
     if (map.containsKey(data.getKey())) {
       log.error("Global data {} is already set. Something is wrong!!!", data.getKey(), new Exception());
     }
-    map.put(data.getKey(), data);
+    writableMap().put(data.getKey(), data);
   }
 
   public void upsertGlobalContextRecord(GlobalContextData data) {
-    map.put(data.getKey(), data);
+    writableMap().put(data.getKey(), data);
   }
 
   public void unset(String key) {
-    map.remove(key);
+    if (map.containsKey(key)) {
+      writableMap().remove(key);
+    }
+  }
+
+  private Map<String, GlobalContextData> writableMap() {
+    if (shared) {
+      map = new HashMap<>(map);
+      shared = false;
+    }
+    return map;
   }
 }
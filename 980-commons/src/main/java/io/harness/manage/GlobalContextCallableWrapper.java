@@ -7,9 +7,14 @@
 
 package io.harness.manage;
 
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_ERROR;
+
 import io.harness.context.GlobalContext;
+import io.harness.logging.AutoLogContext;
 import io.harness.manage.GlobalContextManager.GlobalContextGuard;
 
+import java.util.Map;
 import java.util.concurrent.Callable;
 import lombok.Builder;
 import lombok.Value;
@@ -19,10 +24,12 @@ import lombok.Value;
 public class GlobalContextCallableWrapper<T> implements Callable<T> {
   private Callable<T> task;
   private GlobalContext context;
+  private Map<String, String> mdc;
 
   @Override
   public T call() throws Exception {
-    try (GlobalContextGuard guard = new GlobalContextGuard(context)) {
+    try (GlobalContextGuard guard = new GlobalContextGuard(context);
+         AutoLogContext ignore = isEmpty(mdc) ? null : new AutoLogContext(mdc, OVERRIDE_ERROR)) {
       return task.call();
     }
   }
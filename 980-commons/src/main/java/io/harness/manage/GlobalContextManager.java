@@ -19,11 +19,13 @@ import io.harness.logging.AutoLogContext;
 import io.harness.serializer.KryoSerializer;
 import io.harness.virtualstack.VirtualStackRequest;
 
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
 import java.util.Map;
 import java.util.concurrent.Callable;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
+import org.slf4j.spi.MDCAdapter;
 
 @UtilityClass
 @Slf4j
@@ -117,14 +119,34 @@ public class GlobalContextManager {
     if (task instanceof GlobalContextCallableWrapper) {
       return (GlobalContextCallableWrapper<T>) task;
     }
-    return GlobalContextCallableWrapper.<T>builder().task(task).context(obtainGlobalContextCopy()).build();
+    return GlobalContextCallableWrapper.<T>builder()
+        .task(task)
+        .context(new GlobalContext(contextThreadLocal.get()))
+        .mdc(snapshotMdc())
+        .build();
   }
 
   static GlobalContextTaskWrapper generateExecutorTask(Runnable task) {
     if (task instanceof GlobalContextTaskWrapper) {
       return (GlobalContextTaskWrapper) task;
     }
-    return GlobalContextTaskWrapper.builder().task(task).context(obtainGlobalContextCopy()).build();
+    return GlobalContextTaskWrapper.builder()
+        .task(task)
+        .context(new GlobalContext(contextThreadLocal.get()))
+        .mdc(snapshotMdc())
+        .build();
+  }
+
+  /**
+   * Logback hands out its MDC map as is and switches to a new map on the next change, so the map stays the same for as
+   * long as it is kept, without copying it.
+   */
+  private static Map<String, String> snapshotMdc() {
+    MDCAdapter mdcAdapter = MDC.getMDCAdapter();
+    if (mdcAdapter instanceof LogbackMDCAdapter) {
+      return ((LogbackMDCAdapter) mdcAdapter).getPropertyMap();
+    }
+    return MDC.getCopyOfContextMap();
   }
 
   public static void upsertGlobalContextRecord(GlobalContextData data) {
@@ -7,9 +7,14 @@
 
 package io.harness.manage;
 
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_ERROR;
+
 import io.harness.context.GlobalContext;
+import io.harness.logging.AutoLogContext;
 import io.harness.manage.GlobalContextManager.GlobalContextGuard;
 
+import java.util.Map;
 import lombok.Builder;
 import lombok.Value;
 
@@ -18,10 +23,12 @@ import lombok.Value;
 public class GlobalContextTaskWrapper implements Runnable {
   private Runnable task;
   private GlobalContext context;
+  private Map<String, String> mdc;
 
   @Override
   public void run() {
-    try (GlobalContextGuard guard = new GlobalContextGuard(context)) {
+    try (GlobalContextGuard guard = new GlobalContextGuard(context);
+         AutoLogContext ignore = isEmpty(mdc) ? null : new AutoLogContext(mdc, OVERRIDE_ERROR)) {
       task.run();
     }
   }
@@ -13,10 +13,14 @@ import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -67,6 +71,31 @@ public class ThreadPool {
     return executor;
   }
 
+  /**
+   * Creates an executor for tasks that spend most of their time waiting on I/O. Where the runtime has virtual threads
+   * every task runs on a virtual thread of its own and a semaphore bounds how many of them run at once. Elsewhere it is
+   * a scaling pool of up to maxConcurrency threads.
+   *
+   * @param maxConcurrency the max number of tasks running at once
+   * @param threadFactory  the thread factory of the pool used without virtual threads
+   * @return the executor service
+   */
+  public static ExecutorService createVirtualThreadExecutor(int maxConcurrency, ThreadFactory threadFactory) {
+    ExecutorService virtualThreadExecutor = newVirtualThreadPerTaskExecutor();
+    if (virtualThreadExecutor == null) {
+      return create(1, maxConcurrency, IDLE_TIME, TimeUnit.MILLISECONDS, threadFactory);
+    }
+    return new BoundedExecutorService(virtualThreadExecutor, maxConcurrency);
+  }
+
+  private static ExecutorService newVirtualThreadPerTaskExecutor() {
+    try {
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException e) {
+      return null;
+    }
+  }
+
   /**
    * Execute.
    *
@@ -120,6 +149,54 @@ public class ThreadPool {
     return commonPool.getActiveCount() == 0;
   }
 
+  private static class BoundedExecutorService extends AbstractExecutorService {
+    private final ExecutorService executorService;
+    private final Semaphore permits;
+
+    BoundedExecutorService(ExecutorService executorService, int maxConcurrency) {
+      this.executorService = executorService;
+      this.permits = new Semaphore(maxConcurrency);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+      executorService.execute(() -> {
+        // waits in the task, a blocked virtual thread costs next to nothing
+        permits.acquireUninterruptibly();
+        try {
+          command.run();
+        } finally {
+          permits.release();
+        }
+      });
+    }
+
+    @Override
+    public void shutdown() {
+      executorService.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+      return executorService.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+      return executorService.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+      return executorService.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+      return executorService.awaitTermination(timeout, unit);
+    }
+  }
+
   private static class Delayed implements Runnable {
     private Runnable runnable;
     private int delay;
@@ -135,4 +135,21 @@ public class ManagedExecutorServiceTest extends CategoryTest {
       executor.shutdown();
     }
   }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testGlobalContextCopyIsIndependent() {
+    GlobalContext globalContext = new GlobalContext();
+    globalContext.upsertGlobalContextRecord(() -> "AUDIT_KEY");
+
+    GlobalContext copy = new GlobalContext(globalContext);
+    copy.upsertGlobalContextRecord(() -> "TEST_KEY");
+    globalContext.unset("AUDIT_KEY");
+
+    assertThat((GlobalContextData) copy.get("AUDIT_KEY")).isNotNull();
+    assertThat((GlobalContextData) copy.get("TEST_KEY")).isNotNull();
+    assertThat((GlobalContextData) globalContext.get("AUDIT_KEY")).isNull();
+    assertThat((GlobalContextData) globalContext.get("TEST_KEY")).isNull();
+  }
 }
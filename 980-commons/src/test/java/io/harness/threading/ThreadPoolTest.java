@@ -0,0 +1,54 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.threading;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+import static io.harness.threading.Morpheus.sleep;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class ThreadPoolTest extends CategoryTest {
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testVirtualThreadExecutorBoundsConcurrency() throws Exception {
+    ExecutorService executorService = ThreadPool.createVirtualThreadExecutor(
+        2, new ThreadFactoryBuilder().setNameFormat("thread-pool-test-%d").build());
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+
+    List<Future<?>> futures = new ArrayList<>();
+    for (int i = 0; i < 6; i++) {
+      futures.add(executorService.submit(() -> {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        sleep(Duration.ofMillis(50));
+        running.decrementAndGet();
+      }));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    executorService.shutdown();
+
+    assertThat(maxRunning.get()).isBetween(1, 2);
+  }
+}
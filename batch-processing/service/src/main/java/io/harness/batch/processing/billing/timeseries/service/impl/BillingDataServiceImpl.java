@@ -16,6 +16,7 @@ import io.harness.batch.processing.billing.timeseries.data.InstanceBillingData;
 import io.harness.batch.processing.billing.timeseries.service.support.BillingDataTableNameProvider;
 import io.harness.batch.processing.ccm.ActualIdleCostWriterData;
 import io.harness.batch.processing.ccm.BatchJobType;
+import io.harness.batch.processing.config.BatchMainConfig;
 import io.harness.batch.processing.entities.ClusterDataDetails;
 import io.harness.ccm.commons.beans.InstanceType;
 import io.harness.ccm.commons.utils.TimeUtils;
@@ -27,7 +28,9 @@ import software.wings.graphql.datafetcher.ce.recommendation.entity.Cost;
 
 import com.google.common.collect.ImmutableList;
 import com.google.inject.Singleton;
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -41,6 +44,9 @@ import java.util.List;
 import java.util.Objects;
 import javax.validation.constraints.NotNull;
 import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -51,13 +57,28 @@ import org.springframework.stereotype.Service;
 public class BillingDataServiceImpl {
   @Autowired private TimeScaleDBService timeScaleDBService;
   @Autowired private TimeUtils utils;
+  @Autowired private BatchMainConfig batchMainConfig;
 
   private static final int BATCH_SIZE = 500;
   private static final int MAX_RETRY_COUNT = 2;
   private static final int DELETE_MAX_RETRY_COUNT = 5;
   private static final int SELECT_MAX_RETRY_COUNT = 5;
+  static final String INSERT_COLUMNS =
+      "STARTTIME, ENDTIME, ACCOUNTID, INSTANCETYPE, BILLINGACCOUNTID, BILLINGAMOUNT, CPUBILLINGAMOUNT, MEMORYBILLINGAMOUNT, USAGEDURATIONSECONDS, INSTANCEID, CLUSTERNAME, CLUSTERID, SETTINGID,  SERVICEID, APPID, CLOUDPROVIDERID, ENVID, CPUUNITSECONDS, MEMORYMBSECONDS, PARENTINSTANCEID, REGION, LAUNCHTYPE, CLUSTERTYPE, CLOUDPROVIDER, WORKLOADNAME, WORKLOADTYPE, NAMESPACE, CLOUDSERVICENAME, TASKID, IDLECOST, CPUIDLECOST, MEMORYIDLECOST, MAXCPUUTILIZATION, MAXMEMORYUTILIZATION, AVGCPUUTILIZATION, AVGMEMORYUTILIZATION, SYSTEMCOST, CPUSYSTEMCOST, MEMORYSYSTEMCOST, ACTUALIDLECOST, CPUACTUALIDLECOST, MEMORYACTUALIDLECOST, UNALLOCATEDCOST, CPUUNALLOCATEDCOST, MEMORYUNALLOCATEDCOST, INSTANCENAME, CPUREQUEST, MEMORYREQUEST, CPULIMIT, MEMORYLIMIT, MAXCPUUTILIZATIONVALUE, MAXMEMORYUTILIZATIONVALUE, AVGCPUUTILIZATIONVALUE, AVGMEMORYUTILIZATIONVALUE, NETWORKCOST, PRICINGSOURCE, STORAGEACTUALIDLECOST, STORAGEUNALLOCATEDCOST, STORAGEUTILIZATIONVALUE, STORAGEREQUEST, STORAGEMBSECONDS, STORAGECOST, MAXSTORAGEUTILIZATIONVALUE, MAXSTORAGEREQUEST, ORGIDENTIFIER, PROJECTIDENTIFIER";
+
   static final String INSERT_STATEMENT =
-      "INSERT INTO %s (STARTTIME, ENDTIME, ACCOUNTID, INSTANCETYPE, BILLINGACCOUNTID, BILLINGAMOUNT, CPUBILLINGAMOUNT, MEMORYBILLINGAMOUNT, USAGEDURATIONSECONDS, INSTANCEID, CLUSTERNAME, CLUSTERID, SETTINGID,  SERVICEID, APPID, CLOUDPROVIDERID, ENVID, CPUUNITSECONDS, MEMORYMBSECONDS, PARENTINSTANCEID, REGION, LAUNCHTYPE, CLUSTERTYPE, CLOUDPROVIDER, WORKLOADNAME, WORKLOADTYPE, NAMESPACE, CLOUDSERVICENAME, TASKID, IDLECOST, CPUIDLECOST, MEMORYIDLECOST, MAXCPUUTILIZATION, MAXMEMORYUTILIZATION, AVGCPUUTILIZATION, AVGMEMORYUTILIZATION, SYSTEMCOST, CPUSYSTEMCOST, MEMORYSYSTEMCOST, ACTUALIDLECOST, CPUACTUALIDLECOST, MEMORYACTUALIDLECOST, UNALLOCATEDCOST, CPUUNALLOCATEDCOST, MEMORYUNALLOCATEDCOST, INSTANCENAME, CPUREQUEST, MEMORYREQUEST, CPULIMIT, MEMORYLIMIT, MAXCPUUTILIZATIONVALUE, MAXMEMORYUTILIZATIONVALUE, AVGCPUUTILIZATIONVALUE, AVGMEMORYUTILIZATIONVALUE, NETWORKCOST, PRICINGSOURCE, STORAGEACTUALIDLECOST, STORAGEUNALLOCATEDCOST, STORAGEUTILIZATIONVALUE, STORAGEREQUEST, STORAGEMBSECONDS, STORAGECOST, MAXSTORAGEUTILIZATIONVALUE, MAXSTORAGEREQUEST, ORGIDENTIFIER, PROJECTIDENTIFIER) VALUES (?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?) ON CONFLICT DO NOTHING";
+      "INSERT INTO %s (" + INSERT_COLUMNS + ") VALUES (?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?) ON CONFLICT DO NOTHING";
+
+  static final String COPY_STAGING_TABLE = "billing_data_copy_staging";
+
+  static final String CREATE_COPY_STAGING_TABLE =
+      "CREATE TEMP TABLE IF NOT EXISTS %s (LIKE %s INCLUDING DEFAULTS) ON COMMIT DROP";
+
+  static final String COPY_INTO_STAGING_STATEMENT =
+      "COPY %s (" + INSERT_COLUMNS + ") FROM STDIN WITH (FORMAT csv)";
+
+  static final String MERGE_FROM_STAGING_STATEMENT = "INSERT INTO %s (" + INSERT_COLUMNS + ") SELECT "
+      + INSERT_COLUMNS + " FROM %s ON CONFLICT DO NOTHING";
 
   static final String UPDATE_STATEMENT =
       "UPDATE %s SET ACTUALIDLECOST = ?, CPUACTUALIDLECOST = ?, MEMORYACTUALIDLECOST = ?, UNALLOCATEDCOST = ?, CPUUNALLOCATEDCOST = ?, MEMORYUNALLOCATEDCOST = ? WHERE ACCOUNTID = ? AND CLUSTERID = ? AND INSTANCEID = ? AND STARTTIME = ?";
@@ -105,6 +126,163 @@ public class BillingDataServiceImpl {
       ImmutableList.of(InstanceType.K8S_NODE, InstanceType.K8S_PV);
 
   public boolean create(List<InstanceBillingData> instanceBillingDataList, BatchJobType batchJobType) {
+    if (isCopyIngestEnabled() && timeScaleDBService.isValid() && instanceBillingDataList.size() >= BATCH_SIZE
+        && createUsingCopy(instanceBillingDataList, batchJobType)) {
+      return true;
+    }
+    return createUsingBatchInsert(instanceBillingDataList, batchJobType);
+  }
+
+  private boolean isCopyIngestEnabled() {
+    return batchMainConfig != null && batchMainConfig.getBatchQueryConfig() != null
+        && batchMainConfig.getBatchQueryConfig().isBillingDataCopyIngestEnabled();
+  }
+
+  /**
+   * Streams the rows through COPY into a transaction scoped staging table and merges them into the billing table
+   * with a single INSERT ... SELECT, keeping the ON CONFLICT DO NOTHING semantics of the batch insert path.
+   * Returns false if the rows could not be written, in which case the caller falls back to the batch insert path.
+   */
+  boolean createUsingCopy(List<InstanceBillingData> instanceBillingDataList, BatchJobType batchJobType) {
+    String tableName = BillingDataTableNameProvider.getTableName(batchJobType);
+    long startTime = System.currentTimeMillis();
+    try (Connection dbConnection = timeScaleDBService.getDBConnection()) {
+      boolean autoCommit = dbConnection.getAutoCommit();
+      dbConnection.setAutoCommit(false);
+      try (Statement statement = dbConnection.createStatement()) {
+        statement.execute(String.format(CREATE_COPY_STAGING_TABLE, COPY_STAGING_TABLE, tableName));
+        copyIntoStaging(dbConnection.unwrap(PGConnection.class).getCopyAPI(), instanceBillingDataList);
+        int inserted =
+            statement.executeUpdate(String.format(MERGE_FROM_STAGING_STATEMENT, tableName, COPY_STAGING_TABLE));
+        dbConnection.commit();
+        log.info("Copied instance billing data into {}, rows=[{}], inserted=[{}], timeTaken=[{}]ms", tableName,
+            instanceBillingDataList.size(), inserted, System.currentTimeMillis() - startTime);
+        return true;
+      } catch (SQLException | IOException e) {
+        dbConnection.rollback();
+        throw e;
+      } finally {
+        dbConnection.setAutoCommit(autoCommit);
+      }
+    } catch (SQLException | IOException e) {
+      log.warn("Failed to copy instance billing data,[{}], falling back to batch insert. Exception: ",
+          instanceBillingDataList.size(), e);
+      return false;
+    }
+  }
+
+  private void copyIntoStaging(CopyManager copyManager, List<InstanceBillingData> instanceBillingDataList)
+      throws SQLException, IOException {
+    CopyIn copyIn = copyManager.copyIn(String.format(COPY_INTO_STAGING_STATEMENT, COPY_STAGING_TABLE));
+    try {
+      StringBuilder rows = new StringBuilder();
+      int index = 0;
+      for (InstanceBillingData instanceBillingData : instanceBillingDataList) {
+        appendCopyRow(rows, instanceBillingData);
+        index++;
+
+        if (index % BATCH_SIZE == 0 || index == instanceBillingDataList.size()) {
+          byte[] bytes = rows.toString().getBytes(StandardCharsets.UTF_8);
+          copyIn.writeToCopy(bytes, 0, bytes.length);
+          rows.setLength(0);
+        }
+      }
+      copyIn.endCopy();
+    } finally {
+      if (copyIn.isActive()) {
+        copyIn.cancelCopy();
+      }
+    }
+  }
+
+  // Column order must match INSERT_COLUMNS and updateInsertStatement
+  void appendCopyRow(StringBuilder row, InstanceBillingData instanceBillingData) {
+    appendCsvValue(row, Instant.ofEpochMilli(instanceBillingData.getStartTimestamp()));
+    appendCsvValue(row, Instant.ofEpochMilli(instanceBillingData.getEndTimestamp()));
+    appendCsvValue(row, instanceBillingData.getAccountId());
+    appendCsvValue(row, instanceBillingData.getInstanceType());
+    appendCsvValue(row, instanceBillingData.getBillingAccountId());
+    appendCsvValue(row, instanceBillingData.getBillingAmount());
+    appendCsvValue(row, instanceBillingData.getCpuBillingAmount());
+    appendCsvValue(row, instanceBillingData.getMemoryBillingAmount());
+    appendCsvValue(row, instanceBillingData.getUsageDurationSeconds());
+    appendCsvValue(row, instanceBillingData.getInstanceId());
+    appendCsvValue(row, instanceBillingData.getClusterName());
+    appendCsvValue(row, instanceBillingData.getClusterId());
+    appendCsvValue(row, instanceBillingData.getSettingId());
+    appendCsvValue(row, instanceBillingData.getServiceId());
+    appendCsvValue(row, instanceBillingData.getAppId());
+    appendCsvValue(row, instanceBillingData.getCloudProviderId());
+    appendCsvValue(row, instanceBillingData.getEnvId());
+    appendCsvValue(row, instanceBillingData.getCpuUnitSeconds());
+    appendCsvValue(row, instanceBillingData.getMemoryMbSeconds());
+    appendCsvValue(row, instanceBillingData.getParentInstanceId());
+    appendCsvValue(row, instanceBillingData.getRegion());
+    appendCsvValue(row, instanceBillingData.getLaunchType());
+    appendCsvValue(row, instanceBillingData.getClusterType());
+    appendCsvValue(row, instanceBillingData.getCloudProvider());
+    appendCsvValue(row, instanceBillingData.getWorkloadName());
+    appendCsvValue(row, instanceBillingData.getWorkloadType());
+    appendCsvValue(row, instanceBillingData.getNamespace());
+    appendCsvValue(row, instanceBillingData.getCloudServiceName());
+    appendCsvValue(row, instanceBillingData.getTaskId());
+    appendCsvValue(row, instanceBillingData.getIdleCost());
+    appendCsvValue(row, instanceBillingData.getCpuIdleCost());
+    appendCsvValue(row, instanceBillingData.getMemoryIdleCost());
+    appendCsvValue(row, instanceBillingData.getMaxCpuUtilization());
+    appendCsvValue(row, instanceBillingData.getMaxMemoryUtilization());
+    appendCsvValue(row, instanceBillingData.getAvgCpuUtilization());
+    appendCsvValue(row, instanceBillingData.getAvgMemoryUtilization());
+    appendCsvValue(row, instanceBillingData.getSystemCost());
+    appendCsvValue(row, instanceBillingData.getCpuSystemCost());
+    appendCsvValue(row, instanceBillingData.getMemorySystemCost());
+    appendCsvValue(row, instanceBillingData.getActualIdleCost());
+    appendCsvValue(row, instanceBillingData.getCpuActualIdleCost());
+    appendCsvValue(row, instanceBillingData.getMemoryActualIdleCost());
+    appendCsvValue(row, instanceBillingData.getUnallocatedCost());
+    appendCsvValue(row, instanceBillingData.getCpuUnallocatedCost());
+    appendCsvValue(row, instanceBillingData.getMemoryUnallocatedCost());
+    appendCsvValue(row, instanceBillingData.getInstanceName());
+    appendCsvValue(row, instanceBillingData.getCpuRequest());
+    appendCsvValue(row, instanceBillingData.getMemoryRequest());
+    appendCsvValue(row, instanceBillingData.getCpuLimit());
+    appendCsvValue(row, instanceBillingData.getMemoryLimit());
+    appendCsvValue(row, instanceBillingData.getMaxCpuUtilizationValue());
+    appendCsvValue(row, instanceBillingData.getMaxMemoryUtilizationValue());
+    appendCsvValue(row, instanceBillingData.getAvgCpuUtilizationValue());
+    appendCsvValue(row, instanceBillingData.getAvgMemoryUtilizationValue());
+    appendCsvValue(row, instanceBillingData.getNetworkCost());
+    appendCsvValue(row, instanceBillingData.getPricingSource());
+    appendCsvValue(row, instanceBillingData.getStorageActualIdleCost());
+    appendCsvValue(row, instanceBillingData.getStorageUnallocatedCost());
+    appendCsvValue(row, instanceBillingData.getStorageUtilizationValue());
+    appendCsvValue(row, instanceBillingData.getStorageRequest());
+    appendCsvValue(row, instanceBillingData.getStorageMbSeconds());
+    appendCsvValue(row, instanceBillingData.getStorageBillingAmount());
+    appendCsvValue(row, instanceBillingData.getMaxStorageUtilizationValue());
+    appendCsvValue(row, instanceBillingData.getMaxStorageRequest());
+    appendCsvValue(row, instanceBillingData.getOrgIdentifier());
+    appendCsvValue(row, instanceBillingData.getProjectIdentifier());
+    row.setCharAt(row.length() - 1, '\n');
+  }
+
+  // Unquoted empty values are read as NULL by COPY csv, so every non null string is quoted to keep '' distinct
+  private static void appendCsvValue(StringBuilder row, Object value) {
+    if (value instanceof String) {
+      row.append('"').append(((String) value).replace("\"", "\"\"")).append('"');
+    } else if (value instanceof BigDecimal) {
+      row.append(((BigDecimal) value).toPlainString());
+    } else if (value != null) {
+      row.append(value);
+    }
+    row.append(',');
+  }
+
+  private static void appendCsvValue(StringBuilder row, double value) {
+    row.append(value).append(',');
+  }
+
+  private boolean createUsingBatchInsert(List<InstanceBillingData> instanceBillingDataList, BatchJobType batchJobType) {
     boolean successfulInsert = false;
     if (timeScaleDBService.isValid() && !instanceBillingDataList.isEmpty()) {
       String insertStatement = BillingDataTableNameProvider.replaceTableName(INSERT_STATEMENT, batchJobType);
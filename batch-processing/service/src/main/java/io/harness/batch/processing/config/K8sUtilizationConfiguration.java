@@ -10,7 +10,7 @@ package io.harness.batch.processing.config;
 import io.harness.batch.processing.ccm.BatchJobType;
 import io.harness.batch.processing.dao.intfc.PublishedMessageDao;
 import io.harness.batch.processing.reader.K8sGranularUtilizationMetricsReader;
-import io.harness.batch.processing.reader.PublishedMessageBatchedReader;
+import io.harness.batch.processing.reader.PublishedMessageStreamingReader;
 import io.harness.batch.processing.svcmetrics.BatchJobExecutionListener;
 import io.harness.batch.processing.writer.K8sPVUtilizationAggregationTasklet;
 import io.harness.batch.processing.writer.K8sUtilizationMetricsWriter;
@@ -56,7 +56,7 @@ public class K8sUtilizationConfiguration {
   public ItemReader<PublishedMessage> k8sPodUtilizationEventMessageReader(
       @Value("#{jobParameters[accountId]}") String accountId, @Value("#{jobParameters[startDate]}") Long startDate,
       @Value("#{jobParameters[endDate]}") Long endDate) {
-    return new PublishedMessageBatchedReader(
+    return new PublishedMessageStreamingReader(
         accountId, EventTypeConstants.POD_UTILIZATION, startDate, endDate, null, publishedMessageDao);
   }
 
@@ -86,7 +86,7 @@ public class K8sUtilizationConfiguration {
   public ItemReader<PublishedMessage> k8sNodeUtilizationEventMessageReader(
       @Value("#{jobParameters[accountId]}") String accountId, @Value("#{jobParameters[startDate]}") Long startDate,
       @Value("#{jobParameters[endDate]}") Long endDate) {
-    return new PublishedMessageBatchedReader(
+    return new PublishedMessageStreamingReader(
         accountId, EventTypeConstants.NODE_UTILIZATION, startDate, endDate, GRANULAR_BATCH_SIZE, publishedMessageDao);
   }
 
@@ -116,7 +116,7 @@ public class K8sUtilizationConfiguration {
   public ItemReader<PublishedMessage> k8sPVUtilizationEventMessageReader(
       @Value("#{jobParameters[accountId]}") String accountId, @Value("#{jobParameters[startDate]}") Long startDate,
       @Value("#{jobParameters[endDate]}") Long endDate) {
-    return new PublishedMessageBatchedReader(
+    return new PublishedMessageStreamingReader(
         accountId, EventTypeConstants.PV_UTILIZATION, startDate, endDate, GRANULAR_BATCH_SIZE, publishedMessageDao);
   }
 
@@ -9,9 +9,12 @@ package io.harness.batch.processing.dao.impl;
 
 import static io.harness.persistence.HQuery.excludeCount;
 
+import static org.mongodb.morphia.mapping.Mapper.ID_KEY;
+
 import io.harness.batch.processing.dao.intfc.PublishedMessageDao;
 import io.harness.ccm.commons.entities.events.PublishedMessage;
 import io.harness.ccm.commons.entities.events.PublishedMessage.PublishedMessageKeys;
+import io.harness.persistence.HIterator;
 import io.harness.persistence.HPersistence;
 
 import com.google.inject.Inject;
@@ -20,6 +23,7 @@ import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.mongodb.morphia.query.FindOptions;
 import org.mongodb.morphia.query.Query;
+import org.mongodb.morphia.query.Sort;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
@@ -41,4 +45,23 @@ public class PublishedMessageDaoImpl implements PublishedMessageDao {
         query.criteria(PublishedMessageKeys.createdAt).lessThan(endTime));
     return query.asList(new FindOptions().limit(batchSize));
   }
+
+  @Override
+  public HIterator<PublishedMessage> streamPublishedMessages(String accountId, String messageType, Long startTime,
+      Long endTime, PublishedMessage resumeAfter, int batchSize) {
+    Query<PublishedMessage> query = hPersistence.createQuery(PublishedMessage.class, excludeCount)
+                                        .filter(PublishedMessageKeys.accountId, accountId)
+                                        .filter(PublishedMessageKeys.type, messageType)
+                                        .order(Sort.ascending(PublishedMessageKeys.createdAt), Sort.ascending(ID_KEY));
+
+    query.and(query.criteria(PublishedMessageKeys.createdAt).greaterThanOrEq(startTime),
+        query.criteria(PublishedMessageKeys.createdAt).lessThan(endTime));
+    if (resumeAfter != null) {
+      // id breaks the ties between messages created in the same millisecond
+      query.or(query.criteria(PublishedMessageKeys.createdAt).greaterThan(resumeAfter.getCreatedAt()),
+          query.and(query.criteria(PublishedMessageKeys.createdAt).equal(resumeAfter.getCreatedAt()),
+              query.criteria(ID_KEY).greaterThan(resumeAfter.getUuid())));
+    }
+    return new HIterator<>(query.fetch(new FindOptions().batchSize(batchSize)));
+  }
 }
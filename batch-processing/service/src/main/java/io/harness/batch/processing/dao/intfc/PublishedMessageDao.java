@@ -8,10 +8,19 @@
 package io.harness.batch.processing.dao.intfc;
 
 import io.harness.ccm.commons.entities.events.PublishedMessage;
+import io.harness.persistence.HIterator;
 
 import java.util.List;
 
 public interface PublishedMessageDao {
   List<PublishedMessage> fetchPublishedMessage(
       String accountId, String messageType, Long startTime, Long endTime, int batchSize);
+
+  /**
+   * Opens a single cursor over the messages created in [startTime, endTime), ordered by createdAt and then by id.
+   *
+   * @param resumeAfter if not null, only the messages ordered after it are returned
+   */
+  HIterator<PublishedMessage> streamPublishedMessages(String accountId, String messageType, Long startTime,
+      Long endTime, PublishedMessage resumeAfter, int batchSize);
 }
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.batch.processing.reader;
+
+import static com.google.common.base.MoreObjects.firstNonNull;
+import static com.google.common.base.Preconditions.checkArgument;
+
+import io.harness.batch.processing.dao.intfc.PublishedMessageDao;
+import io.harness.ccm.commons.entities.events.PublishedMessage;
+import io.harness.persistence.HIterator;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.mongodb.MongoException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ItemReader;
+
+/**
+ * Streams the published messages of an account and type in a time window, with a single cursor per partition instead
+ * of a query per batch.
+ * <p/>
+ * Batches are fetched in the background while the step processes the previous ones. If a cursor fails it is reopened
+ * after the last fetched message, ordered by createdAt and id, so no message is skipped or read twice. With more than
+ * one partition the window is split in equal time ranges read in parallel, and the messages are no longer ordered.
+ * <p/>
+ * This is a stateful reader and hence can't be singleton.
+ */
+@Slf4j
+public class PublishedMessageStreamingReader implements ItemReader<PublishedMessage>, AutoCloseable {
+  private static final int DEFAULT_READER_BATCH_SIZE = 500;
+  private static final int PREFETCHED_BATCHES_PER_PARTITION = 2;
+  private static final int MAX_CURSOR_RETRIES = 3;
+  private static final long HAND_OFF_POLL_MILLIS = 100;
+  // Marks the end of a partition, compared by reference
+  private static final List<PublishedMessage> END_OF_PARTITION = Collections.unmodifiableList(new ArrayList<>());
+
+  private final String accountId;
+  private final String messageType;
+  private final Long startTime;
+  private final Long endTime;
+  private final int readerBatchSize;
+  private final int partitions;
+  private final PublishedMessageDao publishedMessageDao;
+  private final BlockingQueue<List<PublishedMessage>> prefetched;
+
+  private ExecutorService executorService;
+  private volatile boolean closed;
+  private volatile Exception failure;
+  private int openPartitions;
+  private Iterator<PublishedMessage> current = Collections.emptyIterator();
+
+  public PublishedMessageStreamingReader(String accountId, String messageType, Long startDate, Long endDate,
+      Integer readerBatchSize, PublishedMessageDao publishedMessageDao) {
+    this(accountId, messageType, startDate, endDate, readerBatchSize, 1, publishedMessageDao);
+  }
+
+  public PublishedMessageStreamingReader(String accountId, String messageType, Long startDate, Long endDate,
+      Integer readerBatchSize, int partitions, PublishedMessageDao publishedMessageDao) {
+    checkArgument(partitions > 0, "partitions should be positive");
+    this.accountId = accountId;
+    this.messageType = messageType;
+    this.startTime = startDate;
+    this.endTime = endDate;
+    this.readerBatchSize = firstNonNull(readerBatchSize, DEFAULT_READER_BATCH_SIZE);
+    this.partitions = partitions;
+    this.publishedMessageDao = publishedMessageDao;
+    this.prefetched = new ArrayBlockingQueue<>(partitions * PREFETCHED_BATCHES_PER_PARTITION + partitions);
+  }
+
+  @Override
+  public PublishedMessage read() throws Exception {
+    if (executorService == null) {
+      startPartitions();
+    }
+    while (!current.hasNext()) {
+      if (closed) {
+        // Nothing is handed off once closed, so a read after a failure or a close must not wait for it
+        if (failure != null) {
+          throw failure;
+        }
+        return null;
+      }
+      if (openPartitions == 0) {
+        // ItemReader expects null if no item left.
+        return null;
+      }
+      List<PublishedMessage> batch = prefetched.poll(HAND_OFF_POLL_MILLIS, TimeUnit.MILLISECONDS);
+      if (batch == null) {
+        continue;
+      }
+      if (batch == END_OF_PARTITION) {
+        openPartitions--;
+        if (failure != null) {
+          close();
+          throw failure;
+        }
+        if (openPartitions == 0) {
+          executorService.shutdown();
+        }
+      } else {
+        current = batch.iterator();
+      }
+    }
+    return current.next();
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    if (executorService != null) {
+      executorService.shutdownNow();
+    }
+  }
+
+  private void startPartitions() {
+    executorService = Executors.newFixedThreadPool(partitions,
+        new ThreadFactoryBuilder().setNameFormat("published-message-reader-%d").setDaemon(true).build());
+    long partitionWidth = Math.max(1, (endTime - startTime + partitions - 1) / partitions);
+    for (long partitionStart = startTime; partitionStart < endTime; partitionStart += partitionWidth) {
+      long partitionEnd = Math.min(endTime, partitionStart + partitionWidth);
+      long from = partitionStart;
+      openPartitions++;
+      executorService.submit(() -> streamPartition(from, partitionEnd));
+    }
+  }
+
+  private void streamPartition(long partitionStart, long partitionEnd) {
+    PublishedMessage resumeAfter = null;
+    int retries = 0;
+    try {
+      while (true) {
+        try (HIterator<PublishedMessage> iterator = publishedMessageDao.streamPublishedMessages(
+                 accountId, messageType, partitionStart, partitionEnd, resumeAfter, readerBatchSize)) {
+          List<PublishedMessage> batch = new ArrayList<>(readerBatchSize);
+          while (iterator.hasNext()) {
+            batch.add(iterator.next());
+            if (batch.size() == readerBatchSize) {
+              if (!handOff(batch)) {
+                return;
+              }
+              resumeAfter = batch.get(batch.size() - 1);
+              batch = new ArrayList<>(readerBatchSize);
+            }
+          }
+          if (!batch.isEmpty()) {
+            handOff(batch);
+          }
+          return;
+        } catch (MongoException e) {
+          if (++retries > MAX_CURSOR_RETRIES) {
+            throw e;
+          }
+          log.warn("Cursor failed for {} {} in [{}, {}), resuming after {}", accountId, messageType, partitionStart,
+              partitionEnd, resumeAfter == null ? null : resumeAfter.getUuid(), e);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (Exception e) {
+      log.error("Failed to stream published messages for {} {}", accountId, messageType, e);
+      failure = e;
+    } finally {
+      try {
+        handOff(END_OF_PARTITION);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * @return false if the reader got closed before the batch could be handed off
+   */
+  private boolean handOff(List<PublishedMessage> batch) throws InterruptedException {
+    while (!closed) {
+      if (prefetched.offer(batch, HAND_OFF_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
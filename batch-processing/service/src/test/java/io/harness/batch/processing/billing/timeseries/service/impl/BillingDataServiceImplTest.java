@@ -14,8 +14,10 @@ import static io.harness.rule.OwnerRule.UTSAV;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.harness.CategoryTest;
@@ -29,6 +31,7 @@ import io.harness.ccm.commons.utils.TimeUtils;
 import io.harness.rule.Owner;
 import io.harness.timescaledb.TimeScaleDBService;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -50,6 +53,9 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.mockito.stubbing.Answer;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
 
 @RunWith(MockitoJUnitRunner.class)
 public class BillingDataServiceImplTest extends CategoryTest {
@@ -105,6 +111,72 @@ public class BillingDataServiceImplTest extends CategoryTest {
     assertThat(insert).isTrue();
   }
 
+  @Test
+  @Owner(developers = HITESH)
+  @Category(UnitTests.class)
+  public void testCreateBillingDataUsingCopy() throws SQLException, IOException {
+    Connection mockConnection = mock(Connection.class);
+    PGConnection pgConnection = mock(PGConnection.class);
+    CopyManager copyManager = mock(CopyManager.class);
+    CopyIn copyIn = mock(CopyIn.class);
+    when(timeScaleDBService.getDBConnection()).thenReturn(mockConnection);
+    when(mockConnection.createStatement()).thenReturn(statement);
+    when(mockConnection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+    when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+    when(copyManager.copyIn(anyString())).thenReturn(copyIn);
+
+    boolean insert = billingDataService.createUsingCopy(
+        ImmutableList.of(instanceBillingData(), instanceBillingData()), BatchJobType.INSTANCE_BILLING_HOURLY);
+
+    assertThat(insert).isTrue();
+    verify(copyManager).copyIn(String.format(
+        BillingDataServiceImpl.COPY_INTO_STAGING_STATEMENT, BillingDataServiceImpl.COPY_STAGING_TABLE));
+    verify(copyIn).writeToCopy(any(byte[].class), anyInt(), anyInt());
+    verify(copyIn).endCopy();
+    verify(statement).executeUpdate(String.format(BillingDataServiceImpl.MERGE_FROM_STAGING_STATEMENT,
+        "billing_data_hourly", BillingDataServiceImpl.COPY_STAGING_TABLE));
+    verify(mockConnection).commit();
+  }
+
+  @Test
+  @Owner(developers = HITESH)
+  @Category(UnitTests.class)
+  public void testCreateBillingDataUsingCopyFailure() throws SQLException {
+    Connection mockConnection = mock(Connection.class);
+    when(timeScaleDBService.getDBConnection()).thenReturn(mockConnection);
+    when(mockConnection.createStatement()).thenReturn(statement);
+    when(mockConnection.unwrap(PGConnection.class)).thenThrow(new SQLException());
+
+    boolean insert =
+        billingDataService.createUsingCopy(ImmutableList.of(instanceBillingData()), BatchJobType.INSTANCE_BILLING);
+
+    assertThat(insert).isFalse();
+    verify(mockConnection).rollback();
+  }
+
+  @Test
+  @Owner(developers = HITESH)
+  @Category(UnitTests.class)
+  public void testAppendCopyRow() {
+    InstanceBillingData instanceBillingData = instanceBillingData();
+    instanceBillingData.setBillingAmount(new BigDecimal("1E+2"));
+    instanceBillingData.setClusterName("cluster \"a\",b");
+    instanceBillingData.setNamespace("");
+    StringBuilder row = new StringBuilder();
+
+    billingDataService.appendCopyRow(row, instanceBillingData);
+
+    String[] values = row.toString().split(",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)", -1);
+    assertThat(values).hasSize(66);
+    assertThat(values[0]).isEqualTo("2018-12-31T18:30:00Z");
+    assertThat(values[2]).isEqualTo("\"ACCOUNT_ID\"");
+    assertThat(values[4]).isEmpty();
+    assertThat(values[5]).isEqualTo("100");
+    assertThat(values[10]).isEqualTo("\"cluster \"\"a\"\",b\"");
+    assertThat(values[26]).isEqualTo("\"\"");
+    assertThat(values[65]).isEqualTo("\n");
+  }
+
   @Test
   @Owner(developers = SHUBHANSHU)
   @Category(UnitTests.class)
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.batch.processing.reader;
+
+import static io.harness.rule.OwnerRule.UTSAV;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Matchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.batch.processing.dao.intfc.PublishedMessageDao;
+import io.harness.batch.processing.writer.constants.EventTypeConstants;
+import io.harness.category.element.UnitTests;
+import io.harness.ccm.commons.entities.events.PublishedMessage;
+import io.harness.persistence.HIterator;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableList;
+import com.mongodb.MongoException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class PublishedMessageStreamingReaderTest extends CategoryTest {
+  @Mock private PublishedMessageDao publishedMessageDao;
+
+  private static final String ACCOUNT_ID = "ACCOUNT_ID";
+  private static final String MESSAGE_TYPE = EventTypeConstants.POD_UTILIZATION;
+  private static final long START = 1000L;
+  private static final long END = 2000L;
+
+  @Before
+  public void setup() {
+    MockitoAnnotations.initMocks(this);
+  }
+
+  @Test
+  @Owner(developers = UTSAV)
+  @Category(UnitTests.class)
+  public void testReadWithNoItem() throws Exception {
+    when(publishedMessageDao.streamPublishedMessages(any(), any(), any(), any(), any(), anyInt()))
+        .thenReturn(iterator(ImmutableList.of()));
+
+    try (PublishedMessageStreamingReader reader = reader(1)) {
+      assertThat(reader.read()).isNull();
+    }
+  }
+
+  @Test
+  @Owner(developers = UTSAV)
+  @Category(UnitTests.class)
+  public void testReadAllMessagesOfSameMillisecond() throws Exception {
+    List<PublishedMessage> messages = ImmutableList.of(createPM("0", START), createPM("1", START),
+        createPM("2", START), createPM("3", START), createPM("4", START));
+    when(publishedMessageDao.streamPublishedMessages(
+             eq(ACCOUNT_ID), eq(MESSAGE_TYPE), eq(START), eq(END), isNull(PublishedMessage.class), eq(2)))
+        .thenReturn(iterator(messages));
+
+    try (PublishedMessageStreamingReader reader = reader(1)) {
+      assertThat(readAll(reader)).containsExactlyElementsOf(messages);
+    }
+  }
+
+  @Test
+  @Owner(developers = UTSAV)
+  @Category(UnitTests.class)
+  public void testResumeAfterLastHandedOffMessageOnCursorFailure() throws Exception {
+    PublishedMessage pm0 = createPM("0", START);
+    PublishedMessage pm1 = createPM("1", START);
+    PublishedMessage pm2 = createPM("2", START);
+    PublishedMessage pm3 = createPM("3", START + 1);
+    when(publishedMessageDao.streamPublishedMessages(
+             eq(ACCOUNT_ID), eq(MESSAGE_TYPE), eq(START), eq(END), isNull(PublishedMessage.class), eq(2)))
+        .thenReturn(failingIterator(ImmutableList.of(pm0, pm1, pm2)));
+    when(publishedMessageDao.streamPublishedMessages(
+             eq(ACCOUNT_ID), eq(MESSAGE_TYPE), eq(START), eq(END), eq(pm1), eq(2)))
+        .thenReturn(iterator(ImmutableList.of(pm2, pm3)));
+
+    try (PublishedMessageStreamingReader reader = reader(1)) {
+      assertThat(readAll(reader)).containsExactly(pm0, pm1, pm2, pm3);
+    }
+  }
+
+  @Test
+  @Owner(developers = UTSAV)
+  @Category(UnitTests.class)
+  public void testFailAfterCursorRetries() throws Exception {
+    when(publishedMessageDao.streamPublishedMessages(any(), any(), any(), any(), any(), anyInt()))
+        .thenAnswer(invocation -> failingIterator(ImmutableList.of()));
+
+    try (PublishedMessageStreamingReader reader = reader(1)) {
+      assertThatExceptionOfType(MongoException.class).isThrownBy(reader::read);
+      // A retried read fails again instead of waiting for batches that never come
+      assertThatExceptionOfType(MongoException.class).isThrownBy(reader::read);
+    }
+  }
+
+  @Test
+  @Owner(developers = UTSAV)
+  @Category(UnitTests.class)
+  public void testReadAfterCloseReturnsNull() throws Exception {
+    when(publishedMessageDao.streamPublishedMessages(any(), any(), any(), any(), any(), anyInt()))
+        .thenReturn(iterator(ImmutableList.of(createPM("0", START), createPM("1", START), createPM("2", START))));
+
+    PublishedMessageStreamingReader reader = reader(1);
+    assertThat(reader.read()).isNotNull();
+    reader.close();
+    assertThat(reader.read()).isNotNull();
+    assertThat(reader.read()).isNull();
+  }
+
+  @Test
+  @Owner(developers = UTSAV)
+  @Category(UnitTests.class)
+  public void testReadPartitions() throws Exception {
+    PublishedMessage pm0 = createPM("0", START);
+    PublishedMessage pm1 = createPM("1", START + 500);
+    when(publishedMessageDao.streamPublishedMessages(
+             eq(ACCOUNT_ID), eq(MESSAGE_TYPE), eq(START), eq(START + 500), any(), anyInt()))
+        .thenReturn(iterator(ImmutableList.of(pm0)));
+    when(publishedMessageDao.streamPublishedMessages(
+             eq(ACCOUNT_ID), eq(MESSAGE_TYPE), eq(START + 500), eq(END), any(), anyInt()))
+        .thenReturn(iterator(ImmutableList.of(pm1)));
+
+    try (PublishedMessageStreamingReader reader = reader(2)) {
+      assertThat(readAll(reader)).containsExactlyInAnyOrder(pm0, pm1);
+    }
+  }
+
+  private PublishedMessageStreamingReader reader(int partitions) {
+    return new PublishedMessageStreamingReader(
+        ACCOUNT_ID, MESSAGE_TYPE, START, END, 2, partitions, publishedMessageDao);
+  }
+
+  private static List<PublishedMessage> readAll(PublishedMessageStreamingReader reader) throws Exception {
+    List<PublishedMessage> read = new ArrayList<>();
+    for (PublishedMessage message = reader.read(); message != null; message = reader.read()) {
+      read.add(message);
+    }
+    return read;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static HIterator<PublishedMessage> iterator(List<PublishedMessage> messages) {
+    Iterator<PublishedMessage> iterator = messages.iterator();
+    HIterator<PublishedMessage> hIterator = mock(HIterator.class);
+    when(hIterator.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+    when(hIterator.next()).thenAnswer(invocation -> iterator.next());
+    return hIterator;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static HIterator<PublishedMessage> failingIterator(List<PublishedMessage> messages) {
+    Iterator<PublishedMessage> iterator = messages.iterator();
+    HIterator<PublishedMessage> hIterator = mock(HIterator.class);
+    when(hIterator.hasNext()).thenAnswer(invocation -> {
+      if (!iterator.hasNext()) {
+        throw new MongoException("cursor not found");
+      }
+      return true;
+    });
+    when(hIterator.next()).thenAnswer(invocation -> iterator.next());
+    return hIterator;
+  }
+
+  private static PublishedMessage createPM(String uuid, long createdAt) {
+    PublishedMessage publishedMessage =
+        PublishedMessage.builder().accountId(ACCOUNT_ID).type(MESSAGE_TYPE).uuid(uuid).build();
+    publishedMessage.setCreatedAt(createdAt);
+    return publishedMessage;
+  }
+}
@@ -50,13 +50,17 @@ public class AuditClientServiceImpl implements AuditClientService {
 
   public boolean publishAudit(AuditEntry auditEntry, GlobalContext globalContext) {
     AuditEventDTO auditEventDTO = getAuditEventDTO(auditEntry, globalContext, null);
-    return getResponse(auditClient.createAudit(auditEventDTO));
+    return publish(auditEventDTO);
   }
 
   @Override
   public boolean publishAudit(
       AuditEntry auditEntry, AuthenticationInfoDTO authenticationInfo, GlobalContext globalContext) {
     AuditEventDTO auditEventDTO = getAuditEventDTO(auditEntry, globalContext, authenticationInfo);
+    return publish(auditEventDTO);
+  }
+
+  protected boolean publish(AuditEventDTO auditEventDTO) {
     return getResponse(auditClient.createAudit(auditEventDTO));
   }
 
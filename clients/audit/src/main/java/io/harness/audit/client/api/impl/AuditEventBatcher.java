@@ -0,0 +1,259 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.audit.client.api.impl;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.remote.client.NGRestUtils.getResponse;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.audit.beans.AuditEventDTO;
+import io.harness.audit.client.remote.AuditClient;
+import io.harness.serializer.JsonUtils;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
+import io.dropwizard.lifecycle.Managed;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sends audit events to the audit service in batches from a background thread. Audits published while a batch is on
+ * its way are sent together in the next one, so concurrent publishers share round trips without any of them waiting
+ * for a batch to fill up.
+ *
+ * An audit counts as delivered once the audit service accepted its batch, or once a batch that still failed after a
+ * few attempts was appended to the spool file. Spooled audits are sent again once the audit service accepts batches
+ * again, also after a restart of the process. Without a spool file an audit that could not be sent is reported as not
+ * delivered, so that the caller can keep it and retry.
+ */
+@Slf4j
+@OwnedBy(PL)
+public class AuditEventBatcher implements Managed {
+  private static final int MAX_PENDING_EVENTS = 10000;
+  private static final int MAX_BATCH_SIZE = 200;
+  private static final long POLL_TIMEOUT_MILLIS = 500;
+  private static final int MAX_SEND_ATTEMPTS = 3;
+  private static final long RETRY_DELAY_MILLIS = 1000;
+  private static final long SPOOL_REPLAY_INTERVAL_MILLIS = 60000;
+  private static final long SHUTDOWN_TIMEOUT_MILLIS = 10000;
+
+  private final AuditClient auditClient;
+  private final Path spoolFile;
+  private final BlockingQueue<PendingAudit> pending = new LinkedBlockingQueue<>(MAX_PENDING_EVENTS);
+  private final Object spoolLock = new Object();
+
+  private Thread sender;
+  private boolean stopped;
+  private long nextSpoolReplayAt;
+
+  @AllArgsConstructor
+  private static class PendingAudit {
+    private final AuditEventDTO auditEventDTO;
+    private final CompletableFuture<Boolean> delivered;
+  }
+
+  /**
+   * @param spoolFile file to keep the audits that could not be sent in, null to report them as not delivered
+   */
+  public AuditEventBatcher(AuditClient auditClient, Path spoolFile) {
+    this.auditClient = auditClient;
+    this.spoolFile = spoolFile;
+  }
+
+  /**
+   * @return completes with whether the audit was delivered, null if the audit was not taken and has to be sent by the
+   *     caller
+   */
+  public synchronized CompletableFuture<Boolean> offer(AuditEventDTO auditEventDTO) {
+    if (sender == null || stopped) {
+      return null;
+    }
+    PendingAudit pendingAudit = new PendingAudit(auditEventDTO, new CompletableFuture<>());
+    return pending.offer(pendingAudit) ? pendingAudit.delivered : null;
+  }
+
+  @Override
+  public synchronized void start() {
+    if (sender != null) {
+      return;
+    }
+    sender = new Thread(this::run, "audit-event-batcher");
+    sender.setDaemon(true);
+    sender.start();
+  }
+
+  @Override
+  public void stop() {
+    Thread current;
+    synchronized (this) {
+      stopped = true;
+      current = sender;
+    }
+    if (current == null) {
+      return;
+    }
+    try {
+      current.join(SHUTDOWN_TIMEOUT_MILLIS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    List<PendingAudit> remaining = new ArrayList<>();
+    pending.drainTo(remaining);
+    if (!remaining.isEmpty()) {
+      complete(remaining, spool(auditEventDTOs(remaining)));
+    }
+  }
+
+  private synchronized boolean isStopped() {
+    return stopped;
+  }
+
+  private void run() {
+    while (!isStopped() || !pending.isEmpty()) {
+      try {
+        List<PendingAudit> batch = nextBatch();
+        if (!batch.isEmpty()) {
+          List<AuditEventDTO> auditEventDTOs = auditEventDTOs(batch);
+          if (send(auditEventDTOs)) {
+            complete(batch, true);
+            replaySpoolIfDue();
+          } else {
+            complete(batch, spool(auditEventDTOs));
+          }
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (Exception e) {
+        log.error("Unexpected error while sending audit batches", e);
+      }
+    }
+  }
+
+  private List<PendingAudit> nextBatch() throws InterruptedException {
+    List<PendingAudit> batch = new ArrayList<>(MAX_BATCH_SIZE);
+    PendingAudit first = pending.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+    if (first == null) {
+      return batch;
+    }
+    batch.add(first);
+    pending.drainTo(batch, MAX_BATCH_SIZE - 1);
+    return batch;
+  }
+
+  private static List<AuditEventDTO> auditEventDTOs(List<PendingAudit> batch) {
+    return batch.stream().map(pendingAudit -> pendingAudit.auditEventDTO).collect(Collectors.toList());
+  }
+
+  private static void complete(List<PendingAudit> batch, boolean delivered) {
+    batch.forEach(pendingAudit -> pendingAudit.delivered.complete(delivered));
+  }
+
+  @VisibleForTesting
+  boolean send(List<AuditEventDTO> batch) throws InterruptedException {
+    for (int attempt = 1; attempt <= MAX_SEND_ATTEMPTS; attempt++) {
+      try {
+        if (Boolean.TRUE.equals(getResponse(auditClient.createAudits(batch)))) {
+          return true;
+        }
+        log.warn("Audit service did not accept a batch of {} audits, attempt {}", batch.size(), attempt);
+      } catch (Exception e) {
+        log.warn("Could not send a batch of {} audits, attempt {}", batch.size(), attempt, e);
+      }
+      if (attempt < MAX_SEND_ATTEMPTS) {
+        Thread.sleep(RETRY_DELAY_MILLIS * attempt);
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @return whether the batch is kept in the spool file
+   */
+  private boolean spool(List<AuditEventDTO> batch) {
+    if (spoolFile == null) {
+      log.error("[AUDIT_ERROR]: Could not send a batch of {} audits and there is no spool file", batch.size());
+      return false;
+    }
+    synchronized (spoolLock) {
+      StringBuilder lines = new StringBuilder();
+      for (AuditEventDTO auditEventDTO : batch) {
+        lines.append(JsonUtils.asJson(auditEventDTO)).append(System.lineSeparator());
+      }
+      // Forced to disk, the audits count as delivered from here on
+      try (FileChannel channel = FileChannel.open(
+               spoolFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(UTF_8));
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+        channel.force(true);
+      } catch (IOException e) {
+        log.error("[AUDIT_ERROR]: Could not spool a batch of {} audits", batch.size(), e);
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @VisibleForTesting
+  void replaySpoolIfDue() throws InterruptedException {
+    if (spoolFile == null || System.currentTimeMillis() < nextSpoolReplayAt) {
+      return;
+    }
+    // Left behind if the process died during an earlier replay
+    Path replayFile = spoolFile.resolveSibling(spoolFile.getFileName() + ".replay");
+    if (!Files.exists(spoolFile) && !Files.exists(replayFile)) {
+      return;
+    }
+    nextSpoolReplayAt = System.currentTimeMillis() + SPOOL_REPLAY_INTERVAL_MILLIS;
+    List<AuditEventDTO> spooled = new ArrayList<>();
+    synchronized (spoolLock) {
+      try {
+        if (!Files.exists(replayFile)) {
+          Files.move(spoolFile, replayFile);
+        }
+        for (String line : Files.readAllLines(replayFile, UTF_8)) {
+          if (!line.isEmpty()) {
+            spooled.add(JsonUtils.asObject(line, AuditEventDTO.class));
+          }
+        }
+      } catch (IOException e) {
+        log.error("Could not read the spooled audits", e);
+        return;
+      }
+    }
+    log.info("Sending {} spooled audits", spooled.size());
+    for (List<AuditEventDTO> batch : Lists.partition(spooled, MAX_BATCH_SIZE)) {
+      if (!send(batch) && !spool(batch)) {
+        // Keep the replay file, the audit service drops the audits of this file it already has on the next replay
+        return;
+      }
+    }
+    try {
+      Files.delete(replayFile);
+    } catch (IOException e) {
+      log.error("Could not delete the replayed audits", e);
+    }
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.audit.client.api.impl;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.audit.beans.AuditEventDTO;
+import io.harness.audit.client.remote.AuditClient;
+
+import com.google.inject.Inject;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Publishes audits through the {@link AuditEventBatcher}, falling back to sending them one by one when it is full or
+ * not running. An audit is reported as published only once the batcher delivered it, callers such as the outbox
+ * handlers drop their copy of the event on success.
+ */
+@Slf4j
+@OwnedBy(PL)
+public class BatchingAuditClientServiceImpl extends AuditClientServiceImpl {
+  private static final long DELIVERY_TIMEOUT_SECONDS = 60;
+
+  private final AuditEventBatcher auditEventBatcher;
+
+  @Inject
+  public BatchingAuditClientServiceImpl(AuditClient auditClient, AuditEventBatcher auditEventBatcher) {
+    super(auditClient);
+    this.auditEventBatcher = auditEventBatcher;
+  }
+
+  @Override
+  protected boolean publish(AuditEventDTO auditEventDTO) {
+    CompletableFuture<Boolean> delivered = auditEventBatcher.offer(auditEventDTO);
+    if (delivered == null) {
+      return super.publish(auditEventDTO);
+    }
+    try {
+      return delivered.get(DELIVERY_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    } catch (ExecutionException | TimeoutException e) {
+      log.warn("Audit {} was not delivered in time", auditEventDTO.getInsertId(), e);
+      return false;
+    }
+  }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.audit.client.remote;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@OwnedBy(PL)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditBatchConfig {
+  private boolean enabled;
+  // Directory where audits that could not be sent are kept until the audit service is back
+  private String spoolDirectory;
+}
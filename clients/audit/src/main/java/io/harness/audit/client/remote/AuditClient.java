@@ -13,6 +13,7 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.audit.beans.AuditEventDTO;
 import io.harness.ng.core.dto.ResponseDTO;
 
+import java.util.List;
 import retrofit2.Call;
 import retrofit2.http.Body;
 import retrofit2.http.POST;
@@ -22,4 +23,6 @@ public interface AuditClient {
   String AUDITS_API = "audits";
 
   @POST(AUDITS_API) Call<ResponseDTO<Boolean>> createAudit(@Body AuditEventDTO auditEventDTO);
+
+  @POST(AUDITS_API + "/batch") Call<ResponseDTO<Boolean>> createAudits(@Body List<AuditEventDTO> auditEventDTOs);
 }
@@ -8,10 +8,13 @@
 package io.harness.audit.client.remote;
 
 import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
 
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.audit.client.api.AuditClientService;
 import io.harness.audit.client.api.impl.AuditClientServiceImpl;
+import io.harness.audit.client.api.impl.AuditEventBatcher;
+import io.harness.audit.client.api.impl.BatchingAuditClientServiceImpl;
 import io.harness.audit.client.api.impl.NoopAuditClientServiceImpl;
 import io.harness.remote.client.ServiceHttpClientConfig;
 import io.harness.security.ServiceTokenGenerator;
@@ -21,6 +24,8 @@ import com.google.inject.AbstractModule;
 import com.google.inject.Provides;
 import com.google.inject.Scopes;
 import com.google.inject.Singleton;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 @OwnedBy(PL)
 public class AuditClientModule extends AbstractModule {
@@ -28,13 +33,20 @@ public class AuditClientModule extends AbstractModule {
   private final String serviceSecret;
   private final String clientId;
   private final boolean enableAuditClient;
+  private final AuditBatchConfig auditBatchConfig;
 
   public AuditClientModule(ServiceHttpClientConfig projectManagerClientConfig, String serviceSecret, String clientId,
       boolean enableAuditClient) {
+    this(projectManagerClientConfig, serviceSecret, clientId, enableAuditClient, null);
+  }
+
+  public AuditClientModule(ServiceHttpClientConfig projectManagerClientConfig, String serviceSecret, String clientId,
+      boolean enableAuditClient, AuditBatchConfig auditBatchConfig) {
     this.auditClientConfig = projectManagerClientConfig;
     this.serviceSecret = serviceSecret;
     this.clientId = clientId;
     this.enableAuditClient = enableAuditClient;
+    this.auditBatchConfig = auditBatchConfig;
   }
 
   @Provides
@@ -44,10 +56,21 @@ public class AuditClientModule extends AbstractModule {
         auditClientConfig, serviceSecret, new ServiceTokenGenerator(), kryoConverterFactory, clientId);
   }
 
+  @Provides
+  @Singleton
+  private AuditEventBatcher auditEventBatcher(AuditClient auditClient) {
+    Path spoolFile = auditBatchConfig == null || isEmpty(auditBatchConfig.getSpoolDirectory())
+        ? null
+        : Paths.get(auditBatchConfig.getSpoolDirectory(), "audits-" + clientId + ".spool");
+    return new AuditEventBatcher(auditClient, spoolFile);
+  }
+
   @Override
   protected void configure() {
     bind(AuditClient.class).toProvider(AuditClientFactory.class).in(Scopes.SINGLETON);
-    if (enableAuditClient) {
+    if (enableAuditClient && auditBatchConfig != null && auditBatchConfig.isEnabled()) {
+      bind(AuditClientService.class).to(BatchingAuditClientServiceImpl.class);
+    } else if (enableAuditClient) {
       bind(AuditClientService.class).to(AuditClientServiceImpl.class);
     } else {
       bind(AuditClientService.class).to(NoopAuditClientServiceImpl.class);
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.audit.client.api.impl;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.KARAN;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertNull;
+import static junit.framework.TestCase.assertTrue;
+import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.ModuleType;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.audit.Action;
+import io.harness.audit.beans.AuditEventDTO;
+import io.harness.audit.beans.ResourceDTO;
+import io.harness.audit.beans.ResourceScopeDTO;
+import io.harness.audit.client.remote.AuditClient;
+import io.harness.category.element.UnitTests;
+import io.harness.ng.core.dto.ResponseDTO;
+import io.harness.rule.Owner;
+import io.harness.serializer.JsonUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+import retrofit2.Call;
+import retrofit2.Response;
+
+@OwnedBy(PL)
+public class AuditEventBatcherTest extends CategoryTest {
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private AuditClient auditClient;
+  private Call<ResponseDTO<Boolean>> call;
+  private Path spoolFile;
+  private AuditEventBatcher auditEventBatcher;
+
+  @Before
+  public void setup() throws IOException {
+    auditClient = mock(AuditClient.class);
+    call = mock(Call.class);
+    when(call.execute()).thenReturn(Response.success(ResponseDTO.newResponse(true)));
+    when(auditClient.createAudits(any())).thenReturn(call);
+    spoolFile = temporaryFolder.getRoot().toPath().resolve("audits.spool");
+    auditEventBatcher = new AuditEventBatcher(auditClient, spoolFile);
+  }
+
+  private AuditEventDTO getAuditEventDTO() {
+    return AuditEventDTO.builder()
+        .insertId(randomAlphabetic(10))
+        .resourceScope(ResourceScopeDTO.builder().accountIdentifier(randomAlphabetic(10)).build())
+        .resource(ResourceDTO.builder().type("ORGANIZATION").identifier(randomAlphabetic(10)).build())
+        .action(Action.CREATE)
+        .module(ModuleType.CORE)
+        .timestamp(171819L)
+        .build();
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testAuditsAreDeliveredOnceSent() throws Exception {
+    assertNull(auditEventBatcher.offer(getAuditEventDTO()));
+    auditEventBatcher.start();
+
+    List<AuditEventDTO> auditEventDTOs = asList(getAuditEventDTO(), getAuditEventDTO(), getAuditEventDTO());
+    List<CompletableFuture<Boolean>> delivered =
+        auditEventDTOs.stream().map(auditEventBatcher::offer).collect(Collectors.toList());
+    for (CompletableFuture<Boolean> future : delivered) {
+      assertTrue(future.get(10, TimeUnit.SECONDS));
+    }
+    auditEventBatcher.stop();
+
+    ArgumentCaptor<List> batchCaptor = ArgumentCaptor.forClass(List.class);
+    verify(auditClient, atLeastOnce()).createAudits(batchCaptor.capture());
+    List<Object> sent = new ArrayList<>();
+    batchCaptor.getAllValues().forEach(sent::addAll);
+    assertEquals(auditEventDTOs, sent);
+    assertFalse(Files.exists(spoolFile));
+    assertNull(auditEventBatcher.offer(getAuditEventDTO()));
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testAuditsAreDeliveredOnceSpooled() throws Exception {
+    when(call.execute()).thenThrow(new IOException("audit service is down"));
+    auditEventBatcher.start();
+
+    AuditEventDTO auditEventDTO = getAuditEventDTO();
+    assertTrue(auditEventBatcher.offer(auditEventDTO).get(10, TimeUnit.SECONDS));
+    auditEventBatcher.stop();
+
+    assertEquals(singletonList(JsonUtils.asJson(auditEventDTO)), Files.readAllLines(spoolFile, UTF_8));
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testAuditsAreNotDeliveredWithoutSpoolFile() throws Exception {
+    when(call.execute()).thenThrow(new IOException("audit service is down"));
+    auditEventBatcher = new AuditEventBatcher(auditClient, null);
+    auditEventBatcher.start();
+
+    assertFalse(auditEventBatcher.offer(getAuditEventDTO()).get(10, TimeUnit.SECONDS));
+    auditEventBatcher.stop();
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testSpooledAuditsAreReplayed() throws Exception {
+    List<AuditEventDTO> auditEventDTOs = asList(getAuditEventDTO(), getAuditEventDTO());
+    Files.write(spoolFile, auditEventDTOs.stream().map(JsonUtils::asJson).collect(Collectors.toList()), UTF_8);
+
+    auditEventBatcher.replaySpoolIfDue();
+
+    ArgumentCaptor<List> batchCaptor = ArgumentCaptor.forClass(List.class);
+    verify(auditClient, times(1)).createAudits(batchCaptor.capture());
+    assertEquals(auditEventDTOs, batchCaptor.getValue());
+    assertFalse(Files.exists(spoolFile));
+  }
+}
@@ -7,7 +7,6 @@
 
 package io.harness.plancreator.strategy;
 
-import static io.harness.expression.EngineExpressionEvaluator.EXPR_END;
 import static io.harness.expression.EngineExpressionEvaluator.EXPR_END_ESC;
 import static io.harness.expression.EngineExpressionEvaluator.EXPR_START_ESC;
 import static io.harness.plancreator.strategy.StrategyConstants.ITEM;
@@ -59,10 +58,15 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import lombok.experimental.UtilityClass;
 
 @UtilityClass
 public class StrategyUtils {
+  // <+...> without nested expressions, the group is looked up in the values of the strategy expressions
+  private final Pattern STRATEGY_EXPRESSION_PATTERN = Pattern.compile(EXPR_START_ESC + "([^<>]+)" + EXPR_END_ESC);
+
   public boolean isWrappedUnderStrategy(YamlField yamlField) {
     YamlField strategyField = yamlField.getNode().getField(YAMLFieldNameConstants.STRATEGY);
     return strategyField != null;
@@ -250,36 +254,52 @@ public class StrategyUtils {
     JsonNodeUtils.updatePropertyInObjectNode(jsonNode, NAME, newName);
   }
 
+  /**
+   * Replaces the strategy expressions in one pass over the string, instead of a regex replacement over the whole
+   * string per expression. Values keep the escaping of regex replacements. Unknown expressions are left as they are.
+   */
   public String replaceExpressions(
       String jsonString, Map<String, String> combinations, int currentIteration, int totalIteration, String itemValue) {
-    Map<String, String> expressions = createExpressions(combinations, currentIteration, totalIteration, itemValue);
-    String result = jsonString;
-    for (Map.Entry<String, String> expression : expressions.entrySet()) {
-      result = result.replaceAll(expression.getKey(), expression.getValue());
+    Map<String, String> expressions = createExpressionValues(combinations, currentIteration, totalIteration, itemValue);
+    Matcher matcher = STRATEGY_EXPRESSION_PATTERN.matcher(jsonString);
+    StringBuffer result = new StringBuffer(jsonString.length());
+    while (matcher.find()) {
+      String value = expressions.get(matcher.group(1));
+      matcher.appendReplacement(result, value == null ? Matcher.quoteReplacement(matcher.group()) : value);
     }
-    return result;
+    matcher.appendTail(result);
+    return result.toString();
   }
 
   // Todo: Replace with our expression engine after the change
   public Map<String, String> createExpressions(
       Map<String, String> combinations, int currentIteration, int totalIteration, String itemValue) {
     Map<String, String> expressionsMap = new HashMap<>();
-    String matrixExpression = EXPR_START_ESC + "matrix.%s" + EXPR_END_ESC;
-    String strategyMatrixExpression = EXPR_START_ESC + "strategy.matrix.%s" + EXPR_END_ESC;
-    String repeatExpression = EXPR_START_ESC + "repeat.item" + EXPR_END_ESC;
+    for (Map.Entry<String, String> entry :
+        createExpressionValues(combinations, currentIteration, totalIteration, itemValue).entrySet()) {
+      expressionsMap.put(EXPR_START_ESC + entry.getKey() + EXPR_END_ESC, entry.getValue());
+    }
+    return expressionsMap;
+  }
 
+  /**
+   * Values of the strategy expressions keyed by the text inside the expression delimiters, like matrix.os for
+   * {@code <+matrix.os>}.
+   */
+  private Map<String, String> createExpressionValues(
+      Map<String, String> combinations, int currentIteration, int totalIteration, String itemValue) {
+    Map<String, String> expressionValues = new HashMap<>();
     for (Map.Entry<String, String> entry : combinations.entrySet()) {
-      expressionsMap.put(String.format(matrixExpression, entry.getKey()), entry.getValue());
-      expressionsMap.put(String.format(strategyMatrixExpression, entry.getKey()), entry.getValue());
+      expressionValues.put("matrix." + entry.getKey(), entry.getValue());
+      expressionValues.put("strategy.matrix." + entry.getKey(), entry.getValue());
     }
-    expressionsMap.put(EXPR_START_ESC + "strategy.iteration" + EXPR_END_ESC, String.valueOf(currentIteration));
-    expressionsMap.put(EXPR_START_ESC + "strategy.iterations" + EXPR_END, String.valueOf(totalIteration));
-    expressionsMap.put(EXPR_START_ESC + "step.iteration" + EXPR_END_ESC, String.valueOf(currentIteration));
-    expressionsMap.put(EXPR_START_ESC + "step.iterations" + EXPR_END, String.valueOf(totalIteration));
-    expressionsMap.put(EXPR_START_ESC + "step.totalIterations" + EXPR_END, String.valueOf(totalIteration));
-
-    expressionsMap.put(repeatExpression, itemValue == null ? "" : itemValue);
-    return expressionsMap;
+    expressionValues.put("strategy.iteration", String.valueOf(currentIteration));
+    expressionValues.put("strategy.iterations", String.valueOf(totalIteration));
+    expressionValues.put("step.iteration", String.valueOf(currentIteration));
+    expressionValues.put("step.iterations", String.valueOf(totalIteration));
+    expressionValues.put("step.totalIterations", String.valueOf(totalIteration));
+    expressionValues.put("repeat.item", itemValue == null ? "" : itemValue);
+    return expressionValues;
   }
 
   /**
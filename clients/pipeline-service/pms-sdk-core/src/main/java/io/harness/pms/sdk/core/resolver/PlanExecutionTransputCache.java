@@ -0,0 +1,68 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.pms.sdk.core.resolver;
+
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.pms.contracts.ambiance.Ambiance;
+import io.harness.pms.contracts.refobjects.RefObject;
+import io.harness.pms.execution.utils.AmbianceUtils;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.inject.Singleton;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the json of outcomes and sweeping outputs consumed by this service without a group, so that a node execution
+ * resolving what it has consumed itself does not go to the pipeline service again.
+ *
+ * Such a value is saved at the current level of the ambiance, which is the first level searched by resolve, and a name
+ * can be consumed only once per level. An entry keyed by plan execution, current runtime id and ref can therefore never
+ * change, on this or any other instance, and needs no invalidation. Values resolved from the pipeline service are not
+ * kept as a consume on another instance may shadow them. Entries are bounded by the total length of their json.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+@Singleton
+public class PlanExecutionTransputCache {
+  private static final long MAX_JSON_CHARS = 32L * 1024 * 1024;
+  private static final long EXPIRE_AFTER_ACCESS_MINUTES = 30;
+
+  private final Cache<String, String> consumedTransputCache =
+      CacheBuilder.newBuilder()
+          .maximumWeight(MAX_JSON_CHARS)
+          .weigher((String key, String json) -> key.length() + json.length())
+          .expireAfterAccess(EXPIRE_AFTER_ACCESS_MINUTES, TimeUnit.MINUTES)
+          .build();
+
+  public String get(Ambiance ambiance, RefObject refObject) {
+    String entryKey = entryKey(ambiance, refObject);
+    return entryKey == null ? null : consumedTransputCache.getIfPresent(entryKey);
+  }
+
+  public void putConsumed(Ambiance ambiance, RefObject refObject, String json) {
+    String entryKey = entryKey(ambiance, refObject);
+    if (entryKey == null || isEmpty(json)) {
+      return;
+    }
+    consumedTransputCache.put(entryKey, json);
+  }
+
+  private String entryKey(Ambiance ambiance, RefObject refObject) {
+    String runtimeId = AmbianceUtils.obtainCurrentRuntimeId(ambiance);
+    // Names with a dot are evaluated as expressions by the pipeline service and can not be tracked by name
+    if (isEmpty(ambiance.getPlanExecutionId()) || runtimeId == null || isEmpty(refObject.getName())
+        || refObject.getName().contains(".")) {
+      return null;
+    }
+    return String.join("/", ambiance.getPlanExecutionId(), runtimeId, refObject.getRefType().getType(),
+        refObject.getProducerId(), refObject.getKey());
+  }
+}
@@ -7,6 +7,8 @@
 
 package io.harness.pms.sdk.core.resolver.outcome;
 
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.pms.contracts.ambiance.Ambiance;
@@ -22,15 +24,23 @@ import io.harness.pms.contracts.service.OutcomeFindAllBlobResponse;
 import io.harness.pms.contracts.service.OutcomeProtoServiceGrpc.OutcomeProtoServiceBlockingStub;
 import io.harness.pms.contracts.service.OutcomeResolveBlobRequest;
 import io.harness.pms.contracts.service.OutcomeResolveBlobResponse;
+import io.harness.pms.contracts.service.OutcomeResolveOptionalBatchBlobRequest;
+import io.harness.pms.contracts.service.OutcomeResolveOptionalBatchBlobResponse;
 import io.harness.pms.contracts.service.OutcomeResolveOptionalBlobRequest;
 import io.harness.pms.contracts.service.OutcomeResolveOptionalBlobResponse;
 import io.harness.pms.sdk.core.data.OptionalOutcome;
 import io.harness.pms.sdk.core.data.Outcome;
+import io.harness.pms.sdk.core.resolver.PlanExecutionTransputCache;
+import io.harness.pms.sdk.core.resolver.RefObjectUtils;
 import io.harness.pms.sdk.core.resolver.outcome.mapper.PmsOutcomeMapper;
 import io.harness.pms.utils.PmsGrpcClientUtils;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import lombok.NonNull;
 
@@ -38,10 +48,13 @@ import lombok.NonNull;
 @Singleton
 public class OutcomeGrpcServiceImpl implements OutcomeService {
   private final OutcomeProtoServiceBlockingStub outcomeProtoServiceBlockingStub;
+  private final PlanExecutionTransputCache transputCache;
 
   @Inject
-  public OutcomeGrpcServiceImpl(OutcomeProtoServiceBlockingStub outcomeProtoServiceBlockingStub) {
+  public OutcomeGrpcServiceImpl(
+      OutcomeProtoServiceBlockingStub outcomeProtoServiceBlockingStub, PlanExecutionTransputCache transputCache) {
     this.outcomeProtoServiceBlockingStub = outcomeProtoServiceBlockingStub;
+    this.transputCache = transputCache;
   }
 
   @Override
@@ -70,6 +83,10 @@ public class OutcomeGrpcServiceImpl implements OutcomeService {
 
   @Override
   public Outcome resolve(Ambiance ambiance, RefObject refObject) {
+    String cachedOutcome = transputCache.get(ambiance, refObject);
+    if (cachedOutcome != null) {
+      return PmsOutcomeMapper.convertJsonToOutcome(cachedOutcome);
+    }
     OutcomeResolveBlobResponse resolve =
         PmsGrpcClientUtils.retryAndProcessException(outcomeProtoServiceBlockingStub::resolve,
             OutcomeResolveBlobRequest.newBuilder().setAmbiance(ambiance).setRefObject(refObject).build());
@@ -78,22 +95,82 @@ public class OutcomeGrpcServiceImpl implements OutcomeService {
 
   @Override
   public String consume(Ambiance ambiance, String name, Outcome value, String groupName) {
+    String outcomeJson = PmsOutcomeMapper.convertOutcomeValueToJson(value);
     OutcomeConsumeBlobResponse response =
         PmsGrpcClientUtils.retryAndProcessException(outcomeProtoServiceBlockingStub::consume,
             OutcomeConsumeBlobRequest.newBuilder()
                 .setAmbiance(ambiance)
                 .setName(name)
-                .setValue(PmsOutcomeMapper.convertOutcomeValueToJson(value))
+                .setValue(outcomeJson)
                 .setGroupName(groupName)
                 .build());
+    if (isEmpty(groupName)) {
+      // Without a group the outcome is saved at the current level, which is the first one searched by resolve
+      transputCache.putConsumed(ambiance, RefObjectUtils.getOutcomeRefObject(name), outcomeJson);
+    }
     return response.getResponse();
   }
 
   @Override
   public OptionalOutcome resolveOptional(Ambiance ambiance, RefObject refObject) {
+    String cachedOutcome = transputCache.get(ambiance, refObject);
+    if (cachedOutcome != null) {
+      return OptionalOutcome.builder()
+          .found(true)
+          .outcome(PmsOutcomeMapper.convertJsonToOutcome(cachedOutcome))
+          .build();
+    }
     OutcomeResolveOptionalBlobResponse response =
         PmsGrpcClientUtils.retryAndProcessException(outcomeProtoServiceBlockingStub::resolveOptional,
             OutcomeResolveOptionalBlobRequest.newBuilder().setAmbiance(ambiance).setRefObject(refObject).build());
+    return toOptionalOutcome(response);
+  }
+
+  @Override
+  public List<OptionalOutcome> resolveOptionalBatch(Ambiance ambiance, List<RefObject> refObjects) {
+    OptionalOutcome[] optionalOutcomes = new OptionalOutcome[refObjects.size()];
+    List<Integer> missedIndexes = new ArrayList<>();
+    OutcomeResolveOptionalBatchBlobRequest.Builder requestBuilder =
+        OutcomeResolveOptionalBatchBlobRequest.newBuilder().setAmbiance(ambiance);
+    for (int i = 0; i < refObjects.size(); i++) {
+      String cachedOutcome = transputCache.get(ambiance, refObjects.get(i));
+      if (cachedOutcome != null) {
+        optionalOutcomes[i] =
+            OptionalOutcome.builder().found(true).outcome(PmsOutcomeMapper.convertJsonToOutcome(cachedOutcome)).build();
+      } else {
+        missedIndexes.add(i);
+        requestBuilder.addRefObjects(refObjects.get(i));
+      }
+    }
+
+    if (!missedIndexes.isEmpty()) {
+      OutcomeResolveOptionalBatchBlobResponse response = PmsGrpcClientUtils.retryAndProcessException(
+          this::resolveOptionalBatchIfImplemented, requestBuilder.build());
+      for (int i = 0; i < missedIndexes.size(); i++) {
+        int index = missedIndexes.get(i);
+        optionalOutcomes[index] = response == null ? resolveOptional(ambiance, refObjects.get(index))
+                                                   : toOptionalOutcome(response.getResponses(i));
+      }
+    }
+    return Arrays.asList(optionalOutcomes);
+  }
+
+  /**
+   * @return null when the pipeline service is older than this sdk and does not serve batches yet
+   */
+  private OutcomeResolveOptionalBatchBlobResponse resolveOptionalBatchIfImplemented(
+      OutcomeResolveOptionalBatchBlobRequest request) {
+    try {
+      return outcomeProtoServiceBlockingStub.resolveOptionalBatch(request);
+    } catch (StatusRuntimeException e) {
+      if (e.getStatus().getCode() == Status.Code.UNIMPLEMENTED) {
+        return null;
+      }
+      throw e;
+    }
+  }
+
+  private OptionalOutcome toOptionalOutcome(OutcomeResolveOptionalBlobResponse response) {
     return OptionalOutcome.builder()
         .found(response.getFound())
         .outcome(PmsOutcomeMapper.convertJsonToOutcome(response.getOutcome()))
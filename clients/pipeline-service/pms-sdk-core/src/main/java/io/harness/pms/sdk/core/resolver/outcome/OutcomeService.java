@@ -28,4 +28,10 @@ public interface OutcomeService extends Resolver<Outcome> {
   Outcome fetchOutcome(@NonNull String outcomeInstanceId);
 
   OptionalOutcome resolveOptional(Ambiance ambiance, RefObject refObject);
+
+  /**
+   * Resolves all the refs for the given ambiance with at most one call to the pipeline service. The result is in the
+   * same order as refObjects.
+   */
+  List<OptionalOutcome> resolveOptionalBatch(Ambiance ambiance, List<RefObject> refObjects);
 }
@@ -22,6 +22,8 @@ import io.harness.pms.contracts.service.SweepingOutputResolveBlobResponse;
 import io.harness.pms.contracts.service.SweepingOutputServiceGrpc.SweepingOutputServiceBlockingStub;
 import io.harness.pms.sdk.core.data.ExecutionSweepingOutput;
 import io.harness.pms.sdk.core.data.OptionalSweepingOutput;
+import io.harness.pms.sdk.core.resolver.PlanExecutionTransputCache;
+import io.harness.pms.sdk.core.resolver.RefObjectUtils;
 import io.harness.pms.serializer.recaster.RecastOrchestrationUtils;
 import io.harness.pms.utils.PmsGrpcClientUtils;
 
@@ -34,14 +36,21 @@ import java.util.List;
 @Singleton
 public class ExecutionSweepingGrpcOutputService implements ExecutionSweepingOutputService {
   private final SweepingOutputServiceBlockingStub sweepingOutputServiceBlockingStub;
+  private final PlanExecutionTransputCache transputCache;
 
   @Inject
-  public ExecutionSweepingGrpcOutputService(SweepingOutputServiceBlockingStub sweepingOutputServiceBlockingStub) {
+  public ExecutionSweepingGrpcOutputService(
+      SweepingOutputServiceBlockingStub sweepingOutputServiceBlockingStub, PlanExecutionTransputCache transputCache) {
     this.sweepingOutputServiceBlockingStub = sweepingOutputServiceBlockingStub;
+    this.transputCache = transputCache;
   }
 
   @Override
   public ExecutionSweepingOutput resolve(Ambiance ambiance, RefObject refObject) {
+    String cachedOutput = transputCache.get(ambiance, refObject);
+    if (cachedOutput != null) {
+      return RecastOrchestrationUtils.fromJson(cachedOutput, ExecutionSweepingOutput.class);
+    }
     SweepingOutputResolveBlobResponse resolve =
         PmsGrpcClientUtils.retryAndProcessException(sweepingOutputServiceBlockingStub::resolve,
             SweepingOutputResolveBlobRequest.newBuilder().setAmbiance(ambiance).setRefObject(refObject).build());
@@ -50,20 +59,31 @@ public class ExecutionSweepingGrpcOutputService implements ExecutionSweepingOutp
 
   @Override
   public String consume(Ambiance ambiance, String name, ExecutionSweepingOutput value, String groupName) {
+    String outputJson = RecastOrchestrationUtils.toJson(value);
     SweepingOutputConsumeBlobRequest.Builder builder =
-        SweepingOutputConsumeBlobRequest.newBuilder().setAmbiance(ambiance).setName(name).setValue(
-            RecastOrchestrationUtils.toJson(value));
+        SweepingOutputConsumeBlobRequest.newBuilder().setAmbiance(ambiance).setName(name).setValue(outputJson);
     if (EmptyPredicate.isNotEmpty(groupName)) {
       builder.setGroupName(groupName);
     }
 
     SweepingOutputConsumeBlobResponse sweepingOutputConsumeBlobResponse =
         PmsGrpcClientUtils.retryAndProcessException(sweepingOutputServiceBlockingStub::consume, builder.build());
+    if (EmptyPredicate.isEmpty(groupName)) {
+      // Without a group the output is saved at the current level, which is the first one searched by resolve
+      transputCache.putConsumed(ambiance, RefObjectUtils.getSweepingOutputRefObject(name), outputJson);
+    }
     return sweepingOutputConsumeBlobResponse.getResponse();
   }
 
   @Override
   public OptionalSweepingOutput resolveOptional(Ambiance ambiance, RefObject refObject) {
+    String cachedOutput = transputCache.get(ambiance, refObject);
+    if (cachedOutput != null) {
+      return OptionalSweepingOutput.builder()
+          .output(RecastOrchestrationUtils.fromJson(cachedOutput, ExecutionSweepingOutput.class))
+          .found(true)
+          .build();
+    }
     OptionalSweepingOutputResolveBlobResponse resolve =
         PmsGrpcClientUtils.retryAndProcessException(sweepingOutputServiceBlockingStub::resolveOptional,
             SweepingOutputResolveBlobRequest.newBuilder().setAmbiance(ambiance).setRefObject(refObject).build());
@@ -220,10 +220,12 @@ public class ForLoopStrategyConfigService implements StrategyConfigService {
   public StrategyInfo expandJsonNode(StrategyConfig strategyConfig, JsonNode jsonNode) {
     HarnessForConfig harnessForConfig = strategyConfig.getRepeat();
     List<JsonNode> jsonNodes = new ArrayList<>();
+    // Shared by all the iterations instead of copying the node for each one
+    String jsonString = jsonNode.toString();
     if (!ParameterField.isBlank(harnessForConfig.getTimes())) {
       for (int i = 0; i < harnessForConfig.getTimes().getValue(); i++) {
         JsonNode clonedNode = JsonPipelineUtils.asTree(JsonUtils.asMap(StrategyUtils.replaceExpressions(
-            jsonNode.deepCopy().toString(), new HashMap<>(), i, harnessForConfig.getTimes().getValue(), null)));
+            jsonString, new HashMap<>(), i, harnessForConfig.getTimes().getValue(), null)));
         StrategyUtils.modifyJsonNode(clonedNode, Lists.newArrayList(String.valueOf(i)));
         jsonNodes.add(clonedNode);
       }
@@ -231,8 +233,8 @@ public class ForLoopStrategyConfigService implements StrategyConfigService {
       int currentIteration = 0;
       List<String> params = splitParamsIfNeeded(harnessForConfig);
       for (String value : params) {
-        JsonNode clonedNode = JsonPipelineUtils.asTree(JsonUtils.asMap(StrategyUtils.replaceExpressions(
-            jsonNode.deepCopy().toString(), new HashMap<>(), currentIteration, params.size(), value)));
+        JsonNode clonedNode = JsonPipelineUtils.asTree(JsonUtils.asMap(
+            StrategyUtils.replaceExpressions(jsonString, new HashMap<>(), currentIteration, params.size(), value)));
         StrategyUtils.modifyJsonNode(clonedNode, Lists.newArrayList(String.valueOf(currentIteration)));
         jsonNodes.add(clonedNode);
         currentIteration++;
@@ -25,78 +25,113 @@ import io.harness.yaml.utils.JsonPipelineUtils;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.inject.Singleton;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 @Singleton
 public class MatrixConfigService implements StrategyConfigService {
   public List<ChildrenExecutableResponse.Child> fetchChildren(StrategyConfig strategyConfig, String childNodeId) {
     MatrixConfig matrixConfig = (MatrixConfig) strategyConfig.getMatrixConfig();
-    List<Map<String, String>> combinations = new ArrayList<>();
-    List<List<Integer>> matrixMetadata = new ArrayList<>();
-    List<String> keys = getKeys(matrixConfig);
-
-    fetchCombinations(new LinkedHashMap<>(), matrixConfig.getAxes(), matrixConfig.getExpressionAxes(), combinations,
-        ParameterField.isBlank(matrixConfig.getExclude()) ? null : matrixConfig.getExclude().getValue(), matrixMetadata,
-        keys, 0, new LinkedList<>());
     List<ChildrenExecutableResponse.Child> children = new ArrayList<>();
-    int currentIteration = 0;
-    int totalCount = combinations.size();
-    if (totalCount == 0) {
-      throw new InvalidRequestException(
-          "Total number of iterations found to be 0 for this strategy. Please check pipeline yaml");
-    }
-    for (Map<String, String> combination : combinations) {
+    forEachCombination(matrixConfig, (combination, indexPath, totalCount) -> {
       children.add(ChildrenExecutableResponse.Child.newBuilder()
                        .setChildNodeId(childNodeId)
-                       .setStrategyMetadata(
-                           StrategyMetadata.newBuilder()
-                               .setCurrentIteration(currentIteration)
-                               .setTotalIterations(totalCount)
-                               .setMatrixMetadata(MatrixMetadata.newBuilder()
-                                                      .addAllMatrixCombination(matrixMetadata.get(currentIteration))
-                                                      .putAllMatrixValues(combination)
-                                                      .build())
-                               .build())
+                       .setStrategyMetadata(StrategyMetadata.newBuilder()
+                                                .setCurrentIteration(children.size())
+                                                .setTotalIterations(totalCount)
+                                                .setMatrixMetadata(MatrixMetadata.newBuilder()
+                                                                       .addAllMatrixCombination(indexPath)
+                                                                       .putAllMatrixValues(combination)
+                                                                       .build())
+                                                .build())
                        .build());
-      currentIteration++;
-    }
+    });
     return children;
   }
 
   public StrategyInfo expandJsonNode(StrategyConfig strategyConfig, JsonNode jsonNode) {
     MatrixConfig matrixConfig = (MatrixConfig) strategyConfig.getMatrixConfig();
-    List<Map<String, String>> combinations = new ArrayList<>();
-    List<List<Integer>> matrixMetadata = new ArrayList<>();
-    List<String> keys = getKeys(matrixConfig);
-    fetchCombinations(new LinkedHashMap<>(), matrixConfig.getAxes(), matrixConfig.getExpressionAxes(), combinations,
-        ParameterField.isBlank(matrixConfig.getExclude()) ? null : matrixConfig.getExclude().getValue(), matrixMetadata,
-        keys, 0, new LinkedList<>());
-    int totalCount = combinations.size();
-    if (totalCount == 0) {
-      throw new InvalidRequestException(
-          "Total number of iterations found to be 0 for this strategy. Please check pipeline yaml");
-    }
+    // Serialized once for all the combinations, each one only substitutes its expressions in it
+    String jsonString = jsonNode.toString();
     List<JsonNode> jsonNodes = new ArrayList<>();
-    int currentIteration = 0;
-    for (List<Integer> matrixData : matrixMetadata) {
-      JsonNode clonedNode = JsonPipelineUtils.asTree(JsonUtils.asMap(StrategyUtils.replaceExpressions(
-          jsonNode.deepCopy().toString(), combinations.get(currentIteration), currentIteration, totalCount, null)));
-      StrategyUtils.modifyJsonNode(clonedNode, matrixData.stream().map(String::valueOf).collect(Collectors.toList()));
+    forEachCombination(matrixConfig, (combination, indexPath, totalCount) -> {
+      JsonNode clonedNode = JsonPipelineUtils.asTree(JsonUtils.asMap(
+          StrategyUtils.replaceExpressions(jsonString, combination, jsonNodes.size(), totalCount, null)));
+      StrategyUtils.modifyJsonNode(clonedNode, indexPath.stream().map(String::valueOf).collect(Collectors.toList()));
       jsonNodes.add(clonedNode);
-      currentIteration++;
-    }
+    });
     int maxConcurrency = jsonNodes.size();
     if (!ParameterField.isBlank(matrixConfig.getMaxConcurrency())) {
       maxConcurrency = matrixConfig.getMaxConcurrency().getValue();
     }
     return StrategyInfo.builder().expandedJsonNodes(jsonNodes).maxConcurrency(maxConcurrency).build();
   }
+
+  /**
+   * Walks the combinations of the matrix once. Without excludes the total is known from the sizes of the axes and the
+   * combination and index path passed to the consumer are only valid during the call. With excludes the total is only
+   * known at the end of the walk, so the combinations are collected first and passed on after.
+   */
+  private void forEachCombination(MatrixConfig matrixConfig, CombinationConsumer combinationConsumer) {
+    List<ExcludeConfig> exclude =
+        ParameterField.isBlank(matrixConfig.getExclude()) ? null : matrixConfig.getExclude().getValue();
+    List<String> keys = getKeys(matrixConfig);
+    if (exclude == null) {
+      int totalCount = countCombinations(matrixConfig, keys);
+      fetchCombinations(new LinkedHashMap<>(), matrixConfig.getAxes(), matrixConfig.getExpressionAxes(), null, keys, 0,
+          new LinkedList<>(),
+          (combination, indexPath) -> combinationConsumer.accept(combination, indexPath, totalCount));
+      return;
+    }
+
+    List<Map<String, String>> combinations = new ArrayList<>();
+    List<List<Integer>> indexPaths = new ArrayList<>();
+    fetchCombinations(new LinkedHashMap<>(), matrixConfig.getAxes(), matrixConfig.getExpressionAxes(), exclude, keys,
+        0, new LinkedList<>(), (combination, indexPath) -> {
+          combinations.add(new LinkedHashMap<>(combination));
+          indexPaths.add(new ArrayList<>(indexPath));
+        });
+    checkTotalCount(combinations.size());
+    for (int i = 0; i < combinations.size(); i++) {
+      combinationConsumer.accept(combinations.get(i), indexPaths.get(i), combinations.size());
+    }
+  }
+
+  private int countCombinations(MatrixConfig matrixConfig, List<String> keys) {
+    int totalCount = 1;
+    for (String key : keys) {
+      int axisSize;
+      if (matrixConfig.getAxes().containsKey(key)) {
+        List<String> axisValues = matrixConfig.getAxes().get(key).getAxisValue().getValue();
+        if (axisValues == null) {
+          throw new InvalidYamlException("Expected List but found null value in one of the axis with key:" + key);
+        }
+        axisSize = axisValues.size();
+      } else {
+        axisSize = getExpressionAxisValues(matrixConfig.getExpressionAxes().get(key)).size();
+      }
+      totalCount = Math.multiplyExact(totalCount, axisSize);
+    }
+    checkTotalCount(totalCount);
+    return totalCount;
+  }
+
+  private void checkTotalCount(int totalCount) {
+    if (totalCount == 0) {
+      throw new InvalidRequestException(
+          "Total number of iterations found to be 0 for this strategy. Please check pipeline yaml");
+    }
+  }
+
+  private interface CombinationConsumer {
+    void accept(Map<String, String> combination, List<Integer> indexPath, int totalCount);
+  }
+
   /**
    *
    * This function is used to recursively calculate the number of combinations that can be there for the
@@ -106,26 +141,23 @@ public class MatrixConfigService implements StrategyConfigService {
    * @param currentCombinationRef - Reference variable to store the current combination
    * @param axes - The axes defined in the yaml
    * @param expressionAxes - The axes defined in the yaml
-   * @param combinationsRef - The number of total combinations that are there till now
    * @param exclude - exclude as mentioned in the yaml
-   * @param matrixMetadataRef - The metadata related to the combination number of values
    * @param keys - The list of keys as mentioned in the yaml under axes
    * @param index -  the current index of the key we are on
    * @param indexPath - the path till the current iteration for the indexes like [0,2,1] i.e the matrix combination
    *     index
+   * @param combinationConsumer - Called with every combination and its index path
    */
   private void fetchCombinations(Map<String, String> currentCombinationRef, Map<String, AxisConfig> axes,
-      Map<String, ExpressionAxisConfig> expressionAxes, List<Map<String, String>> combinationsRef,
-      List<ExcludeConfig> exclude, List<List<Integer>> matrixMetadataRef, List<String> keys, int index,
-      List<Integer> indexPath) {
+      Map<String, ExpressionAxisConfig> expressionAxes, List<ExcludeConfig> exclude, List<String> keys, int index,
+      List<Integer> indexPath, BiConsumer<Map<String, String>, List<Integer>> combinationConsumer) {
     if (shouldExclude(exclude, currentCombinationRef)) {
       return;
     }
     // This means we have traversed till the end therefore add it as part of matrix combination
     if (keys.size() == index) {
-      combinationsRef.add(new HashMap<>(currentCombinationRef));
-      // Add the path we chose to compute the current combination.
-      matrixMetadataRef.add(new ArrayList<>(indexPath));
+      // Along with the path we chose to compute the current combination.
+      combinationConsumer.accept(currentCombinationRef, indexPath);
       return;
     }
 
@@ -136,11 +168,11 @@ public class MatrixConfigService implements StrategyConfigService {
      * 2.If a key is present in expressionAxes then it can be either the string or the object that is stored as value
      */
     if (axes.containsKey(key)) {
-      handleAxes(key, currentCombinationRef, axes, expressionAxes, combinationsRef, exclude, matrixMetadataRef, keys,
-          index, indexPath);
+      handleAxes(
+          key, currentCombinationRef, axes, expressionAxes, exclude, keys, index, indexPath, combinationConsumer);
     } else if (expressionAxes.containsKey(key)) {
-      handleExpression(key, currentCombinationRef, axes, expressionAxes, combinationsRef, exclude, matrixMetadataRef,
-          keys, index, indexPath);
+      handleExpression(
+          key, currentCombinationRef, axes, expressionAxes, exclude, keys, index, indexPath, combinationConsumer);
     }
   }
 
@@ -167,9 +199,8 @@ public class MatrixConfigService implements StrategyConfigService {
   }
 
   private void handleAxes(String key, Map<String, String> currentCombinationRef, Map<String, AxisConfig> primitiveAxes,
-      Map<String, ExpressionAxisConfig> expressionAxes, List<Map<String, String>> combinationsRef,
-      List<ExcludeConfig> exclude, List<List<Integer>> matrixMetadataRef, List<String> keys, int index,
-      List<Integer> indexPath) {
+      Map<String, ExpressionAxisConfig> expressionAxes, List<ExcludeConfig> exclude, List<String> keys, int index,
+      List<Integer> indexPath, BiConsumer<Map<String, String>, List<Integer>> combinationConsumer) {
     AxisConfig axisValues = primitiveAxes.get(key);
     int i = 0;
     // If value is null in one of the axis, then there are two cases:
@@ -181,8 +212,8 @@ public class MatrixConfigService implements StrategyConfigService {
     for (String value : axisValues.getAxisValue().getValue()) {
       currentCombinationRef.put(key, value);
       indexPath.add(i);
-      fetchCombinations(currentCombinationRef, primitiveAxes, expressionAxes, combinationsRef, exclude,
-          matrixMetadataRef, keys, index + 1, indexPath);
+      fetchCombinations(currentCombinationRef, primitiveAxes, expressionAxes, exclude, keys, index + 1, indexPath,
+          combinationConsumer);
       currentCombinationRef.remove(key);
       indexPath.remove(indexPath.size() - 1);
       i++;
@@ -190,22 +221,10 @@ public class MatrixConfigService implements StrategyConfigService {
   }
 
   private void handleExpression(String key, Map<String, String> currentCombinationRef, Map<String, AxisConfig> axes,
-      Map<String, ExpressionAxisConfig> expressionAxisConfigMap, List<Map<String, String>> combinationsRef,
-      List<ExcludeConfig> exclude, List<List<Integer>> matrixMetadataRef, List<String> keys, int index,
-      List<Integer> indexPath) {
-    ExpressionAxisConfig axisValues = expressionAxisConfigMap.get(key);
-    if (axisValues.getExpression().getValue() == null) {
-      throw new InvalidYamlException(
-          "Unable to resolve expression defined as value in matrix axis. Please ensure that the expression is correct");
-    }
-    Object value = axisValues.getExpression().getValue();
-    if (!(value instanceof List)) {
-      throw new InvalidYamlException(
-          "Expression provided did not resolve into a list of string/objects. Please ensure that expression is correct");
-    }
-
+      Map<String, ExpressionAxisConfig> expressionAxisConfigMap, List<ExcludeConfig> exclude, List<String> keys,
+      int index, List<Integer> indexPath, BiConsumer<Map<String, String>, List<Integer>> combinationConsumer) {
     int i = 0;
-    for (Object val : (List<Object>) value) {
+    for (Object val : getExpressionAxisValues(expressionAxisConfigMap.get(key))) {
       if (val instanceof Map) {
         currentCombinationRef.put(key, JsonUtils.asJson(val));
       } else if (val instanceof String) {
@@ -214,14 +233,27 @@ public class MatrixConfigService implements StrategyConfigService {
         throw new InvalidRequestException("Either Map or String expected. Found unknown");
       }
       indexPath.add(i);
-      fetchCombinations(currentCombinationRef, axes, expressionAxisConfigMap, combinationsRef, exclude,
-          matrixMetadataRef, keys, index + 1, indexPath);
+      fetchCombinations(currentCombinationRef, axes, expressionAxisConfigMap, exclude, keys, index + 1, indexPath,
+          combinationConsumer);
       currentCombinationRef.remove(key);
       indexPath.remove(indexPath.size() - 1);
       i++;
     }
   }
 
+  private List<Object> getExpressionAxisValues(ExpressionAxisConfig axisValues) {
+    if (axisValues.getExpression().getValue() == null) {
+      throw new InvalidYamlException(
+          "Unable to resolve expression defined as value in matrix axis. Please ensure that the expression is correct");
+    }
+    Object value = axisValues.getExpression().getValue();
+    if (!(value instanceof List)) {
+      throw new InvalidYamlException(
+          "Expression provided did not resolve into a list of string/objects. Please ensure that expression is correct");
+    }
+    return (List<Object>) value;
+  }
+
   private List<String> getKeys(MatrixConfig matrixConfig) {
     List<String> keys = new LinkedList<>(matrixConfig.getAxes().keySet());
     keys.addAll(matrixConfig.getExpressionAxes().keySet());
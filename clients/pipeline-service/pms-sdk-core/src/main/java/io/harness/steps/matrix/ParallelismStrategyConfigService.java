@@ -46,9 +46,10 @@ public class ParallelismStrategyConfigService implements StrategyConfigService {
       parallelism = strategyConfig.getParallelism().getValue();
     }
     List<JsonNode> jsonNodes = new ArrayList<>();
+    String jsonString = jsonNode.toString();
     for (int i = 0; i < parallelism; i++) {
-      JsonNode clonedJsonNode = JsonPipelineUtils.asTree(JsonUtils.asMap(
-          StrategyUtils.replaceExpressions(jsonNode.deepCopy().toString(), new HashMap<>(), i, parallelism, null)));
+      JsonNode clonedJsonNode = JsonPipelineUtils.asTree(
+          JsonUtils.asMap(StrategyUtils.replaceExpressions(jsonString, new HashMap<>(), i, parallelism, null)));
       StrategyUtils.modifyJsonNode(clonedJsonNode, Lists.newArrayList(String.valueOf(i)));
       jsonNodes.add(clonedJsonNode);
     }
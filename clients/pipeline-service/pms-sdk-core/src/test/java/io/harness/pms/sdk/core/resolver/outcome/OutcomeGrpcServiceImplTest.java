@@ -10,6 +10,9 @@ package io.harness.pms.sdk.core.resolver.outcome;
 import static io.harness.rule.OwnerRule.SAHIL;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.powermock.api.mockito.PowerMockito.when;
 
 import io.harness.category.element.UnitTests;
@@ -26,15 +29,22 @@ import io.harness.pms.contracts.service.OutcomeFindAllBlobResponse;
 import io.harness.pms.contracts.service.OutcomeProtoServiceGrpc.OutcomeProtoServiceBlockingStub;
 import io.harness.pms.contracts.service.OutcomeResolveBlobRequest;
 import io.harness.pms.contracts.service.OutcomeResolveBlobResponse;
+import io.harness.pms.contracts.service.OutcomeResolveOptionalBatchBlobRequest;
+import io.harness.pms.contracts.service.OutcomeResolveOptionalBatchBlobResponse;
 import io.harness.pms.contracts.service.OutcomeResolveOptionalBlobRequest;
 import io.harness.pms.contracts.service.OutcomeResolveOptionalBlobResponse;
 import io.harness.pms.sdk.core.AmbianceTestUtils;
 import io.harness.pms.sdk.core.PmsSdkCoreTestBase;
+import io.harness.pms.sdk.core.data.OptionalOutcome;
 import io.harness.pms.sdk.core.data.StringOutcome;
+import io.harness.pms.sdk.core.resolver.PlanExecutionTransputCache;
 import io.harness.pms.sdk.core.resolver.RefObjectUtils;
 import io.harness.rule.Owner;
 
 import io.fabric8.utils.Lists;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import java.util.List;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -45,13 +55,14 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 public class OutcomeGrpcServiceImplTest extends PmsSdkCoreTestBase {
   public static String PLAN_EXECUTION_ID = "planExecutionId";
   public static String RUNTIME_ID = "runtimeId";
+  private static final String STRING_OUTCOME_JSON = "{\"__recast\":\"io.harness.pms.sdk.core.data.StringOutcome\"}";
   OutcomeProtoServiceBlockingStub outcomeProtoServiceBlockingStub;
   OutcomeGrpcServiceImpl outcomeGrpcService;
 
   @Before
   public void setup() {
     outcomeProtoServiceBlockingStub = Mockito.mock(OutcomeProtoServiceBlockingStub.class);
-    outcomeGrpcService = new OutcomeGrpcServiceImpl(outcomeProtoServiceBlockingStub);
+    outcomeGrpcService = new OutcomeGrpcServiceImpl(outcomeProtoServiceBlockingStub, new PlanExecutionTransputCache());
   }
 
   @Test
@@ -147,4 +158,115 @@ public class OutcomeGrpcServiceImplTest extends PmsSdkCoreTestBase {
         .resolveOptional(
             OutcomeResolveOptionalBlobRequest.newBuilder().setAmbiance(ambiance).setRefObject(refObject).build());
   }
+
+  @Test
+  @Owner(developers = SAHIL)
+  @Category(UnitTests.class)
+  public void testResolveFromServiceIsNotCached() {
+    RefObject refObject = RefObjectUtils.getOutcomeRefObject("test");
+    Ambiance ambiance = AmbianceTestUtils.buildAmbiance();
+    OutcomeResolveBlobRequest request =
+        OutcomeResolveBlobRequest.newBuilder().setAmbiance(ambiance).setRefObject(refObject).build();
+    when(outcomeProtoServiceBlockingStub.resolve(request))
+        .thenReturn(OutcomeResolveBlobResponse.newBuilder().setStepTransput(STRING_OUTCOME_JSON).build());
+
+    assertThat(outcomeGrpcService.resolve(ambiance, refObject)).isInstanceOf(StringOutcome.class);
+    assertThat(outcomeGrpcService.resolve(ambiance, refObject)).isInstanceOf(StringOutcome.class);
+    Mockito.verify(outcomeProtoServiceBlockingStub, times(2)).resolve(request);
+  }
+
+  @Test
+  @Owner(developers = SAHIL)
+  @Category(UnitTests.class)
+  public void testResolveOptionalNotFoundIsNotCached() {
+    RefObject refObject = RefObjectUtils.getOutcomeRefObject("test");
+    Ambiance ambiance = AmbianceTestUtils.buildAmbiance();
+    OutcomeResolveOptionalBlobRequest request =
+        OutcomeResolveOptionalBlobRequest.newBuilder().setAmbiance(ambiance).setRefObject(refObject).build();
+    when(outcomeProtoServiceBlockingStub.resolveOptional(request))
+        .thenReturn(OutcomeResolveOptionalBlobResponse.newBuilder().setFound(false).build());
+
+    assertThat(outcomeGrpcService.resolveOptional(ambiance, refObject).isFound()).isFalse();
+    assertThat(outcomeGrpcService.resolveOptional(ambiance, refObject).isFound()).isFalse();
+    Mockito.verify(outcomeProtoServiceBlockingStub, times(2)).resolveOptional(request);
+  }
+
+  @Test
+  @Owner(developers = SAHIL)
+  @Category(UnitTests.class)
+  public void testConsumePopulatesCache() {
+    Ambiance ambiance = AmbianceTestUtils.buildAmbiance();
+    when(outcomeProtoServiceBlockingStub.consume(any())).thenReturn(OutcomeConsumeBlobResponse.newBuilder().build());
+
+    outcomeGrpcService.consume(ambiance, "name", StringOutcome.builder().build(), "");
+    OptionalOutcome optionalOutcome =
+        outcomeGrpcService.resolveOptional(ambiance, RefObjectUtils.getOutcomeRefObject("name"));
+    assertThat(optionalOutcome.isFound()).isTrue();
+    assertThat(optionalOutcome.getOutcome()).isInstanceOf(StringOutcome.class);
+    Mockito.verify(outcomeProtoServiceBlockingStub, never()).resolveOptional(any());
+  }
+
+  @Test
+  @Owner(developers = SAHIL)
+  @Category(UnitTests.class)
+  public void testConsumeWithGroupIsNotCached() {
+    Ambiance ambiance = AmbianceTestUtils.buildAmbiance();
+    RefObject refObject = RefObjectUtils.getOutcomeRefObject("name");
+    when(outcomeProtoServiceBlockingStub.consume(any())).thenReturn(OutcomeConsumeBlobResponse.newBuilder().build());
+    OutcomeResolveOptionalBlobRequest request =
+        OutcomeResolveOptionalBlobRequest.newBuilder().setAmbiance(ambiance).setRefObject(refObject).build();
+    when(outcomeProtoServiceBlockingStub.resolveOptional(request))
+        .thenReturn(
+            OutcomeResolveOptionalBlobResponse.newBuilder().setFound(true).setOutcome(STRING_OUTCOME_JSON).build());
+
+    outcomeGrpcService.consume(ambiance, "name", StringOutcome.builder().build(), "STAGE");
+    assertThat(outcomeGrpcService.resolveOptional(ambiance, refObject).isFound()).isTrue();
+    Mockito.verify(outcomeProtoServiceBlockingStub, times(1)).resolveOptional(request);
+  }
+
+  @Test
+  @Owner(developers = SAHIL)
+  @Category(UnitTests.class)
+  public void testResolveOptionalBatchFetchesOnlyMisses() {
+    Ambiance ambiance = AmbianceTestUtils.buildAmbiance();
+    RefObject cachedRef = RefObjectUtils.getOutcomeRefObject("cached");
+    RefObject missedRef = RefObjectUtils.getOutcomeRefObject("missed");
+    when(outcomeProtoServiceBlockingStub.consume(any())).thenReturn(OutcomeConsumeBlobResponse.newBuilder().build());
+    outcomeGrpcService.consume(ambiance, "cached", StringOutcome.builder().build(), "");
+
+    OutcomeResolveOptionalBatchBlobRequest request =
+        OutcomeResolveOptionalBatchBlobRequest.newBuilder().setAmbiance(ambiance).addRefObjects(missedRef).build();
+    when(outcomeProtoServiceBlockingStub.resolveOptionalBatch(request))
+        .thenReturn(OutcomeResolveOptionalBatchBlobResponse.newBuilder()
+                        .addResponses(OutcomeResolveOptionalBlobResponse.newBuilder().setFound(false).build())
+                        .build());
+
+    List<OptionalOutcome> optionalOutcomes =
+        outcomeGrpcService.resolveOptionalBatch(ambiance, Lists.newArrayList(cachedRef, missedRef));
+    assertThat(optionalOutcomes).hasSize(2);
+    assertThat(optionalOutcomes.get(0).isFound()).isTrue();
+    assertThat(optionalOutcomes.get(1).isFound()).isFalse();
+    Mockito.verify(outcomeProtoServiceBlockingStub, times(1)).resolveOptionalBatch(request);
+  }
+
+  @Test
+  @Owner(developers = SAHIL)
+  @Category(UnitTests.class)
+  public void testResolveOptionalBatchFallsBackWhenNotImplemented() {
+    Ambiance ambiance = AmbianceTestUtils.buildAmbiance();
+    RefObject refObject = RefObjectUtils.getOutcomeRefObject("missed");
+    when(outcomeProtoServiceBlockingStub.resolveOptionalBatch(any()))
+        .thenThrow(new StatusRuntimeException(Status.UNIMPLEMENTED));
+    OutcomeResolveOptionalBlobRequest request =
+        OutcomeResolveOptionalBlobRequest.newBuilder().setAmbiance(ambiance).setRefObject(refObject).build();
+    when(outcomeProtoServiceBlockingStub.resolveOptional(request))
+        .thenReturn(
+            OutcomeResolveOptionalBlobResponse.newBuilder().setFound(true).setOutcome(STRING_OUTCOME_JSON).build());
+
+    List<OptionalOutcome> optionalOutcomes =
+        outcomeGrpcService.resolveOptionalBatch(ambiance, Lists.newArrayList(refObject));
+    assertThat(optionalOutcomes).hasSize(1);
+    assertThat(optionalOutcomes.get(0).getOutcome()).isInstanceOf(StringOutcome.class);
+    Mockito.verify(outcomeProtoServiceBlockingStub, times(1)).resolveOptional(request);
+  }
 }
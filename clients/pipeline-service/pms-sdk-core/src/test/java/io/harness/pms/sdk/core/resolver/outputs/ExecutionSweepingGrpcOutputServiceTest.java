@@ -9,7 +9,9 @@ package io.harness.pms.sdk.core.resolver.outputs;
 
 import static io.harness.rule.OwnerRule.SAHIL;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -25,6 +27,8 @@ import io.harness.pms.contracts.service.SweepingOutputResolveBlobResponse;
 import io.harness.pms.contracts.service.SweepingOutputServiceGrpc;
 import io.harness.pms.sdk.core.AmbianceTestUtils;
 import io.harness.pms.sdk.core.PmsSdkCoreTestBase;
+import io.harness.pms.sdk.core.data.OptionalSweepingOutput;
+import io.harness.pms.sdk.core.resolver.PlanExecutionTransputCache;
 import io.harness.pms.sdk.core.resolver.RefObjectUtils;
 import io.harness.rule.Owner;
 
@@ -39,11 +43,13 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 @PrepareForTest({SweepingOutputServiceGrpc.SweepingOutputServiceBlockingStub.class})
 public class ExecutionSweepingGrpcOutputServiceTest extends PmsSdkCoreTestBase {
   @Mock SweepingOutputServiceGrpc.SweepingOutputServiceBlockingStub sweepingOutputServiceBlockingStub;
+  @Mock PlanExecutionTransputCache transputCache;
   @InjectMocks ExecutionSweepingGrpcOutputService executionSweepingGrpcOutputService;
 
   public void initialize() {
     Mockito.mock(sweepingOutputServiceBlockingStub.getClass());
-    executionSweepingGrpcOutputService = new ExecutionSweepingGrpcOutputService(sweepingOutputServiceBlockingStub);
+    executionSweepingGrpcOutputService =
+        new ExecutionSweepingGrpcOutputService(sweepingOutputServiceBlockingStub, transputCache);
   }
 
   @Test
@@ -89,4 +95,31 @@ public class ExecutionSweepingGrpcOutputServiceTest extends PmsSdkCoreTestBase {
 
     verify(sweepingOutputServiceBlockingStub).consume(any());
   }
+
+  @Test
+  @Owner(developers = SAHIL)
+  @Category(UnitTests.class)
+  public void testResolveOwnConsumedOutputFromCache() {
+    ExecutionSweepingGrpcOutputService cachingOutputService =
+        new ExecutionSweepingGrpcOutputService(sweepingOutputServiceBlockingStub, new PlanExecutionTransputCache());
+    Ambiance ambiance = AmbianceTestUtils.buildAmbiance();
+    Ambiance parentAmbiance = ambiance.toBuilder().removeLevels(ambiance.getLevelsCount() - 1).build();
+    RefObject refObject = RefObjectUtils.getSweepingOutputRefObject("output");
+    when(sweepingOutputServiceBlockingStub.consume(any()))
+        .thenReturn(SweepingOutputConsumeBlobResponse.newBuilder().setResponse("output").build());
+    when(sweepingOutputServiceBlockingStub.resolveOptional(any()))
+        .thenReturn(OptionalSweepingOutputResolveBlobResponse.newBuilder().setFound(false).build());
+
+    cachingOutputService.consume(ambiance, "output", TestExecutionSweepingOutput.builder().build(), null);
+    OptionalSweepingOutput optionalOutput = cachingOutputService.resolveOptional(ambiance, refObject);
+    assertThat(optionalOutput.isFound()).isTrue();
+    assertThat(optionalOutput.getOutput()).isInstanceOf(TestExecutionSweepingOutput.class);
+    assertThat(cachingOutputService.resolve(ambiance, refObject)).isInstanceOf(TestExecutionSweepingOutput.class);
+    verify(sweepingOutputServiceBlockingStub, never()).resolveOptional(any());
+    verify(sweepingOutputServiceBlockingStub, never()).resolve(any());
+
+    // The parent level has its own values, so it still asks the pipeline service
+    assertThat(cachingOutputService.resolveOptional(parentAmbiance, refObject).isFound()).isFalse();
+    verify(sweepingOutputServiceBlockingStub).resolveOptional(any());
+  }
 }
@@ -72,6 +72,10 @@ if [[ "" != "$SYNC_JOB_DISABLED" ]]; then
   export SYNC_JOB_DISABLED; yq -i '.batchQueryConfig.syncJobDisabled=env(SYNC_JOB_DISABLED)' $CONFIG_FILE
 fi
 
+if [[ "" != "$BILLING_DATA_COPY_INGEST_ENABLED" ]]; then
+  export BILLING_DATA_COPY_INGEST_ENABLED; yq -i '.batchQueryConfig.billingDataCopyIngestEnabled=env(BILLING_DATA_COPY_INGEST_ENABLED)' $CONFIG_FILE
+fi
+
 if [[ "" != "$S3_SYNC_CONFIG_ACCESSKEY" ]]; then
   export S3_SYNC_CONFIG_ACCESSKEY; yq -i '.awsS3SyncConfig.awsAccessKey=env(S3_SYNC_CONFIG_ACCESSKEY)' $CONFIG_FILE
 fi
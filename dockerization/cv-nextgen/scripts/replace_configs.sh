@@ -266,3 +266,5 @@ replace_key_value templateServiceSecret "$TEMPLATE_SERVICE_SECRET"
 replace_key_value enforcementClientConfiguration.enforcementCheckEnabled "$ENFORCEMENT_CHECK_ENABLED"
 
 replace_key_value enableOpentelemetry "$ENABLE_OPENTELEMETRY"
+
+replace_key_value heatMapUpdateWindowSeconds "$HEAT_MAP_UPDATE_WINDOW_SECONDS"
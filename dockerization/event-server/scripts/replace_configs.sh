@@ -80,6 +80,22 @@ if [[ "" != "$EVENTS_MONGO_HOSTS_AND_PORTS" ]]; then
   write_mongo_params events-mongo "$EVENTS_MONGO_PARAMS"
 fi
 
+if [[ "" != "$EVENT_INGEST_ASYNC_ENABLED" ]]; then
+  export EVENT_INGEST_ASYNC_ENABLED; yq -i '.eventIngestConfig.enableAsyncIngest=env(EVENT_INGEST_ASYNC_ENABLED)' $CONFIG_FILE
+fi
+
+if [[ "" != "$EVENT_INGEST_QUEUE_FILE_PATH" ]]; then
+  export EVENT_INGEST_QUEUE_FILE_PATH; yq -i '.eventIngestConfig.queueFilePath=env(EVENT_INGEST_QUEUE_FILE_PATH)' $CONFIG_FILE
+fi
+
+if [[ "" != "$EVENT_INGEST_MAX_PENDING_MESSAGES" ]]; then
+  export EVENT_INGEST_MAX_PENDING_MESSAGES; yq -i '.eventIngestConfig.maxPendingMessages=env(EVENT_INGEST_MAX_PENDING_MESSAGES)' $CONFIG_FILE
+fi
+
+if [[ "" != "$EVENT_INGEST_GROUP_COMMIT_SIZE" ]]; then
+  export EVENT_INGEST_GROUP_COMMIT_SIZE; yq -i '.eventIngestConfig.groupCommitSize=env(EVENT_INGEST_GROUP_COMMIT_SIZE)' $CONFIG_FILE
+fi
+
 if [[ "" != "$GCP_SECRET_MANAGER_PROJECT" ]]; then
   export GCP_SECRET_MANAGER_PROJECT; yq -i '.secretsConfiguration.gcpSecretManagerProject=env(GCP_SECRET_MANAGER_PROJECT)' $CONFIG_FILE
 fi
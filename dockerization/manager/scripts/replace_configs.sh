@@ -1011,6 +1011,10 @@ if [[ "" != "$DISABLE_DELEGATE_MGMT_IN_MANAGER" ]]; then
   export DISABLE_DELEGATE_MGMT_IN_MANAGER; yq -i '.disableDelegateMgmtInManager=env(DISABLE_DELEGATE_MGMT_IN_MANAGER)' $CONFIG_FILE
 fi
 
+if [[ "" != "$AGGREGATE_DELEGATE_HEARTBEATS" ]]; then
+  export AGGREGATE_DELEGATE_HEARTBEATS; yq -i '.aggregateDelegateHeartbeats=env(AGGREGATE_DELEGATE_HEARTBEATS)' $CONFIG_FILE
+fi
+
 if [[ "" != "$GCP_SECRET_MANAGER_PROJECT" ]]; then
   export GCP_SECRET_MANAGER_PROJECT; yq -i '.secretsConfiguration.gcpSecretManagerProject=env(GCP_SECRET_MANAGER_PROJECT)' $CONFIG_FILE
 fi
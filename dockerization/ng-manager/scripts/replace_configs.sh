@@ -275,6 +275,14 @@ if [[ "" != "$AUDIT_CLIENT_BASEURL" ]]; then
   export AUDIT_CLIENT_BASEURL; yq -i '.auditClientConfig.baseUrl=env(AUDIT_CLIENT_BASEURL)' $CONFIG_FILE
 fi
 
+if [[ "" != "$AUDIT_BATCH_ENABLED" ]]; then
+  export AUDIT_BATCH_ENABLED; yq -i '.auditBatchConfig.enabled=env(AUDIT_BATCH_ENABLED)' $CONFIG_FILE
+fi
+
+if [[ "" != "$AUDIT_BATCH_SPOOL_DIRECTORY" ]]; then
+  export AUDIT_BATCH_SPOOL_DIRECTORY; yq -i '.auditBatchConfig.spoolDirectory=env(AUDIT_BATCH_SPOOL_DIRECTORY)' $CONFIG_FILE
+fi
+
 if [[ "" != "$SCM_SERVICE_URI" ]]; then
   export SCM_SERVICE_URI; yq -i '.gitSdkConfiguration.scmConnectionConfig.url=env(SCM_SERVICE_URI)' $CONFIG_FILE
 fi
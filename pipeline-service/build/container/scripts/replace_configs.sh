@@ -436,6 +436,8 @@ replace_key_value shouldDeployWithGitSync "$ENABLE_GIT_SYNC"
 
 replace_key_value enableAudit "$ENABLE_AUDIT"
 replace_key_value auditClientConfig.baseUrl "$AUDIT_SERVICE_BASE_URL"
+replace_key_value auditBatchConfig.enabled "$AUDIT_BATCH_ENABLED"
+replace_key_value auditBatchConfig.spoolDirectory "$AUDIT_BATCH_SPOOL_DIRECTORY"
 replace_key_value notificationClient.secrets.notificationClientSecret "$NOTIFICATION_CLIENT_SECRET"
 
 replace_key_value triggerConfig.webhookBaseUrl "$WEBHOOK_TRIGGER_BASEURL"
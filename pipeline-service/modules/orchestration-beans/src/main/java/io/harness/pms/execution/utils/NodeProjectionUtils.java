@@ -31,6 +31,14 @@ public class NodeProjectionUtils {
   public static final Set<String> fieldsForNodeUpdateObserver = Sets.newHashSet(
       NodeExecutionKeys.ambiance, NodeExecutionKeys.status, NodeExecutionKeys.endTs, NodeExecutionKeys.oldRetry);
 
+  public static final Set<String> fieldsForNodeStatusUpdateObserver = Sets.newHashSet(NodeExecutionKeys.ambiance,
+      NodeExecutionKeys.status, NodeExecutionKeys.mode, NodeExecutionKeys.stepType, NodeExecutionKeys.module,
+      NodeExecutionKeys.identifier, NodeExecutionKeys.name, NodeExecutionKeys.parentId, NodeExecutionKeys.startTs,
+      NodeExecutionKeys.endTs, NodeExecutionKeys.lastUpdatedAt, NodeExecutionKeys.oldRetry,
+      NodeExecutionKeys.resolvedParams, NodeExecutionKeys.resolvedStepParameters,
+      NodeExecutionKeys.originalNodeExecutionId, NodeExecutionKeys.timeoutInstanceIds, NodeExecutionKeys.failureInfo,
+      NodeExecutionKeys.skipGraphType);
+
   public static final Set<String> fieldsForResume =
       Sets.newHashSet(NodeExecutionKeys.status, NodeExecutionKeys.ambiance, NodeExecutionKeys.executableResponses,
           NodeExecutionKeys.mode, NodeExecutionKeys.resolvedParams, NodeExecutionKeys.module,
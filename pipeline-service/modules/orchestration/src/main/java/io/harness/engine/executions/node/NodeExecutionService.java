@@ -80,6 +80,22 @@ public interface NodeExecutionService {
   NodeExecution updateStatusWithUpdate(@NotNull String nodeExecutionId, @NotNull Status status, Update ops,
       EnumSet<Status> overrideStatusSet, Set<String> includedFields, boolean shouldUseProjections);
 
+  /**
+   * Lean version of {@link #updateStatusWithOps} for hot state transitions. The status guarded update of the single
+   * document is written without a transaction and only the given fields, along with the ones needed by the status
+   * update observers, are read back. Null fields read back the whole document.
+   */
+  NodeExecution transitionStatus(@NonNull String nodeExecutionId, @NonNull Status targetStatus, Consumer<Update> ops,
+      EnumSet<Status> overrideStatusSet, Set<String> fieldsToBeIncluded);
+
+  /**
+   * Moves sibling nodes of a plan execution to the target status like {@link #transitionStatus}, node by node. Nodes
+   * which are not in an allowed start status are left as they are and only the transitioned ones are returned.
+   */
+  List<NodeExecution> transitionStatuses(@NonNull String planExecutionId, @NonNull List<String> nodeExecutionIds,
+      @NonNull Status targetStatus, Consumer<Update> ops, EnumSet<Status> overrideStatusSet,
+      Set<String> fieldsToBeIncluded);
+
   long markLeavesDiscontinuing(String planExecutionId, List<String> leafInstanceIds);
 
   long markAllLeavesAndQueuedNodesDiscontinuing(String planExecutionId, EnumSet<Status> statuses);
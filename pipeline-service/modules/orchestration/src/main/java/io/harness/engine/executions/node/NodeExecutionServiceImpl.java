@@ -397,10 +397,8 @@ public class NodeExecutionServiceImpl implements NodeExecutionService {
   @Override
   public NodeExecution updateStatusWithUpdate(@NotNull String nodeExecutionId, @NotNull Status status, Update ops,
       EnumSet<Status> overrideStatusSet, Set<String> includedFields, boolean shouldUseProjections) {
-    EnumSet<Status> allowedStartStatuses =
-        isEmpty(overrideStatusSet) ? StatusUtils.nodeAllowedStartSet(status) : overrideStatusSet;
     Query query = query(where(NodeExecutionKeys.uuid).is(nodeExecutionId))
-                      .addCriteria(where(NodeExecutionKeys.status).in(allowedStartStatuses));
+                      .addCriteria(where(NodeExecutionKeys.status).in(allowedStartStatuses(status, overrideStatusSet)));
     if (shouldUseProjections) {
       for (String field : includedFields) {
         query.fields().include(field);
@@ -413,12 +411,7 @@ public class NodeExecutionServiceImpl implements NodeExecutionService {
       if (updated == null) {
         log.warn("Cannot update execution status for the node {} with {}", nodeExecutionId, status);
       } else {
-        if (updated.getStepType().getStepCategory() == StepCategory.STAGE || StatusUtils.isFinalStatus(status)) {
-          emitEvent(updated, OrchestrationEventType.NODE_EXECUTION_STATUS_UPDATE);
-        }
-        if (orchestrationLogConfiguration.isReduceOrchestrationLog()) {
-          orchestrationLogPublisher.onNodeStatusUpdate(NodeUpdateInfo.builder().nodeExecution(updated).build());
-        }
+        publishStatusUpdate(updated, status);
       }
       return updated;
     });
@@ -429,6 +422,82 @@ public class NodeExecutionServiceImpl implements NodeExecutionService {
     return updatedNodeExecution;
   }
 
+  @Override
+  public NodeExecution transitionStatus(@NonNull String nodeExecutionId, @NonNull Status status,
+      Consumer<Update> ops, EnumSet<Status> overrideStatusSet, Set<String> fieldsToBeIncluded) {
+    return transition(query(where(NodeExecutionKeys.uuid).is(nodeExecutionId)), nodeExecutionId, status, ops,
+        overrideStatusSet, fieldsToBeIncluded);
+  }
+
+  @Override
+  public List<NodeExecution> transitionStatuses(@NonNull String planExecutionId,
+      @NonNull List<String> nodeExecutionIds, @NonNull Status status, Consumer<Update> ops,
+      EnumSet<Status> overrideStatusSet, Set<String> fieldsToBeIncluded) {
+    // One findAndModify per node, so that each node which made the transition is read back by its own write, whatever
+    // happens to it afterwards
+    List<NodeExecution> transitioned = new ArrayList<>();
+    for (String nodeExecutionId : nodeExecutionIds) {
+      NodeExecution updated = transition(query(where(NodeExecutionKeys.planExecutionId).is(planExecutionId))
+                                             .addCriteria(where(NodeExecutionKeys.uuid).is(nodeExecutionId)),
+          nodeExecutionId, status, ops, overrideStatusSet, fieldsToBeIncluded);
+      if (updated != null) {
+        transitioned.add(updated);
+      }
+    }
+    return transitioned;
+  }
+
+  private NodeExecution transition(Query query, String nodeExecutionId, Status status, Consumer<Update> ops,
+      EnumSet<Status> overrideStatusSet, Set<String> fieldsToBeIncluded) {
+    query.addCriteria(where(NodeExecutionKeys.status).in(allowedStartStatuses(status, overrideStatusSet)));
+    includeFieldsForStatusUpdate(query, fieldsToBeIncluded);
+    // A single document write is atomic on its own and the status guard fails racing transitions, so unlike
+    // updateStatusWithUpdate this does not pay for a transaction
+    NodeExecution updated = mongoTemplate.findAndModify(
+        query, statusUpdate(status, ops, System.currentTimeMillis()), returnNewOptions, NodeExecution.class);
+    if (updated == null) {
+      log.warn("Cannot update execution status for the node {} with {}", nodeExecutionId, status);
+      return null;
+    }
+    publishStatusUpdate(updated, status);
+    stepStatusUpdateSubject.fireInform(
+        NodeStatusUpdateObserver::onNodeStatusUpdate, NodeUpdateInfo.builder().nodeExecution(updated).build());
+    return updated;
+  }
+
+  private EnumSet<Status> allowedStartStatuses(Status status, EnumSet<Status> overrideStatusSet) {
+    return isEmpty(overrideStatusSet) ? StatusUtils.nodeAllowedStartSet(status) : overrideStatusSet;
+  }
+
+  private Update statusUpdate(Status status, Consumer<Update> ops, long updatedAt) {
+    Update updateOps = new Update();
+    if (ops != null) {
+      ops.accept(updateOps);
+    }
+    return updateOps.set(NodeExecutionKeys.status, status).set(NodeExecutionKeys.lastUpdatedAt, updatedAt);
+  }
+
+  private void includeFieldsForStatusUpdate(Query query, Set<String> fieldsToBeIncluded) {
+    if (fieldsToBeIncluded == null) {
+      return;
+    }
+    for (String field : NodeProjectionUtils.fieldsForNodeStatusUpdateObserver) {
+      query.fields().include(field);
+    }
+    for (String field : fieldsToBeIncluded) {
+      query.fields().include(field);
+    }
+  }
+
+  private void publishStatusUpdate(NodeExecution updated, Status status) {
+    if (updated.getStepType().getStepCategory() == StepCategory.STAGE || StatusUtils.isFinalStatus(status)) {
+      emitEvent(updated, OrchestrationEventType.NODE_EXECUTION_STATUS_UPDATE);
+    }
+    if (orchestrationLogConfiguration.isReduceOrchestrationLog()) {
+      orchestrationLogPublisher.onNodeStatusUpdate(NodeUpdateInfo.builder().nodeExecution(updated).build());
+    }
+  }
+
   @Override
   public long markLeavesDiscontinuing(String planExecutionId, List<String> leafInstanceIds) {
     Update ops = new Update();
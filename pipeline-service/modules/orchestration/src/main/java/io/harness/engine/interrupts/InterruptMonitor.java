@@ -44,6 +44,7 @@ import io.harness.pms.contracts.execution.Status;
 import io.harness.pms.execution.utils.StatusUtils;
 
 import com.google.inject.Inject;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.List;
@@ -51,7 +52,6 @@ import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
-import org.jetbrains.annotations.Nullable;
 import org.springframework.data.mapping.model.MappingInstantiationException;
 import org.springframework.data.mongodb.core.MongoTemplate;
 
@@ -216,14 +216,26 @@ public class InterruptMonitor implements Handler<Interrupt> {
   }
 
   private void discontinueNodeExecutions(Interrupt interrupt, Collection<NodeExecution> nodeExecutions) {
-    for (NodeExecution runningNodeExecution : nodeExecutions) {
-      NodeExecution discontinuingNode = markDiscontinuingIfRequired(interrupt, runningNodeExecution);
-      if (discontinuingNode == null) {
+    List<NodeExecution> discontinuingNodes = new ArrayList<>();
+    List<String> nodeExecutionIdsToMark = new ArrayList<>();
+    for (NodeExecution nodeExecution : nodeExecutions) {
+      if (nodeExecution.getStatus() == Status.DISCONTINUING) {
+        discontinuingNodes.add(nodeExecution);
+      } else {
+        nodeExecutionIdsToMark.add(nodeExecution.getUuid());
+      }
+    }
+    if (isNotEmpty(nodeExecutionIdsToMark)) {
+      List<NodeExecution> markedNodes = nodeExecutionService.transitionStatuses(interrupt.getPlanExecutionId(),
+          nodeExecutionIdsToMark, Status.DISCONTINUING, null, EnumSet.noneOf(Status.class), null);
+      if (markedNodes.size() < nodeExecutionIdsToMark.size()) {
         // TODO: Think more cases can this happen if yes what we can do to improve
-        log.error("Unable to unblock stuck execution InterruptId :{} NodeExecutionId: {}", interrupt.getUuid(),
-            runningNodeExecution.getUuid());
-        return;
+        log.error("Unable to unblock stuck execution InterruptId :{} NodeExecutionIds: {}", interrupt.getUuid(),
+            nodeExecutionIdsToMark);
       }
+      discontinuingNodes.addAll(markedNodes);
+    }
+    for (NodeExecution discontinuingNode : discontinuingNodes) {
       terminateParent(interrupt, discontinuingNode);
     }
   }
@@ -241,16 +253,6 @@ public class InterruptMonitor implements Handler<Interrupt> {
     }
   }
 
-  @Nullable
-  private NodeExecution markDiscontinuingIfRequired(Interrupt interrupt, NodeExecution parent) {
-    NodeExecution discontinuingParent = parent;
-    if (parent.getStatus() != Status.DISCONTINUING) {
-      discontinuingParent = nodeExecutionService.updateStatusWithOps(
-          parent.getUuid(), Status.DISCONTINUING, null, EnumSet.noneOf(Status.class));
-    }
-    return discontinuingParent;
-  }
-
   private Set<NodeExecution> findAllLeaves(List<NodeExecution> nodeExecutions) {
     return nodeExecutions.stream()
         .filter(ne -> ExecutionModeUtils.leafModes().contains(ne.getMode()))
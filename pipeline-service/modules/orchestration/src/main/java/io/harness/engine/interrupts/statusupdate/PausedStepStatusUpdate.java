@@ -21,6 +21,7 @@ import io.harness.pms.contracts.execution.Status;
 import io.harness.pms.execution.utils.StatusUtils;
 
 import com.google.inject.Inject;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
 
@@ -39,7 +40,8 @@ public class PausedStepStatusUpdate implements NodeStatusUpdateHandler {
     List<NodeExecution> flowingChildren = nodeExecutionService.findByParentIdAndStatusIn(
         nodeExecution.getParentId(), StatusUtils.unpausableChildStatuses());
     if (isEmpty(flowingChildren)) {
-      nodeExecutionService.updateStatusWithOps(nodeExecution.getParentId(), PAUSED, null, EnumSet.noneOf(Status.class));
+      nodeExecutionService.transitionStatus(
+          nodeExecution.getParentId(), PAUSED, null, EnumSet.noneOf(Status.class), Collections.emptySet());
     }
     planExecutionService.updateCalculatedStatus(nodeStatusUpdateInfo.getPlanExecutionId());
   }
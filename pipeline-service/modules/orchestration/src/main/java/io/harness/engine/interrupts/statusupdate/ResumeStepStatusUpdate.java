@@ -22,6 +22,7 @@ import io.harness.pms.contracts.execution.Status;
 import io.harness.pms.execution.utils.StatusUtils;
 
 import com.google.inject.Inject;
+import java.util.Collections;
 import java.util.EnumSet;
 
 @OwnedBy(PIPELINE)
@@ -45,8 +46,8 @@ public class ResumeStepStatusUpdate implements NodeStatusUpdateHandler {
     if (nodeExecution.getParentId() == null) {
       return true;
     }
-    NodeExecution parentNodeExecution = nodeExecutionService.updateStatusWithOps(
-        nodeExecution.getParentId(), RUNNING, null, EnumSet.of(INPUT_WAITING, PAUSED));
+    NodeExecution parentNodeExecution = nodeExecutionService.transitionStatus(
+        nodeExecution.getParentId(), RUNNING, null, EnumSet.of(INPUT_WAITING, PAUSED), Collections.emptySet());
     return parentNodeExecution != null && resumeParents(parentNodeExecution);
   }
 }
@@ -52,6 +52,7 @@ import io.harness.utils.AmbianceTestUtils;
 import com.google.common.collect.ImmutableList;
 import com.google.inject.Inject;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
@@ -848,4 +849,68 @@ public class NodeExecutionServiceImplTest extends OrchestrationTestBase {
         .isEqualTo(
             "Query: { \"ambiance.planExecutionId\" : \"tempId\", \"stepType.stepCategory\" : { \"$java\" : PIPELINE } }, Fields: {}, Sort: { \"createdAt\" : 1}");
   }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldTestTransitionStatus() {
+    NodeExecution nodeExecution = nodeExecutionService.save(buildNodeExecution(generateUuid(), Status.RUNNING));
+
+    NodeExecution updated = nodeExecutionService.transitionStatus(nodeExecution.getUuid(), SUCCEEDED,
+        ops -> ops.set(NodeExecutionKeys.endTs, 100L), EnumSet.noneOf(Status.class), Collections.emptySet());
+    assertThat(updated.getStatus()).isEqualTo(SUCCEEDED);
+    assertThat(updated.getEndTs()).isEqualTo(100L);
+    assertThat(updated.getAmbiance()).isEqualTo(nodeExecution.getAmbiance());
+    // not needed by the observers, so not read back
+    assertThat(updated.getNodeId()).isNull();
+
+    assertThat(nodeExecutionService.transitionStatus(
+                   nodeExecution.getUuid(), RUNNING, null, EnumSet.noneOf(Status.class), Collections.emptySet()))
+        .isNull();
+    assertThat(nodeExecutionService.get(nodeExecution.getUuid()).getStatus()).isEqualTo(SUCCEEDED);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldTestTransitionStatuses() {
+    String planExecutionId = generateUuid();
+    NodeExecution running = nodeExecutionService.save(buildNodeExecution(planExecutionId, Status.RUNNING));
+    NodeExecution otherRunning = nodeExecutionService.save(buildNodeExecution(planExecutionId, Status.RUNNING));
+    NodeExecution succeeded = nodeExecutionService.save(buildNodeExecution(planExecutionId, SUCCEEDED));
+
+    List<NodeExecution> transitioned = nodeExecutionService.transitionStatuses(planExecutionId,
+        ImmutableList.of(running.getUuid(), otherRunning.getUuid(), succeeded.getUuid()), Status.PAUSED, null,
+        EnumSet.noneOf(Status.class), Collections.singleton(NodeExecutionKeys.nodeId));
+    assertThat(transitioned)
+        .extracting(NodeExecution::getUuid)
+        .containsExactlyInAnyOrder(running.getUuid(), otherRunning.getUuid());
+    assertThat(transitioned).extracting(NodeExecution::getStatus).containsOnly(Status.PAUSED);
+    assertThat(transitioned).extracting(NodeExecution::getNodeId).doesNotContainNull();
+    assertThat(nodeExecutionService.get(succeeded.getUuid()).getStatus()).isEqualTo(SUCCEEDED);
+
+    assertThat(nodeExecutionService.transitionStatuses(planExecutionId, ImmutableList.of(succeeded.getUuid()),
+                   Status.PAUSED, null, EnumSet.noneOf(Status.class), Collections.emptySet()))
+        .isEmpty();
+
+    // without fields the whole document is read back
+    assertThat(nodeExecutionService.transitionStatuses(planExecutionId, ImmutableList.of(running.getUuid()),
+                   Status.DISCONTINUING, null, EnumSet.of(Status.PAUSED), null))
+        .extracting(NodeExecution::getName)
+        .containsExactly("name");
+  }
+
+  private NodeExecution buildNodeExecution(String planExecutionId, Status status) {
+    return NodeExecution.builder()
+        .uuid(generateUuid())
+        .ambiance(Ambiance.newBuilder().setPlanExecutionId(planExecutionId).build())
+        .nodeId(generateUuid())
+        .name("name")
+        .identifier(generateUuid())
+        .stepType(StepType.newBuilder().setType("DUMMY").setStepCategory(StepCategory.STEP).build())
+        .module("CD")
+        .startTs(System.currentTimeMillis())
+        .status(status)
+        .build();
+  }
 }
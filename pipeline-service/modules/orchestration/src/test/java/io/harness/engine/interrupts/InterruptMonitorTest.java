@@ -161,14 +161,13 @@ public class InterruptMonitorTest extends OrchestrationTestBase {
     when(nodeExecutionService.findAllNodeExecutionsTrimmed(eq(planExecutionId)))
         .thenReturn(Arrays.asList(pipeline, stages, stage, execution, step));
 
-    when(nodeExecutionService.updateStatusWithOps(
-             eq(execution.getUuid()), eq(Status.DISCONTINUING), any(), eq(EnumSet.noneOf(Status.class))))
-        .thenReturn(NodeExecution.builder()
-                        .uuid(execution.getUuid())
-                        .status(Status.DISCONTINUING)
-                        .mode(ExecutionMode.CHILD)
-                        .parentId(stage.getUuid())
-                        .build());
+    mockMarkedDiscontinuing(planExecutionId,
+        NodeExecution.builder()
+            .uuid(execution.getUuid())
+            .status(Status.DISCONTINUING)
+            .mode(ExecutionMode.CHILD)
+            .parentId(stage.getUuid())
+            .build());
     interruptMonitor.handle(interrupt);
     ArgumentCaptor<NodeExecution> discontinuingNodeCaptor = ArgumentCaptor.forClass(NodeExecution.class);
     ArgumentCaptor<Interrupt> interruptCaptor = ArgumentCaptor.forClass(Interrupt.class);
@@ -338,23 +337,19 @@ public class InterruptMonitorTest extends OrchestrationTestBase {
     when(nodeExecutionService.findAllNodeExecutionsTrimmed(eq(planExecutionId)))
         .thenReturn(Arrays.asList(pipeline, stages, stage, execution, fork, sg1, sg2, stepSg1, stepSg2));
 
-    when(nodeExecutionService.updateStatusWithOps(
-             eq(sg1.getUuid()), eq(Status.DISCONTINUING), any(), eq(EnumSet.noneOf(Status.class))))
-        .thenReturn(NodeExecution.builder()
-                        .uuid(sg1.getUuid())
-                        .status(Status.DISCONTINUING)
-                        .mode(ExecutionMode.CHILD)
-                        .parentId(stage.getUuid())
-                        .build());
-
-    when(nodeExecutionService.updateStatusWithOps(
-             eq(sg2.getUuid()), eq(Status.DISCONTINUING), any(), eq(EnumSet.noneOf(Status.class))))
-        .thenReturn(NodeExecution.builder()
-                        .uuid(sg2.getUuid())
-                        .status(Status.DISCONTINUING)
-                        .mode(ExecutionMode.CHILD)
-                        .parentId(stage.getUuid())
-                        .build());
+    mockMarkedDiscontinuing(planExecutionId,
+        NodeExecution.builder()
+            .uuid(sg1.getUuid())
+            .status(Status.DISCONTINUING)
+            .mode(ExecutionMode.CHILD)
+            .parentId(stage.getUuid())
+            .build(),
+        NodeExecution.builder()
+            .uuid(sg2.getUuid())
+            .status(Status.DISCONTINUING)
+            .mode(ExecutionMode.CHILD)
+            .parentId(stage.getUuid())
+            .build());
     interruptMonitor.handle(interrupt);
     ArgumentCaptor<NodeExecution> discontinuingNodeCaptor = ArgumentCaptor.forClass(NodeExecution.class);
     ArgumentCaptor<Interrupt> interruptCaptor = ArgumentCaptor.forClass(Interrupt.class);
@@ -716,14 +711,13 @@ public class InterruptMonitorTest extends OrchestrationTestBase {
     when(nodeExecutionService.findAllNodeExecutionsTrimmed(eq(planExecutionId)))
         .thenReturn(Arrays.asList(pipeline, stages, stage, execution, fork, sg1, sg2, stepSg1, stepSg2));
 
-    when(nodeExecutionService.updateStatusWithOps(
-             eq(sg2.getUuid()), eq(Status.DISCONTINUING), any(), eq(EnumSet.noneOf(Status.class))))
-        .thenReturn(NodeExecution.builder()
-                        .uuid(sg2.getUuid())
-                        .status(Status.DISCONTINUING)
-                        .mode(ExecutionMode.CHILD)
-                        .parentId(stage.getUuid())
-                        .build());
+    mockMarkedDiscontinuing(planExecutionId,
+        NodeExecution.builder()
+            .uuid(sg2.getUuid())
+            .status(Status.DISCONTINUING)
+            .mode(ExecutionMode.CHILD)
+            .parentId(stage.getUuid())
+            .build());
 
     interruptMonitor.handle(interrupt);
     ArgumentCaptor<NodeExecution> discontinuingNodeCaptor = ArgumentCaptor.forClass(NodeExecution.class);
@@ -889,14 +883,13 @@ public class InterruptMonitorTest extends OrchestrationTestBase {
     when(nodeExecutionService.findAllNodeExecutionsTrimmed(eq(planExecutionId)))
         .thenReturn(Arrays.asList(pipeline, stages, stage, execution, fork, sg1, sg2, stepSg1, stepSg2));
 
-    when(nodeExecutionService.updateStatusWithOps(
-             eq(sg2.getUuid()), eq(Status.DISCONTINUING), any(), eq(EnumSet.noneOf(Status.class))))
-        .thenReturn(NodeExecution.builder()
-                        .uuid(sg2.getUuid())
-                        .status(Status.DISCONTINUING)
-                        .mode(ExecutionMode.CHILD)
-                        .parentId(stage.getUuid())
-                        .build());
+    mockMarkedDiscontinuing(planExecutionId,
+        NodeExecution.builder()
+            .uuid(sg2.getUuid())
+            .status(Status.DISCONTINUING)
+            .mode(ExecutionMode.CHILD)
+            .parentId(stage.getUuid())
+            .build());
 
     interruptMonitor.handle(interrupt);
     ArgumentCaptor<NodeExecution> discontinuingNodeCaptor = ArgumentCaptor.forClass(NodeExecution.class);
@@ -1061,14 +1054,13 @@ public class InterruptMonitorTest extends OrchestrationTestBase {
     when(nodeExecutionService.findAllNodeExecutionsTrimmed(eq(planExecutionId)))
         .thenReturn(Arrays.asList(pipeline, stages, stage, execution, fork, sg1, sg2, stepSg1, stepSg2));
 
-    when(nodeExecutionService.updateStatusWithOps(
-             eq(sg2.getUuid()), eq(Status.DISCONTINUING), any(), eq(EnumSet.noneOf(Status.class))))
-        .thenReturn(NodeExecution.builder()
-                        .uuid(sg2.getUuid())
-                        .status(Status.DISCONTINUING)
-                        .mode(ExecutionMode.CHILD)
-                        .parentId(stage.getUuid())
-                        .build());
+    mockMarkedDiscontinuing(planExecutionId,
+        NodeExecution.builder()
+            .uuid(sg2.getUuid())
+            .status(Status.DISCONTINUING)
+            .mode(ExecutionMode.CHILD)
+            .parentId(stage.getUuid())
+            .build());
     doThrow(MappingInstantiationException.class)
         .when(abortHelper)
         .abortDiscontinuingNode(stepSg2, interrupt.getUuid(), interrupt.getInterruptConfig());
@@ -1077,4 +1069,15 @@ public class InterruptMonitorTest extends OrchestrationTestBase {
         .markProcessedForceful(eq(interrupt.getUuid()), eq(PROCESSED_UNSUCCESSFULLY), eq(true));
     Mockito.verifyNoMoreInteractions(interruptService);
   }
+
+  private void mockMarkedDiscontinuing(String planExecutionId, NodeExecution... markedNodes) {
+    when(nodeExecutionService.transitionStatuses(eq(planExecutionId), any(), eq(Status.DISCONTINUING), any(),
+             eq(EnumSet.noneOf(Status.class)), any()))
+        .thenAnswer(invocation -> {
+          List<String> nodeExecutionIds = invocation.getArgument(1);
+          return Arrays.stream(markedNodes)
+              .filter(markedNode -> nodeExecutionIds.contains(markedNode.getUuid()))
+              .collect(Collectors.toList());
+        });
+  }
 }
@@ -21,6 +21,7 @@ import static com.google.common.collect.ImmutableMap.of;
 
 import io.harness.accesscontrol.NGAccessDeniedExceptionMapper;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.audit.client.api.impl.AuditEventBatcher;
 import io.harness.cache.CacheModule;
 import io.harness.configuration.DeployVariant;
 import io.harness.consumers.GraphUpdateRedisConsumer;
@@ -346,7 +347,7 @@ public class PipelineServiceApplication extends Application<PipelineServiceConfi
     registerCorsFilter(appConfig, environment);
     registerResources(environment, injector);
     registerJerseyProviders(environment, injector);
-    registerManagedBeans(environment, injector);
+    registerManagedBeans(appConfig, environment, injector);
     registerAuthFilters(appConfig, environment, injector);
     registerAPIAuthTelemetryFilters(appConfig, environment, injector);
     registerHealthCheck(environment, injector);
@@ -765,10 +766,15 @@ public class PipelineServiceApplication extends Application<PipelineServiceConfi
             injector.getInstance(NotifyResponseCleaner.class), random.nextInt(200), 200L, TimeUnit.SECONDS);
   }
 
-  private void registerManagedBeans(Environment environment, Injector injector) {
+  private void registerManagedBeans(
+      PipelineServiceConfiguration appConfig, Environment environment, Injector injector) {
     environment.lifecycle().manage(injector.getInstance(PMSEventConsumerService.class));
     environment.lifecycle().manage(injector.getInstance(QueueListenerController.class));
     environment.lifecycle().manage(injector.getInstance(ApprovalInstanceExpirationJob.class));
+    if (appConfig.isEnableAudit() && appConfig.getAuditBatchConfig() != null
+        && appConfig.getAuditBatchConfig().isEnabled()) {
+      environment.lifecycle().manage(injector.getInstance(AuditEventBatcher.class));
+    }
     environment.lifecycle().manage(injector.getInstance(OutboxEventPollService.class));
     environment.lifecycle().manage(injector.getInstance(PipelineEventConsumerController.class));
   }
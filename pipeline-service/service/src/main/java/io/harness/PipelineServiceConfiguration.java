@@ -14,6 +14,7 @@ import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toSet;
 
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.audit.client.remote.AuditBatchConfig;
 import io.harness.cache.CacheConfig;
 import io.harness.enforcement.client.EnforcementClientConfiguration;
 import io.harness.event.OrchestrationLogConfiguration;
@@ -120,6 +121,7 @@ public class PipelineServiceConfiguration extends Configuration {
   @JsonProperty("orchestrationStepConfig") private OrchestrationStepConfig orchestrationStepConfig;
   @JsonProperty("enableDashboardTimescale") private Boolean enableDashboardTimescale;
   @JsonProperty("auditClientConfig") private ServiceHttpClientConfig auditClientConfig;
+  @JsonProperty("auditBatchConfig") private AuditBatchConfig auditBatchConfig;
   @JsonProperty(value = "enableAudit") private boolean enableAudit;
   @JsonProperty("cacheConfig") private CacheConfig cacheConfig;
   @JsonProperty("hostname") String hostname = "localhost";
@@ -333,9 +333,9 @@ public class PipelineServiceModule extends AbstractModule {
     install(new LogStreamingModule(configuration.getLogStreamingServiceConfig().getBaseUrl()));
     install(new OpaClientModule(
         configuration.getOpaClientConfig(), configuration.getPolicyManagerSecret(), PIPELINE_SERVICE.getServiceId()));
-    install(
-        new AuditClientModule(this.configuration.getAuditClientConfig(), this.configuration.getManagerServiceSecret(),
-            PIPELINE_SERVICE.getServiceId(), this.configuration.isEnableAudit()));
+    install(new AuditClientModule(this.configuration.getAuditClientConfig(),
+        this.configuration.getManagerServiceSecret(), PIPELINE_SERVICE.getServiceId(),
+        this.configuration.isEnableAudit(), this.configuration.getAuditBatchConfig()));
     install(new TransactionOutboxModule(DEFAULT_OUTBOX_POLL_CONFIGURATION, PIPELINE_SERVICE.getServiceId(), false));
     install(new TokenClientModule(this.configuration.getNgManagerServiceHttpClientConfig(),
         this.configuration.getNgManagerServiceSecret(), PIPELINE_SERVICE.getServiceId()));
@@ -7,6 +7,8 @@
 
 package io.harness.pms.pipeline.service;
 
+import static io.harness.NGCommonEntityConstants.ORG_KEY;
+import static io.harness.NGCommonEntityConstants.PROJECT_KEY;
 import static io.harness.pms.pipeline.service.yamlschema.PmsYamlSchemaHelper.APPROVAL_NAMESPACE;
 import static io.harness.pms.pipeline.service.yamlschema.PmsYamlSchemaHelper.FLATTENED_PARALLEL_STEP_ELEMENT_CONFIG_SCHEMA;
 import static io.harness.pms.pipeline.service.yamlschema.PmsYamlSchemaHelper.PARALLEL_STEP_ELEMENT_CONFIG;
@@ -50,7 +52,6 @@ import io.harness.yaml.schema.YamlSchemaProvider;
 import io.harness.yaml.schema.YamlSchemaTransientHelper;
 import io.harness.yaml.schema.beans.PartialSchemaDTO;
 import io.harness.yaml.schema.beans.YamlSchemaWithDetails;
-import io.harness.yaml.utils.JsonPipelineUtils;
 import io.harness.yaml.utils.YamlSchemaUtils;
 import io.harness.yaml.validator.YamlSchemaValidator;
 
@@ -60,8 +61,13 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
+import com.networknt.schema.JsonSchema;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -72,6 +78,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -87,6 +94,8 @@ public class PMSYamlSchemaServiceImpl implements PMSYamlSchemaService {
   private static final String STEP_ELEMENT_CONFIG = YamlSchemaUtils.getSwaggerName(StepElementConfig.class);
   public static final String STAGE_ELEMENT_CONFIG = YamlSchemaUtils.getSwaggerName(StageElementConfig.class);
   public static final Class<StageElementConfig> STAGE_ELEMENT_CONFIG_CLASS = StageElementConfig.class;
+  // about a handful of the largest pipeline schemas, as JSON characters
+  private static final long MAX_COMPILED_SCHEMA_CHARS = 32L * 1024 * 1024;
 
   private final YamlSchemaProvider yamlSchemaProvider;
   private final YamlSchemaGenerator yamlSchemaGenerator;
@@ -98,6 +107,14 @@ public class PMSYamlSchemaServiceImpl implements PMSYamlSchemaService {
   private final SchemaFetcher schemaFetcher;
   private final NgLicenseHttpClient ngLicenseHttpClient;
   Integer allowedParallelStages;
+  // Compiled once per account and schema version, without the org and project constants. Modules registering on
+  // another instance only bump the version there, the expiry makes this instance pick their schemas up as well.
+  private final Cache<String, JsonSchema> compiledPipelineSchemas =
+      CacheBuilder.newBuilder()
+          .maximumWeight(MAX_COMPILED_SCHEMA_CHARS)
+          .weigher((String key, JsonSchema schema) -> schema.getSchemaNode().toString().length())
+          .expireAfterWrite(10, TimeUnit.MINUTES)
+          .build();
 
   @Inject
   public PMSYamlSchemaServiceImpl(YamlSchemaProvider yamlSchemaProvider, YamlSchemaGenerator yamlSchemaGenerator,
@@ -140,11 +157,13 @@ public class PMSYamlSchemaServiceImpl implements PMSYamlSchemaService {
   private void validateYamlSchemaInternal(String accountIdentifier, String orgId, String projectId, String yaml) {
     long start = System.currentTimeMillis();
     try {
-      JsonNode schema = getPipelineYamlSchema(accountIdentifier, projectId, orgId, Scope.PROJECT);
-      String schemaString = JsonPipelineUtils.writeJsonString(schema);
-      yamlSchemaValidator.validate(yaml, schemaString,
+      JsonSchema schema = getCompiledPipelineSchema(accountIdentifier);
+      Map<String, String> expectedIdentifiers = new HashMap<>();
+      expectedIdentifiers.put("/" + PIPELINE_NODE + "/" + ORG_KEY, orgId);
+      expectedIdentifiers.put("/" + PIPELINE_NODE + "/" + PROJECT_KEY, projectId);
+      yamlSchemaValidator.validate(yaml, schema,
           pmsYamlSchemaHelper.isFeatureFlagEnabled(FeatureName.DONT_RESTRICT_PARALLEL_STAGE_COUNT, accountIdentifier),
-          allowedParallelStages, PIPELINE_NODE + "/" + STAGES_NODE);
+          allowedParallelStages, PIPELINE_NODE + "/" + STAGES_NODE, expectedIdentifiers);
     } catch (io.harness.yaml.validator.InvalidYamlException e) {
       log.info("[PMS_SCHEMA] Schema validation took total time {}ms", System.currentTimeMillis() - start);
       throw e;
@@ -154,6 +173,17 @@ public class PMSYamlSchemaServiceImpl implements PMSYamlSchemaService {
     }
   }
 
+  private JsonSchema getCompiledPipelineSchema(String accountIdentifier) {
+    String key = accountIdentifier + "/" + schemaFetcher.getSchemaVersion();
+    try {
+      return compiledPipelineSchemas.get(key,
+          () -> yamlSchemaValidator.compileSchema(getPipelineYamlSchema(accountIdentifier, null, null, Scope.PROJECT)));
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new JsonSchemaException(e.getCause().getMessage());
+    }
+  }
+
   @Override
   public void validateUniqueFqn(String yaml) {
     try {
@@ -167,6 +197,7 @@ public class PMSYamlSchemaServiceImpl implements PMSYamlSchemaService {
   @Override
   public void invalidateAllCache() {
     schemaFetcher.invalidateAllCache();
+    compiledPipelineSchemas.invalidateAll();
   }
 
   private JsonNode getPipelineYamlSchemaInternal(
@@ -28,6 +28,7 @@ import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.cache.Cache;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.Nullable;
@@ -40,6 +41,8 @@ public class SchemaFetcher {
   @Inject @Named("schemaDetailsCache") Cache<SchemaCacheKey, YamlSchemaDetailsWrapperValue> schemaDetailsCache;
   @Inject @Named("partialSchemaCache") Cache<SchemaCacheKey, PartialSchemaDTOWrapperValue> schemaCache;
   @Inject private SchemaGetterFactory schemaGetterFactory;
+  // Bumped whenever the cached schemas are invalidated, so that schemas built from them can be told apart
+  private final AtomicLong schemaVersion = new AtomicLong();
 
   /**
    * Schema is taken from cache, so every modification will affect cache value.
@@ -99,11 +102,16 @@ public class SchemaFetcher {
 
   public void invalidateAllCache() {
     log.info("[PMS] Invalidating yaml schema cache");
+    schemaVersion.incrementAndGet();
     schemaCache.clear();
     schemaDetailsCache.clear();
     log.info("[PMS] Yaml schema cache was successfully invalidated");
   }
 
+  public long getSchemaVersion() {
+    return schemaVersion.get();
+  }
+
   private void logWarnIfExceedsThreshold(ModuleType moduleType, long startTs) {
     Duration processDuration = Duration.ofMillis(System.currentTimeMillis() - startTs);
     if (THRESHOLD_PROCESS_DURATION.compareTo(processDuration) < 0) {
@@ -9,6 +9,8 @@ package io.harness.pms.plan.execution.data.service.outcome;
 
 import io.harness.engine.pms.data.OptionalOutcome;
 import io.harness.engine.pms.data.PmsOutcomeService;
+import io.harness.pms.contracts.ambiance.Ambiance;
+import io.harness.pms.contracts.refobjects.RefObject;
 import io.harness.pms.contracts.service.OutcomeConsumeBlobRequest;
 import io.harness.pms.contracts.service.OutcomeConsumeBlobResponse;
 import io.harness.pms.contracts.service.OutcomeFetchOutcomeBlobRequest;
@@ -20,6 +22,8 @@ import io.harness.pms.contracts.service.OutcomeFindAllBlobResponse;
 import io.harness.pms.contracts.service.OutcomeProtoServiceGrpc.OutcomeProtoServiceImplBase;
 import io.harness.pms.contracts.service.OutcomeResolveBlobRequest;
 import io.harness.pms.contracts.service.OutcomeResolveBlobResponse;
+import io.harness.pms.contracts.service.OutcomeResolveOptionalBatchBlobRequest;
+import io.harness.pms.contracts.service.OutcomeResolveOptionalBatchBlobResponse;
 import io.harness.pms.contracts.service.OutcomeResolveOptionalBlobRequest;
 import io.harness.pms.contracts.service.OutcomeResolveOptionalBlobResponse;
 
@@ -80,13 +84,28 @@ public class OutcomeServiceGrpcServerImpl extends OutcomeProtoServiceImplBase {
   @Override
   public void resolveOptional(
       OutcomeResolveOptionalBlobRequest request, StreamObserver<OutcomeResolveOptionalBlobResponse> responseObserver) {
-    OptionalOutcome resolve = pmsOutcomeService.resolveOptional(request.getAmbiance(), request.getRefObject());
+    responseObserver.onNext(resolveOptional(request.getAmbiance(), request.getRefObject()));
+    responseObserver.onCompleted();
+  }
+
+  @Override
+  public void resolveOptionalBatch(OutcomeResolveOptionalBatchBlobRequest request,
+      StreamObserver<OutcomeResolveOptionalBatchBlobResponse> responseObserver) {
+    OutcomeResolveOptionalBatchBlobResponse.Builder builder = OutcomeResolveOptionalBatchBlobResponse.newBuilder();
+    for (RefObject refObject : request.getRefObjectsList()) {
+      builder.addResponses(resolveOptional(request.getAmbiance(), refObject));
+    }
+    responseObserver.onNext(builder.build());
+    responseObserver.onCompleted();
+  }
+
+  private OutcomeResolveOptionalBlobResponse resolveOptional(Ambiance ambiance, RefObject refObject) {
+    OptionalOutcome resolve = pmsOutcomeService.resolveOptional(ambiance, refObject);
     OutcomeResolveOptionalBlobResponse.Builder builder =
         OutcomeResolveOptionalBlobResponse.newBuilder().setFound(resolve.isFound());
     if (resolve.isFound() && resolve.getOutcome() != null) {
       builder.setOutcome(resolve.getOutcome());
     }
-    responseObserver.onNext(builder.build());
-    responseObserver.onCompleted();
+    return builder.build();
   }
 }
@@ -18,6 +18,7 @@ import static junit.framework.TestCase.assertEquals;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Matchers.any;
@@ -51,13 +52,14 @@ import io.harness.yaml.schema.beans.YamlGroup;
 import io.harness.yaml.schema.beans.YamlSchemaDetailsWrapper;
 import io.harness.yaml.schema.beans.YamlSchemaMetadata;
 import io.harness.yaml.schema.beans.YamlSchemaWithDetails;
-import io.harness.yaml.utils.JsonPipelineUtils;
 import io.harness.yaml.validator.YamlSchemaValidator;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.collect.ImmutableMap;
+import com.networknt.schema.JsonSchema;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
@@ -192,7 +194,8 @@ public class PMSYamlSchemaServiceImplTest {
     when(pmsYamlSchemaHelper.isFeatureFlagEnabled(FeatureName.DISABLE_PIPELINE_SCHEMA_VALIDATION, ACC_ID))
         .thenReturn(true);
     pmsYamlSchemaService.validateYamlSchema(ACC_ID, ORG_ID, PRJ_ID, "");
-    verify(yamlSchemaValidator, never()).validate(anyString(), anyString(), anyBoolean(), anyInt(), anyString());
+    verify(yamlSchemaValidator, never())
+        .validate(anyString(), any(JsonSchema.class), anyBoolean(), anyInt(), anyString(), anyMap());
   }
 
   @Test
@@ -200,7 +203,7 @@ public class PMSYamlSchemaServiceImplTest {
   @Category(UnitTests.class)
   public void shouldValidateYamlSchema() throws Throwable {
     final String yaml = "yamlContent";
-    final String schemaString = "schemaContent";
+    final JsonSchema jsonSchema = mock(JsonSchema.class);
     final Scope scope = Scope.PROJECT;
     pmsYamlSchemaService.allowedParallelStages = 0;
 
@@ -208,14 +211,36 @@ public class PMSYamlSchemaServiceImplTest {
         .thenReturn(false);
     when(pmsYamlSchemaHelper.isFeatureFlagEnabled(FeatureName.DONT_RESTRICT_PARALLEL_STAGE_COUNT, ACC_ID))
         .thenReturn(false);
+    when(jsonSchema.getSchemaNode()).thenReturn(new ObjectMapper().createObjectNode());
+    when(yamlSchemaValidator.compileSchema(any())).thenReturn(jsonSchema);
 
-    try (MockedStatic<JsonPipelineUtils> pipelineUtils = mockStatic(JsonPipelineUtils.class)) {
-      pipelineUtils.when(() -> JsonPipelineUtils.writeJsonString(any())).thenReturn(schemaString);
-      prepareAndAssertGetPipelineYamlSchemaInternal(
-          scope, () -> pmsYamlSchemaService.validateYamlSchema(ACC_ID, ORG_ID, PRJ_ID, yaml));
-    }
+    // compiled for all projects of the account, the identifiers are checked apart from the schema
+    prepareAndAssertGetPipelineYamlSchemaInternal(
+        scope, null, null, () -> pmsYamlSchemaService.validateYamlSchema(ACC_ID, ORG_ID, PRJ_ID, yaml));
 
-    verify(yamlSchemaValidator).validate(eq(yaml), eq(schemaString), anyBoolean(), anyInt(), anyString());
+    verify(yamlSchemaValidator)
+        .validate(eq(yaml), eq(jsonSchema), anyBoolean(), anyInt(), anyString(),
+            eq(ImmutableMap.of("/pipeline/orgIdentifier", ORG_ID, "/pipeline/projectIdentifier", PRJ_ID)));
+  }
+
+  @Test
+  @Owner(developers = FERNANDOD)
+  @Category(UnitTests.class)
+  public void shouldCompilePipelineSchemaOnceForRepeatedValidations() throws Throwable {
+    final JsonSchema jsonSchema = mock(JsonSchema.class);
+    pmsYamlSchemaService.allowedParallelStages = 0;
+    when(jsonSchema.getSchemaNode()).thenReturn(new ObjectMapper().createObjectNode());
+    when(yamlSchemaValidator.compileSchema(any())).thenReturn(jsonSchema);
+
+    // the schema is generated only once, also for another project, which the preparation verifies as well
+    prepareAndAssertGetPipelineYamlSchemaInternal(Scope.PROJECT, null, null, () -> {
+      pmsYamlSchemaService.validateYamlSchema(ACC_ID, ORG_ID, PRJ_ID, "first");
+      pmsYamlSchemaService.validateYamlSchema(ACC_ID, ORG_ID, "otherProject", "second");
+    });
+
+    verify(yamlSchemaValidator, times(1)).compileSchema(any());
+    verify(yamlSchemaValidator, times(2))
+        .validate(anyString(), eq(jsonSchema), anyBoolean(), anyInt(), anyString(), anyMap());
   }
 
   private JsonNode readJsonNode(String resourceName) throws IOException {
@@ -229,10 +254,16 @@ public class PMSYamlSchemaServiceImplTest {
   // IMPORTANT TO NOTE THAT WE DON'T COVERAGE SPECIFIC CASES, JUST THE SUNNY DAY.
   private void prepareAndAssertGetPipelineYamlSchemaInternal(Scope scope, PipelineYamlSchemaInternal verification)
       throws Throwable {
+    prepareAndAssertGetPipelineYamlSchemaInternal(scope, ORG_ID, PRJ_ID, verification);
+  }
+
+  private void prepareAndAssertGetPipelineYamlSchemaInternal(
+      Scope scope, String orgId, String projectId, PipelineYamlSchemaInternal verification) throws Throwable {
     ObjectNode pipelineSchema = mock(ObjectNode.class);
     JsonNode pipelineSteps = mock(JsonNode.class);
-    when(yamlSchemaProvider.getYamlSchema(EntityType.PIPELINES, ORG_ID, PRJ_ID, scope)).thenReturn(pipelineSchema);
-    when(yamlSchemaProvider.getYamlSchema(EntityType.PIPELINE_STEPS, ORG_ID, PRJ_ID, scope)).thenReturn(pipelineSteps);
+    when(yamlSchemaProvider.getYamlSchema(EntityType.PIPELINES, orgId, projectId, scope)).thenReturn(pipelineSchema);
+    when(yamlSchemaProvider.getYamlSchema(EntityType.PIPELINE_STEPS, orgId, projectId, scope))
+        .thenReturn(pipelineSteps);
 
     ObjectNode pipelineDefinitions = mock(ObjectNode.class);
     ObjectNode pipelineStepsDefinitions = mock(ObjectNode.class);
@@ -252,7 +283,7 @@ public class PMSYamlSchemaServiceImplTest {
 
       ObjectNode finalMergedDefinitions = mock(ObjectNode.class);
       when(yamlSchemaProvider.mergeAllV2StepsDefinitions(
-               eq(PRJ_ID), eq(ORG_ID), eq(scope), eq(mergedDefinitions), any()))
+               eq(projectId), eq(orgId), eq(scope), eq(mergedDefinitions), any()))
           .thenReturn(finalMergedDefinitions);
       ObjectNode stepElementConfig = mock(ObjectNode.class);
       when(finalMergedDefinitions.get(STEP_ELEMENT_CONFIG)).thenReturn(stepElementConfig);
@@ -268,7 +299,7 @@ public class PMSYamlSchemaServiceImplTest {
       verify(pmsYamlSchemaHelper).getNodeEntityTypesByYamlGroup(StepCategory.STEP.name());
       verify(pmsSdkInstanceService).getActiveInstanceNames();
       verify(yamlSchemaProvider, times(2))
-          .mergeAllV2StepsDefinitions(eq(PRJ_ID), eq(ORG_ID), eq(scope), eq(mergedDefinitions), any());
+          .mergeAllV2StepsDefinitions(eq(projectId), eq(orgId), eq(scope), eq(mergedDefinitions), any());
     }
   }
 
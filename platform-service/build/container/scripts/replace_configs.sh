@@ -122,6 +122,10 @@ if [[ "" != "$OVERRIDE_PREDEFINED_TEMPLATES" ]]; then
   export OVERRIDE_PREDEFINED_TEMPLATES; yq -i '.notificationServiceConfig.seedDataConfiguration.shouldOverrideAllPredefinedTemplates=env(OVERRIDE_PREDEFINED_TEMPLATES)' $CONFIG_FILE
 fi
 
+if [[ "" != "$NOTIFICATION_CONSUMER_THREADS" ]]; then
+  export NOTIFICATION_CONSUMER_THREADS; yq -i '.notificationServiceConfig.dispatchConfig.consumerThreads=env(NOTIFICATION_CONSUMER_THREADS)' $CONFIG_FILE
+fi
+
 if [[ "" != "$MONGO_MESSAGE_BROKER_URI" ]]; then
   export MONGO_MESSAGE_BROKER_URI; yq -i '.notificationClient.messageBroker.uri=env(MONGO_MESSAGE_BROKER_URI)' $CONFIG_FILE
 fi
@@ -32,6 +32,7 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 import javax.ws.rs.BeanParam;
@@ -80,6 +81,22 @@ public interface AuditResource {
   create(@RequestBody(description = "This has the information to create an Audit event.",
       required = true) @NotNull @Valid AuditEventDTO auditEventDTO);
 
+  @POST
+  @Path("/batch")
+  @Hidden
+  @ApiOperation(hidden = true, value = "Create a batch of Audits", nickname = "postAuditBatch")
+  @Operation(operationId = "postAuditEventBatch", summary = "Creates a batch of Audit Events",
+      responses =
+      {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "default",
+            description = "Returns True if all the Audit Events are successfully created. Else, it returns false.")
+      },
+      hidden = true)
+  @InternalApi
+  ResponseDTO<Boolean>
+  createBatch(@RequestBody(description = "This has the information to create the Audit events.",
+      required = true) @NotNull @Valid List<AuditEventDTO> auditEventDTOs);
+
   @POST
   @Path("/list")
   @ApiOperation(value = "Get Audit Event list", nickname = "getAuditEventList")
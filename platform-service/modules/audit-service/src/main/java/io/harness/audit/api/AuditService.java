@@ -16,6 +16,7 @@ import io.harness.audit.entities.AuditEvent;
 import io.harness.ng.beans.PageRequest;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import org.springframework.data.domain.Page;
@@ -24,6 +25,8 @@ import org.springframework.data.domain.Page;
 public interface AuditService {
   Boolean create(AuditEventDTO auditEventDTO);
 
+  Boolean createBatch(List<AuditEventDTO> auditEventDTOs);
+
   Optional<AuditEvent> get(String accountIdentifier, String auditId);
 
   Page<AuditEvent> list(
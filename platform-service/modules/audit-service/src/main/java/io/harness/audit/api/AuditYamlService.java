@@ -13,11 +13,13 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.audit.entities.YamlDiffRecord;
 
 import java.time.Instant;
+import java.util.List;
 
 @OwnedBy(PL)
 public interface AuditYamlService {
   YamlDiffRecord get(String auditId);
   YamlDiffRecord save(YamlDiffRecord yamlDiffRecord);
+  void saveAll(List<YamlDiffRecord> yamlDiffRecords);
   void purgeYamlDiffOlderThanTimestamp(String accountIdentifier, Instant timestamp);
   boolean delete(String auditId);
 }
@@ -12,6 +12,7 @@ import static io.harness.audit.Action.LOGIN;
 import static io.harness.audit.Action.LOGIN2FA;
 import static io.harness.audit.Action.UNSUCCESSFUL_LOGIN;
 import static io.harness.audit.mapper.AuditEventMapper.fromDTO;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
 import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
 import static io.harness.springdata.PersistenceUtils.DEFAULT_RETRY_POLICY;
 import static io.harness.utils.PageUtils.getPageRequest;
@@ -36,6 +37,7 @@ import io.harness.audit.entities.ResourceScope;
 import io.harness.audit.entities.YamlDiffRecord;
 import io.harness.audit.mapper.ResourceMapper;
 import io.harness.audit.mapper.ResourceScopeMapper;
+import io.harness.audit.mapper.YamlDiffRecordMapper;
 import io.harness.audit.repositories.AuditRepository;
 import io.harness.ng.beans.PageRequest;
 import io.harness.ng.core.common.beans.KeyValuePair;
@@ -51,6 +53,7 @@ import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import net.jodah.failsafe.Failsafe;
 import net.jodah.failsafe.RetryPolicy;
+import org.bson.types.ObjectId;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.mongodb.core.query.Criteria;
@@ -100,19 +103,60 @@ public class AuditServiceImpl implements AuditService {
     }
   }
 
+  @Override
+  public Boolean createBatch(List<AuditEventDTO> auditEventDTOs) {
+    if (isEmpty(auditEventDTOs)) {
+      return true;
+    }
+    List<AuditEvent> auditEvents = new ArrayList<>(auditEventDTOs.size());
+    List<YamlDiffRecord> yamlDiffRecords = new ArrayList<>();
+    for (AuditEventDTO auditEventDTO : auditEventDTOs) {
+      AuditEvent auditEvent = fromDTO(auditEventDTO);
+      // Ids are assigned here so that the yaml diffs can be written before their audit events
+      auditEvent.setId(ObjectId.get().toHexString());
+      auditEvents.add(auditEvent);
+      YamlDiffRecord yamlDiffRecord = toYamlDiffRecord(auditEventDTO, auditEvent.getId());
+      if (yamlDiffRecord != null) {
+        yamlDiffRecords.add(yamlDiffRecord);
+      }
+    }
+    try {
+      long startTime = System.currentTimeMillis();
+      // A yaml diff without its audit event is never read, and gets purged along with the audits of the account
+      auditYamlService.saveAll(yamlDiffRecords);
+      Set<String> duplicateIds =
+          Failsafe.with(transactionRetryPolicy).get(() -> auditRepository.insertAllIgnoringDuplicates(auditEvents));
+      if (isNotEmpty(duplicateIds)) {
+        log.info("{} of {} audits already exist", duplicateIds.size(), auditEvents.size());
+        duplicateIds.forEach(auditYamlService::delete);
+      }
+      log.info(String.format("Took %d milliseconds for create audit db operation for a batch of %d audits.",
+          System.currentTimeMillis() - startTime, auditEvents.size()));
+      return true;
+    } catch (Exception e) {
+      log.error("Could not audit a batch of {} events", auditEvents.size(), e);
+      return false;
+    }
+  }
+
   private void saveYamlDiff(AuditEventDTO auditEventDTO, String auditId) {
-    if (auditEventDTO.getYamlDiffRecord() != null) {
-      YamlDiffRecord yamlDiffRecord = YamlDiffRecord.builder()
-                                          .auditId(auditId)
-                                          .accountIdentifier(auditEventDTO.getResourceScope().getAccountIdentifier())
-                                          .oldYaml(auditEventDTO.getYamlDiffRecord().getOldYaml())
-                                          .newYaml(auditEventDTO.getYamlDiffRecord().getNewYaml())
-                                          .timestamp(Instant.ofEpochMilli(auditEventDTO.getTimestamp()))
-                                          .build();
+    YamlDiffRecord yamlDiffRecord = toYamlDiffRecord(auditEventDTO, auditId);
+    if (yamlDiffRecord != null) {
       auditYamlService.save(yamlDiffRecord);
     }
   }
 
+  private YamlDiffRecord toYamlDiffRecord(AuditEventDTO auditEventDTO, String auditId) {
+    if (auditEventDTO.getYamlDiffRecord() == null) {
+      return null;
+    }
+    YamlDiffRecord yamlDiffRecord = YamlDiffRecordMapper.fromDTO(auditEventDTO.getYamlDiffRecord());
+    yamlDiffRecord.setAuditId(auditId);
+    yamlDiffRecord.setAccountIdentifier(auditEventDTO.getResourceScope().getAccountIdentifier());
+    yamlDiffRecord.setTimestamp(Instant.ofEpochMilli(auditEventDTO.getTimestamp()));
+    return yamlDiffRecord;
+  }
+
   @Override
   public Optional<AuditEvent> get(String accountIdentifier, String auditId) {
     Criteria criteria =
@@ -19,6 +19,7 @@ import io.harness.exception.InvalidRequestException;
 
 import com.google.inject.Inject;
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.mongodb.core.query.Criteria;
 
@@ -43,6 +44,12 @@ public class AuditYamlServiceImpl implements AuditYamlService {
     return auditYamlRepository.save(yamlDiffRecord);
   }
 
+  @Override
+  public void saveAll(List<YamlDiffRecord> yamlDiffRecords) {
+    // New records are written with a single insertMany
+    auditYamlRepository.saveAll(yamlDiffRecords);
+  }
+
   @Override
   public boolean delete(String auditId) {
     if (isNotEmpty(auditId)) {
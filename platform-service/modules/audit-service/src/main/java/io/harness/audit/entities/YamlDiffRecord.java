@@ -49,6 +49,12 @@ public class YamlDiffRecord {
   String oldYaml;
   String newYaml;
 
+  // Compact form of the yamls, see YamlDiffRecordMapper. Records written before it only have the plain yamls.
+  byte[] compressedNewYaml;
+  byte[] compressedOldYamlDelta;
+  Integer oldYamlPrefixLength;
+  Integer oldYamlSuffixLength;
+
   public static List<MongoIndex> mongoIndexes() {
     return ImmutableList.<MongoIndex>builder()
         .add(CompoundMongoIndex.builder().name("auditIdx").unique(true).field(YamlDiffRecordKeys.auditId).build())
@@ -9,26 +9,108 @@ package io.harness.audit.mapper;
 
 import static io.harness.annotations.dev.HarnessTeam.PL;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.audit.beans.YamlDiffRecordDTO;
 import io.harness.audit.entities.YamlDiffRecord;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 import lombok.experimental.UtilityClass;
 
+/**
+ * Yaml diffs are stored compacted: the new yaml is gzipped and the old yaml is kept as the part that differs from the
+ * new one (gzipped), together with the lengths of the prefix and suffix it shares with the new one. An update touches
+ * a small part of the yaml, so the old yaml mostly costs two integers.
+ */
 @OwnedBy(PL)
 @UtilityClass
 public class YamlDiffRecordMapper {
   public static YamlDiffRecord fromDTO(YamlDiffRecordDTO yamlDiffRecordDTO) {
-    return YamlDiffRecord.builder()
-        .oldYaml(yamlDiffRecordDTO.getOldYaml())
-        .newYaml(yamlDiffRecordDTO.getNewYaml())
-        .build();
+    String oldYaml = yamlDiffRecordDTO.getOldYaml();
+    String newYaml = yamlDiffRecordDTO.getNewYaml();
+    YamlDiffRecord yamlDiffRecord = YamlDiffRecord.builder().compressedNewYaml(compress(newYaml)).build();
+    if (oldYaml != null) {
+      String base = newYaml == null ? "" : newYaml;
+      int prefixLength = commonPrefixLength(oldYaml, base);
+      int suffixLength = commonSuffixLength(oldYaml, base, prefixLength);
+      yamlDiffRecord.setOldYamlPrefixLength(prefixLength);
+      yamlDiffRecord.setOldYamlSuffixLength(suffixLength);
+      yamlDiffRecord.setCompressedOldYamlDelta(
+          compress(oldYaml.substring(prefixLength, oldYaml.length() - suffixLength)));
+    }
+    return yamlDiffRecord;
   }
 
   public static YamlDiffRecordDTO toDTO(YamlDiffRecord yamlDiffRecord) {
-    return YamlDiffRecordDTO.builder()
-        .oldYaml(yamlDiffRecord.getOldYaml())
-        .newYaml(yamlDiffRecord.getNewYaml())
-        .build();
+    if (yamlDiffRecord.getCompressedNewYaml() == null && yamlDiffRecord.getCompressedOldYamlDelta() == null) {
+      return YamlDiffRecordDTO.builder()
+          .oldYaml(yamlDiffRecord.getOldYaml())
+          .newYaml(yamlDiffRecord.getNewYaml())
+          .build();
+    }
+    String newYaml = decompress(yamlDiffRecord.getCompressedNewYaml());
+    String oldYaml = null;
+    if (yamlDiffRecord.getCompressedOldYamlDelta() != null) {
+      String base = newYaml == null ? "" : newYaml;
+      oldYaml = base.substring(0, yamlDiffRecord.getOldYamlPrefixLength())
+          + decompress(yamlDiffRecord.getCompressedOldYamlDelta())
+          + base.substring(base.length() - yamlDiffRecord.getOldYamlSuffixLength());
+    }
+    return YamlDiffRecordDTO.builder().oldYaml(oldYaml).newYaml(newYaml).build();
+  }
+
+  private static int commonPrefixLength(String first, String second) {
+    int maxLength = Math.min(first.length(), second.length());
+    int length = 0;
+    while (length < maxLength && first.charAt(length) == second.charAt(length)) {
+      length++;
+    }
+    return length;
+  }
+
+  private static int commonSuffixLength(String first, String second, int prefixLength) {
+    // The suffix may not overlap the prefix in either string
+    int maxLength = Math.min(first.length(), second.length()) - prefixLength;
+    int length = 0;
+    while (length < maxLength
+        && first.charAt(first.length() - 1 - length) == second.charAt(second.length() - 1 - length)) {
+      length++;
+    }
+    return length;
+  }
+
+  private static byte[] compress(String value) {
+    if (value == null) {
+      return null;
+    }
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+      gzipOutputStream.write(value.getBytes(UTF_8));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return outputStream.toByteArray();
+  }
+
+  private static String decompress(byte[] value) {
+    if (value == null) {
+      return null;
+    }
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    try (GZIPInputStream gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(value))) {
+      byte[] buffer = new byte[8192];
+      for (int read = gzipInputStream.read(buffer); read != -1; read = gzipInputStream.read(buffer)) {
+        outputStream.write(buffer, 0, read);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return new String(outputStream.toByteArray(), UTF_8);
   }
 }
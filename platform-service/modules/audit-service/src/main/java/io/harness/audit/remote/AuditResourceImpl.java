@@ -29,6 +29,7 @@ import io.harness.security.annotations.InternalApi;
 
 import com.google.common.collect.ImmutableList;
 import com.google.inject.Inject;
+import java.util.List;
 import javax.ws.rs.BeanParam;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -55,6 +56,15 @@ public class AuditResourceImpl implements AuditResource {
     return response;
   }
 
+  @InternalApi
+  public ResponseDTO<Boolean> createBatch(List<AuditEventDTO> auditEventDTOs) {
+    long startTime = System.currentTimeMillis();
+    ResponseDTO<Boolean> response = ResponseDTO.newResponse(auditService.createBatch(auditEventDTOs));
+    log.info(String.format("Took %d milliseconds for create audit batch api for %d audits.",
+        System.currentTimeMillis() - startTime, auditEventDTOs.size()));
+    return response;
+  }
+
   public ResponseDTO<PageResponse<AuditEventDTO>> list(
       String accountIdentifier, @BeanParam PageRequest pageRequest, AuditFilterPropertiesDTO auditFilterPropertiesDTO) {
     long startTime = System.currentTimeMillis();
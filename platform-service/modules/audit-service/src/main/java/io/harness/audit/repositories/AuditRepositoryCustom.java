@@ -13,6 +13,7 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.audit.entities.AuditEvent;
 
 import java.util.List;
+import java.util.Set;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.core.query.Criteria;
@@ -23,4 +24,12 @@ public interface AuditRepositoryCustom {
   AuditEvent get(Criteria criteria);
   void delete(Criteria criteria);
   List<String> fetchDistinctAccountIdentifiers();
+
+  /**
+   * Inserts the audit events with a single unordered bulk write, skipping the ones whose insertId is already stored.
+   * Events stored with their own id, by an earlier attempt of the same write, count as inserted.
+   *
+   * @return the ids of the audit events that were skipped as their insertId is already stored
+   */
+  Set<String> insertAllIgnoringDuplicates(List<AuditEvent> auditEvents);
 }
@@ -9,15 +9,23 @@ package io.harness.audit.repositories;
 
 import static io.harness.annotations.dev.HarnessTeam.PL;
 
+import static org.springframework.data.mongodb.util.MongoDbErrorCodes.isDuplicateKeyCode;
+
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.audit.entities.AuditEvent;
 import io.harness.audit.entities.AuditEvent.AuditEventKeys;
 import io.harness.mongo.helper.SecondaryMongoTemplateHolder;
 
 import com.google.inject.Inject;
+import com.mongodb.BulkWriteError;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
@@ -57,6 +65,30 @@ public class AuditRepositoryCustomImpl implements AuditRepositoryCustom {
         query, AuditEventKeys.ACCOUNT_IDENTIFIER_KEY, AuditEvent.class, String.class);
   }
 
+  @Override
+  public Set<String> insertAllIgnoringDuplicates(List<AuditEvent> auditEvents) {
+    if (auditEvents.isEmpty()) {
+      return Collections.emptySet();
+    }
+    try {
+      mongoTemplate.bulkOps(BulkMode.UNORDERED, AuditEvent.class).insert(auditEvents).execute();
+      return Collections.emptySet();
+    } catch (BulkOperationException ex) {
+      Set<String> duplicateIds = new HashSet<>();
+      for (BulkWriteError bulkWriteError : ex.getErrors()) {
+        if (!isDuplicateKeyCode(bulkWriteError.getCode())) {
+          throw ex;
+        }
+        duplicateIds.add(auditEvents.get(bulkWriteError.getIndex()).getId());
+      }
+      // A retry after a partial write collides with the events it stored itself, those are not duplicates
+      Query query = new Query(Criteria.where(AuditEventKeys.id).in(duplicateIds));
+      query.fields().include(AuditEventKeys.id);
+      mongoTemplate.find(query, AuditEvent.class).forEach(stored -> duplicateIds.remove(stored.getId()));
+      return duplicateIds;
+    }
+  }
+
   @Override
   public AuditEvent get(Criteria criteria) {
     Query query = new Query(criteria);
@@ -16,13 +16,16 @@ import static io.harness.rule.OwnerRule.VIKAS_M;
 import static io.harness.utils.PageTestUtils.getPage;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static junit.framework.TestCase.assertEquals;
 import static junit.framework.TestCase.assertNotNull;
+import static junit.framework.TestCase.assertTrue;
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -36,19 +39,24 @@ import io.harness.audit.Action;
 import io.harness.audit.StaticAuditFilter;
 import io.harness.audit.api.AuditService;
 import io.harness.audit.api.AuditYamlService;
+import io.harness.audit.beans.AuditEventDTO;
 import io.harness.audit.beans.AuditFilterPropertiesDTO;
+import io.harness.audit.beans.AuthenticationInfoDTO;
 import io.harness.audit.beans.Environment;
 import io.harness.audit.beans.Principal;
 import io.harness.audit.beans.PrincipalType;
 import io.harness.audit.beans.ResourceDTO;
 import io.harness.audit.beans.ResourceScopeDTO;
+import io.harness.audit.beans.YamlDiffRecordDTO;
 import io.harness.audit.entities.AuditEvent;
 import io.harness.audit.entities.AuditEvent.AuditEventKeys;
+import io.harness.audit.entities.YamlDiffRecord;
 import io.harness.audit.repositories.AuditRepository;
 import io.harness.category.element.UnitTests;
 import io.harness.ng.beans.PageRequest;
 import io.harness.rule.Owner;
 
+import com.google.common.collect.ImmutableList;
 import com.mongodb.BasicDBList;
 import java.time.Instant;
 import java.util.List;
@@ -342,4 +350,43 @@ public class AuditServiceImplTest extends CategoryTest {
     Document principalTypeDocument = (Document) andList.get(0);
     assertEquals(SYSTEM, principalTypeDocument.get(AuditEventKeys.PRINCIPAL_TYPE_KEY));
   }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testCreateBatchDropsYamlDiffsOfDuplicates() {
+    String accountIdentifier = randomAlphabetic(10);
+    List<AuditEventDTO> auditEventDTOs =
+        ImmutableList.of(getAuditEventDTO(accountIdentifier), getAuditEventDTO(accountIdentifier));
+    ArgumentCaptor<List<AuditEvent>> auditEventsCaptor = ArgumentCaptor.forClass(List.class);
+    ArgumentCaptor<List<YamlDiffRecord>> yamlDiffRecordsCaptor = ArgumentCaptor.forClass(List.class);
+    when(auditRepository.insertAllIgnoringDuplicates(auditEventsCaptor.capture()))
+        .thenAnswer(invocation -> singleton(((List<AuditEvent>) invocation.getArguments()[0]).get(1).getId()));
+
+    assertTrue(auditService.createBatch(auditEventDTOs));
+
+    verify(auditYamlService).saveAll(yamlDiffRecordsCaptor.capture());
+    List<AuditEvent> auditEvents = auditEventsCaptor.getValue();
+    List<YamlDiffRecord> yamlDiffRecords = yamlDiffRecordsCaptor.getValue();
+    assertEquals(2, yamlDiffRecords.size());
+    assertEquals(auditEvents.get(0).getId(), yamlDiffRecords.get(0).getAuditId());
+    assertEquals(auditEvents.get(1).getId(), yamlDiffRecords.get(1).getAuditId());
+    verify(auditYamlService).delete(auditEvents.get(1).getId());
+    verify(auditYamlService, never()).delete(auditEvents.get(0).getId());
+  }
+
+  private AuditEventDTO getAuditEventDTO(String accountIdentifier) {
+    return AuditEventDTO.builder()
+        .insertId(randomAlphabetic(10))
+        .resourceScope(ResourceScopeDTO.builder().accountIdentifier(accountIdentifier).build())
+        .resource(ResourceDTO.builder().type("ORGANIZATION").identifier(randomAlphabetic(10)).build())
+        .authenticationInfo(AuthenticationInfoDTO.builder()
+                                .principal(Principal.builder().type(SYSTEM).identifier(randomAlphabetic(10)).build())
+                                .build())
+        .module(ModuleType.CORE)
+        .action(Action.CREATE)
+        .timestamp(System.currentTimeMillis())
+        .yamlDiffRecord(YamlDiffRecordDTO.builder().newYaml(randomAlphabetic(10)).build())
+        .build();
+  }
 }
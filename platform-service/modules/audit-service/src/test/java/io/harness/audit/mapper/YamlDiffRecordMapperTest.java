@@ -0,0 +1,76 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.audit.mapper;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.KARAN;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertNull;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.audit.beans.YamlDiffRecordDTO;
+import io.harness.audit.entities.YamlDiffRecord;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(PL)
+public class YamlDiffRecordMapperTest extends CategoryTest {
+  private static final String OLD_YAML = "pipeline:\n  name: old\n  identifier: pipeline\n  stages: []\n";
+  private static final String NEW_YAML = "pipeline:\n  name: new\n  identifier: pipeline\n  stages: []\n";
+
+  private static YamlDiffRecordDTO roundTrip(String oldYaml, String newYaml) {
+    return YamlDiffRecordMapper.toDTO(
+        YamlDiffRecordMapper.fromDTO(YamlDiffRecordDTO.builder().oldYaml(oldYaml).newYaml(newYaml).build()));
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testUpdateIsStoredAsDelta() {
+    YamlDiffRecord yamlDiffRecord =
+        YamlDiffRecordMapper.fromDTO(YamlDiffRecordDTO.builder().oldYaml(OLD_YAML).newYaml(NEW_YAML).build());
+
+    assertNull(yamlDiffRecord.getOldYaml());
+    assertNull(yamlDiffRecord.getNewYaml());
+    assertEquals("pipeline:\n  name: ".length(), (int) yamlDiffRecord.getOldYamlPrefixLength());
+    assertEquals("\n  identifier: pipeline\n  stages: []\n".length(), (int) yamlDiffRecord.getOldYamlSuffixLength());
+
+    YamlDiffRecordDTO yamlDiffRecordDTO = YamlDiffRecordMapper.toDTO(yamlDiffRecord);
+    assertEquals(OLD_YAML, yamlDiffRecordDTO.getOldYaml());
+    assertEquals(NEW_YAML, yamlDiffRecordDTO.getNewYaml());
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testRoundTrip() {
+    assertEquals(NEW_YAML, roundTrip(null, NEW_YAML).getNewYaml());
+    assertNull(roundTrip(null, NEW_YAML).getOldYaml());
+    assertEquals(OLD_YAML, roundTrip(OLD_YAML, null).getOldYaml());
+    assertNull(roundTrip(OLD_YAML, null).getNewYaml());
+    assertEquals(NEW_YAML, roundTrip(NEW_YAML, NEW_YAML).getOldYaml());
+    assertEquals("aa", roundTrip("aa", "aaa").getOldYaml());
+    assertEquals("aaa", roundTrip("aaa", "aa").getOldYaml());
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testUncompactedRecord() {
+    YamlDiffRecordDTO yamlDiffRecordDTO =
+        YamlDiffRecordMapper.toDTO(YamlDiffRecord.builder().oldYaml(OLD_YAML).newYaml(NEW_YAML).build());
+
+    assertEquals(OLD_YAML, yamlDiffRecordDTO.getOldYaml());
+    assertEquals(NEW_YAML, yamlDiffRecordDTO.getNewYaml());
+  }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.notification;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.Data;
+
+@OwnedBy(PL)
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class NotificationDispatchConfig {
+  // Number of threads taking notification requests off the queue
+  private int consumerThreads = 1;
+  // Channels without limits are only bounded by the number of consumer threads
+  private Map<NotificationChannelType, ChannelLimit> channelLimits = new EnumMap<>(NotificationChannelType.class);
+
+  @Data
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  public static class ChannelLimit {
+    // Notifications of the channel being sent at the same time, 0 for no limit
+    private int maxConcurrentSends;
+    // Notifications of the channel sent per second, 0 for no limit
+    private double maxSendsPerSecond;
+  }
+}
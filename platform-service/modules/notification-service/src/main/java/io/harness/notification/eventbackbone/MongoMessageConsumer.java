@@ -11,6 +11,7 @@ import static io.harness.AuthorizationServiceHeader.NOTIFICATION_SERVICE;
 
 import io.harness.notification.NotificationRequest;
 import io.harness.notification.entities.MongoNotificationRequest;
+import io.harness.notification.exception.ChannelThrottledException;
 import io.harness.notification.service.api.NotificationService;
 import io.harness.queue.QueueConsumer;
 import io.harness.queue.QueueListener;
@@ -19,6 +20,8 @@ import io.harness.security.dto.ServicePrincipal;
 
 import com.google.inject.Inject;
 import com.google.protobuf.InvalidProtocolBufferException;
+import java.util.Date;
+import java.util.concurrent.ThreadLocalRandom;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -47,4 +50,16 @@ public class MongoMessageConsumer extends QueueListener<MongoNotificationRequest
       SecurityContextBuilder.unsetCompleteContext();
     }
   }
+
+  @Override
+  public void onException(Throwable exception, MongoNotificationRequest message) {
+    if (exception instanceof ChannelThrottledException) {
+      // Delayed without using up a retry, so that the consumer can go on with notifications of other channels
+      long retryAfterMillis = ((ChannelThrottledException) exception).getRetryAfterMillis();
+      getQueueConsumer().requeue(message.getId(), message.getRetries(),
+          new Date(System.currentTimeMillis() + retryAfterMillis + ThreadLocalRandom.current().nextLong(500)));
+      return;
+    }
+    super.onException(exception, message);
+  }
 }
@@ -0,0 +1,28 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.notification.exception;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import lombok.Getter;
+
+/**
+ * Thrown instead of sending a notification when its channel is at its configured limit. The notification was not
+ * sent and should be tried again after the given delay.
+ */
+@OwnedBy(PL)
+public class ChannelThrottledException extends RuntimeException {
+  @Getter private final long retryAfterMillis;
+
+  public ChannelThrottledException(String message, long retryAfterMillis) {
+    super(message);
+    this.retryAfterMillis = retryAfterMillis;
+  }
+}
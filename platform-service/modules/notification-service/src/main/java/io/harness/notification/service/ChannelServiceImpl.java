@@ -12,26 +12,47 @@ import static io.harness.notification.NotificationServiceConstants.MSTEAMSSERVIC
 import static io.harness.notification.NotificationServiceConstants.PAGERDUTYSERVICE;
 import static io.harness.notification.NotificationServiceConstants.SLACKSERVICE;
 
+import static java.lang.String.format;
+
 import io.harness.delegate.beans.NotificationProcessingResponse;
 import io.harness.notification.NotificationChannelType;
+import io.harness.notification.NotificationDispatchConfig;
+import io.harness.notification.NotificationDispatchConfig.ChannelLimit;
 import io.harness.notification.NotificationRequest;
+import io.harness.notification.exception.ChannelThrottledException;
 import io.harness.notification.remote.dto.NotificationSettingDTO;
 import io.harness.notification.service.api.ChannelService;
 
+import com.google.common.util.concurrent.RateLimiter;
 import com.google.inject.Inject;
+import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 import java.util.EnumMap;
 import java.util.Map;
+import java.util.concurrent.Semaphore;
 
+/**
+ * Sends notifications through the service of their channel. Sends of a channel can be limited in concurrency and
+ * rate, so that a burst on one channel does not get throttled by the remote end. A channel at its limit never makes
+ * the caller wait, as the consumer threads are shared by all channels. The send is refused with a
+ * {@link ChannelThrottledException} instead, and the notification is put back on the queue for later.
+ */
+@Singleton
 public class ChannelServiceImpl implements ChannelService {
+  private static final long CONCURRENCY_RETRY_AFTER_MILLIS = 1000;
+
   Map<NotificationChannelType, ChannelService> implementationMapping = new EnumMap<>(NotificationChannelType.class);
   Map<NotificationRequest.ChannelCase, ChannelService> protoImplementationMapping =
       new EnumMap<>(NotificationRequest.ChannelCase.class);
+  private final Map<NotificationRequest.ChannelCase, Semaphore> concurrencyLimits =
+      new EnumMap<>(NotificationRequest.ChannelCase.class);
+  private final Map<NotificationRequest.ChannelCase, RateLimiter> rateLimits =
+      new EnumMap<>(NotificationRequest.ChannelCase.class);
 
   @Inject
   public ChannelServiceImpl(@Named(MAILSERVICE) ChannelService mailService,
       @Named(SLACKSERVICE) ChannelService slackService, @Named(PAGERDUTYSERVICE) ChannelService pagerDutyService,
-      @Named(MSTEAMSSERVICE) ChannelService msTeamsService) {
+      @Named(MSTEAMSSERVICE) ChannelService msTeamsService, NotificationDispatchConfig notificationDispatchConfig) {
     implementationMapping.put(NotificationChannelType.EMAIL, mailService);
     implementationMapping.put(NotificationChannelType.PAGERDUTY, pagerDutyService);
     implementationMapping.put(NotificationChannelType.SLACK, slackService);
@@ -41,11 +62,51 @@ public class ChannelServiceImpl implements ChannelService {
     protoImplementationMapping.put(NotificationRequest.ChannelCase.PAGERDUTY, pagerDutyService);
     protoImplementationMapping.put(NotificationRequest.ChannelCase.SLACK, slackService);
     protoImplementationMapping.put(NotificationRequest.ChannelCase.MSTEAM, msTeamsService);
+
+    addLimits(NotificationRequest.ChannelCase.EMAIL, NotificationChannelType.EMAIL, notificationDispatchConfig);
+    addLimits(NotificationRequest.ChannelCase.PAGERDUTY, NotificationChannelType.PAGERDUTY, notificationDispatchConfig);
+    addLimits(NotificationRequest.ChannelCase.SLACK, NotificationChannelType.SLACK, notificationDispatchConfig);
+    addLimits(NotificationRequest.ChannelCase.MSTEAM, NotificationChannelType.MSTEAMS, notificationDispatchConfig);
+  }
+
+  private void addLimits(NotificationRequest.ChannelCase channelCase, NotificationChannelType channelType,
+      NotificationDispatchConfig notificationDispatchConfig) {
+    ChannelLimit channelLimit = notificationDispatchConfig.getChannelLimits().get(channelType);
+    if (channelLimit == null) {
+      return;
+    }
+    if (channelLimit.getMaxConcurrentSends() > 0) {
+      concurrencyLimits.put(channelCase, new Semaphore(channelLimit.getMaxConcurrentSends(), true));
+    }
+    if (channelLimit.getMaxSendsPerSecond() > 0) {
+      rateLimits.put(channelCase, RateLimiter.create(channelLimit.getMaxSendsPerSecond()));
+    }
   }
 
   @Override
   public NotificationProcessingResponse send(NotificationRequest notificationRequest) {
-    return protoImplementationMapping.get(notificationRequest.getChannelCase()).send(notificationRequest);
+    NotificationRequest.ChannelCase channelCase = notificationRequest.getChannelCase();
+    ChannelService channelService = protoImplementationMapping.get(channelCase);
+    Semaphore concurrencyLimit = concurrencyLimits.get(channelCase);
+    RateLimiter rateLimit = rateLimits.get(channelCase);
+    if (concurrencyLimit == null && rateLimit == null) {
+      return channelService.send(notificationRequest);
+    }
+    if (concurrencyLimit != null && !concurrencyLimit.tryAcquire()) {
+      throw new ChannelThrottledException(
+          format("Too many %s notifications being sent", channelCase), CONCURRENCY_RETRY_AFTER_MILLIS);
+    }
+    try {
+      if (rateLimit != null && !rateLimit.tryAcquire()) {
+        throw new ChannelThrottledException(format("Too many %s notifications sent per second", channelCase),
+            (long) Math.ceil(1000 / rateLimit.getRate()));
+      }
+      return channelService.send(notificationRequest);
+    } finally {
+      if (concurrencyLimit != null) {
+        concurrencyLimit.release();
+      }
+    }
   }
 
   @Override
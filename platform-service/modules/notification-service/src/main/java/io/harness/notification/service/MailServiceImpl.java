@@ -44,7 +44,10 @@ import io.harness.service.DelegateGrpcClientWrapper;
 import io.harness.userng.remote.UserNGClient;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.inject.Inject;
+import com.google.inject.Singleton;
 import freemarker.core.InvalidReferenceException;
 import freemarker.template.Configuration;
 import freemarker.template.Template;
@@ -64,16 +67,22 @@ import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.validator.routines.EmailValidator;
 
+@Singleton
 @AllArgsConstructor(onConstructor = @__({ @Inject }))
 @Slf4j
 @OwnedBy(PL)
 public class MailServiceImpl implements ChannelService {
   public static final String DEFAULT_SUBJECT_BODY = "Test Notification from Harness";
+  private static final int MAX_COMPILED_TEMPLATES = 500;
   private final Configuration cfg = new Configuration(VERSION_2_3_23);
+  // Keyed by the stored template text, so that an updated template is parsed and compiled again
+  private final Cache<String, CompiledEmailTemplate> compiledTemplates =
+      CacheBuilder.newBuilder().maximumSize(MAX_COMPILED_TEMPLATES).build();
   private final NotificationSettingsService notificationSettingsService;
   private final NotificationTemplateService notificationTemplateService;
   private final YamlUtils yamlUtils;
@@ -107,14 +116,14 @@ public class MailServiceImpl implements ChannelService {
     try {
       String subject;
       String body;
-      Optional<EmailTemplate> emailTemplateOpt = getTemplate(templateId, notificationRequest.getTeam());
+      Optional<CompiledEmailTemplate> emailTemplateOpt = getTemplate(templateId, notificationRequest.getTeam());
       if (!emailTemplateOpt.isPresent()) {
         log.error(
             "Failed to send email for notification request {} possibly due to no valid template with name {} found",
             notificationId, templateId);
         return NotificationProcessingResponse.trivialResponseWithNoRetries;
       }
-      EmailTemplate emailTemplate = emailTemplateOpt.get();
+      CompiledEmailTemplate emailTemplate = emailTemplateOpt.get();
 
       subject = processTemplate(templateId + "-subject", emailTemplate.getSubject(), templateData);
       body = processTemplate(templateId + "-body", emailTemplate.getBody(), templateData);
@@ -292,17 +301,7 @@ public class MailServiceImpl implements ChannelService {
     return notificationTaskResponse;
   }
 
-  private String processTemplate(String templateName, String templateStr, Map<String, String> templateData) {
-    if (Objects.isNull(stripToNull(templateStr))) {
-      return null;
-    }
-    Template template = null;
-    try {
-      template = new Template(templateName, templateStr, cfg);
-    } catch (IOException e) {
-      log.error("Can't parse the stored file as .ftl template file", e);
-    }
-
+  private String processTemplate(String templateName, Template template, Map<String, String> templateData) {
     if (Objects.isNull(template)) {
       return null;
     }
@@ -326,18 +325,38 @@ public class MailServiceImpl implements ChannelService {
     return strWriter.toString();
   }
 
-  private Optional<EmailTemplate> getTemplate(String templateId, Team team) {
+  private Optional<CompiledEmailTemplate> getTemplate(String templateId, Team team) {
     Optional<String> templateStrOptional = notificationTemplateService.getTemplateAsString(templateId, team);
-    Optional<EmailTemplate> emailTemplateOpt = Optional.empty();
-    if (templateStrOptional.isPresent()) {
+    if (!templateStrOptional.isPresent()) {
+      return Optional.empty();
+    }
+    String templateStr = templateStrOptional.get();
+    CompiledEmailTemplate compiledEmailTemplate = compiledTemplates.getIfPresent(templateStr);
+    if (compiledEmailTemplate == null) {
       try {
-        emailTemplateOpt =
-            Optional.of(yamlUtils.read(templateStrOptional.get(), new TypeReference<EmailTemplate>() {}));
+        EmailTemplate emailTemplate = yamlUtils.read(templateStr, new TypeReference<EmailTemplate>() {});
+        compiledEmailTemplate =
+            new CompiledEmailTemplate(compileTemplate(templateId + "-subject", emailTemplate.getSubject()),
+                compileTemplate(templateId + "-body", emailTemplate.getBody()));
       } catch (IOException e) {
         log.error("failed to parse template {} into yaml. Please check the format", templateId);
+        return Optional.empty();
       }
+      compiledTemplates.put(templateStr, compiledEmailTemplate);
+    }
+    return Optional.of(compiledEmailTemplate);
+  }
+
+  private Template compileTemplate(String templateName, String templateStr) {
+    if (Objects.isNull(stripToNull(templateStr))) {
+      return null;
+    }
+    try {
+      return new Template(templateName, templateStr, cfg);
+    } catch (IOException e) {
+      log.error("Can't parse the stored file as .ftl template file", e);
+      return null;
     }
-    return emailTemplateOpt;
   }
 
   private List<String> resolveRecipients(NotificationRequest notificationRequest) {
@@ -357,4 +376,10 @@ public class MailServiceImpl implements ChannelService {
     private String subject;
     private String body;
   }
+
+  @Value
+  private static class CompiledEmailTemplate {
+    Template subject;
+    Template body;
+  }
 }
@@ -16,6 +16,7 @@ import io.harness.notification.NotificationRequest;
 import io.harness.notification.Team;
 import io.harness.notification.entities.Notification;
 import io.harness.notification.entities.Notification.NotificationKeys;
+import io.harness.notification.exception.ChannelThrottledException;
 import io.harness.notification.exception.NotificationException;
 import io.harness.notification.remote.mappers.NotificationMapper;
 import io.harness.notification.repositories.NotificationRepository;
@@ -66,6 +67,10 @@ public class NotificationServiceImpl implements NotificationService {
       processingResponse = channelService.send(notificationRequest);
     } catch (NotificationException e) {
       log.error("Could not send notification.", e);
+    } catch (ChannelThrottledException e) {
+      // Not sent, the request comes back from the queue and has to be taken for a new one then
+      notificationRepository.delete(notification);
+      throw e;
     }
     if (Objects.nonNull(processingResponse)) {
       notification.setProcessingResponses(processingResponse.getResult());
@@ -92,6 +97,9 @@ public class NotificationServiceImpl implements NotificationService {
       processingResponse = channelService.send(notificationRequest);
     } catch (NotificationException e) {
       log.error("Could not send notification.", e);
+    } catch (ChannelThrottledException e) {
+      log.info("Channel is busy, notification {} is retried in the next round", notificationRequest.getId());
+      return;
     }
     if (Objects.nonNull(processingResponse)) {
       notification.setProcessingResponses(processingResponse.getResult());
@@ -19,12 +19,15 @@ import io.harness.notification.repositories.NotificationTemplateRepository;
 import io.harness.notification.service.api.NotificationTemplateService;
 import io.harness.stream.BoundedInputStream;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import java.io.IOException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import javax.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,7 +36,13 @@ import lombok.extern.slf4j.Slf4j;
 @AllArgsConstructor(onConstructor = @__({ @Inject }))
 @Slf4j
 public class NotificationTemplateServiceImpl implements NotificationTemplateService {
+  private static final int MAX_CACHED_TEMPLATES = 500;
+
   private final NotificationTemplateRepository notificationTemplateRepository;
+  // Templates read while sending notifications. Any write here clears it, writes on other instances are seen once the
+  // entries expire.
+  private final Cache<String, Optional<String>> templateStrings =
+      CacheBuilder.newBuilder().maximumSize(MAX_CACHED_TEMPLATES).expireAfterWrite(1, TimeUnit.MINUTES).build();
 
   @Override
   public NotificationTemplate create(@NotNull String identifier, @NotNull Team team,
@@ -48,12 +57,16 @@ public class NotificationTemplateServiceImpl implements NotificationTemplateServ
       log.error("Exception while converting file to byte array.");
       throw new NotificationException("IO error", DEFAULT_ERROR_CODE, USER);
     }
-    return notificationTemplateRepository.save(template);
+    NotificationTemplate savedTemplate = notificationTemplateRepository.save(template);
+    templateStrings.invalidateAll();
+    return savedTemplate;
   }
 
   @Override
   public NotificationTemplate save(NotificationTemplate notificationTemplate) {
-    return notificationTemplateRepository.save(notificationTemplate);
+    NotificationTemplate savedTemplate = notificationTemplateRepository.save(notificationTemplate);
+    templateStrings.invalidateAll();
+    return savedTemplate;
   }
 
   @Override
@@ -65,7 +78,7 @@ public class NotificationTemplateServiceImpl implements NotificationTemplateServ
       try {
         template.setFile(toByteArray(inputStream));
         template.setHarnessManaged(harnessManaged);
-        return Optional.of(notificationTemplateRepository.save(template));
+        return Optional.of(save(template));
       } catch (IOException e) {
         log.error("Error while converting input stream to byte array", e);
       }
@@ -85,6 +98,16 @@ public class NotificationTemplateServiceImpl implements NotificationTemplateServ
 
   @Override
   public Optional<String> getTemplateAsString(String identifier, Team team) {
+    String key = identifier + "/" + team;
+    Optional<String> templateString = templateStrings.getIfPresent(key);
+    if (templateString == null) {
+      templateString = loadTemplateAsString(identifier, team);
+      templateStrings.put(key, templateString);
+    }
+    return templateString;
+  }
+
+  private Optional<String> loadTemplateAsString(String identifier, Team team) {
     Optional<NotificationTemplate> templateOptional = getByIdentifierAndTeam(identifier, team);
     if (Objects.nonNull(team) && !templateOptional.isPresent()) {
       templateOptional = getPredefinedTemplate(identifier);
@@ -100,12 +123,14 @@ public class NotificationTemplateServiceImpl implements NotificationTemplateServ
   public boolean delete(String templateIdentifier, Team team) {
     Optional<NotificationTemplate> templateOptional = getByIdentifierAndTeam(templateIdentifier, team);
     templateOptional.ifPresent(notificationTemplateRepository::delete);
+    templateStrings.invalidateAll();
     return true;
   }
 
   @Override
   public void dropPredefinedTemplates() {
     notificationTemplateRepository.deleteByTeam(null);
+    templateStrings.invalidateAll();
   }
 
   @Override
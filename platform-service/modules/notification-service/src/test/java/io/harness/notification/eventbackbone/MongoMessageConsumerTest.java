@@ -11,6 +11,7 @@ import static io.harness.notification.NotificationRequest.ChannelCase.SLACK;
 import static io.harness.rule.OwnerRule.ANKUSH;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -19,6 +20,7 @@ import io.harness.category.element.UnitTests;
 import io.harness.manage.GlobalContextManager;
 import io.harness.notification.NotificationRequest;
 import io.harness.notification.entities.MongoNotificationRequest;
+import io.harness.notification.exception.ChannelThrottledException;
 import io.harness.notification.service.api.NotificationService;
 import io.harness.notification.utils.NotificationRequestTestUtils;
 import io.harness.queue.QueueConsumer;
@@ -27,10 +29,12 @@ import io.harness.rule.Owner;
 import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
+import java.util.Date;
 import java.util.List;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.slf4j.LoggerFactory;
@@ -74,4 +78,19 @@ public class MongoMessageConsumerTest extends CategoryTest {
         .isEqualTo("Corrupted message received off the mongo queue");
     assertThat(GlobalContextManager.isAvailable()).isEqualTo(false);
   }
+
+  @Test
+  @Owner(developers = ANKUSH)
+  @Category(UnitTests.class)
+  public void onException_ChannelThrottled_ShouldRequeueLaterKeepingRetries() {
+    MongoNotificationRequest mongoNotificationRequest = MongoNotificationRequest.builder().build();
+    mongoNotificationRequest.setId("id");
+    mongoNotificationRequest.setRetries(3);
+    long now = System.currentTimeMillis();
+    mongoMessageConsumer.onException(new ChannelThrottledException("throttled", 1000), mongoNotificationRequest);
+
+    ArgumentCaptor<Date> earliestGet = ArgumentCaptor.forClass(Date.class);
+    verify(queueConsumer).requeue(eq("id"), eq(3), earliestGet.capture());
+    assertThat(earliestGet.getValue().getTime()).isGreaterThanOrEqualTo(now + 1000);
+  }
 }
@@ -16,6 +16,8 @@ import static junit.framework.TestCase.assertTrue;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.powermock.api.mockito.PowerMockito.mockStatic;
 
@@ -171,6 +173,33 @@ public class MailServiceImplTest extends CategoryTest {
     assertEquals(notificationExpectedResponse, notificationProcessingResponse);
   }
 
+  @SneakyThrows
+  @Test
+  @Owner(developers = ANKUSH)
+  @Category(UnitTests.class)
+  public void sendNotification_TemplateCompiledOncePerVersion() {
+    NotificationRequest notificationRequest = NotificationRequest.newBuilder()
+                                                  .setId(id)
+                                                  .setAccountId(accountId)
+                                                  .setEmail(NotificationRequest.Email.newBuilder()
+                                                                .setTemplateId(mailTemplateName)
+                                                                .addAllEmailIds(Collections.singletonList(emailAdress))
+                                                                .build())
+                                                  .build();
+    when(notificationTemplateService.getTemplateAsString(eq(mailTemplateName), any()))
+        .thenReturn(Optional.of("first version"), Optional.of("first version"), Optional.of("second version"));
+    when(yamlUtils.read(any(), (TypeReference<EmailTemplate>) any())).thenReturn(emailTemplate);
+    when(notificationSettingsService.getSmtpConfigResponse(eq(accountId))).thenReturn(new SmtpConfigResponse());
+
+    mailService.send(notificationRequest);
+    mailService.send(notificationRequest);
+    verify(yamlUtils, times(1)).read(any(), (TypeReference<EmailTemplate>) any());
+
+    NotificationProcessingResponse notificationProcessingResponse = mailService.send(notificationRequest);
+    verify(yamlUtils, times(2)).read(any(), (TypeReference<EmailTemplate>) any());
+    assertEquals(NotificationProcessingResponse.allSent(1), notificationProcessingResponse);
+  }
+
   @SneakyThrows
   @Test
   @Owner(developers = ANKUSH)
@@ -12,6 +12,7 @@ import static io.harness.annotations.dev.HarnessTeam.PL;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.grpc.client.GrpcClientConfig;
 import io.harness.mongo.MongoConfig;
+import io.harness.notification.NotificationDispatchConfig;
 import io.harness.notification.SeedDataConfiguration;
 import io.harness.notification.SmtpConfig;
 import io.harness.secret.ConfigSecret;
@@ -32,4 +33,5 @@ public class NotificationServiceConfiguration {
   @JsonProperty("seedDataConfiguration") private SeedDataConfiguration seedDataConfiguration;
   @JsonProperty("delegateServiceGrpcConfig") private GrpcClientConfig delegateServiceGrpcConfig;
   @JsonProperty(value = "enableOpentelemetry") private Boolean enableOpentelemetry;
+  @JsonProperty("dispatchConfig") private NotificationDispatchConfig dispatchConfig;
 }
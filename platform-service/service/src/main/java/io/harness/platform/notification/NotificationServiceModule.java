@@ -32,6 +32,7 @@ import io.harness.mongo.MongoConfig;
 import io.harness.mongo.MongoPersistence;
 import io.harness.mongo.queue.NGMongoQueueConsumer;
 import io.harness.morphia.MorphiaRegistrar;
+import io.harness.notification.NotificationDispatchConfig;
 import io.harness.notification.SmtpConfig;
 import io.harness.notification.entities.MongoNotificationRequest;
 import io.harness.notification.eventbackbone.MessageConsumer;
@@ -252,6 +253,13 @@ public class NotificationServiceModule extends AbstractModule {
     return appConfig.getNotificationServiceConfig().getSmtpConfig();
   }
 
+  @Provides
+  @Singleton
+  NotificationDispatchConfig getNotificationDispatchConfig() {
+    NotificationDispatchConfig dispatchConfig = appConfig.getNotificationServiceConfig().getDispatchConfig();
+    return dispatchConfig == null ? new NotificationDispatchConfig() : dispatchConfig;
+  }
+
   @Provides
   @Singleton
   QueueConsumer<MongoNotificationRequest> getQueueConsumer(MongoTemplate mongoTemplate) {
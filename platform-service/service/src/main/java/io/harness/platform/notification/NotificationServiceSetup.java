@@ -15,6 +15,7 @@ import io.harness.health.HealthService;
 import io.harness.manage.ManagedScheduledExecutorService;
 import io.harness.ng.core.CorrelationFilter;
 import io.harness.ng.core.TraceFilter;
+import io.harness.notification.NotificationDispatchConfig;
 import io.harness.notification.SeedDataConfiguration;
 import io.harness.notification.eventbackbone.MongoMessageConsumer;
 import io.harness.notification.service.api.SeedDataPopulaterService;
@@ -104,7 +105,8 @@ public class NotificationServiceSetup {
   private void registerQueueListeners(Injector injector) {
     log.info("Initializing queue listeners...");
     QueueListenerController queueListenerController = injector.getInstance(QueueListenerController.class);
-    queueListenerController.register(injector.getInstance(MongoMessageConsumer.class), 1);
+    queueListenerController.register(injector.getInstance(MongoMessageConsumer.class),
+        injector.getInstance(NotificationDispatchConfig.class).getConsumerThreads());
   }
 
   private void registerScheduleJobs(Injector injector) {